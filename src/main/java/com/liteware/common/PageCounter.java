@@ -0,0 +1,104 @@
+package com.liteware.common;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CountedPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 목록의 전체 건수 계산
+ * 목록 쿼리와 건수 쿼리를 분리해 두고 요청한 방식(CountMode)에 따라 건수를 구한다.
+ * - EXACT: 매번 COUNT
+ * - CAPPED: 상한+1건까지만 ID를 읽어 세고, 넘으면 상한값과 함께 totalCapped를 표시
+ * - CACHED: 조건(cacheKey)별 건수를 TTL 동안 재사용
+ * 어느 방식이든 목록이 페이지 크기보다 적게 왔으면 건수를 바로 알 수 있으므로 건수 쿼리를 생략한다.
+ */
+@Component
+public class PageCounter {
+    
+    private final int countCap;
+    private final Cache<Object, Long> cachedCounts;
+    
+    public PageCounter(@Value("${app.paging.count-cap:1000}") int countCap,
+                       @Value("${app.paging.count-cache-ttl-seconds:30}") long cacheTtlSeconds,
+                       @Value("${app.paging.count-cache-max-size:10000}") long cacheMaxSize) {
+        this.countCap = countCap;
+        this.cachedCounts = CacheBuilder.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+    
+    /**
+     * @param cacheKey CACHED 방식에서 건수를 재사용할 조건 키 (조건 값이 모두 들어가야 함)
+     */
+    public <T> CountedPage<T> toPage(List<T> content, Pageable pageable, CountMode countMode,
+                                     Object cacheKey, CountQuery countQuery) {
+        CountMode mode = countMode != null ? countMode : CountMode.EXACT;
+        
+        // 마지막 페이지면 목록만으로 전체 건수를 안다
+        if (pageable.isUnpaged() || (content.size() < pageable.getPageSize()
+                && (pageable.getOffset() == 0 || !content.isEmpty()))) {
+            long total = pageable.isUnpaged() ? content.size() : pageable.getOffset() + content.size();
+            return new CountedPage<>(content, pageable, total, CountMode.EXACT, false);
+        }
+        
+        switch (mode) {
+            case CAPPED -> {
+                long counted = countQuery.countUpTo(countCap + 1);
+                boolean capped = counted > countCap;
+                return new CountedPage<>(content, pageable, capped ? countCap : counted, mode, capped);
+            }
+            case CACHED -> {
+                Long cached = cachedCounts.getIfPresent(cacheKey);
+                if (cached == null) {
+                    cached = countQuery.count();
+                    cachedCounts.put(cacheKey, cached);
+                }
+                return new CountedPage<>(content, pageable, cached, mode, false);
+            }
+            default -> {
+                return new CountedPage<>(content, pageable, countQuery.count(), CountMode.EXACT, false);
+            }
+        }
+    }
+    
+    public int getCountCap() {
+        return countCap;
+    }
+    
+    /**
+     * 목록 조건의 건수 쿼리
+     */
+    public interface CountQuery {
+        
+        long count();
+        
+        /**
+         * limit건까지만 센다 (limit건 이상이면 limit)
+         */
+        long countUpTo(int limit);
+        
+        static CountQuery of(LongSupplier count, IntToLongFunction countUpTo) {
+            return new CountQuery() {
+                @Override
+                public long count() {
+                    return count.getAsLong();
+                }
+                
+                @Override
+                public long countUpTo(int limit) {
+                    return countUpTo.applyAsLong(limit);
+                }
+            };
+        }
+    }
+}
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.liteware.controller;
 
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.UserStatus;
+import com.liteware.service.approval.ApprovalFormFieldService;
+import com.liteware.service.board.PostSearchIndexService;
 import com.liteware.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Controller
@@ -19,6 +22,8 @@ import java.util.List;
 public class AdminController {
     
     private final UserService userService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final ApprovalFormFieldService approvalFormFieldService;
     
     @GetMapping("/users")
     public String userManagement(Model model) {
@@ -125,6 +130,30 @@ public class AdminController {
         }
     }
     
+    @PostMapping("/board/search-index/rebuild")
+    @ResponseBody
+    public Map<String, Object> rebuildSearchIndex() {
+        try {
+            int indexedPosts = postSearchIndexService.rebuild();
+            return Map.of("success", true, "indexedPosts", indexedPosts);
+        } catch (Exception e) {
+            log.error("Error rebuilding post search index", e);
+            return Map.of("success", false, "message", "검색 색인 재구성에 실패했습니다.");
+        }
+    }
+    
+    @PostMapping("/approval/form-field-index/rebuild")
+    @ResponseBody
+    public Map<String, Object> rebuildApprovalFormFieldIndex() {
+        try {
+            int indexedFields = approvalFormFieldService.rebuild();
+            return Map.of("success", true, "indexedFields", indexedFields);
+        } catch (Exception e) {
+            log.error("Error rebuilding approval form field index", e);
+            return Map.of("success", false, "message", "양식 필드 색인 재구성에 실패했습니다.");
+        }
+    }
+    
     @PostMapping("/settings/save")
     public String saveSettings(@RequestParam String systemName,
                               @RequestParam String maxFileSize,
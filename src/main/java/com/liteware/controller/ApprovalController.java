@@ -4,11 +4,16 @@ import com.google.common.collect.Sets;
 import com.liteware.model.dto.ApprovalDocumentDto;
 import com.liteware.model.dto.ApprovalLineDto;
 import com.liteware.model.entity.approval.*;
+import com.liteware.model.entity.draft.DraftTargetType;
 import com.liteware.service.approval.ApprovalService;
+import com.liteware.service.draft.DraftAutosaveService;
 import com.liteware.service.organization.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
@@ -28,34 +33,41 @@ public class ApprovalController {
     
     private final ApprovalService approvalService;
     private final DepartmentService departmentService;
+    private final DraftAutosaveService draftAutosaveService;
     
     @GetMapping({"", "/list"})
     public String list(@RequestParam(defaultValue = "pending") String type,
+                       @RequestParam(defaultValue = "0") int page,
+                       @RequestParam(defaultValue = "20") int size,
                        @AuthenticationPrincipal UserDetails userDetails,
                        Model model) {
         
         Long userId = 1L; // TODO: Get from userDetails
-        List<ApprovalDocument> documents;
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<ApprovalDocument> documentPage;
         
         switch (type) {
-            case "pending":
-                documents = approvalService.getPendingDocuments(userId);
-                model.addAttribute("title", "결재 대기");
-                break;
             case "drafted":
-                documents = approvalService.getDraftedDocuments(userId);
+                documentPage = approvalService.getDraftedDocuments(userId, pageable);
                 model.addAttribute("title", "기안 문서");
                 break;
+            case "referenced":
+                documentPage = approvalService.getReferencedDocuments(userId, pageable);
+                model.addAttribute("title", "참조 문서");
+                break;
             case "approved":
-                documents = approvalService.getApprovedDocumentsByUser(userId);
+                List<ApprovalDocument> approved = approvalService.getApprovedDocumentsByUser(userId);
+                documentPage = new PageImpl<>(approved, Pageable.unpaged(), approved.size());
                 model.addAttribute("title", "결재 완료");
                 break;
+            case "pending":
             default:
-                documents = approvalService.getPendingDocuments(userId);
+                documentPage = approvalService.getPendingDocuments(userId, pageable);
                 model.addAttribute("title", "결재 대기");
         }
         
-        model.addAttribute("documents", documents);
+        model.addAttribute("documents", documentPage.getContent());
+        model.addAttribute("documentPage", documentPage);
         model.addAttribute("type", type);
         
         return "approval/list";
@@ -207,6 +219,13 @@ public class ApprovalController {
                 document = approvalService.draftDocument(documentDto);
             }
             
+            // 문서로 저장되었으므로 자동 임시저장본 정리
+            if (docId != null) {
+                draftAutosaveService.discard(document.getDrafter().getUserId(), DraftTargetType.APPROVAL_DOCUMENT, docId);
+            } else {
+                draftAutosaveService.discard(document.getDrafter().getUserId(), DraftTargetType.NEW_APPROVAL_DOCUMENT, null);
+            }
+            
             // 결재선 설정
             if (approverIds != null && !approverIds.isEmpty()) {
                 // approverId 중복 제거
@@ -2,6 +2,7 @@ package com.liteware.controller;
 
 import com.liteware.model.dto.CommentDto;
 import com.liteware.model.dto.PostDto;
+import com.liteware.model.dto.PostSummaryDto;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.board.Board;
 import com.liteware.model.entity.board.Post;
@@ -26,6 +27,8 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequiredArgsConstructor
 public class BoardController {
     
+    private static final int COMMENT_PAGE_SIZE = 20;
+    
     private final BoardService boardService;
     private final CommentService commentService;
     private final UserRepository userRepository;
@@ -52,12 +55,12 @@ public class BoardController {
         
         PageRequest pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         
-        Page<Post> posts;
+        Page<PostSummaryDto> posts;
         if (keyword != null && !keyword.isEmpty()) {
-            posts = boardService.searchPosts(keyword, pageable);
+            posts = boardService.searchPostSummaries(keyword, null, pageable);
             model.addAttribute("keyword", keyword);
         } else {
-            posts = boardService.getPostsByBoard(boardId, pageable);
+            posts = boardService.getPostSummariesByBoard(boardId, pageable);
         }
         model.addAttribute("posts", posts);
         
@@ -70,7 +73,7 @@ public class BoardController {
             log.error("Board not found", e);
         }
         
-        model.addAttribute("notices", boardService.getNoticePosts(boardId));
+        model.addAttribute("notices", boardService.getNoticeSummaries(boardId));
         model.addAttribute("currentPage", page);
         
         return "board/posts";
@@ -84,8 +87,15 @@ public class BoardController {
             return "redirect:/login";
         }
         
+        PostDto post = new PostDto();
+        User currentUser = getCurrentUser(userDetails);
+        if (currentUser != null) {
+            // 임시저장 요청에 작성자 ID가 필요
+            post.setWriterId(currentUser.getUserId());
+        }
+        
         model.addAttribute("boardId", boardId);
-        model.addAttribute("post", new PostDto());
+        model.addAttribute("post", post);
         
         return "board/write";
     }
@@ -130,7 +140,8 @@ public class BoardController {
             }
             
             model.addAttribute("post", post);
-            model.addAttribute("comments", commentService.getCommentsByPost(postId));
+            // 첫 페이지의 부모 댓글만 그리고, 이후 페이지와 답글은 스레드 API로 불러온다
+            model.addAttribute("comments", commentService.getCommentThread(postId, null, COMMENT_PAGE_SIZE));
             model.addAttribute("boardId", boardId);
             
             // 수정/삭제 권한 체크
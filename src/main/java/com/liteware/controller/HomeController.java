@@ -53,13 +53,13 @@ public class HomeController {
         try {
             // 결재 관련 데이터
             model.addAttribute("pendingApprovals", approvalService.countPendingDocuments(userId));
-            model.addAttribute("draftedDocuments", approvalService.getDraftedDocuments(userId).size());
+            model.addAttribute("draftedDocuments", approvalService.countDraftedDocuments(userId));
             model.addAttribute("recentDocuments", approvalService.getRecentDocuments(userId, 5));
             
             // 게시판 관련 데이터
             model.addAttribute("recentBoards", boardService.getActiveBoards());
-            model.addAttribute("notices", boardService.getRecentNotices(5));
-            model.addAttribute("recentPosts", boardService.getRecentPosts(5));
+            model.addAttribute("notices", boardService.getRecentNoticeSummaries(5));
+            model.addAttribute("recentPosts", boardService.getRecentPostSummaries(5));
             model.addAttribute("newPostsCount", boardService.countNewPostsToday());
             
             // 사용자 정보
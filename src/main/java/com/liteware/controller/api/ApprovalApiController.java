@@ -1,20 +1,35 @@
 package com.liteware.controller.api;
 
 import com.liteware.model.dto.ApprovalDocumentDto;
+import com.liteware.model.dto.ApprovalEventDto;
+import com.liteware.model.dto.ApprovalReplayState;
+import com.liteware.model.dto.BulkApprovalRequest;
+import com.liteware.model.dto.BulkApprovalResult;
+import com.liteware.model.dto.DraftDto;
+import com.liteware.model.dto.DraftSaveResult;
+import com.liteware.model.dto.FormFieldSearchRequest;
 import com.liteware.model.entity.approval.ApprovalDocument;
 import com.liteware.model.entity.approval.ApprovalLine;
 import com.liteware.model.entity.approval.ApprovalStatus;
 import com.liteware.model.entity.approval.DocumentStatus;
+import com.liteware.model.entity.draft.DraftTargetType;
+import com.liteware.service.approval.ApprovalEventService;
+import com.liteware.service.approval.ApprovalFormFieldService;
 import com.liteware.service.approval.ApprovalService;
+import com.liteware.service.draft.DraftAutosaveService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -24,6 +39,9 @@ import java.util.Map;
 public class ApprovalApiController {
     
     private final ApprovalService approvalService;
+    private final DraftAutosaveService draftAutosaveService;
+    private final ApprovalFormFieldService approvalFormFieldService;
+    private final ApprovalEventService approvalEventService;
     
     /**
      * 결재 문서 생성
@@ -55,6 +73,8 @@ public class ApprovalApiController {
             documents = approvalService.getPendingDocuments(userId, pageable);
         } else if ("drafted".equals(type) && userId != null) {
             documents = approvalService.getDraftedDocuments(userId, pageable);
+        } else if ("referenced".equals(type) && userId != null) {
+            documents = approvalService.getReferencedDocuments(userId, pageable);
         } else {
             documents = approvalService.getAllDocuments(pageable);
         }
@@ -112,6 +132,62 @@ public class ApprovalApiController {
         }
     }
     
+    /**
+     * 결재 일괄 처리 (승인/반려) - 문서별 결과를 함께 돌려준다
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> processBulk(@Valid @RequestBody BulkApprovalRequest request) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            List<BulkApprovalResult> results = approvalService.processDocuments(
+                    request.getDocIds(), request.getApproverId(), request.getAction(), request.getComment());
+            long processed = results.stream().filter(BulkApprovalResult::isSuccess).count();
+            
+            response.put("success", true);
+            response.put("processedCount", processed);
+            response.put("failedCount", results.size() - processed);
+            response.put("results", results);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("Failed to process bulk approval", e);
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
+    /**
+     * 양식 필드(금액, 프로젝트 코드, 기간 등) 조건으로 결재 문서 검색 - 색인만 읽어 문서 ID 페이지를 돌려준다
+     */
+    @PostMapping("/search/fields")
+    public ResponseEntity<Map<String, Object>> searchByFormFields(@Valid @RequestBody FormFieldSearchRequest request) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            Page<Long> docIds = approvalFormFieldService.findDocIds(request);
+            
+            response.put("success", true);
+            response.put("docIds", docIds.getContent());
+            response.put("totalElements", docIds.getTotalElements());
+            response.put("totalPages", docIds.getTotalPages());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("Failed to search documents by form fields", e);
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
     /**
      * 결재 문서 취소
      */
@@ -135,6 +211,32 @@ public class ApprovalApiController {
         }
     }
     
+    /**
+     * 결재 처리 이력 (타임라인)
+     */
+    @GetMapping("/{docId}/timeline")
+    public ResponseEntity<List<ApprovalEventDto>> getTimeline(@PathVariable Long docId) {
+        return ResponseEntity.ok(approvalEventService.getTimeline(docId));
+    }
+    
+    /**
+     * 이력 재생으로 만든 문서 상태 (at을 주면 그 시점의 상태)
+     */
+    @GetMapping("/{docId}/replay")
+    public ResponseEntity<?> replay(
+            @PathVariable Long docId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        try {
+            ApprovalReplayState state = at != null
+                    ? approvalEventService.replay(docId, at)
+                    : approvalEventService.replay(docId);
+            return ResponseEntity.ok(state);
+        } catch (Exception e) {
+            log.error("Failed to replay approval events", e);
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
     /**
      * 결재선 조회
      */
@@ -157,8 +259,8 @@ public class ApprovalApiController {
         Map<String, Object> stats = new HashMap<>();
         
         try {
-            stats.put("pendingCount", approvalService.getPendingDocuments(userId, Pageable.unpaged()).getTotalElements());
-            stats.put("draftedCount", approvalService.getDraftedDocuments(userId, Pageable.unpaged()).getTotalElements());
+            stats.put("pendingCount", approvalService.countPendingDocuments(userId));
+            stats.put("draftedCount", approvalService.countDraftedDocuments(userId));
             stats.put("approvedCount", approvalService.getApprovedCount(userId));
             stats.put("rejectedCount", approvalService.getRejectedCount(userId));
             
@@ -168,4 +270,59 @@ public class ApprovalApiController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    /**
+     * 작성 중인 문서 자동 임시저장 (문서 ID가 없으면 새 문서)
+     * 기안 저장처럼 문서 전체를 다시 저장하지 않고 임시저장본만 갱신하며,
+     * baseVersion이 현재 임시저장본의 version과 다르면 409로 현재 version을 돌려준다.
+     */
+    @PostMapping("/autosave")
+    public ResponseEntity<Map<String, Object>> autosave(@RequestBody ApprovalDocumentDto dto,
+                                                        @RequestParam(required = false) Long baseVersion) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            DraftDto draft = DraftDto.builder()
+                    .targetType(dto.getDocId() != null
+                            ? DraftTargetType.APPROVAL_DOCUMENT : DraftTargetType.NEW_APPROVAL_DOCUMENT)
+                    .targetId(dto.getDocId())
+                    .title(dto.getTitle())
+                    .content(dto.getContent())
+                    .formData(dto.getFormData())
+                    .baseVersion(baseVersion)
+                    .build();
+            DraftSaveResult result = draftAutosaveService.save(dto.getDrafterId(), draft);
+            
+            response.put("version", result.getVersion());
+            if (result.isConflict()) {
+                response.put("success", false);
+                response.put("message", "다른 곳에서 저장된 임시저장본이 있습니다.");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
+            response.put("success", true);
+            response.put("savedAt", result.getSavedAt());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to autosave approval document", e);
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
+    /**
+     * 자동 임시저장본 조회 (docId가 없으면 새 문서)
+     */
+    @GetMapping("/autosave")
+    public ResponseEntity<DraftDto> getAutosave(@RequestParam Long userId,
+                                                @RequestParam(required = false) Long docId) {
+        try {
+            return ResponseEntity.ok(docId != null
+                    ? draftAutosaveService.getDraft(userId, DraftTargetType.APPROVAL_DOCUMENT, docId)
+                    : draftAutosaveService.getDraft(userId, DraftTargetType.NEW_APPROVAL_DOCUMENT, null));
+        } catch (Exception e) {
+            log.debug("Autosaved draft not found: user {}, document {}", userId, docId);
+            return ResponseEntity.notFound().build();
+        }
+    }
 }
\ No newline at end of file
@@ -1,12 +1,24 @@
 package com.liteware.controller.api;
 
 import com.liteware.model.dto.CommentDto;
+import com.liteware.model.dto.CommentSummaryDto;
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CursorPage;
+import com.liteware.model.dto.DraftDto;
+import com.liteware.model.dto.DraftSaveResult;
 import com.liteware.model.dto.PostDto;
 import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.dto.PostSummaryDto;
+import com.liteware.model.dto.TrendingPostDto;
 import com.liteware.model.entity.board.Comment;
+import com.liteware.model.entity.board.LikeTargetType;
 import com.liteware.model.entity.board.Post;
+import com.liteware.model.entity.draft.DraftTargetType;
 import com.liteware.service.board.BoardService;
 import com.liteware.service.board.CommentService;
+import com.liteware.service.board.LikeService;
+import com.liteware.service.board.PostTrendingService;
+import com.liteware.service.draft.DraftAutosaveService;
 import com.liteware.repository.board.PostRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +35,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -30,8 +43,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class BoardApiController {
     
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final BoardService boardService;
     private final CommentService commentService;
+    private final PostTrendingService postTrendingService;
+    private final LikeService likeService;
+    private final DraftAutosaveService draftAutosaveService;
     
     /**
      * 게시글 생성
@@ -48,27 +66,100 @@ public class BoardApiController {
     }
     
     /**
-     * 게시글 목록 조회
+     * 게시글 목록 조회 (목록용 프로젝션)
+     * countMode는 게시판 목록과 검색 결과 모두에 적용: EXACT(기본) / CAPPED / CACHED
      */
     @GetMapping
-    public ResponseEntity<Page<Post>> getPosts(
+    public ResponseEntity<Page<PostSummaryDto>> getPosts(
             @RequestParam(required = false) Long boardId,
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) PostSearchCriteria.SearchMode searchMode,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode,
             Pageable pageable) {
         
-        Page<Post> posts;
+        Page<PostSummaryDto> posts;
         
         if (keyword != null && !keyword.isEmpty()) {
-            posts = boardService.searchPosts(keyword, pageable);
+            posts = boardService.searchPostSummaries(keyword, searchMode, pageable, countMode);
         } else if (boardId != null) {
-            posts = boardService.getPostsByBoard(boardId, pageable);
+            posts = boardService.getPostSummariesByBoard(boardId, pageable, countMode);
         } else {
-            posts = boardService.searchPosts("", pageable);
+            posts = boardService.searchPostSummaries("", null, pageable, countMode);
         }
         
         return ResponseEntity.ok(posts);
     }
     
+    /**
+     * 내가 작성한 게시글 목록 조회
+     */
+    @GetMapping("/my")
+    public ResponseEntity<Page<PostSummaryDto>> getMyPosts(@RequestParam Long userId, Pageable pageable) {
+        try {
+            return ResponseEntity.ok(boardService.getMyPostSummaries(userId, pageable));
+        } catch (Exception e) {
+            log.error("Failed to get my posts", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 커서 기반 게시글 목록 조회
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 넘긴다
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<PostSummaryDto>> getPostsByCursor(
+            @RequestParam Long boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+            return ResponseEntity.ok(boardService.getPostsByBoardCursor(boardId, cursor, pageSize, includeTotal));
+        } catch (Exception e) {
+            log.error("Failed to get posts by cursor", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 게시판 인기 게시글 (조회/좋아요/댓글의 시간 감쇠 점수순)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPostDto>> getTrendingPosts(
+            @RequestParam Long boardId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postTrendingService.getTrending(boardId, size));
+    }
+    
+    /**
+     * 사용자가 좋아요 한 게시글 ID (목록 화면에서 한 번에 조회)
+     */
+    @GetMapping("/likes")
+    public ResponseEntity<Set<Long>> getLikedPostIds(@RequestParam Long userId,
+                                                    @RequestParam List<Long> postIds) {
+        return ResponseEntity.ok(likeService.getLikedTargetIds(LikeTargetType.POST, userId, postIds));
+    }
+    
+    /**
+     * 게시글 좋아요 토글
+     */
+    @PostMapping("/{postId}/like")
+    public ResponseEntity<Map<String, Object>> togglePostLike(@PathVariable Long postId,
+                                                             @RequestParam Long userId) {
+        return changeLike(LikeTargetType.POST, postId, userId, null);
+    }
+    
+    /**
+     * 게시글 좋아요 설정/해제 (같은 요청을 반복해도 결과가 같음)
+     */
+    @PutMapping("/{postId}/like")
+    public ResponseEntity<Map<String, Object>> setPostLike(@PathVariable Long postId,
+                                                          @RequestParam Long userId,
+                                                          @RequestParam boolean liked) {
+        return changeLike(LikeTargetType.POST, postId, userId, liked);
+    }
+    
     /**
      * 게시글 상세 조회
      */
@@ -153,6 +244,41 @@ public class BoardApiController {
         }
     }
     
+    /**
+     * 댓글 스레드 조회 - 부모 댓글을 커서 단위로 조회하고 답글은 답글 수만 함께 내려준다
+     */
+    @GetMapping("/{postId}/comments/thread")
+    public ResponseEntity<CursorPage<CommentSummaryDto>> getCommentThread(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+            return ResponseEntity.ok(commentService.getCommentThread(postId, cursor, pageSize));
+        } catch (Exception e) {
+            log.error("Failed to get comment thread", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 부모 댓글의 답글 조회 (펼칠 때 요청)
+     */
+    @GetMapping("/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<CursorPage<CommentSummaryDto>> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+            return ResponseEntity.ok(commentService.getReplies(postId, commentId, cursor, pageSize));
+        } catch (Exception e) {
+            log.error("Failed to get replies", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * 댓글 수정
      */
@@ -197,15 +323,52 @@ public class BoardApiController {
     }
     
     /**
-     * 임시저장
+     * 댓글 좋아요 토글
+     */
+    @PostMapping("/comments/{commentId}/like")
+    public ResponseEntity<Map<String, Object>> toggleCommentLike(@PathVariable Long commentId,
+                                                                @RequestParam Long userId) {
+        return changeLike(LikeTargetType.COMMENT, commentId, userId, null);
+    }
+    
+    /**
+     * 댓글 좋아요 설정/해제 (같은 요청을 반복해도 결과가 같음)
+     */
+    @PutMapping("/comments/{commentId}/like")
+    public ResponseEntity<Map<String, Object>> setCommentLike(@PathVariable Long commentId,
+                                                             @RequestParam Long userId,
+                                                             @RequestParam boolean liked) {
+        return changeLike(LikeTargetType.COMMENT, commentId, userId, liked);
+    }
+    
+    /**
+     * 임시저장 (자동저장 포함)
+     * 수정 중이면 게시글 ID, 새 글이면 게시판 ID 기준으로 최신본 하나만 유지한다.
+     * baseVersion이 현재 임시저장본의 version과 다르면 저장하지 않고 409로 현재 version을 돌려준다.
      */
     @PostMapping("/draft")
-    public ResponseEntity<Map<String, Object>> saveDraft(@RequestBody PostDto postDto) {
+    public ResponseEntity<Map<String, Object>> saveDraft(@RequestBody PostDto postDto,
+                                                         @RequestParam(required = false) Long baseVersion) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            // TODO: 임시저장 기능 구현
+            DraftDto draft = DraftDto.builder()
+                    .targetType(postDto.getPostId() != null ? DraftTargetType.POST : DraftTargetType.NEW_POST)
+                    .targetId(postDto.getPostId() != null ? postDto.getPostId() : postDto.getBoardId())
+                    .title(postDto.getTitle())
+                    .content(postDto.getContent())
+                    .baseVersion(baseVersion)
+                    .build();
+            DraftSaveResult result = draftAutosaveService.save(postDto.getWriterId(), draft);
+            
+            response.put("version", result.getVersion());
+            if (result.isConflict()) {
+                response.put("success", false);
+                response.put("message", "다른 곳에서 저장된 임시저장본이 있습니다.");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
             response.put("success", true);
+            response.put("savedAt", result.getSavedAt());
             response.put("message", "임시저장되었습니다.");
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -216,6 +379,43 @@ public class BoardApiController {
         }
     }
     
+    /**
+     * 임시저장본 조회 (postId가 있으면 수정 중인 글, 없으면 게시판의 새 글)
+     */
+    @GetMapping("/draft")
+    public ResponseEntity<DraftDto> getDraft(@RequestParam Long userId,
+                                             @RequestParam(required = false) Long boardId,
+                                             @RequestParam(required = false) Long postId) {
+        try {
+            return ResponseEntity.ok(postId != null
+                    ? draftAutosaveService.getDraft(userId, DraftTargetType.POST, postId)
+                    : draftAutosaveService.getDraft(userId, DraftTargetType.NEW_POST, boardId));
+        } catch (Exception e) {
+            log.debug("Draft not found: user {}, board {}, post {}", userId, boardId, postId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 임시저장본 삭제
+     */
+    @DeleteMapping("/draft")
+    public ResponseEntity<Void> discardDraft(@RequestParam Long userId,
+                                             @RequestParam(required = false) Long boardId,
+                                             @RequestParam(required = false) Long postId) {
+        try {
+            if (postId != null) {
+                draftAutosaveService.discard(userId, DraftTargetType.POST, postId);
+            } else {
+                draftAutosaveService.discard(userId, DraftTargetType.NEW_POST, boardId);
+            }
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            log.error("Failed to discard draft", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * 이미지 업로드
      */
@@ -233,9 +433,10 @@ public class BoardApiController {
     
     /**
      * 고급 검색 API
+     * countMode: EXACT(기본) / CAPPED / CACHED - 응답의 countMode, totalCapped로 건수 계산 방식을 알려준다
      */
     @GetMapping("/search/advanced")
-    public ResponseEntity<Page<Post>> advancedSearch(
+    public ResponseEntity<Page<PostSummaryDto>> advancedSearch(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) PostSearchCriteria.SearchField searchField,
             @RequestParam(required = false) Long boardId,
@@ -250,6 +451,8 @@ public class BoardApiController {
             @RequestParam(required = false) Integer minViewCount,
             @RequestParam(required = false) Integer minLikeCount,
             @RequestParam(required = false) PostSearchCriteria.SortType sortType,
+            @RequestParam(required = false) PostSearchCriteria.SearchMode searchMode,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
@@ -268,10 +471,11 @@ public class BoardApiController {
                 .minViewCount(minViewCount)
                 .minLikeCount(minLikeCount)
                 .sortType(sortType)
+                .searchMode(searchMode)
                 .build();
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> results = boardService.advancedSearch(criteria, pageable);
+        Page<PostSummaryDto> results = boardService.advancedSearchSummaries(criteria, pageable, countMode);
         
         log.info("Advanced search executed: {} results found", results.getTotalElements());
         
@@ -279,16 +483,17 @@ public class BoardApiController {
     }
     
     /**
-     * 고급 검색 API (POST 방식)
+     * 고급 검색 API (POST 방식, countMode는 GET 방식과 같음)
      */
     @PostMapping("/search/advanced")
-    public ResponseEntity<Page<Post>> advancedSearchPost(
+    public ResponseEntity<Page<PostSummaryDto>> advancedSearchPost(
             @RequestBody PostSearchCriteria criteria,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> results = boardService.advancedSearch(criteria, pageable);
+        Page<PostSummaryDto> results = boardService.advancedSearchSummaries(criteria, pageable, countMode);
         
         log.info("Advanced search (POST) executed: {} results found", results.getTotalElements());
         
@@ -302,10 +507,11 @@ public class BoardApiController {
     public ResponseEntity<Map<String, Object>> advancedSearchWithStats(
             @RequestBody PostSearchCriteria criteria,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) List<String> facets) {
         
         Pageable pageable = PageRequest.of(page, size);
-        PostRepositoryCustom.SearchResult result = boardService.advancedSearchWithStats(criteria, pageable);
+        PostRepositoryCustom.SearchResult result = boardService.advancedSearchWithStats(criteria, pageable, facets);
         
         Map<String, Object> response = new HashMap<>();
         response.put("posts", result.getPosts());
@@ -313,11 +519,44 @@ public class BoardApiController {
             "totalCount", result.getTotalCount(),
             "noticeCount", result.getNoticeCount(),
             "secretCount", result.getSecretCount(),
-            "attachmentCount", result.getAttachmentCount()
+            "attachmentCount", result.getAttachmentCount(),
+            "counts", result.getFacets().getCounts(),
+            "groups", result.getFacets().getGroups()
         ));
         
         log.info("Advanced search with stats executed: {} total results", result.getTotalCount());
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 좋아요 변경 - liked가 null이면 토글
+     */
+    private ResponseEntity<Map<String, Object>> changeLike(LikeTargetType targetType, Long targetId,
+                                                           Long userId, Boolean liked) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            boolean result;
+            if (liked == null) {
+                result = likeService.toggle(targetType, targetId, userId);
+            } else {
+                if (liked) {
+                    likeService.like(targetType, targetId, userId);
+                } else {
+                    likeService.unlike(targetType, targetId, userId);
+                }
+                result = liked;
+            }
+            response.put("success", true);
+            response.put("liked", result);
+            response.put("likeCount", likeService.getLikeCount(targetType, targetId));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to change like: {} {}", targetType, targetId, e);
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.liteware.controller.api;
 
+import com.liteware.model.dto.CountMode;
 import com.liteware.model.entity.notification.Notification;
 import com.liteware.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -24,14 +25,16 @@ public class NotificationApiController {
     
     /**
      * 사용자 알림 목록 조회
+     * countMode: EXACT(기본) / CAPPED / CACHED
      */
     @GetMapping
     public ResponseEntity<Page<Notification>> getNotifications(
             @RequestParam Long userId,
             @RequestParam(required = false) Boolean isRead,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode,
             Pageable pageable) {
         
-        Page<Notification> notifications = notificationService.getUserNotifications(userId, isRead, pageable);
+        Page<Notification> notifications = notificationService.getUserNotifications(userId, isRead, pageable, countMode);
         return ResponseEntity.ok(notifications);
     }
     
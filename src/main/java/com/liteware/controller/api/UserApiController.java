@@ -1,10 +1,13 @@
 package com.liteware.controller.api;
 
+import com.liteware.model.dto.CountMode;
 import com.liteware.model.dto.UserDto;
 import com.liteware.model.entity.User;
 import com.liteware.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,6 +45,18 @@ public class UserApiController {
         return ResponseEntity.ok(users);
     }
     
+    /**
+     * 사용자 검색 (페이지)
+     * countMode: EXACT(기본) / CAPPED / CACHED - 응답의 countMode, totalCapped로 건수 계산 방식을 알려준다
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<User>> searchUsers(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode,
+            Pageable pageable) {
+        return ResponseEntity.ok(userService.searchUsers(keyword, pageable, countMode));
+    }
+    
     /**
      * 사용자 상세 조회
      */
@@ -0,0 +1,48 @@
+package com.liteware.model.dto;
+
+import com.liteware.model.entity.approval.ApprovalEvent;
+import com.liteware.model.entity.approval.ApprovalEventType;
+import com.liteware.model.entity.approval.DocumentStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 이력 타임라인 항목
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalEventDto {
+    
+    private Long eventId;
+    private ApprovalEventType eventType;
+    private Long actorId;
+    private String actorName;
+    private Long onBehalfOfId;
+    private String onBehalfOfName;
+    private Long lineId;
+    private DocumentStatus documentStatus;
+    private Long currentApproverId;
+    private String comment;
+    private LocalDateTime occurredAt;
+    
+    // 직전 이벤트부터 걸린 시간 (첫 이벤트는 0)
+    private long elapsedSeconds;
+    
+    public static ApprovalEventDto from(ApprovalEvent event) {
+        return ApprovalEventDto.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .actorId(event.getActorId())
+                .onBehalfOfId(event.getOnBehalfOfId())
+                .lineId(event.getLineId())
+                .documentStatus(event.getDocumentStatus())
+                .currentApproverId(event.getCurrentApproverId())
+                .comment(event.getComment())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
\ No newline at end of file
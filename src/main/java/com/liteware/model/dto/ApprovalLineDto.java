@@ -2,6 +2,7 @@ package com.liteware.model.dto;
 
 import com.liteware.model.entity.approval.ApprovalStatus;
 import com.liteware.model.entity.approval.ApprovalType;
+import com.liteware.model.entity.approval.QuorumRule;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -29,6 +30,11 @@ public class ApprovalLineDto {
     @NotNull(message = "순서는 필수입니다")
     private Integer orderSeq;
     
+    /**
+     * 같은 순서의 결재선(병렬 그룹) 통과 조건 - 없으면 전원 승인
+     */
+    private QuorumRule quorumRule;
+    
     private ApprovalStatus status;
     private String comment;
     private LocalDateTime approvedAt;
@@ -37,6 +43,7 @@ public class ApprovalLineDto {
     private Long delegatedToId;
     private String delegatedToName;
     private LocalDateTime delegatedAt;
+    private LocalDateTime activatedAt;
     
     public static ApprovalLineDto from(com.liteware.model.entity.approval.ApprovalLine line) {
         ApprovalLineDto dto = ApprovalLineDto.builder()
@@ -46,11 +53,13 @@ public class ApprovalLineDto {
                 .approverName(line.getApprover().getName())
                 .approvalType(line.getApprovalType())
                 .orderSeq(line.getOrderSeq())
+                .quorumRule(line.getQuorumRule())
                 .status(line.getStatus())
                 .comment(line.getComment())
                 .approvedAt(line.getApprovedAt())
                 .isOptional(line.getIsOptional())
                 .delegatedAt(line.getDelegatedAt())
+                .activatedAt(line.getActivatedAt())
                 .build();
         
         if (line.getApprover().getPosition() != null) {
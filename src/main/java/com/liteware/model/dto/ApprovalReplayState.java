@@ -0,0 +1,40 @@
+package com.liteware.model.dto;
+
+import com.liteware.model.entity.approval.ApprovalStatus;
+import com.liteware.model.entity.approval.DocumentStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 결재 이력을 재생해 만든 문서 상태
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalReplayState {
+    
+    private Long docId;
+    private DocumentStatus status;
+    private Long currentApproverId;
+    private LocalDateTime draftedAt;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+    
+    // 결재선 ID -> 처리 결과 (처리된 결재선만)
+    @Builder.Default
+    private Map<Long, ApprovalStatus> lineStatuses = new LinkedHashMap<>();
+    
+    // 결재선 ID -> 대신 처리한 사용자
+    @Builder.Default
+    private Map<Long, Long> delegates = new LinkedHashMap<>();
+    
+    private int appliedEvents;
+    
+    // 상신부터 완료까지 걸린 시간 (완료 전이면 null)
+    private Long turnaroundSeconds;
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.liteware.model.dto;
+
+import com.liteware.model.entity.approval.ApprovalStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 결재 일괄 처리 요청 - 같은 결재자가 여러 문서를 한 번에 승인(APPROVED) 또는 반려(REJECTED)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalRequest {
+    
+    @NotEmpty(message = "처리할 문서를 선택해주세요")
+    private List<Long> docIds;
+    
+    @NotNull(message = "결재자 ID는 필수입니다")
+    private Long approverId;
+    
+    @NotNull(message = "처리 구분은 필수입니다")
+    private ApprovalStatus action;
+    
+    private String comment;
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.liteware.model.dto;
+
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.model.entity.approval.DocumentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결재 일괄 처리의 문서별 결과
+ * 처리되지 않은 문서(success=false)는 message에 사유를 담고 status는 null이다.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkApprovalResult {
+    private final Long docId;
+    private final boolean success;
+    private final DocumentStatus status;
+    private final String message;
+    
+    public static BulkApprovalResult processed(ApprovalDocument document) {
+        return new BulkApprovalResult(document.getDocId(), true, document.getStatus(), null);
+    }
+    
+    public static BulkApprovalResult failed(Long docId, String message) {
+        return new BulkApprovalResult(docId, false, null, message);
+    }
+}
\ No newline at end of file
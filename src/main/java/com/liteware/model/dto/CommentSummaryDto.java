@@ -0,0 +1,30 @@
+package com.liteware.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스레드용 프로젝션
+ * 엔티티를 로딩하지 않고 댓글 한 건과 작성자 정보만 조회하며, replyCount는 부모 댓글 페이지에만 채운다
+ * (필드 순서는 CommentRepository.SUMMARY_SELECT 생성자 표현식과 일치해야 함)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentSummaryDto {
+    private Long commentId;
+    private Long postId;
+    private Long parentCommentId;
+    private Long writerId;
+    private String writerName;
+    private String content;
+    private Integer depth;
+    private Integer likeCount;
+    private Boolean isDeleted;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long replyCount;
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.liteware.model.dto;
+
+/**
+ * 페이지 목록의 전체 건수 계산 방식
+ */
+public enum CountMode {
+    EXACT,      // 매번 COUNT
+    CAPPED,     // 상한까지만 세고 넘으면 "상한+"로 표시
+    CACHED      // 같은 조건의 건수를 일정 시간 재사용
+}
\ No newline at end of file
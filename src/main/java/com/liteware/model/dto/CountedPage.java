@@ -0,0 +1,34 @@
+package com.liteware.model.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 전체 건수를 어떤 방식으로 구했는지 함께 내려주는 페이지 응답
+ */
+public class CountedPage<T> extends PageImpl<T> {
+    
+    private static final long serialVersionUID = 1L;
+    
+    // 실제로 전체 건수를 만든 방식 (마지막 페이지처럼 목록만으로 건수를 알 수 있으면 EXACT)
+    private final CountMode countMode;
+    
+    // true면 totalElements는 상한값이며 실제 건수는 더 많다
+    private final boolean totalCapped;
+    
+    public CountedPage(List<T> content, Pageable pageable, long total, CountMode countMode, boolean totalCapped) {
+        super(content, pageable, total);
+        this.countMode = countMode;
+        this.totalCapped = totalCapped;
+    }
+    
+    public CountMode getCountMode() {
+        return countMode;
+    }
+    
+    public boolean isTotalCapped() {
+        return totalCapped;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.liteware.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    private List<T> content;
+    
+    // 다음 페이지 요청에 그대로 넘기는 불투명 토큰 (마지막 페이지면 null)
+    private String nextCursor;
+    
+    private boolean hasNext;
+    
+    private int size;
+    
+    // 전체 건수 (요청하지 않으면 COUNT 쿼리를 생략하고 null)
+    private Long totalElements;
+}
@@ -0,0 +1,41 @@
+package com.liteware.model.dto;
+
+import com.liteware.model.entity.draft.Draft;
+import com.liteware.model.entity.draft.DraftTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시저장본
+ * 저장 요청 시 baseVersion에 마지막으로 받은 version을 넣으면, 그 사이 다른 곳에서 저장된 경우 충돌로 처리된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DraftDto {
+    private DraftTargetType targetType;
+    private Long targetId;
+    private String title;
+    private String content;
+    private String formData;
+    private Long version;
+    private Long baseVersion;
+    private LocalDateTime savedAt;
+    
+    public static DraftDto from(Draft draft) {
+        return DraftDto.builder()
+                .targetType(draft.getTargetType())
+                .targetId(draft.getTargetId())
+                .title(draft.getTitle())
+                .content(draft.getContent())
+                .formData(draft.getFormData())
+                .version(draft.getVersion())
+                .savedAt(draft.getSavedAt())
+                .build();
+    }
+}
\ No newline at end of file
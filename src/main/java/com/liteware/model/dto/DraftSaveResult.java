@@ -0,0 +1,26 @@
+package com.liteware.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시저장 결과
+ * 충돌(conflict)이면 저장하지 않고 현재 최신 version을 돌려준다 (savedAt은 null).
+ */
+@Getter
+@AllArgsConstructor
+public class DraftSaveResult {
+    private final boolean conflict;
+    private final long version;
+    private final LocalDateTime savedAt;
+    
+    public static DraftSaveResult saved(long version, LocalDateTime savedAt) {
+        return new DraftSaveResult(false, version, savedAt);
+    }
+    
+    public static DraftSaveResult conflict(long currentVersion) {
+        return new DraftSaveResult(true, currentVersion, null);
+    }
+}
\ No newline at end of file
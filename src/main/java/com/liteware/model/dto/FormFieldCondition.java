@@ -0,0 +1,45 @@
+package com.liteware.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 양식 필드 조건 - 필드 종류에 맞는 값만 채운다 (숫자/날짜는 범위, 문자열은 일치)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormFieldCondition {
+    
+    // 필드 키 (예: amount, projectCode, expenseDate)
+    private String fieldKey;
+    
+    // 숫자 범위 (양 끝 포함, 한쪽만 지정 가능)
+    private BigDecimal minNumber;
+    private BigDecimal maxNumber;
+    
+    // 문자열 일치
+    private String equalTo;
+    
+    // 날짜 범위 (양 끝 포함, 한쪽만 지정 가능)
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    
+    public static FormFieldCondition numberBetween(String fieldKey, BigDecimal min, BigDecimal max) {
+        return FormFieldCondition.builder().fieldKey(fieldKey).minNumber(min).maxNumber(max).build();
+    }
+    
+    public static FormFieldCondition equalTo(String fieldKey, String value) {
+        return FormFieldCondition.builder().fieldKey(fieldKey).equalTo(value).build();
+    }
+    
+    public static FormFieldCondition dateBetween(String fieldKey, LocalDate from, LocalDate to) {
+        return FormFieldCondition.builder().fieldKey(fieldKey).fromDate(from).toDate(to).build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.liteware.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * 양식 필드로 결재 문서 검색 - 모든 조건을 만족하는 문서를 정렬 필드 순으로 (없으면 최신 문서 먼저)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormFieldSearchRequest {
+    
+    @NotEmpty(message = "검색 조건을 하나 이상 지정해주세요")
+    @Valid
+    private List<FormFieldCondition> conditions;
+    
+    // 정렬할 필드 키 (해당 필드가 없는 문서는 뒤로)
+    private String sortKey;
+    
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+    
+    @Builder.Default
+    private int page = 0;
+    
+    @Builder.Default
+    private int size = 20;
+}
\ No newline at end of file
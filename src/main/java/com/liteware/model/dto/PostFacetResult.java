@@ -0,0 +1,35 @@
+package com.liteware.model.dto;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 고급 검색 패싯 집계 결과
+ * counts: COUNT 패싯 이름 -> 게시글 수
+ * groups: GROUP 패싯 이름 -> (키 -> 게시글 수)
+ */
+@Getter
+public class PostFacetResult {
+    
+    private long totalCount;
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+    private final Map<String, Map<Object, Long>> groups = new LinkedHashMap<>();
+    
+    public long getCount(String name) {
+        return counts.getOrDefault(name, 0L);
+    }
+    
+    public void addTotal(long count) {
+        totalCount += count;
+    }
+    
+    public void addCount(String name, long count) {
+        counts.merge(name, count, Long::sum);
+    }
+    
+    public void addGroup(String name, Object key, long count) {
+        groups.computeIfAbsent(name, n -> new LinkedHashMap<>()).merge(key, count, Long::sum);
+    }
+}
\ No newline at end of file
@@ -56,6 +56,9 @@ public class PostSearchCriteria {
     // 정렬 기준
     private SortType sortType;
     
+    // 검색 방식 (RANKED는 검색 색인 점수순으로 정렬되며 sortType은 무시된다)
+    private SearchMode searchMode;
+    
     public enum SearchField {
         ALL,        // 제목 + 내용
         TITLE,      // 제목만
@@ -63,6 +66,11 @@ public class PostSearchCriteria {
         WRITER      // 작성자명
     }
     
+    public enum SearchMode {
+        LIKE,       // DB 부분 일치 검색
+        RANKED      // 검색 색인 기반 랭킹 검색
+    }
+    
     public enum SortType {
         LATEST,         // 최신순
         OLDEST,         // 오래된순
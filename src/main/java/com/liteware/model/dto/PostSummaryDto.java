@@ -6,12 +6,19 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 게시글 목록용 프로젝션
+ * 엔티티를 로딩하지 않고 목록에 필요한 컬럼과 댓글 수, 첨부파일 여부, 본문 미리보기만 조회한다 (본문은 읽지 않음)
+ * (필드 순서는 PostRepository.SUMMARY_SELECT 생성자 표현식과 일치해야 함)
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostSummaryDto {
     private Long postId;
+    private Long boardId;
     private String title;
+    private Long writerId;
     private String writerName;
     private String departmentName;
     private Integer viewCount;
@@ -20,5 +27,8 @@ public class PostSummaryDto {
     private Boolean isSecret;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private Long commentCount;
-}
\ No newline at end of file
+    private Integer commentCount;
+    private Boolean hasAttachment;
+    // 본문 미리보기 (비밀글은 null)
+    private String excerpt;
+}
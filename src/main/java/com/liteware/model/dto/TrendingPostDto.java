@@ -0,0 +1,18 @@
+package com.liteware.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 게시글 항목 (score는 조회 시점까지 감쇠된 점수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingPostDto {
+    private Long postId;
+    private Long boardId;
+    private String title;
+    private double score;
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.liteware.model.entity.approval;
+
+import com.liteware.model.entity.BaseEntity;
+import com.liteware.model.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 위임 규칙 - 기간 [startAt, endAt) 동안 delegator에게 오는 결재를 delegate가 대신 처리한다
+ * 같은 위임자의 규칙끼리는 기간이 겹치지 않는다.
+ */
+@Entity
+@Table(name = "approval_delegations",
+       indexes = {
+           @Index(name = "idx_delegation_delegator", columnList = "delegator_id, start_at"),
+           @Index(name = "idx_delegation_end", columnList = "end_at")
+       })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalDelegation extends BaseEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delegation_id")
+    private Long delegationId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "delegator_id", nullable = false)
+    private User delegator;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "delegate_id", nullable = false)
+    private User delegate;
+    
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+    
+    // 이 시각부터는 위임되지 않는다 (위임 해제 시 해제 시각으로 당겨진다)
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;
+}
\ No newline at end of file
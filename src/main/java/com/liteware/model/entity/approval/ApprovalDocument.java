@@ -17,10 +17,35 @@ import java.util.UUID;
 @Table(name = "approval_documents",
        indexes = {
            @Index(name = "idx_doc_number", columnList = "doc_number"),
-           @Index(name = "idx_drafter", columnList = "drafter_id"),
-           @Index(name = "idx_current_approver", columnList = "current_approver_id"),
+           @Index(name = "idx_drafter", columnList = "drafter_id, created_at"),
+           @Index(name = "idx_current_approver", columnList = "current_approver_id, status, created_at"),
            @Index(name = "idx_status", columnList = "status")
        })
+@NamedEntityGraph(
+        name = ApprovalDocument.GRAPH_SUMMARY,
+        attributeNodes = {
+                @NamedAttributeNode("drafter"),
+                @NamedAttributeNode("currentApprover"),
+                @NamedAttributeNode("leaveRequest"),
+                @NamedAttributeNode("overtimeRequest"),
+                @NamedAttributeNode("expenseRequest")
+        })
+@NamedEntityGraph(
+        name = ApprovalDocument.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode("drafter"),
+                @NamedAttributeNode("currentApprover"),
+                @NamedAttributeNode(value = "approvalLines", subgraph = "approvalLines"),
+                @NamedAttributeNode("leaveRequest"),
+                @NamedAttributeNode("overtimeRequest"),
+                @NamedAttributeNode("expenseRequest")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "approvalLines",
+                attributeNodes = {
+                        @NamedAttributeNode("approver"),
+                        @NamedAttributeNode("delegatedTo")
+                }))
 @Getter
 @Setter
 @Builder
@@ -28,6 +53,17 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ApprovalDocument extends BaseEntity {
     
+    /**
+     * 목록 화면용 조회 형태: 기안자, 현재 결재자, 양식 데이터까지만 한 번에 조회
+     */
+    public static final String GRAPH_SUMMARY = "ApprovalDocument.summary";
+    
+    /**
+     * 상세 화면용 조회 형태: 결재선(결재자 포함)까지 한 번에 조회
+     * 첨부파일/참조자는 bag 컬렉션이라 결재선과 동시에 fetch join 할 수 없어 별도로 초기화한다
+     */
+    public static final String GRAPH_DETAIL = "ApprovalDocument.detail";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "doc_id")
@@ -56,11 +92,11 @@ public class ApprovalDocument extends BaseEntity {
     @Builder.Default
     private DocumentStatus status = DocumentStatus.DRAFT;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "drafter_id", nullable = false)
     private User drafter;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "current_approver_id")
     private User currentApprover;
 
@@ -71,20 +107,32 @@ public class ApprovalDocument extends BaseEntity {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
     
+    /**
+     * 마지막 결재 처리(상신/승인/반려) 시각
+     * 처리할 때마다 갱신되어 문서 버전이 함께 올라가므로, 같은 문서에 대한 동시 처리는 한 건만 커밋된다
+     */
+    @Column(name = "last_processed_at")
+    private LocalDateTime lastProcessedAt;
+    
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
     @Enumerated(EnumType.STRING)
     @Column(name = "urgency", nullable = false, length = 20)
     @Builder.Default
     private UrgencyType urgency = UrgencyType.NORMAL;
     
-    @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true,  fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("orderSeq ASC")
     @Builder.Default
     private List<ApprovalLine> approvalLines = new ArrayList<>();
     
-    @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List<ApprovalAttachment> attachments = new ArrayList<>();
     
+    // 연관관계 주인이 아닌 1:1은 프록시로 지연 로딩할 수 없으므로 조회 형태(graph)에서 함께 조인한다
     @OneToOne(mappedBy = "document", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
     private LeaveRequest leaveRequest;
     
@@ -94,7 +142,7 @@ public class ApprovalDocument extends BaseEntity {
     @OneToOne(mappedBy = "document", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
     private ExpenseRequest expenseRequest;
     
-    @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("sortOrder ASC")
     @Builder.Default
     private List<ApprovalReference> references = new ArrayList<>();
@@ -103,6 +151,7 @@ public class ApprovalDocument extends BaseEntity {
     @Builder.Default
     private Boolean isDeleted = false;
     
+    // 문서번호는 DocumentNumberService가 발급한다 - 발급 없이 저장되는 경우에만 임시 번호를 붙인다
     @PrePersist
     public void generateDocNumber() {
         if (this.docNumber == null) {
@@ -0,0 +1,102 @@
+package com.liteware.model.entity.approval;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 이력 (추가 전용)
+ * 상태 전이마다 한 행을 남기고 수정/삭제하지 않는다 (보존 기간이 지난 월 단위 정리만 허용).
+ * 전이 직후의 문서 상태와 현재 결재자를 함께 기록해 이벤트를 순서대로 재생하면 임의 시점의 문서 상태가 나온다.
+ * event_month(yyyyMM)로 월 단위 조회/정리를 하며, MySQL/PostgreSQL에서는 이 컬럼으로 범위 파티션을 나눌 수 있다.
+ */
+@Entity
+@Immutable
+@Table(name = "approval_events", indexes = {
+    @Index(name = "idx_approval_events_doc", columnList = "doc_id, event_id"),
+    @Index(name = "idx_approval_events_month", columnList = "event_month")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ApprovalEvent {
+    
+    // 한 번의 전이에서 여러 건을 저장할 때 INSERT를 배치로 묶을 수 있도록 시퀀스로 할당
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_event_seq")
+    @SequenceGenerator(name = "approval_event_seq", sequenceName = "approval_events_seq", allocationSize = 50)
+    @Column(name = "event_id")
+    private Long eventId;
+    
+    @Column(name = "doc_id", nullable = false)
+    private Long docId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private ApprovalEventType eventType;
+    
+    // 처리한 사용자
+    @Column(name = "actor_id")
+    private Long actorId;
+    
+    // 대리 결재일 때 원래 결재자
+    @Column(name = "on_behalf_of_id")
+    private Long onBehalfOfId;
+    
+    @Column(name = "line_id")
+    private Long lineId;
+    
+    // 전이 직후 문서 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "document_status", nullable = false, length = 20)
+    private DocumentStatus documentStatus;
+    
+    // 전이 직후 현재 결재자
+    @Column(name = "current_approver_id")
+    private Long currentApproverId;
+    
+    @Column(name = "comment", columnDefinition = "TEXT")
+    private String comment;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+    
+    @Column(name = "event_month", nullable = false)
+    private Integer eventMonth;
+    
+    /**
+     * 전이 직후의 문서 상태로 이벤트 생성
+     */
+    public static ApprovalEvent of(ApprovalDocument document, ApprovalEventType eventType, Long actorId,
+                                   ApprovalLine line, String comment) {
+        LocalDateTime now = LocalDateTime.now();
+        return ApprovalEvent.builder()
+                .docId(document.getDocId())
+                .eventType(eventType)
+                .actorId(actorId)
+                .lineId(line != null ? line.getLineId() : null)
+                .documentStatus(document.getStatus())
+                .currentApproverId(document.getCurrentApprover() != null
+                        ? document.getCurrentApprover().getUserId() : null)
+                .comment(comment)
+                .occurredAt(now)
+                .eventMonth(monthOf(now))
+                .build();
+    }
+    
+    /**
+     * 대리 결재 - 위임받은 사용자가 원래 결재자 대신 처리
+     */
+    public static ApprovalEvent delegated(ApprovalDocument document, ApprovalLine line, Long delegateId) {
+        ApprovalEvent event = of(document, ApprovalEventType.DELEGATED, delegateId, line, null);
+        event.onBehalfOfId = line.getApprover().getUserId();
+        return event;
+    }
+    
+    public static int monthOf(LocalDateTime time) {
+        return time.getYear() * 100 + time.getMonthValue();
+    }
+}
\ No newline at end of file
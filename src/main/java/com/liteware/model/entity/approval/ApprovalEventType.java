@@ -0,0 +1,18 @@
+package com.liteware.model.entity.approval;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ApprovalEventType {
+    DRAFTED("기안"),
+    SUBMITTED("상신"),
+    APPROVED("승인"),
+    REJECTED("반려"),
+    DELEGATED("대리결재"),
+    SKIPPED("건너뜀"),
+    CANCELLED("회수");
+    
+    private final String description;
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.liteware.model.entity.approval;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 결재 문서 양식 필드 색인
+ * formData(JSON)에서 양식별로 정한 필드만 타입에 맞게 꺼내 한 행씩 저장한다 (문서당 필드 키 하나에 한 행).
+ * 필드 키 + 값 + 문서 ID 순의 복합 색인이 조건과 결과를 모두 담고 있어 문서 테이블을 읽지 않고 문서 ID를 찾는다.
+ */
+@Entity
+@Table(name = "approval_form_fields",
+       uniqueConstraints = @UniqueConstraint(name = "uk_form_field_doc_key", columnNames = {"doc_id", "field_key"}),
+       indexes = {
+           @Index(name = "idx_form_field_num", columnList = "field_key, num_value, doc_id"),
+           @Index(name = "idx_form_field_str", columnList = "field_key, str_value, doc_id"),
+           @Index(name = "idx_form_field_date", columnList = "field_key, date_value, doc_id")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalFormField {
+    
+    // 문서 저장마다 여러 건을 다시 쓰므로 INSERT를 배치로 묶을 수 있도록 시퀀스로 할당
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_form_field_seq")
+    @SequenceGenerator(name = "approval_form_field_seq", sequenceName = "approval_form_fields_seq", allocationSize = 50)
+    @Column(name = "field_id")
+    private Long fieldId;
+    
+    @Column(name = "doc_id", nullable = false)
+    private Long docId;
+    
+    @Column(name = "field_key", nullable = false, length = 50)
+    private String fieldKey;
+    
+    @Column(name = "num_value", precision = 19, scale = 2)
+    private BigDecimal numValue;
+    
+    @Column(name = "str_value", length = 200)
+    private String strValue;
+    
+    @Column(name = "date_value")
+    private LocalDate dateValue;
+}
\ No newline at end of file
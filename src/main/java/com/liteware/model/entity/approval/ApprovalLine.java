@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Table(name = "approval_lines",
        indexes = {
            @Index(name = "idx_doc_order", columnList = "doc_id, order_seq"),
-           @Index(name = "idx_approver", columnList = "approver_id")
+           @Index(name = "idx_approver", columnList = "approver_id"),
+           @Index(name = "idx_approver_status", columnList = "approver_id, status")
        })
 @Getter
 @Setter
@@ -25,7 +26,7 @@ public class ApprovalLine extends BaseEntity {
     @Column(name = "line_id")
     private Long lineId;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "doc_id", nullable = false)
     private ApprovalDocument document;
     
@@ -37,9 +38,20 @@ public class ApprovalLine extends BaseEntity {
     @Column(name = "approval_type", nullable = false, length = 20)
     private ApprovalType approvalType;
     
+    /**
+     * 결재 순서 - 같은 순서의 결재선은 하나의 병렬 그룹으로 함께 활성화된다
+     */
     @Column(name = "order_seq", nullable = false)
     private Integer orderSeq;
     
+    /**
+     * 병렬 그룹의 통과 조건 (그룹 내 결재선은 같은 값을 가진다)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quorum_rule", nullable = false, length = 20)
+    @Builder.Default
+    private QuorumRule quorumRule = QuorumRule.ALL;
+    
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     @Builder.Default
@@ -62,6 +74,16 @@ public class ApprovalLine extends BaseEntity {
     @Column(name = "delegated_at")
     private LocalDateTime delegatedAt;
     
+    /**
+     * 결재 차례가 된 시각 (아직 차례가 오지 않았으면 null)
+     */
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+    
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
     public void approve(String comment) {
         this.status = ApprovalStatus.APPROVED;
         this.comment = comment;
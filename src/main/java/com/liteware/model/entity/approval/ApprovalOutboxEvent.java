@@ -0,0 +1,125 @@
+package com.liteware.model.entity.approval;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 후속 처리 이벤트 (트랜잭셔널 아웃박스)
+ * 결재 트랜잭션은 이 행만 함께 저장하고, 연차 차감/알림 같은 후속 처리는
+ * ApprovalOutboxDispatcher가 커밋된 이벤트를 읽어 별도 트랜잭션에서 처리한다.
+ */
+@Entity
+@Table(name = "approval_outbox_events", indexes = {
+    @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalOutboxEvent {
+    
+    // 한 번의 결재 처리에서 여러 건을 저장할 때 INSERT를 배치로 묶을 수 있도록 시퀀스로 할당
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_outbox_seq")
+    @SequenceGenerator(name = "approval_outbox_seq", sequenceName = "approval_outbox_events_seq", allocationSize = 50)
+    @Column(name = "event_id")
+    private Long eventId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private EventType eventType;
+    
+    @Column(name = "doc_id", nullable = false)
+    private Long docId;
+    
+    // 알림 받을 사용자 (결재 요청 이벤트)
+    @Column(name = "recipient_id")
+    private Long recipientId;
+    
+    // 반려 사유 (반려 이벤트)
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+    
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+    
+    // 여러 워커가 같은 이벤트를 동시에 처리하면 먼저 커밋한 한 건만 반영된다
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
+    public static ApprovalOutboxEvent approvalRequested(Long docId, Long recipientId) {
+        return of(EventType.APPROVAL_REQUESTED, docId, recipientId, null);
+    }
+    
+    public static ApprovalOutboxEvent documentApproved(Long docId) {
+        return of(EventType.DOCUMENT_APPROVED, docId, null, null);
+    }
+    
+    public static ApprovalOutboxEvent documentRejected(Long docId, String reason) {
+        return of(EventType.DOCUMENT_REJECTED, docId, null, reason);
+    }
+    
+    private static ApprovalOutboxEvent of(EventType eventType, Long docId, Long recipientId, String reason) {
+        return ApprovalOutboxEvent.builder()
+                .eventType(eventType)
+                .docId(docId)
+                .recipientId(recipientId)
+                .reason(reason)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+    
+    public void markDone() {
+        this.status = Status.DONE;
+        this.processedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 처리 실패 기록 - 최대 시도 횟수에 도달하면 FAILED로 멈추고, 아니면 retryAt에 다시 시도한다
+     */
+    public void markFailed(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+    
+    public enum EventType {
+        APPROVAL_REQUESTED,     // 결재 차례 알림
+        DOCUMENT_APPROVED,      // 최종 승인 - 양식별 후처리 + 기안자 알림
+        DOCUMENT_REJECTED       // 반려 - 양식별 후처리 + 기안자 알림
+    }
+    
+    public enum Status {
+        PENDING,
+        DONE,
+        FAILED
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.liteware.model.entity.approval;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 문서번호 발급 카운터 - 문서 유형/일자(예: LV-20261017)별로 다음에 예약할 번호를 보관한다
+ * 각 서버는 한 번의 UPDATE로 번호 구간을 예약해 메모리에서 발급하므로, 쓰지 못한 번호는 빈 번호로 남는다.
+ * 새 카운터는 merge 없이 INSERT만 하므로, 여러 서버가 동시에 만들면 기본키 충돌로 한 곳만 성공한다.
+ */
+@Entity
+@Table(name = "document_number_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentNumberCounter implements Persistable<String> {
+    
+    @Id
+    @Column(name = "counter_key", length = 20)
+    private String counterKey;
+    
+    // 아직 예약되지 않은 첫 번호
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+    
+    // DB에서 읽었거나 이미 저장한 객체인지 (save가 merge 대신 persist를 쓰도록)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean persisted = false;
+    
+    @Override
+    public String getId() {
+        return counterKey;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
\ No newline at end of file
@@ -6,14 +6,17 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum DocumentType {
-    LEAVE_REQUEST("휴가신청"),
-    OVERTIME_REQUEST("연장근무신청"),
-    EXPENSE_REQUEST("경비청구"),
-    PURCHASE_REQUEST("구매요청"),
-    GENERAL_APPROVAL("일반결재"),
-    BUSINESS_TRIP("출장신청"),
-    WORK_FROM_HOME("재택근무신청"),
-    RESIGNATION("퇴직신청");
+    LEAVE_REQUEST("휴가신청", "LV"),
+    OVERTIME_REQUEST("연장근무신청", "OT"),
+    EXPENSE_REQUEST("경비청구", "EX"),
+    PURCHASE_REQUEST("구매요청", "PR"),
+    GENERAL_APPROVAL("일반결재", "GA"),
+    BUSINESS_TRIP("출장신청", "BT"),
+    WORK_FROM_HOME("재택근무신청", "WH"),
+    RESIGNATION("퇴직신청", "RS");
     
     private final String description;
+    
+    // 문서번호 접두어 (예: LV-20261017-000123)
+    private final String numberPrefix;
 }
\ No newline at end of file
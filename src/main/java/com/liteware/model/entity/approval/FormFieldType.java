@@ -0,0 +1,18 @@
+package com.liteware.model.entity.approval;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 양식 필드 값 종류 - ApprovalFormField의 어느 값 컬럼에 저장되는지
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FormFieldType {
+    NUMBER("numValue"),
+    STRING("strValue"),
+    DATE("dateValue");
+    
+    // JPQL에서 쓰는 값 속성명
+    private final String attribute;
+}
\ No newline at end of file
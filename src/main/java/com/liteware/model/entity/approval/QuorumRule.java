@@ -0,0 +1,31 @@
+package com.liteware.model.entity.approval;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 병렬 결재 그룹(같은 순서의 결재선)이 통과하기 위한 승인 정족수
+ */
+@Getter
+@RequiredArgsConstructor
+public enum QuorumRule {
+    ALL("전원 승인"),
+    ANY("1인 이상 승인"),
+    MAJORITY("과반 승인");
+    
+    private final String description;
+    
+    /**
+     * 참여 인원 중 통과에 필요한 승인 수 (참여 인원이 없으면 - 모두 건너뛴 그룹 - 0)
+     */
+    public int required(int members) {
+        if (members <= 0) {
+            return 0;
+        }
+        return switch (this) {
+            case ALL -> members;
+            case ANY -> 1;
+            case MAJORITY -> members / 2 + 1;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.liteware.model.entity.board;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글/댓글 좋아요 기록
+ * (대상 유형, 대상 ID, 사용자) 유니크 제약으로 같은 사용자가 같은 대상에 두 번 좋아요 할 수 없다.
+ * 대상의 like_count는 LikeService가 메모리에 모았다가 일괄 반영한다.
+ */
+@Entity
+@Table(name = "board_likes",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_board_likes_target_user", columnNames = {"target_type", "target_id", "user_id"})
+    },
+    indexes = {
+        @Index(name = "idx_board_likes_user", columnList = "user_id, target_type, target_id")
+    })
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardLike {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "like_id")
+    private Long likeId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private LikeTargetType targetType;
+    
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @CreatedDate
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -13,7 +13,8 @@ import java.util.List;
 @Table(name = "comments", indexes = {
     @Index(name = "idx_comments_post", columnList = "post_id"),
     @Index(name = "idx_comments_writer", columnList = "writer_id"),
-    @Index(name = "idx_comments_parent", columnList = "parent_comment_id")
+    @Index(name = "idx_comments_parent", columnList = "parent_comment_id"),
+    @Index(name = "idx_comments_thread", columnList = "post_id, parent_comment_id, created_at")
 })
 @Getter
 @Setter
@@ -52,10 +53,17 @@ public class Comment extends BaseEntity {
     @Builder.Default
     private Integer depth = 0;
     
-    @Column(name = "like_count")
+    // 좋아요 수는 LikeService가 모아서 증분 UPDATE로만 반영한다 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "like_count", updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
     
+    // 아직 DB에 반영되지 않은 좋아요 증감분
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long pendingLikeCount;
+    
     @Column(name = "is_deleted")
     @Builder.Default
     private Boolean isDeleted = false;
@@ -65,13 +73,11 @@ public class Comment extends BaseEntity {
         this.content = "삭제된 댓글입니다";
     }
     
-    public void incrementLikeCount() {
-        this.likeCount++;
+    public Integer getLikeCount() {
+        return Math.max((likeCount != null ? likeCount : 0) + (int) pendingLikeCount, 0);
     }
     
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
+    public void applyPendingLikeCount(long pendingLikeCount) {
+        this.pendingLikeCount = pendingLikeCount;
     }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.liteware.model.entity.board;
+
+public enum LikeTargetType {
+    POST,       // 게시글
+    COMMENT     // 댓글
+}
\ No newline at end of file
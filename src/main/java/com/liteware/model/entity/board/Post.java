@@ -1,10 +1,14 @@
 package com.liteware.model.entity.board;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.liteware.model.entity.BaseEntity;
 import com.liteware.model.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,14 +17,16 @@ import java.util.List;
 @Table(name = "posts", indexes = {
     @Index(name = "idx_posts_board", columnList = "board_id"),
     @Index(name = "idx_posts_writer", columnList = "writer_id"),
-    @Index(name = "idx_posts_created", columnList = "created_at")
+    @Index(name = "idx_posts_created", columnList = "created_at"),
+    @Index(name = "idx_posts_board_cursor", columnList = "board_id, is_deleted, is_notice, created_at, post_id"),
+    @Index(name = "idx_posts_board_comment_count", columnList = "board_id, is_deleted, comment_count")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-@ToString(exclude = {"board", "writer", "comments", "attachments"})
+@ToString(exclude = {"board", "writer", "body", "comments", "attachments"})
 @EqualsAndHashCode(of = "postId", callSuper = false)
 public class Post extends BaseEntity {
     
@@ -36,21 +42,54 @@ public class Post extends BaseEntity {
     @Column(name = "title", nullable = false, length = 200)
     private String title;
     
-    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
-    private String content;
+    // 본문은 별도 테이블에서 필요할 때만 읽는다 (상세 조회는 fetch join)
+    // 본문 분리 이전 게시글은 시작 시 PostBodyBackfillService가 채우므로 컬럼은 NULL을 허용한다 (기존 DB의 스키마 갱신이 실패하지 않도록)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "body_id", unique = true)
+    @JsonIgnore
+    private PostBody body;
+    
+    // 목록/검색 결과용 본문 미리보기 (태그를 제거한 텍스트, 작성/수정 시 계산)
+    @Column(name = "excerpt", length = 300)
+    private String excerpt;
+    
+    // 본문(HTML) 길이
+    @Column(name = "content_length")
+    @Builder.Default
+    private Integer contentLength = 0;
     
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "writer_id", nullable = false)
     private User writer;
     
-    @Column(name = "view_count")
+    // 조회수는 PostViewCountService가 모아서 증분 UPDATE로만 반영한다 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "view_count", updatable = false)
     @Builder.Default
     private Integer viewCount = 0;
     
-    @Column(name = "like_count")
+    // 아직 DB에 반영되지 않은 조회수
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long pendingViewCount;
+    
+    // 좋아요 수는 LikeService가 모아서 증분 UPDATE로만 반영한다 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "like_count", updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
     
+    // 아직 DB에 반영되지 않은 좋아요 증감분
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long pendingLikeCount;
+    
+    // 활성 댓글 수 - CommentService가 증분 UPDATE로만 갱신하고, 어긋난 값은 CommentCountReconciliationService가 보정한다
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer commentCount = 0;
+    
     @Column(name = "is_notice")
     @Builder.Default
     private Boolean isNotice = false;
@@ -69,7 +108,8 @@ public class Post extends BaseEntity {
     @Column(name = "notice_end_date")
     private java.time.LocalDate noticeEndDate;
     
-    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // 댓글은 CommentService의 스레드 API로 페이지 단위 조회 (게시글 조회 시 함께 로딩하지 않음)
+    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
     
@@ -77,17 +117,43 @@ public class Post extends BaseEntity {
     @Builder.Default
     private List<PostAttachment> attachments = new ArrayList<>();
     
-    public void incrementViewCount() {
-        this.viewCount++;
+    /**
+     * 본문 - 로딩되지 않았으면 이 시점에 조회한다 (영속성 컨텍스트 안에서만 호출)
+     */
+    @JsonIgnore
+    public String getContent() {
+        return body != null ? body.getContent() : null;
+    }
+    
+    public void setContent(String content) {
+        if (body == null) {
+            body = PostBody.builder().content(content).build();
+        } else {
+            body.setContent(content);
+        }
     }
     
-    public void incrementLikeCount() {
-        this.likeCount++;
+    /**
+     * 응답 직렬화용 본문 - 함께 조회된 경우에만 내려주고, 목록 등에서는 추가 조회 없이 생략
+     */
+    @JsonProperty("content")
+    public String loadedContent() {
+        return Hibernate.isInitialized(body) ? getContent() : null;
     }
     
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
+    public Integer getViewCount() {
+        return (viewCount != null ? viewCount : 0) + (int) pendingViewCount;
+    }
+    
+    public void applyPendingViewCount(long pendingViewCount) {
+        this.pendingViewCount = pendingViewCount;
+    }
+    
+    public Integer getLikeCount() {
+        return Math.max((likeCount != null ? likeCount : 0) + (int) pendingLikeCount, 0);
+    }
+    
+    public void applyPendingLikeCount(long pendingLikeCount) {
+        this.pendingLikeCount = pendingLikeCount;
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.liteware.model.entity.board;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글 본문 (Summernote HTML)
+ * 본문은 수백 KB까지 커질 수 있어 posts와 분리해 두고, 상세 조회와 본문 검색에서만 읽는다.
+ * 목록과 요약에는 작성 시 만들어 둔 Post.excerpt / contentLength를 사용한다.
+ */
+@Entity
+@Table(name = "post_bodies")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "content")
+@EqualsAndHashCode(of = "bodyId")
+public class PostBody {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "body_id")
+    private Long bodyId;
+    
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    private String content;
+}
\ No newline at end of file
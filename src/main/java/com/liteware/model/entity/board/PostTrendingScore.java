@@ -0,0 +1,64 @@
+package com.liteware.model.entity.board;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 점수 스냅샷
+ * PostTrendingService가 메모리에 유지하는 게시판별 상위 K개를 주기적으로 저장해 두었다가 재기동 시 복원한다.
+ * ID(게시글 ID)를 직접 지정하지만 저장은 항상 전체 교체이므로, 새로 만든 객체는 조회 없이 바로 INSERT 되도록 한다.
+ */
+@Entity
+@Table(name = "post_trending_scores", indexes = {
+    @Index(name = "idx_post_trending_scores_board", columnList = "board_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostTrendingScore implements Persistable<Long> {
+    
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+    
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+    
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+    
+    // scoredAt 시점까지 감쇠된 점수
+    @Column(name = "score", nullable = false)
+    private Double score;
+    
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+    
+    // DB에서 읽었거나 이미 저장한 객체인지 (save가 merge 대신 persist를 쓰도록)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean persisted = false;
+    
+    @Override
+    public Long getId() {
+        return postId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.liteware.model.entity.draft;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 편집 중인 게시글/결재 문서의 임시저장본
+ * 사용자와 대상마다 최신본 하나만 둔다. 자동저장 요청은 DraftAutosaveService가 메모리에서 합쳐 두었다가
+ * 편집이 멈추거나 일정 시간이 지나면 이 테이블에 반영한다.
+ */
+@Entity
+@Table(name = "drafts",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_drafts_user_target", columnNames = {"user_id", "target_type", "target_id"})
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"content", "formData"})
+public class Draft {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "draft_id")
+    private Long draftId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 30)
+    private DraftTargetType targetType;
+    
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+    
+    @Column(name = "title", length = 200)
+    private String title;
+    
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content;
+    
+    @Column(name = "form_data", columnDefinition = "TEXT")
+    private String formData;
+    
+    // 저장할 때마다 1씩 증가 - 클라이언트가 다른 창/기기의 저장과 충돌했는지 확인하는 데 사용
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    // 사용자가 저장한 시각 (DB 반영 시각이 아님)
+    @Column(name = "saved_at", nullable = false)
+    private LocalDateTime savedAt;
+}
\ No newline at end of file
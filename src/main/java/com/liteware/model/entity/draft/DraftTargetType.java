@@ -0,0 +1,11 @@
+package com.liteware.model.entity.draft;
+
+/**
+ * 임시저장 대상 - 대상 ID의 의미가 유형마다 다르다
+ */
+public enum DraftTargetType {
+    NEW_POST,               // 새 게시글 (대상 ID = 게시판 ID)
+    POST,                   // 게시글 수정 (대상 ID = 게시글 ID)
+    NEW_APPROVAL_DOCUMENT,  // 새 결재 문서 (대상 ID = 0)
+    APPROVAL_DOCUMENT       // 결재 문서 수정 (대상 ID = 문서 ID)
+}
\ No newline at end of file
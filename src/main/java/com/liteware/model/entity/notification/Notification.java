@@ -16,8 +16,10 @@ import java.time.LocalDateTime;
 @Builder
 public class Notification {
     
+    // 결재 일괄 처리처럼 여러 건을 한 번에 저장할 때 INSERT를 JDBC 배치로 묶을 수 있도록 시퀀스로 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long notificationId;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,6 +4,8 @@ import com.liteware.model.entity.notification.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -21,4 +23,22 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     long countByRecipientUserIdAndIsReadAndIsDeleted(Long userId, Boolean isRead, Boolean isDeleted);
     
     List<Notification> findByExpiredAtBeforeAndIsDeleted(LocalDateTime dateTime, Boolean isDeleted);
+    
+    /**
+     * 알림 목록 - 건수는 CountMode에 따라 따로 구한다 (isRead가 null이면 전체)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipient.userId = :userId AND n.isDeleted = false " +
+           "AND (:isRead IS NULL OR n.isRead = :isRead)")
+    List<Notification> findActiveByRecipient(@Param("userId") Long userId, @Param("isRead") Boolean isRead,
+                                             Pageable pageable);
+    
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.userId = :userId AND n.isDeleted = false " +
+           "AND (:isRead IS NULL OR n.isRead = :isRead)")
+    long countActiveByRecipient(@Param("userId") Long userId, @Param("isRead") Boolean isRead);
+    
+    // 상한 건수 계산용 - limit건까지만 ID를 읽는다
+    @Query("SELECT n.notificationId FROM Notification n WHERE n.recipient.userId = :userId AND n.isDeleted = false " +
+           "AND (:isRead IS NULL OR n.isRead = :isRead)")
+    List<Long> findActiveIdsByRecipient(@Param("userId") Long userId, @Param("isRead") Boolean isRead,
+                                        Pageable limit);
 }
\ No newline at end of file
@@ -7,16 +7,24 @@ import com.liteware.model.entity.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    // 이름/로그인 ID/이메일 부분 일치 (대소문자 무시)
+    String SEARCH_CONDITION = "(LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(u.loginId) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND u.isDeleted = false";
+    
     Optional<User> findByLoginId(String loginId);
     
     Optional<User> findByEmail(String email);
@@ -38,19 +46,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.department.deptId = :deptId AND u.isDeleted = false")
     List<User> findActiveUsersByDepartmentId(@Param("deptId") Long deptId);
     
+    /**
+     * 사용자 행을 잠가 읽는다 - 같은 사용자에 대한 검사 후 저장(예: 결재 위임 기간 중복 검사)을 직렬화할 때 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.userId = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+    
     @Query("SELECT u FROM User u JOIN FETCH u.roles WHERE u.loginId = :loginId")
     Optional<User> findByLoginIdWithRoles(@Param("loginId") String loginId);
     
     @Query("SELECT u FROM User u WHERE u.status = :status AND u.isDeleted = false")
     Page<User> findActiveUsersByStatus(@Param("status") UserStatus status, Pageable pageable);
     
-    @Query("SELECT u FROM User u WHERE " +
-           "(LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.loginId) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "AND u.isDeleted = false")
+    @Query("SELECT u FROM User u WHERE " + SEARCH_CONDITION)
     Page<User> searchUsers(@Param("keyword") String keyword, Pageable pageable);
     
+    /**
+     * 사용자 검색 목록 - 건수는 CountMode에 따라 따로 구한다 (PageCounter)
+     */
+    @Query("SELECT u FROM User u WHERE " + SEARCH_CONDITION)
+    List<User> searchUserList(@Param("keyword") String keyword, Pageable pageable);
+    
+    @Query("SELECT COUNT(u) FROM User u WHERE " + SEARCH_CONDITION)
+    long countSearchUsers(@Param("keyword") String keyword);
+    
+    // 상한 건수 계산용 - limit건까지만 ID를 읽는다
+    @Query("SELECT u.userId FROM User u WHERE " + SEARCH_CONDITION)
+    List<Long> findSearchUserIds(@Param("keyword") String keyword, Pageable limit);
+    
     @Query("SELECT COUNT(u) FROM User u WHERE u.department.deptId = :deptId AND u.isDeleted = false")
     Long countActiveUsersByDepartmentId(@Param("deptId") Long deptId);
     
@@ -0,0 +1,33 @@
+package com.liteware.repository.approval;
+
+import com.liteware.model.entity.approval.ApprovalDelegation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApprovalDelegationRepository extends JpaRepository<ApprovalDelegation, Long> {
+    
+    /**
+     * 아직 끝나지 않은 위임 규칙 (진행 중 + 예약)
+     */
+    @Query("SELECT d FROM ApprovalDelegation d WHERE d.endAt > :now")
+    List<ApprovalDelegation> findUnexpired(@Param("now") LocalDateTime now);
+    
+    @Query("SELECT d FROM ApprovalDelegation d JOIN FETCH d.delegate WHERE d.delegator.userId = :delegatorId " +
+           "ORDER BY d.startAt DESC")
+    List<ApprovalDelegation> findByDelegatorId(@Param("delegatorId") Long delegatorId);
+    
+    /**
+     * 같은 위임자의 규칙 중 기간이 겹치는 규칙이 있는지
+     */
+    @Query("SELECT COUNT(d) > 0 FROM ApprovalDelegation d WHERE d.delegator.userId = :delegatorId " +
+           "AND d.startAt < :endAt AND d.endAt > :startAt")
+    boolean existsOverlapping(@Param("delegatorId") Long delegatorId,
+                              @Param("startAt") LocalDateTime startAt,
+                              @Param("endAt") LocalDateTime endAt);
+}
\ No newline at end of file
@@ -6,12 +6,14 @@ import com.liteware.model.entity.approval.DocumentStatus;
 import com.liteware.model.entity.approval.DocumentType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,7 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
     
     Optional<ApprovalDocument> findByDocNumber(String docNumber);
     
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     List<ApprovalDocument> findByDrafter(User drafter);
     
     List<ApprovalDocument> findByCurrentApprover(User currentApprover);
@@ -28,12 +31,70 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
     
     List<ApprovalDocument> findByDocType(DocumentType docType);
     
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     List<ApprovalDocument> findByCurrentApproverAndStatus(User currentApprover, DocumentStatus status);
     
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     Page<ApprovalDocument> findByDrafter(User drafter, Pageable pageable);
     
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     Page<ApprovalDocument> findByCurrentApprover(User currentApprover, Pageable pageable);
     
+    /**
+     * 사용자에게 차례가 온 대기 결재선이 있는 문서 - 병렬 그룹의 결재자 전원이 해당된다
+     * approverIds: 사용자가 지금 처리하는 결재자 (위임 중이 아니면 본인 + 위임 규칙으로 대신 처리 중인 위임자)
+     * 결재선에 위임받은 사용자가 기록되어 있으면 그 사용자가 처리한다
+     */
+    String ACTIVE_APPROVER_CONDITION = "EXISTS (SELECT 1 FROM ApprovalLine l LEFT JOIN l.delegatedTo dt " +
+            "WHERE l.document = d AND l.status = 'PENDING' AND l.activatedAt IS NOT NULL " +
+            "AND (dt.userId = :approverId OR (dt IS NULL AND l.approver.userId IN :approverIds))) ";
+    
+    /**
+     * 결재 대기함 - 페이지 단위 조회
+     */
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
+    @Query(value = "SELECT d FROM ApprovalDocument d WHERE d.status = :status AND d.isDeleted = false AND " +
+                   ACTIVE_APPROVER_CONDITION,
+           countQuery = "SELECT COUNT(d) FROM ApprovalDocument d WHERE d.status = :status AND d.isDeleted = false AND " +
+                        ACTIVE_APPROVER_CONDITION)
+    Page<ApprovalDocument> findPageByActiveApproverId(@Param("approverId") Long approverId,
+                                                     @Param("approverIds") Collection<Long> approverIds,
+                                                     @Param("status") DocumentStatus status,
+                                                     Pageable pageable);
+    
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
+    @Query("SELECT d FROM ApprovalDocument d WHERE d.status = :status AND d.isDeleted = false AND " +
+           ACTIVE_APPROVER_CONDITION)
+    List<ApprovalDocument> findByActiveApproverId(@Param("approverId") Long approverId,
+                                                  @Param("approverIds") Collection<Long> approverIds,
+                                                  @Param("status") DocumentStatus status);
+    
+    /**
+     * 기안 문서함 - 페이지 단위 조회
+     */
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
+    @Query(value = "SELECT d FROM ApprovalDocument d WHERE d.drafter.userId = :drafterId AND d.isDeleted = false",
+           countQuery = "SELECT COUNT(d) FROM ApprovalDocument d WHERE d.drafter.userId = :drafterId AND d.isDeleted = false")
+    Page<ApprovalDocument> findPageByDrafterId(@Param("drafterId") Long drafterId, Pageable pageable);
+    
+    /**
+     * 참조 문서함 - 페이지 단위 조회
+     */
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
+    @Query(value = "SELECT d FROM ApprovalDocument d WHERE d.isDeleted = false AND EXISTS (" +
+                   "SELECT 1 FROM ApprovalReference r WHERE r.document = d AND r.user.userId = :userId)",
+           countQuery = "SELECT COUNT(d) FROM ApprovalDocument d WHERE d.isDeleted = false AND EXISTS (" +
+                        "SELECT 1 FROM ApprovalReference r WHERE r.document = d AND r.user.userId = :userId)")
+    Page<ApprovalDocument> findPageByReferenceUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT COUNT(d) FROM ApprovalDocument d WHERE d.status = 'PENDING' AND d.isDeleted = false AND " +
+           ACTIVE_APPROVER_CONDITION)
+    long countPendingByApproverId(@Param("approverId") Long approverId,
+                                  @Param("approverIds") Collection<Long> approverIds);
+    
+    @Query("SELECT COUNT(d) FROM ApprovalDocument d WHERE d.drafter.userId = :drafterId AND d.isDeleted = false")
+    long countByDrafterId(@Param("drafterId") Long drafterId);
+    
     @Query("SELECT d FROM ApprovalDocument d WHERE d.drafter = :user " +
            "AND d.status = :status AND d.isDeleted = false")
     List<ApprovalDocument> findByDrafterAndStatus(@Param("user") User user, 
@@ -44,16 +105,23 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
            "AND d.status = 'PENDING' AND d.isDeleted = false")
     List<ApprovalDocument> findPendingDocumentsByApprover(@Param("approver") User approver);
     
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     @Query("SELECT d FROM ApprovalDocument d JOIN d.approvalLines l " +
            "WHERE l.approver = :approver AND l.status = 'APPROVED' " +
            "AND d.isDeleted = false")
     List<ApprovalDocument> findApprovedDocumentsByApprover(@Param("approver") User approver);
     
-    @Query("SELECT d FROM ApprovalDocument d WHERE " +
-           "(LOWER(d.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(d.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "AND d.isDeleted = false")
-    Page<ApprovalDocument> searchDocuments(@Param("keyword") String keyword, Pageable pageable);
+    /**
+     * 목록 표시용 문서 (기안자/현재 결재자 포함, 순서는 보장하지 않음)
+     */
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
+    @Query("SELECT d FROM ApprovalDocument d WHERE d.docId IN :docIds")
+    List<ApprovalDocument> findSummaryByIdIn(@Param("docIds") Collection<Long> docIds);
+    
+    /**
+     * 문서 ID 순 일괄 처리용 (양식 필드 재색인)
+     */
+    List<ApprovalDocument> findByDocIdGreaterThanOrderByDocIdAsc(Long docId, Pageable pageable);
     
     @Query("SELECT d FROM ApprovalDocument d WHERE d.draftedAt BETWEEN :startDate AND :endDate " +
            "AND d.isDeleted = false")
@@ -64,17 +132,39 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
            "AND d.status = 'PENDING'")
     Long countPendingDocuments(@Param("approver") User approver);
     
-    // EAGER 페칭으로 인해 JOIN FETCH가 불필요함 - JPA 기본 메서드 사용
+    /**
+     * 전체 문서 목록 - 목록 형태로 조회
+     */
+    @Override
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
+    Page<ApprovalDocument> findAll(Pageable pageable);
+    
+    /**
+     * 문서 상세 - 결재선과 결재자까지 한 번에 조회
+     */
+    @EntityGraph(ApprovalDocument.GRAPH_DETAIL)
+    @Query("SELECT d FROM ApprovalDocument d WHERE d.docId = :docId")
+    Optional<ApprovalDocument> findDetailById(@Param("docId") Long docId);
+    
+    /**
+     * 여러 문서 상세 - 결재선과 결재자까지 한 번에 조회 (일괄 처리용)
+     */
+    @EntityGraph(ApprovalDocument.GRAPH_DETAIL)
+    @Query("SELECT d FROM ApprovalDocument d WHERE d.docId IN :docIds AND d.isDeleted = false")
+    List<ApprovalDocument> findDetailByIdIn(@Param("docIds") Collection<Long> docIds);
+    
     default Optional<ApprovalDocument> findByIdWithApprovalLines(Long docId) {
-        return findById(docId);
+        return findDetailById(docId);
     }
 
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     @Query("SELECT DISTINCT d FROM ApprovalDocument d LEFT JOIN d.approvalLines l " +
             "WHERE (d.drafter = :user OR l.approver = :user)" +
             "AND d.isDeleted = false " +
             "ORDER BY d.createdAt DESC")
     List<ApprovalDocument> findRecentDocumentsByUser(@Param("user") User user, Pageable pageable);
     
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     @Query("SELECT DISTINCT d FROM ApprovalDocument d LEFT JOIN d.approvalLines l " +
            "WHERE (d.drafter = :user OR l.approver = :user) AND d.status = :status " +
            "AND d.isDeleted = false " +
@@ -89,6 +179,7 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
     /**
      * 참조자로 지정된 문서 조회
      */
+    @EntityGraph(ApprovalDocument.GRAPH_SUMMARY)
     @Query("SELECT DISTINCT d FROM ApprovalDocument d JOIN d.references r " +
            "WHERE r.user = :user AND d.isDeleted = false " +
            "ORDER BY d.createdAt DESC")
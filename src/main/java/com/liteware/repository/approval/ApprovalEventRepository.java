@@ -0,0 +1,27 @@
+package com.liteware.repository.approval;
+
+import com.liteware.model.entity.approval.ApprovalEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApprovalEventRepository extends JpaRepository<ApprovalEvent, Long> {
+    
+    List<ApprovalEvent> findByDocIdOrderByEventIdAsc(Long docId);
+    
+    @Query("SELECT e FROM ApprovalEvent e WHERE e.docId = :docId AND e.occurredAt <= :at ORDER BY e.eventId")
+    List<ApprovalEvent> findByDocIdUpTo(@Param("docId") Long docId, @Param("at") LocalDateTime at);
+    
+    /**
+     * 보존 기간이 지난 월의 이력 정리 (event_month 색인 범위 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalEvent e WHERE e.eventMonth < :month")
+    int deleteByEventMonthBefore(@Param("month") int month);
+}
\ No newline at end of file
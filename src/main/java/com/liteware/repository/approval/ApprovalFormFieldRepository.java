@@ -0,0 +1,21 @@
+package com.liteware.repository.approval;
+
+import com.liteware.model.entity.approval.ApprovalFormField;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ApprovalFormFieldRepository extends JpaRepository<ApprovalFormField, Long>, ApprovalFormFieldRepositoryCustom {
+    
+    List<ApprovalFormField> findByDocIdOrderByFieldKey(Long docId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ApprovalFormField f WHERE f.docId IN :docIds")
+    int deleteByDocIdIn(@Param("docIds") Collection<Long> docIds);
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.liteware.repository.approval;
+
+import com.liteware.model.dto.FormFieldCondition;
+import com.liteware.model.entity.approval.FormFieldType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface ApprovalFormFieldRepositoryCustom {
+    
+    /**
+     * 모든 조건을 만족하는 문서 ID (색인 테이블만 읽는다)
+     * @param sortKey 정렬할 필드 키 (null이면 최신 문서 먼저)
+     * @param sortType 정렬할 필드의 값 종류
+     */
+    Page<Long> findDocIds(List<FormFieldCondition> conditions, String sortKey, FormFieldType sortType,
+                          Sort.Direction direction, Pageable pageable);
+}
\ No newline at end of file
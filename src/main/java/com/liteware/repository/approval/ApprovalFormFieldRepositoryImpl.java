@@ -0,0 +1,106 @@
+package com.liteware.repository.approval;
+
+import com.liteware.model.dto.FormFieldCondition;
+import com.liteware.model.entity.approval.FormFieldType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 양식 필드 조건 검색 - 조건마다 색인 테이블을 문서 ID로 한 번씩 이어 붙인다
+ * 조건 하나는 (field_key, 값, doc_id) 색인의 범위 조회 하나로 풀린다.
+ */
+@Repository
+public class ApprovalFormFieldRepositoryImpl implements ApprovalFormFieldRepositoryCustom {
+    
+    private final EntityManager entityManager;
+    
+    public ApprovalFormFieldRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    public Page<Long> findDocIds(List<FormFieldCondition> conditions, String sortKey, FormFieldType sortType,
+                                 Sort.Direction direction, Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder from = new StringBuilder("FROM ApprovalFormField f0");
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        
+        String sortAlias = null;
+        for (int i = 0; i < conditions.size(); i++) {
+            FormFieldCondition condition = conditions.get(i);
+            String alias = "f" + i;
+            if (i > 0) {
+                from.append(" JOIN ApprovalFormField ").append(alias).append(" ON ").append(alias).append(".docId = f0.docId");
+            }
+            where.append(" AND ").append(alias).append(".fieldKey = :key").append(i);
+            parameters.put("key" + i, condition.getFieldKey());
+            appendBounds(where, parameters, alias, i, condition);
+            
+            if (condition.getFieldKey().equals(sortKey)) {
+                sortAlias = alias;
+            }
+        }
+        
+        String countJpql = "SELECT COUNT(f0.docId) " + from + where;
+        
+        String orderBy;
+        if (sortKey == null) {
+            orderBy = " ORDER BY f0.docId DESC";
+        } else {
+            if (sortAlias == null) {
+                sortAlias = "s";
+                from.append(" LEFT JOIN ApprovalFormField s ON s.docId = f0.docId AND s.fieldKey = :sortKey");
+            }
+            orderBy = " ORDER BY " + sortAlias + "." + sortType.getAttribute() + " " + direction.name() +
+                    " NULLS LAST, f0.docId DESC";
+        }
+        
+        TypedQuery<Long> idQuery = entityManager.createQuery("SELECT f0.docId " + from + where + orderBy, Long.class);
+        parameters.forEach(idQuery::setParameter);
+        if (sortKey != null && "s".equals(sortAlias)) {
+            idQuery.setParameter("sortKey", sortKey);
+        }
+        List<Long> docIds = idQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        
+        TypedQuery<Long> countQuery = entityManager.createQuery(countJpql, Long.class);
+        parameters.forEach(countQuery::setParameter);
+        
+        return new PageImpl<>(docIds, pageable, countQuery.getSingleResult());
+    }
+    
+    private void appendBounds(StringBuilder where, Map<String, Object> parameters, String alias, int index,
+                              FormFieldCondition condition) {
+        if (condition.getEqualTo() != null) {
+            where.append(" AND ").append(alias).append(".strValue = :eq").append(index);
+            parameters.put("eq" + index, condition.getEqualTo());
+        }
+        if (condition.getMinNumber() != null) {
+            where.append(" AND ").append(alias).append(".numValue >= :minNum").append(index);
+            parameters.put("minNum" + index, condition.getMinNumber());
+        }
+        if (condition.getMaxNumber() != null) {
+            where.append(" AND ").append(alias).append(".numValue <= :maxNum").append(index);
+            parameters.put("maxNum" + index, condition.getMaxNumber());
+        }
+        if (condition.getFromDate() != null) {
+            where.append(" AND ").append(alias).append(".dateValue >= :fromDate").append(index);
+            parameters.put("fromDate" + index, condition.getFromDate());
+        }
+        if (condition.getToDate() != null) {
+            where.append(" AND ").append(alias).append(".dateValue <= :toDate").append(index);
+            parameters.put("toDate" + index, condition.getToDate());
+        }
+    }
+}
\ No newline at end of file
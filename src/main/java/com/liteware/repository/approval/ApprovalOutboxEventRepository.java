@@ -0,0 +1,30 @@
+package com.liteware.repository.approval;
+
+import com.liteware.model.entity.approval.ApprovalOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApprovalOutboxEventRepository extends JpaRepository<ApprovalOutboxEvent, Long> {
+    
+    /**
+     * 처리할 차례가 된 이벤트 ID (저장 순)
+     */
+    @Query("SELECT e.eventId FROM ApprovalOutboxEvent e WHERE e.status = 'PENDING' AND e.nextAttemptAt <= :now " +
+           "ORDER BY e.eventId")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * 처리되지 않은 가장 오래된 이벤트의 저장 시각 (처리 지연 측정용)
+     */
+    @Query("SELECT MIN(e.createdAt) FROM ApprovalOutboxEvent e WHERE e.status = 'PENDING'")
+    LocalDateTime findOldestPendingCreatedAt();
+    
+    long countByStatus(ApprovalOutboxEvent.Status status);
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.liteware.repository.approval;
+
+import com.liteware.model.entity.approval.DocumentNumberCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DocumentNumberCounterRepository extends JpaRepository<DocumentNumberCounter, String> {
+    
+    /**
+     * 번호 구간 예약 - 카운터를 size만큼 올린다 (행 잠금은 예약 트랜잭션이 끝날 때까지만 유지)
+     * @return 갱신된 행 수 (카운터가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE DocumentNumberCounter c SET c.nextValue = c.nextValue + :size WHERE c.counterKey = :counterKey")
+    int reserve(@Param("counterKey") String counterKey, @Param("size") long size);
+    
+    @Query("SELECT c.nextValue FROM DocumentNumberCounter c WHERE c.counterKey = :counterKey")
+    Long findNextValue(@Param("counterKey") String counterKey);
+}
\ No newline at end of file
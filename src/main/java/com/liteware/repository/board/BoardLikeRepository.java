@@ -0,0 +1,37 @@
+package com.liteware.repository.board;
+
+import com.liteware.model.entity.board.BoardLike;
+import com.liteware.model.entity.board.LikeTargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
+    
+    boolean existsByTargetTypeAndTargetIdAndUserId(LikeTargetType targetType, Long targetId, Long userId);
+    
+    @Modifying
+    @Query("DELETE FROM BoardLike l WHERE l.targetType = :targetType AND l.targetId = :targetId AND l.userId = :userId")
+    int deleteByTarget(@Param("targetType") LikeTargetType targetType,
+                       @Param("targetId") Long targetId,
+                       @Param("userId") Long userId);
+    
+    @Modifying
+    @Query("DELETE FROM BoardLike l WHERE l.targetType = :targetType AND l.targetId = :targetId")
+    int deleteAllByTarget(@Param("targetType") LikeTargetType targetType, @Param("targetId") Long targetId);
+    
+    /**
+     * 목록 화면용 - 주어진 대상 중 사용자가 좋아요 한 대상 ID
+     */
+    @Query("SELECT l.targetId FROM BoardLike l " +
+           "WHERE l.userId = :userId AND l.targetType = :targetType AND l.targetId IN :targetIds")
+    List<Long> findLikedTargetIds(@Param("targetType") LikeTargetType targetType,
+                                  @Param("userId") Long userId,
+                                  @Param("targetIds") Collection<Long> targetIds);
+}
\ No newline at end of file
@@ -1,18 +1,44 @@
 package com.liteware.repository.board;
 
+import com.liteware.model.dto.CommentSummaryDto;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.board.Comment;
 import com.liteware.model.entity.board.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
+    /**
+     * 댓글 스레드용 생성자 프로젝션 (답글 수는 별도 집계 후 채운다)
+     */
+    String SUMMARY_SELECT = "SELECT new com.liteware.model.dto.CommentSummaryDto(" +
+            "c.commentId, c.post.postId, pc.commentId, u.userId, u.name, c.content, c.depth, c.likeCount, " +
+            "c.isDeleted, c.createdAt, c.updatedAt, 0L) " +
+            "FROM Comment c " +
+            "LEFT JOIN c.parentComment pc " +
+            "LEFT JOIN c.writer u ";
+    
+    /**
+     * 스레드에 보이는 부모 댓글 - 삭제 표시된 댓글은 남은 답글이 있을 때만 노출
+     */
+    String VISIBLE_ROOT = "c.post.postId = :postId AND c.parentComment IS NULL " +
+            "AND (c.isDeleted = false OR EXISTS " +
+            "(SELECT 1 FROM Comment r WHERE r.parentComment = c AND r.isDeleted = false)) ";
+    
+    String VISIBLE_REPLY = "c.post.postId = :postId AND c.parentComment.commentId = :parentId AND c.isDeleted = false ";
+    
+    String AFTER_CURSOR = "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) ";
+    
     List<Comment> findByPost(Post post);
     
     List<Comment> findByWriter(User writer);
@@ -44,4 +70,45 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            "WHERE c.post = :post AND c.isDeleted = false " +
            "ORDER BY COALESCE(c.parentComment.commentId, c.commentId), c.createdAt")
     List<Comment> findByPostWithWriter(@Param("post") Post post);
+    
+    @Query("SELECT c FROM Comment c WHERE c.post.postId IN :postIds AND c.isDeleted = false")
+    List<Comment> findActiveByPostIds(@Param("postIds") Collection<Long> postIds);
+    
+    @Query(SUMMARY_SELECT + "WHERE " + VISIBLE_ROOT + "ORDER BY c.createdAt, c.commentId")
+    List<CommentSummaryDto> findFirstRootPage(@Param("postId") Long postId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE " + VISIBLE_ROOT + AFTER_CURSOR + "ORDER BY c.createdAt, c.commentId")
+    List<CommentSummaryDto> findRootPageAfter(@Param("postId") Long postId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("commentId") Long commentId,
+                                              Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE " + VISIBLE_REPLY + "ORDER BY c.createdAt, c.commentId")
+    List<CommentSummaryDto> findFirstReplyPage(@Param("postId") Long postId,
+                                               @Param("parentId") Long parentId,
+                                               Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE " + VISIBLE_REPLY + AFTER_CURSOR + "ORDER BY c.createdAt, c.commentId")
+    List<CommentSummaryDto> findReplyPageAfter(@Param("postId") Long postId,
+                                               @Param("parentId") Long parentId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("commentId") Long commentId,
+                                               Pageable pageable);
+    
+    /**
+     * 부모 댓글별 답글 수 - [부모 댓글 ID, 답글 수]
+     */
+    @Query("SELECT c.parentComment.commentId, COUNT(c) FROM Comment c " +
+           "WHERE c.post.postId = :postId AND c.parentComment.commentId IN :parentIds AND c.isDeleted = false " +
+           "GROUP BY c.parentComment.commentId")
+    List<Object[]> countRepliesByParentIds(@Param("postId") Long postId,
+                                           @Param("parentIds") Collection<Long> parentIds);
+    
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = CASE WHEN COALESCE(c.likeCount, 0) + :delta < 0 THEN 0 " +
+           "ELSE COALESCE(c.likeCount, 0) + :delta END WHERE c.commentId IN :commentIds")
+    int addLikeCount(@Param("commentIds") Collection<Long> commentIds, @Param("delta") int delta);
+    
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.commentId = :commentId")
+    Integer findLikeCount(@Param("commentId") Long commentId);
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.liteware.repository.board;
+
+/**
+ * 고급 검색 통계 패싯
+ * 모든 패싯은 검색 계획(PostSearchPlanCompiler)의 WHERE 절을 그대로 쓰는 집계 쿼리 하나에서 함께 계산된다.
+ * - COUNT: 조건을 만족하는 게시글 수 -> SUM(CASE WHEN 조건 THEN 1 ELSE 0 END)
+ * - GROUP: 키별 게시글 수 -> GROUP BY 키
+ * 식은 게시글 별칭 p 기준 JPQL 조각이며, 새 패싯은 이 타입의 빈으로 등록하면 PostFacetRegistry가 자동으로 포함한다.
+ */
+public interface PostFacet {
+    
+    enum Type {
+        COUNT,
+        GROUP
+    }
+    
+    String getName();
+    
+    Type getType();
+    
+    /**
+     * COUNT 패싯: 집계 조건 / GROUP 패싯: 그룹 키
+     */
+    String expression();
+    
+    /**
+     * 식에 필요한 외부 조인 (예: "LEFT JOIN p.writer fw") - 다른 패싯과 겹치지 않는 별칭을 쓴다
+     */
+    default String joins() {
+        return "";
+    }
+    
+    static PostFacet count(String name, String condition) {
+        return of(name, Type.COUNT, "", condition);
+    }
+    
+    static PostFacet group(String name, String key) {
+        return of(name, Type.GROUP, "", key);
+    }
+    
+    static PostFacet group(String name, String joins, String key) {
+        return of(name, Type.GROUP, joins, key);
+    }
+    
+    private static PostFacet of(String name, Type type, String joins, String expression) {
+        return new PostFacet() {
+            @Override
+            public String getName() {
+                return name;
+            }
+            
+            @Override
+            public Type getType() {
+                return type;
+            }
+            
+            @Override
+            public String expression() {
+                return expression;
+            }
+            
+            @Override
+            public String joins() {
+                return joins;
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.liteware.repository.board;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고급 검색 통계 패싯 목록
+ * COUNT 패싯은 항상 집계하고, GROUP 패싯은 요청된 것만 GROUP BY 키로 추가한다.
+ * (리포지토리 구현체가 직접 생성하므로 JPA 슬라이스 테스트에서도 별도 빈 없이 동작)
+ */
+public class PostFacetRegistry {
+    
+    public static final String NOTICE = "notice";
+    public static final String SECRET = "secret";
+    public static final String ATTACHMENT = "attachment";
+    public static final String BOARD = "board";
+    public static final String DEPARTMENT = "department";
+    public static final String CREATED_DATE = "createdDate";
+    
+    private final Map<String, PostFacet> facets = new LinkedHashMap<>();
+    
+    public PostFacetRegistry(ObjectProvider<PostFacet> customFacets) {
+        register(PostFacet.count(NOTICE, "p.isNotice = true"));
+        register(PostFacet.count(SECRET, "p.isSecret = true"));
+        register(PostFacet.count(ATTACHMENT, "EXISTS (SELECT 1 FROM PostAttachment fa WHERE fa.post = p)"));
+        register(PostFacet.group(BOARD, "p.board.boardId"));
+        // 부서가 없는 작성자의 글도 null 키로 집계되도록 외부 조인
+        register(PostFacet.group(DEPARTMENT, "LEFT JOIN p.writer fw LEFT JOIN fw.department fd", "fd.deptId"));
+        // 작성일 기준 일별 히스토그램
+        register(PostFacet.group(CREATED_DATE, "CAST(p.createdAt AS LocalDate)"));
+        
+        customFacets.orderedStream().forEach(this::register);
+    }
+    
+    public void register(PostFacet facet) {
+        if (facets.putIfAbsent(facet.getName(), facet) != null) {
+            throw new IllegalStateException("이미 등록된 통계 항목입니다: " + facet.getName());
+        }
+    }
+    
+    public List<PostFacet> getCountFacets() {
+        return facets.values().stream()
+                .filter(facet -> facet.getType() == PostFacet.Type.COUNT)
+                .toList();
+    }
+    
+    /**
+     * 요청된 GROUP 패싯 조회
+     */
+    public List<PostFacet> getGroupFacets(Collection<String> names) {
+        List<PostFacet> groupFacets = new ArrayList<>();
+        if (names == null) {
+            return groupFacets;
+        }
+        
+        for (String name : names) {
+            PostFacet facet = facets.get(name);
+            if (facet == null || facet.getType() != PostFacet.Type.GROUP) {
+                throw new RuntimeException("지원하지 않는 통계 항목입니다: " + name);
+            }
+            if (!groupFacets.contains(facet)) {
+                groupFacets.add(facet);
+            }
+        }
+        return groupFacets;
+    }
+}
\ No newline at end of file
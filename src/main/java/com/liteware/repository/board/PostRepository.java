@@ -1,29 +1,82 @@
 package com.liteware.repository.board;
 
+import com.liteware.model.dto.PostSummaryDto;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.board.Board;
 import com.liteware.model.entity.board.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
     
+    /**
+     * 목록용 생성자 프로젝션 - 엔티티를 로딩하지 않는다 (뒤에 WHERE 절을 이어 붙여 사용)
+     */
+    String SUMMARY_SELECT = "SELECT new com.liteware.model.dto.PostSummaryDto(" +
+            "p.postId, b.boardId, p.title, u.userId, u.name, d.deptName, p.viewCount, p.likeCount, " +
+            "p.isNotice, p.isSecret, p.createdAt, p.updatedAt, " +
+            "p.commentCount, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM PostAttachment a WHERE a.post = p) THEN true ELSE false END, " +
+            "CASE WHEN p.isSecret = true THEN NULL ELSE p.excerpt END) " +
+            "FROM Post p " +
+            "JOIN p.board b " +
+            "LEFT JOIN p.writer u " +
+            "LEFT JOIN u.department d ";
+    
     Page<Post> findByBoard(Board board, Pageable pageable);
     
     Page<Post> findByWriter(User writer, Pageable pageable);
     
     Page<Post> findByBoardAndIsDeletedFalse(Board board, Pageable pageable);
     
+    /**
+     * 커서 목록 첫 페이지 - (is_notice, created_at, post_id) 내림차순
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE b.boardId = :boardId AND p.isDeleted = false " +
+           "ORDER BY p.isNotice DESC, p.createdAt DESC, p.postId DESC")
+    List<PostSummaryDto> findFirstPageByBoard(@Param("boardId") Long boardId, Pageable pageable);
+    
+    /**
+     * 커서 목록 다음 페이지 - 커서와 같은 구간(공지/일반글) 안에서 커서 위치 이후의 게시글만 조회
+     * 구간을 is_notice 등호로 고정하고 (created_at, post_id) 비교만 남겨 idx_posts_board_cursor의 단일 범위 스캔이 되도록 한다
+     * (created_at <= 조건은 범위의 끝을 인덱스에 알려 주기 위한 것)
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE b.boardId = :boardId AND p.isDeleted = false AND p.isNotice = :notice " +
+           "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.postId < :postId) " +
+           "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostSummaryDto> findPageByBoardAfter(@Param("boardId") Long boardId,
+                                              @Param("notice") boolean notice,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("postId") Long postId,
+                                              Pageable pageable);
+    
+    /**
+     * 커서 목록 구간의 처음부터 - 공지 구간을 다 읽은 뒤 일반글 구간을 이어 읽을 때 사용
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE b.boardId = :boardId AND p.isDeleted = false AND p.isNotice = :notice " +
+           "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostSummaryDto> findSegmentByBoard(@Param("boardId") Long boardId,
+                                            @Param("notice") boolean notice,
+                                            Pageable pageable);
+    
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.board.boardId = :boardId AND p.isDeleted = false")
+    long countActiveByBoardId(@Param("boardId") Long boardId);
+    
     @Query(value = "SELECT p.*, u.name as writer_name, d.dept_name " +
                   "FROM posts p " +
                   "LEFT JOIN users u ON p.writer_id = u.user_id " +
@@ -34,20 +87,71 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
            nativeQuery = true)
     Page<Post> findByBoardWithWriterNative(@Param("boardId") Long boardId, Pageable pageable);
     
-    @Query("SELECT p FROM Post p JOIN FETCH p.board JOIN FETCH p.writer w LEFT JOIN FETCH w.department LEFT JOIN FETCH p.attachments WHERE p.postId = :postId")
+    /**
+     * 상세 조회 - 본문 이관(PostBodyBackfillService) 전 게시글도 찾을 수 있도록 본문은 outer join
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.board JOIN FETCH p.writer w LEFT JOIN FETCH w.department " +
+           "LEFT JOIN FETCH p.body LEFT JOIN FETCH p.attachments WHERE p.postId = :postId")
     Optional<Post> findByIdWithBoardAndWriter(@Param("postId") Long postId);
     
-    @Query("SELECT new com.liteware.model.dto.PostSummaryDto(" +
-           "p.postId, p.title, u.name, d.deptName, p.viewCount, p.likeCount, " +
-           "p.isNotice, p.isSecret, p.createdAt, p.updatedAt, " +
-           "(SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.isDeleted = false)) " +
-           "FROM Post p " +
-           "LEFT JOIN p.writer u " +
-           "LEFT JOIN u.department d " +
-           "WHERE p.board = :board AND p.isNotice = :isNotice " +
-           "AND p.isDeleted = false ORDER BY p.createdAt DESC")
-    List<com.liteware.model.dto.PostSummaryDto> findNoticeSummaryByBoard(@Param("board") Board board, 
-                                                          @Param("isNotice") Boolean isNotice);
+    /**
+     * 게시판 목록 - 건수는 CountMode에 따라 따로 구한다 (PageCounter)
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.boardId = :boardId AND p.isDeleted = false")
+    List<PostSummaryDto> findSummaryListByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+    
+    // 상한 건수 계산용 - limit건까지만 ID를 읽는다
+    @Query("SELECT p.postId FROM Post p WHERE p.board.boardId = :boardId AND p.isDeleted = false")
+    List<Long> findActiveIdsByBoardId(@Param("boardId") Long boardId, Pageable limit);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE u.userId = :writerId AND p.isDeleted = false",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.writer.userId = :writerId AND p.isDeleted = false")
+    Page<PostSummaryDto> findSummaryByWriterId(@Param("writerId") Long writerId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT +
+                   "WHERE (p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) AND p.isDeleted = false",
+           countQuery = "SELECT COUNT(p) FROM Post p " +
+                        "WHERE (p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) AND p.isDeleted = false")
+    Page<PostSummaryDto> searchSummaries(@Param("keyword") String keyword, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE p.isDeleted = false ORDER BY p.createdAt DESC")
+    List<PostSummaryDto> findRecentSummaries(Pageable pageable);
+    
+    /**
+     * 게시 중인 공지 조건 - 게시 시작일/종료일이 비어 있으면 기간 제한 없음
+     */
+    String ACTIVE_NOTICE_CONDITION = "p.isNotice = true AND p.isDeleted = false " +
+            "AND (p.noticeStartDate IS NULL OR p.noticeStartDate <= :today) " +
+            "AND (p.noticeEndDate IS NULL OR p.noticeEndDate >= :today) ";
+    
+    @Query(SUMMARY_SELECT + "WHERE b.boardId = :boardId AND " + ACTIVE_NOTICE_CONDITION +
+           "ORDER BY p.createdAt DESC")
+    List<PostSummaryDto> findActiveNoticeSummaries(@Param("boardId") Long boardId, @Param("today") LocalDate today);
+    
+    @Query(SUMMARY_SELECT + "WHERE " + ACTIVE_NOTICE_CONDITION + "ORDER BY p.createdAt DESC")
+    List<PostSummaryDto> findRecentActiveNoticeSummaries(@Param("today") LocalDate today, Pageable pageable);
+    
+    /**
+     * 오늘 이후 가장 이른 공지 게시 시작일 (boardId가 null이면 전체 게시판)
+     */
+    @Query("SELECT MIN(p.noticeStartDate) FROM Post p " +
+           "WHERE (:boardId IS NULL OR p.board.boardId = :boardId) " +
+           "AND p.isNotice = true AND p.isDeleted = false AND p.noticeStartDate > :today")
+    LocalDate findNextNoticeStartDate(@Param("boardId") Long boardId, @Param("today") LocalDate today);
+    
+    /**
+     * 오늘 이후 가장 이른 공지 게시 종료일 (boardId가 null이면 전체 게시판)
+     */
+    @Query("SELECT MIN(p.noticeEndDate) FROM Post p " +
+           "WHERE (:boardId IS NULL OR p.board.boardId = :boardId) " +
+           "AND p.isNotice = true AND p.isDeleted = false AND p.noticeEndDate >= :today")
+    LocalDate findNextNoticeEndDate(@Param("boardId") Long boardId, @Param("today") LocalDate today);
+    
+    /**
+     * 랭킹 검색 결과 목록 (순서는 호출 측에서 맞춘다)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.postId IN :postIds")
+    List<PostSummaryDto> findSummariesByPostIdIn(@Param("postIds") Collection<Long> postIds);
     
     @Query("SELECT p FROM Post p JOIN FETCH p.writer w LEFT JOIN FETCH w.department " +
            "WHERE p.board = :board AND p.isNotice = :isNotice " +
@@ -61,12 +165,12 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     List<Post> findActiveNotices(@Param("board") Board board, @Param("today") LocalDate today);
     
     @Query("SELECT p FROM Post p " +
-           "WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+           "WHERE (p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) " +
            "AND p.isDeleted = false")
     Page<Post> searchPosts(@Param("keyword") String keyword, Pageable pageable);
     
     @Query("SELECT p FROM Post p WHERE p.board = :board " +
-           "AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+           "AND (p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) " +
            "AND p.isDeleted = false")
     Page<Post> searchPostsInBoard(@Param("board") Board board, @Param("keyword") String keyword, 
                                   Pageable pageable);
@@ -98,4 +202,53 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     
     @Query("SELECT COUNT(p) FROM Post p WHERE p.createdAt >= :startDate AND p.isDeleted = false")
     Long countPostsCreatedAfter(@Param("startDate") LocalDateTime startDate);
+    
+    /**
+     * 검색 색인 재구성용 - 게시글 ID 순서로 일정 크기씩 조회
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.writer LEFT JOIN FETCH p.body " +
+           "WHERE p.postId > :afterId AND p.isDeleted = false ORDER BY p.postId")
+    List<Post> findIndexBatch(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 랭킹 검색 결과 게시글을 한 번에 조회 (순서는 호출 측에서 맞춘다)
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.board JOIN FETCH p.writer w LEFT JOIN FETCH w.department " +
+           "WHERE p.postId IN :postIds")
+    List<Post> findAllWithWriterByPostIdIn(@Param("postIds") Collection<Long> postIds);
+    
+    /**
+     * 인기 게시글 재계산용 - 기간 내 작성된 게시글 목록 프로젝션
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.isDeleted = false AND p.createdAt >= :since")
+    List<PostSummaryDto> findSummariesCreatedSince(@Param("since") LocalDateTime since);
+    
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.postId IN :postIds")
+    int addViewCount(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+    
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = CASE WHEN COALESCE(p.likeCount, 0) + :delta < 0 THEN 0 " +
+           "ELSE COALESCE(p.likeCount, 0) + :delta END WHERE p.postId IN :postIds")
+    int addLikeCount(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+    
+    @Query("SELECT p.likeCount FROM Post p WHERE p.postId = :postId")
+    Integer findLikeCount(@Param("postId") Long postId);
+    
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.postId = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+    
+    @Query("SELECT MAX(p.postId) FROM Post p")
+    Long findMaxPostId();
+    
+    /**
+     * 댓글 수 보정 - 범위 안에서 실제 활성 댓글 수와 다른 게시글만 갱신
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.isDeleted = false) " +
+           "WHERE p.postId BETWEEN :fromId AND :toId " +
+           "AND p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.isDeleted = false)")
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
\ No newline at end of file
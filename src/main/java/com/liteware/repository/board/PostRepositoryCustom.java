@@ -1,10 +1,13 @@
 package com.liteware.repository.board;
 
+import com.liteware.model.dto.PostFacetResult;
 import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.dto.PostSummaryDto;
 import com.liteware.model.entity.board.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepositoryCustom {
@@ -17,6 +20,26 @@ public interface PostRepositoryCustom {
      */
     Page<Post> searchWithCriteria(PostSearchCriteria criteria, Pageable pageable);
     
+    /**
+     * 고급 검색 - 목록용 프로젝션으로 조회 (엔티티를 로딩하지 않음)
+     * @param criteria 검색 조건
+     * @param pageable 페이징 정보
+     * @return 검색 결과
+     */
+    Page<PostSummaryDto> searchSummariesWithCriteria(PostSearchCriteria criteria, Pageable pageable);
+    
+    /**
+     * 고급 검색 목록만 조회 (건수는 countWithCriteria / countWithCriteriaUpTo로 따로 구함)
+     */
+    List<PostSummaryDto> findSummariesWithCriteria(PostSearchCriteria criteria, Pageable pageable);
+    
+    long countWithCriteria(PostSearchCriteria criteria);
+    
+    /**
+     * 검색 조건을 만족하는 게시글을 limit건까지만 센다
+     */
+    long countWithCriteriaUpTo(PostSearchCriteria criteria, int limit);
+    
     /**
      * 통계 정보를 포함한 검색
      * @param criteria 검색 조건
@@ -24,30 +47,48 @@ public interface PostRepositoryCustom {
      */
     SearchResult searchWithStats(PostSearchCriteria criteria, Pageable pageable);
     
+    /**
+     * 통계 정보를 포함한 검색 - 요청한 GROUP 패싯(게시판별, 부서별, 일자별 등)까지 함께 집계
+     * @param criteria 검색 조건
+     * @param groupFacets GROUP 패싯 이름 (PostFacetRegistry)
+     * @return 검색 결과 및 통계
+     */
+    SearchResult searchWithStats(PostSearchCriteria criteria, Pageable pageable, Collection<String> groupFacets);
+    
+    /**
+     * 검색 조건을 만족하는 게시글의 패싯 집계 (조건 적용 집계 쿼리 1회)
+     * @param criteria 검색 조건
+     * @param groupFacets 함께 집계할 GROUP 패싯 이름
+     * @return 전체 건수, COUNT 패싯, GROUP 패싯 집계
+     */
+    PostFacetResult aggregateFacets(PostSearchCriteria criteria, Collection<String> groupFacets);
+    
+    /**
+     * 후보 게시글 중 키워드를 제외한 검색 조건을 만족하는 게시글 ID 조회
+     * @param criteria 검색 조건 (keyword는 무시)
+     * @param postIds 후보 게시글 ID
+     * @return 조건을 만족하는 게시글 ID
+     */
+    List<Long> findPostIdsWithCriteria(PostSearchCriteria criteria, Collection<Long> postIds);
+    
     /**
      * 검색 결과 및 통계 정보를 담는 클래스
      */
     class SearchResult {
-        private Page<Post> posts;
-        private long totalCount;
-        private long noticeCount;
-        private long secretCount;
-        private long attachmentCount;
+        private Page<PostSummaryDto> posts;
+        private PostFacetResult facets;
         
-        public SearchResult(Page<Post> posts, long totalCount, long noticeCount, 
-                           long secretCount, long attachmentCount) {
+        public SearchResult(Page<PostSummaryDto> posts, PostFacetResult facets) {
             this.posts = posts;
-            this.totalCount = totalCount;
-            this.noticeCount = noticeCount;
-            this.secretCount = secretCount;
-            this.attachmentCount = attachmentCount;
+            this.facets = facets;
         }
         
         // Getters
-        public Page<Post> getPosts() { return posts; }
-        public long getTotalCount() { return totalCount; }
-        public long getNoticeCount() { return noticeCount; }
-        public long getSecretCount() { return secretCount; }
-        public long getAttachmentCount() { return attachmentCount; }
+        public Page<PostSummaryDto> getPosts() { return posts; }
+        public PostFacetResult getFacets() { return facets; }
+        public long getTotalCount() { return facets.getTotalCount(); }
+        public long getNoticeCount() { return facets.getCount(PostFacetRegistry.NOTICE); }
+        public long getSecretCount() { return facets.getCount(PostFacetRegistry.SECRET); }
+        public long getAttachmentCount() { return facets.getCount(PostFacetRegistry.ATTACHMENT); }
     }
 }
\ No newline at end of file
@@ -1,62 +1,43 @@
 package com.liteware.repository.board;
 
+import com.google.common.collect.Lists;
+import com.liteware.model.dto.PostFacetResult;
 import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.dto.PostSummaryDto;
 import com.liteware.model.entity.board.Post;
-import com.liteware.model.entity.board.Board;
-import com.liteware.model.entity.User;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.criteria.*;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-@RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
     
+    // IN 절 하나에 넣는 최대 ID 수
+    private static final int ID_CHUNK_SIZE = 1000;
+    
     private final EntityManager entityManager;
+    private final PostFacetRegistry postFacetRegistry;
+    private final PostSearchPlanCompiler postSearchPlanCompiler;
+    
+    public PostRepositoryImpl(EntityManager entityManager, ObjectProvider<PostFacet> customFacets) {
+        this.entityManager = entityManager;
+        this.postFacetRegistry = new PostFacetRegistry(customFacets);
+        this.postSearchPlanCompiler = new PostSearchPlanCompiler(entityManager.getMetamodel());
+    }
     
     @Override
     public Page<Post> searchWithCriteria(PostSearchCriteria criteria, Pageable pageable) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        
-        // Count query
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<Post> countRoot = countQuery.from(Post.class);
-        countQuery.select(cb.count(countRoot));
-        
-        List<Predicate> countPredicates = buildPredicates(criteria, cb, countRoot);
-        if (!countPredicates.isEmpty()) {
-            countQuery.where(cb.and(countPredicates.toArray(new Predicate[0])));
-        }
-        
-        Long totalCount = entityManager.createQuery(countQuery).getSingleResult();
-        
-        // Data query
-        CriteriaQuery<Post> dataQuery = cb.createQuery(Post.class);
-        Root<Post> dataRoot = dataQuery.from(Post.class);
-        
-        // Fetch joins for eager loading
-        dataRoot.fetch("writer", JoinType.LEFT);
-        dataRoot.fetch("board", JoinType.LEFT);
-        
-        dataQuery.select(dataRoot);
+        PostSearchPlanCompiler.Plan plan = postSearchPlanCompiler.getPlan(criteria, pageable.getSort(), true);
         
-        List<Predicate> dataPredicates = buildPredicates(criteria, cb, dataRoot);
-        if (!dataPredicates.isEmpty()) {
-            dataQuery.where(cb.and(dataPredicates.toArray(new Predicate[0])));
-        }
-        
-        // Apply sorting
-        applySorting(criteria, cb, dataQuery, dataRoot, pageable);
-        
-        // Execute query with pagination
-        List<Post> posts = entityManager.createQuery(dataQuery)
+        Long totalCount = count(plan, criteria);
+        List<Post> posts = plan.bind(entityManager.createQuery(plan.getEntityJpql(), Post.class), criteria)
                 .setFirstResult((int) pageable.getOffset())
                 .setMaxResults(pageable.getPageSize())
                 .getResultList();
@@ -65,184 +46,128 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
     
     @Override
-    public SearchResult searchWithStats(PostSearchCriteria criteria, Pageable pageable) {
-        Page<Post> posts = searchWithCriteria(criteria, pageable);
-        
-        // Calculate statistics
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    public Page<PostSummaryDto> searchSummariesWithCriteria(PostSearchCriteria criteria, Pageable pageable) {
+        PostSearchPlanCompiler.Plan plan = postSearchPlanCompiler.getPlan(criteria, pageable.getSort(), true);
         
-        // Notice count
-        CriteriaQuery<Long> noticeCountQuery = cb.createQuery(Long.class);
-        Root<Post> noticeRoot = noticeCountQuery.from(Post.class);
-        noticeCountQuery.select(cb.count(noticeRoot));
-        List<Predicate> noticePredicates = buildPredicates(criteria, cb, noticeRoot);
-        noticePredicates.add(cb.equal(noticeRoot.get("isNotice"), true));
-        noticeCountQuery.where(cb.and(noticePredicates.toArray(new Predicate[0])));
-        Long noticeCount = entityManager.createQuery(noticeCountQuery).getSingleResult();
-        
-        // Secret count
-        CriteriaQuery<Long> secretCountQuery = cb.createQuery(Long.class);
-        Root<Post> secretRoot = secretCountQuery.from(Post.class);
-        secretCountQuery.select(cb.count(secretRoot));
-        List<Predicate> secretPredicates = buildPredicates(criteria, cb, secretRoot);
-        secretPredicates.add(cb.equal(secretRoot.get("isSecret"), true));
-        secretCountQuery.where(cb.and(secretPredicates.toArray(new Predicate[0])));
-        Long secretCount = entityManager.createQuery(secretCountQuery).getSingleResult();
-        
-        // Attachment count (posts with attachments)
-        CriteriaQuery<Long> attachmentCountQuery = cb.createQuery(Long.class);
-        Root<Post> attachmentRoot = attachmentCountQuery.from(Post.class);
-        attachmentCountQuery.select(cb.countDistinct(attachmentRoot));
-        Join<Post, ?> attachmentJoin = attachmentRoot.join("attachments", JoinType.INNER);
-        List<Predicate> attachmentPredicates = buildPredicates(criteria, cb, attachmentRoot);
-        attachmentCountQuery.where(cb.and(attachmentPredicates.toArray(new Predicate[0])));
-        Long attachmentCount = entityManager.createQuery(attachmentCountQuery).getSingleResult();
-        
-        return new SearchResult(posts, posts.getTotalElements(), noticeCount, 
-                               secretCount, attachmentCount);
+        return new PageImpl<>(findSummaries(plan, criteria, pageable), pageable, count(plan, criteria));
     }
     
-    private List<Predicate> buildPredicates(PostSearchCriteria criteria, 
-                                           CriteriaBuilder cb, 
-                                           Root<Post> root) {
-        List<Predicate> predicates = new ArrayList<>();
-        
-        // 기본적으로 삭제되지 않은 게시글만
-        if (criteria.getIsDeleted() == null || !criteria.getIsDeleted()) {
-            predicates.add(cb.equal(root.get("isDeleted"), false));
-        }
-        
-        // 키워드 검색
-        if (criteria.getKeyword() != null && !criteria.getKeyword().trim().isEmpty()) {
-            String keyword = "%" + criteria.getKeyword().trim() + "%";
-            
-            if (criteria.getSearchField() == null || 
-                criteria.getSearchField() == PostSearchCriteria.SearchField.ALL) {
-                predicates.add(cb.or(
-                    cb.like(root.get("title"), keyword),
-                    cb.like(root.get("content"), keyword)
-                ));
-            } else if (criteria.getSearchField() == PostSearchCriteria.SearchField.TITLE) {
-                predicates.add(cb.like(root.get("title"), keyword));
-            } else if (criteria.getSearchField() == PostSearchCriteria.SearchField.CONTENT) {
-                predicates.add(cb.like(root.get("content"), keyword));
-            } else if (criteria.getSearchField() == PostSearchCriteria.SearchField.WRITER) {
-                Join<Post, User> writerJoin = root.join("writer", JoinType.LEFT);
-                predicates.add(cb.like(writerJoin.get("name"), keyword));
+    @Override
+    public List<PostSummaryDto> findSummariesWithCriteria(PostSearchCriteria criteria, Pageable pageable) {
+        PostSearchPlanCompiler.Plan plan = postSearchPlanCompiler.getPlan(criteria, pageable.getSort(), true);
+        return findSummaries(plan, criteria, pageable);
+    }
+    
+    @Override
+    public long countWithCriteria(PostSearchCriteria criteria) {
+        return count(postSearchPlanCompiler.getPlan(criteria, Sort.unsorted(), true), criteria);
+    }
+    
+    @Override
+    public long countWithCriteriaUpTo(PostSearchCriteria criteria, int limit) {
+        PostSearchPlanCompiler.Plan plan = postSearchPlanCompiler.getPlan(criteria, Sort.unsorted(), true);
+        return plan.bind(entityManager.createQuery(plan.getLimitedIdJpql(), Long.class), criteria)
+                .setMaxResults(limit)
+                .getResultList()
+                .size();
+    }
+    
+    private Long count(PostSearchPlanCompiler.Plan plan, PostSearchCriteria criteria) {
+        return plan.bind(entityManager.createQuery(plan.getCountJpql(), Long.class), criteria).getSingleResult();
+    }
+    
+    // PostRepository.SUMMARY_SELECT 생성자 프로젝션
+    private List<PostSummaryDto> findSummaries(PostSearchPlanCompiler.Plan plan, PostSearchCriteria criteria,
+                                               Pageable pageable) {
+        return plan.bind(entityManager.createQuery(plan.getSummaryJpql(), PostSummaryDto.class), criteria)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+    
+    @Override
+    public SearchResult searchWithStats(PostSearchCriteria criteria, Pageable pageable) {
+        return searchWithStats(criteria, pageable, List.of());
+    }
+    
+    @Override
+    public SearchResult searchWithStats(PostSearchCriteria criteria, Pageable pageable, Collection<String> groupFacets) {
+        // 전체 건수도 패싯 쿼리에서 함께 구하므로 목록은 데이터 쿼리만 실행
+        PostFacetResult facets = aggregateFacets(criteria, groupFacets);
+        PostSearchPlanCompiler.Plan plan = postSearchPlanCompiler.getPlan(criteria, pageable.getSort(), true);
+        Page<PostSummaryDto> posts = new PageImpl<>(findSummaries(plan, criteria, pageable), pageable,
+                facets.getTotalCount());
+        
+        return new SearchResult(posts, facets);
+    }
+    
+    @Override
+    public PostFacetResult aggregateFacets(PostSearchCriteria criteria, Collection<String> groupFacets) {
+        List<PostFacet> countFacets = postFacetRegistry.getCountFacets();
+        List<PostFacet> groupBy = postFacetRegistry.getGroupFacets(groupFacets);
+        
+        // 목록/건수와 같은 검색 계획의 WHERE 절과 바인딩을 그대로 사용
+        PostSearchPlanCompiler.Plan plan = postSearchPlanCompiler.getPlan(criteria, Sort.unsorted(), true);
+        
+        // [전체 건수, COUNT 패싯..., GROUP 키...] - GROUP 패싯이 없으면 한 행
+        List<String> selections = new ArrayList<>();
+        selections.add("COUNT(p)");
+        countFacets.forEach(facet -> selections.add("SUM(CASE WHEN " + facet.expression() + " THEN 1 ELSE 0 END)"));
+        List<String> keys = groupBy.stream().map(PostFacet::expression).toList();
+        selections.addAll(keys);
+        
+        StringBuilder jpql = new StringBuilder("SELECT ").append(String.join(", ", selections)).append(" FROM Post p ");
+        for (PostFacet facet : countFacets) {
+            appendJoins(jpql, facet);
+        }
+        for (PostFacet facet : groupBy) {
+            appendJoins(jpql, facet);
+        }
+        jpql.append(plan.getWhereClause());
+        if (!keys.isEmpty()) {
+            jpql.append("GROUP BY ").append(String.join(", ", keys));
+        }
+        
+        // 그룹 조합별 행을 패싯별로 다시 합산
+        PostFacetResult result = new PostFacetResult();
+        countFacets.forEach(facet -> result.addCount(facet.getName(), 0L));
+        for (Object[] row : plan.bind(entityManager.createQuery(jpql.toString(), Object[].class), criteria)
+                .getResultList()) {
+            long rowCount = toLong(row[0]);
+            result.addTotal(rowCount);
+            for (int i = 0; i < countFacets.size(); i++) {
+                result.addCount(countFacets.get(i).getName(), toLong(row[1 + i]));
+            }
+            for (int i = 0; i < groupBy.size(); i++) {
+                result.addGroup(groupBy.get(i).getName(), row[1 + countFacets.size() + i], rowCount);
             }
         }
-        
-        // 게시판 필터
-        if (criteria.getBoardId() != null) {
-            predicates.add(cb.equal(root.get("board").get("boardId"), criteria.getBoardId()));
-        }
-        
-        // 작성자 필터
-        if (criteria.getWriterId() != null) {
-            predicates.add(cb.equal(root.get("writer").get("userId"), criteria.getWriterId()));
-        }
-        
-        // 작성자 이름 필터
-        if (criteria.getWriterName() != null && !criteria.getWriterName().trim().isEmpty()) {
-            Join<Post, User> writerJoin = root.join("writer", JoinType.LEFT);
-            predicates.add(cb.like(writerJoin.get("name"), "%" + criteria.getWriterName() + "%"));
-        }
-        
-        // 부서 필터
-        if (criteria.getDepartmentId() != null) {
-            Join<Post, User> writerJoin = root.join("writer", JoinType.LEFT);
-            predicates.add(cb.equal(writerJoin.get("department").get("deptId"), criteria.getDepartmentId()));
-        }
-        
-        // 날짜 범위 필터
-        if (criteria.getStartDate() != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), criteria.getStartDate()));
-        }
-        if (criteria.getEndDate() != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), criteria.getEndDate()));
-        }
-        
-        // 공지사항 필터
-        if (criteria.getIsNotice() != null) {
-            predicates.add(cb.equal(root.get("isNotice"), criteria.getIsNotice()));
-        }
-        
-        // 비밀글 필터
-        if (criteria.getIsSecret() != null) {
-            predicates.add(cb.equal(root.get("isSecret"), criteria.getIsSecret()));
-        }
-        
-        // 첨부파일 포함 여부
-        if (criteria.getHasAttachment() != null && criteria.getHasAttachment()) {
-            Subquery<Long> attachmentSubquery = cb.createQuery(Long.class).subquery(Long.class);
-            Root<Post> subRoot = attachmentSubquery.from(Post.class);
-            attachmentSubquery.select(subRoot.get("postId"));
-            subRoot.join("attachments", JoinType.INNER);
-            attachmentSubquery.where(cb.equal(subRoot.get("postId"), root.get("postId")));
-            
-            predicates.add(cb.exists(attachmentSubquery));
-        }
-        
-        // 최소 조회수
-        if (criteria.getMinViewCount() != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("viewCount"), criteria.getMinViewCount()));
-        }
-        
-        // 최소 좋아요 수
-        if (criteria.getMinLikeCount() != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("likeCount"), criteria.getMinLikeCount()));
+        return result;
+    }
+    
+    private static void appendJoins(StringBuilder jpql, PostFacet facet) {
+        if (!facet.joins().isEmpty()) {
+            jpql.append(facet.joins()).append(' ');
         }
-        
-        return predicates;
     }
     
-    private void applySorting(PostSearchCriteria criteria, 
-                             CriteriaBuilder cb, 
-                             CriteriaQuery<Post> query, 
-                             Root<Post> root,
-                             Pageable pageable) {
-        List<Order> orders = new ArrayList<>();
-        
-        // 공지사항을 항상 상단에 표시
-        orders.add(cb.desc(root.get("isNotice")));
-        
-        // 사용자 정의 정렬
-        if (criteria.getSortType() != null) {
-            switch (criteria.getSortType()) {
-                case LATEST:
-                    orders.add(cb.desc(root.get("createdAt")));
-                    break;
-                case OLDEST:
-                    orders.add(cb.asc(root.get("createdAt")));
-                    break;
-                case VIEW_COUNT:
-                    orders.add(cb.desc(root.get("viewCount")));
-                    break;
-                case LIKE_COUNT:
-                    orders.add(cb.desc(root.get("likeCount")));
-                    break;
-                case COMMENT_COUNT:
-                    // 댓글 수로 정렬하려면 서브쿼리가 필요
-                    // 여기서는 간단히 createdAt으로 대체
-                    orders.add(cb.desc(root.get("createdAt")));
-                    break;
-                default:
-                    orders.add(cb.desc(root.get("createdAt")));
-            }
-        } else if (pageable.getSort().isSorted()) {
-            // Pageable에서 정렬 정보가 있으면 적용
-            pageable.getSort().forEach(order -> {
-                if (order.isAscending()) {
-                    orders.add(cb.asc(root.get(order.getProperty())));
-                } else {
-                    orders.add(cb.desc(root.get(order.getProperty())));
-                }
-            });
-        } else {
-            // 기본 정렬: 최신순
-            orders.add(cb.desc(root.get("createdAt")));
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+    
+    @Override
+    public List<Long> findPostIdsWithCriteria(PostSearchCriteria criteria, Collection<Long> postIds) {
+        List<Long> matched = new ArrayList<>();
+        if (postIds.isEmpty()) {
+            return matched;
         }
         
-        query.orderBy(orders);
+        PostSearchPlanCompiler.Plan plan = postSearchPlanCompiler.getPlan(criteria, Sort.unsorted(), false);
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(postIds), ID_CHUNK_SIZE)) {
+            matched.addAll(plan.bind(entityManager.createQuery(plan.getIdJpql(), Long.class), criteria)
+                    .setParameter("postIds", chunk)
+                    .getResultList());
+        }
+        return matched;
     }
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+package com.liteware.repository.board;
+
+import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.entity.board.Post;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Metamodel;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 고급 검색 조건 -> JPQL 컴파일러
+ * 어떤 필터가 있는지와 정렬 방식으로 검색 형태(shape)를 정하고, 형태마다 JPQL과 파라미터 바인딩 목록을 한 번만 만든다.
+ * 요청 시에는 값만 바인딩하며, 같은 JPQL 문자열은 Hibernate 쿼리 계획 캐시에서도 재사용되어 SQL 변환을 다시 하지 않는다.
+ * (리포지토리 구현체가 직접 생성하므로 JPA 슬라이스 테스트에서도 별도 빈 없이 동작)
+ */
+public class PostSearchPlanCompiler {
+    
+    // Pageable 정렬 조합은 요청마다 달라질 수 있어 캐시 크기를 제한 (초과분은 매번 컴파일)
+    private static final int MAX_CACHED_PLANS = 512;
+    
+    private static final String COUNT_SELECT = "SELECT COUNT(p) FROM Post p ";
+    private static final String ENTITY_SELECT = "SELECT p FROM Post p LEFT JOIN FETCH p.writer LEFT JOIN FETCH p.board ";
+    private static final String ID_SELECT = "SELECT p.postId FROM Post p ";
+    
+    private final Set<String> sortableAttributes;
+    private final Map<Shape, Plan> plans = new ConcurrentHashMap<>();
+    
+    public PostSearchPlanCompiler(Metamodel metamodel) {
+        // Pageable 정렬 항목은 JPQL에 그대로 들어가므로 게시글의 기본 속성명만 허용
+        this.sortableAttributes = metamodel.entity(Post.class).getSingularAttributes().stream()
+                .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+                .map(Attribute::getName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+    
+    /**
+     * 검색 조건의 형태에 맞는 검색 계획 (없으면 컴파일 후 캐시)
+     * @param includeKeyword false면 키워드 조건을 제외 (검색 색인으로 후보를 이미 거른 경우)
+     */
+    public Plan getPlan(PostSearchCriteria criteria, Sort sort, boolean includeKeyword) {
+        Shape shape = Shape.of(criteria, sort, includeKeyword);
+        Plan plan = plans.get(shape);
+        if (plan != null) {
+            return plan;
+        }
+        
+        plan = compile(shape);
+        if (plans.size() < MAX_CACHED_PLANS) {
+            Plan existing = plans.putIfAbsent(shape, plan);
+            return existing != null ? existing : plan;
+        }
+        return plan;
+    }
+    
+    public int getCachedPlanCount() {
+        return plans.size();
+    }
+    
+    private Plan compile(Shape shape) {
+        List<String> conditions = new ArrayList<>();
+        List<Binding> bindings = new ArrayList<>();
+        
+        // 기본적으로 삭제되지 않은 게시글만
+        if (!shape.includeDeleted()) {
+            conditions.add("p.isDeleted = false");
+        }
+        
+        // 키워드 검색
+        if (shape.keywordField() != null) {
+            conditions.add(switch (shape.keywordField()) {
+                case ALL -> "(p.title LIKE :keyword OR p.body.content LIKE :keyword)";
+                case TITLE -> "p.title LIKE :keyword";
+                case CONTENT -> "p.body.content LIKE :keyword";
+                case WRITER -> "p.writer.name LIKE :keyword";
+            });
+            bindings.add(new Binding("keyword", criteria -> "%" + criteria.getKeyword().trim() + "%"));
+        }
+        
+        for (Filter filter : shape.filters()) {
+            conditions.add(filter.condition);
+            if (filter.parameter != null) {
+                bindings.add(new Binding(filter.parameter, filter.value));
+            }
+        }
+        
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ";
+        String idWhere = (conditions.isEmpty() ? "WHERE " : where + "AND ") + "p.postId IN :postIds";
+        String orderBy = "ORDER BY " + String.join(", ", orders(shape));
+        
+        return new Plan(
+                where,
+                COUNT_SELECT + where,
+                ENTITY_SELECT + where + orderBy,
+                PostRepository.SUMMARY_SELECT + where + orderBy,
+                ID_SELECT + idWhere,
+                ID_SELECT + where,
+                List.copyOf(bindings));
+    }
+    
+    private List<String> orders(Shape shape) {
+        List<String> orders = new ArrayList<>();
+        
+        // 공지사항을 항상 상단에 표시
+        orders.add("p.isNotice DESC");
+        
+        if (shape.sortType() != null) {
+            switch (shape.sortType()) {
+                case OLDEST -> orders.add("p.createdAt ASC");
+                case VIEW_COUNT -> orders.add("p.viewCount DESC");
+                case LIKE_COUNT -> orders.add("p.likeCount DESC");
+                case COMMENT_COUNT -> {
+                    orders.add("p.commentCount DESC");
+                    orders.add("p.createdAt DESC");
+                }
+                default -> orders.add("p.createdAt DESC");
+            }
+        } else if (!shape.pageableSort().isEmpty()) {
+            for (Sort.Order order : shape.pageableSort()) {
+                if (!sortableAttributes.contains(order.getProperty())) {
+                    throw new RuntimeException("지원하지 않는 정렬 항목입니다: " + order.getProperty());
+                }
+                orders.add("p." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        } else {
+            // 기본 정렬: 최신순
+            orders.add("p.createdAt DESC");
+        }
+        return orders;
+    }
+    
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+    
+    /**
+     * 값이 있을 때만 조건에 들어가는 필터
+     */
+    private enum Filter {
+        BOARD(c -> c.getBoardId() != null,
+                "p.board.boardId = :boardId", "boardId", PostSearchCriteria::getBoardId),
+        WRITER(c -> c.getWriterId() != null,
+                "p.writer.userId = :writerId", "writerId", PostSearchCriteria::getWriterId),
+        WRITER_NAME(c -> hasText(c.getWriterName()),
+                "p.writer.name LIKE :writerName", "writerName", c -> "%" + c.getWriterName() + "%"),
+        DEPARTMENT(c -> c.getDepartmentId() != null,
+                "p.writer.department.deptId = :departmentId", "departmentId", PostSearchCriteria::getDepartmentId),
+        START_DATE(c -> c.getStartDate() != null,
+                "p.createdAt >= :startDate", "startDate", PostSearchCriteria::getStartDate),
+        END_DATE(c -> c.getEndDate() != null,
+                "p.createdAt <= :endDate", "endDate", PostSearchCriteria::getEndDate),
+        NOTICE(c -> c.getIsNotice() != null,
+                "p.isNotice = :isNotice", "isNotice", PostSearchCriteria::getIsNotice),
+        SECRET(c -> c.getIsSecret() != null,
+                "p.isSecret = :isSecret", "isSecret", PostSearchCriteria::getIsSecret),
+        ATTACHMENT(c -> Boolean.TRUE.equals(c.getHasAttachment()),
+                "EXISTS (SELECT 1 FROM PostAttachment pa WHERE pa.post = p)", null, null),
+        MIN_VIEW_COUNT(c -> c.getMinViewCount() != null,
+                "p.viewCount >= :minViewCount", "minViewCount", PostSearchCriteria::getMinViewCount),
+        MIN_LIKE_COUNT(c -> c.getMinLikeCount() != null,
+                "p.likeCount >= :minLikeCount", "minLikeCount", PostSearchCriteria::getMinLikeCount);
+        
+        private final Predicate<PostSearchCriteria> present;
+        private final String condition;
+        private final String parameter;
+        private final Function<PostSearchCriteria, Object> value;
+        
+        Filter(Predicate<PostSearchCriteria> present, String condition, String parameter,
+               Function<PostSearchCriteria, Object> value) {
+            this.present = present;
+            this.condition = condition;
+            this.parameter = parameter;
+            this.value = value;
+        }
+    }
+    
+    /**
+     * 검색 형태 - 값은 빼고 어떤 조건과 정렬이 쓰이는지만 담는다
+     * @param keywordField 키워드 조건이 없으면 null
+     * @param pageableSort sortType이 없을 때만 사용
+     */
+    private record Shape(boolean includeDeleted,
+                         PostSearchCriteria.SearchField keywordField,
+                         Set<Filter> filters,
+                         PostSearchCriteria.SortType sortType,
+                         List<Sort.Order> pageableSort) {
+        
+        static Shape of(PostSearchCriteria criteria, Sort sort, boolean includeKeyword) {
+            PostSearchCriteria.SearchField keywordField = null;
+            if (includeKeyword && hasText(criteria.getKeyword())) {
+                keywordField = criteria.getSearchField() != null
+                        ? criteria.getSearchField() : PostSearchCriteria.SearchField.ALL;
+            }
+            
+            Set<Filter> filters = EnumSet.noneOf(Filter.class);
+            for (Filter filter : Filter.values()) {
+                if (filter.present.test(criteria)) {
+                    filters.add(filter);
+                }
+            }
+            
+            List<Sort.Order> pageableSort = criteria.getSortType() == null && sort.isSorted()
+                    ? sort.toList() : List.of();
+            
+            return new Shape(Boolean.TRUE.equals(criteria.getIsDeleted()), keywordField,
+                    filters, criteria.getSortType(), pageableSort);
+        }
+    }
+    
+    private record Binding(String parameter, Function<PostSearchCriteria, Object> value) {
+    }
+    
+    /**
+     * 컴파일된 검색 계획 - 조회 용도별 JPQL과 바인딩할 파라미터 목록
+     */
+    public static final class Plan {
+        
+        // 게시글 별칭 p 기준 검색 조건 ("WHERE ... " 또는 빈 문자열) - 패싯 집계 쿼리가 그대로 이어 붙인다
+        @Getter
+        private final String whereClause;
+        @Getter
+        private final String countJpql;
+        @Getter
+        private final String entityJpql;
+        @Getter
+        private final String summaryJpql;
+        @Getter
+        private final String idJpql;
+        // 상한 건수 계산용 (정렬 없이 ID만)
+        @Getter
+        private final String limitedIdJpql;
+        private final List<Binding> bindings;
+        
+        private Plan(String whereClause, String countJpql, String entityJpql, String summaryJpql, String idJpql,
+                     String limitedIdJpql, List<Binding> bindings) {
+            this.whereClause = whereClause;
+            this.countJpql = countJpql;
+            this.entityJpql = entityJpql;
+            this.summaryJpql = summaryJpql;
+            this.idJpql = idJpql;
+            this.limitedIdJpql = limitedIdJpql;
+            this.bindings = bindings;
+        }
+        
+        /**
+         * 검색 조건의 값만 바인딩
+         */
+        public <T> TypedQuery<T> bind(TypedQuery<T> query, PostSearchCriteria criteria) {
+            for (Binding binding : bindings) {
+                query.setParameter(binding.parameter(), binding.value().apply(criteria));
+            }
+            return query;
+        }
+    }
+}
\ No newline at end of file
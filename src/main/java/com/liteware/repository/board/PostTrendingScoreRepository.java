@@ -0,0 +1,9 @@
+package com.liteware.repository.board;
+
+import com.liteware.model.entity.board.PostTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostTrendingScoreRepository extends JpaRepository<PostTrendingScore, Long> {
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.liteware.repository.draft;
+
+import com.liteware.model.entity.draft.Draft;
+import com.liteware.model.entity.draft.DraftTargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DraftRepository extends JpaRepository<Draft, Long> {
+    
+    Optional<Draft> findByUserIdAndTargetTypeAndTargetId(Long userId, DraftTargetType targetType, Long targetId);
+    
+    @Query("SELECT d.version FROM Draft d " +
+           "WHERE d.userId = :userId AND d.targetType = :targetType AND d.targetId = :targetId")
+    Optional<Long> findVersion(@Param("userId") Long userId,
+                               @Param("targetType") DraftTargetType targetType,
+                               @Param("targetId") Long targetId);
+    
+    @Modifying
+    @Query("DELETE FROM Draft d WHERE d.userId = :userId AND d.targetType = :targetType AND d.targetId = :targetId")
+    int deleteByTarget(@Param("userId") Long userId,
+                       @Param("targetType") DraftTargetType targetType,
+                       @Param("targetId") Long targetId);
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.approval.ApprovalDelegationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalDelegationRefreshScheduler {
+    
+    private final ApprovalDelegationIndex approvalDelegationIndex;
+    
+    /**
+     * 다른 서버에서 등록/해제한 결재 위임 규칙 반영 (기본 30초 간격, 실패하면 이전 색인을 유지)
+     */
+    @Scheduled(fixedDelayString = "${app.approval.delegation.refresh-interval-ms:30000}")
+    public void refreshDelegations() {
+        try {
+            approvalDelegationIndex.refresh();
+        } catch (Exception e) {
+            log.error("Error during scheduled refresh of approval delegation rules", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.approval.ApprovalEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalEventRetentionScheduler {
+    
+    private final ApprovalEventService approvalEventService;
+    
+    @Value("${app.approval.events.retention-months:0}")
+    private int retentionMonths;
+    
+    /**
+     * 보존 기간이 지난 결재 이력을 월 단위로 정리 (기본 매월 1일 새벽 4시 30분, 보존 기간 0이면 정리하지 않음)
+     */
+    @Scheduled(cron = "${app.approval.events.purge-cron:0 30 4 1 * ?}")
+    public void purgeApprovalEvents() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        
+        log.info("Starting scheduled task: Purge approval events older than {} months", retentionMonths);
+        try {
+            int deleted = approvalEventService.purgeBefore(YearMonth.now().minusMonths(retentionMonths));
+            log.info("Completed scheduled task: Purge approval events ({} deleted)", deleted);
+        } catch (Exception e) {
+            log.error("Error during scheduled purge of approval events", e);
+        }
+    }
+}
\ No newline at end of file
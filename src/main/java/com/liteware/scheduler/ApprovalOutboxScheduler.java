@@ -0,0 +1,27 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.approval.ApprovalOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalOutboxScheduler {
+    
+    private final ApprovalOutboxDispatcher approvalOutboxDispatcher;
+    
+    /**
+     * 결재 후속 처리 이벤트 발송 (기본 1초 간격)
+     */
+    @Scheduled(fixedDelayString = "${app.approval.outbox.poll-interval-ms:1000}")
+    public void dispatchOutbox() {
+        try {
+            approvalOutboxDispatcher.dispatch();
+        } catch (Exception e) {
+            log.error("Error during scheduled dispatch of approval outbox events", e);
+        }
+    }
+}
\ No newline at end of file
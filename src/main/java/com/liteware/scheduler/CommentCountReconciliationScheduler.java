@@ -0,0 +1,29 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.board.CommentCountReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciliationScheduler {
+    
+    private final CommentCountReconciliationService commentCountReconciliationService;
+    
+    /**
+     * 게시글 댓글 수 보정 (기본 매일 새벽 4시)
+     */
+    @Scheduled(cron = "${board.comment-count.reconcile-cron:0 0 4 * * ?}")
+    public void reconcileCommentCounts() {
+        log.info("Starting scheduled task: Reconcile post comment counts");
+        try {
+            int repaired = commentCountReconciliationService.reconcile();
+            log.info("Completed scheduled task: Reconcile post comment counts ({} repaired)", repaired);
+        } catch (Exception e) {
+            log.error("Error during scheduled reconciliation of post comment counts", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.draft.DraftAutosaveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DraftAutosaveScheduler {
+    
+    private final DraftAutosaveService draftAutosaveService;
+    
+    /**
+     * 편집이 멈춘 임시저장본 반영 (기본 1초 간격)
+     */
+    @Scheduled(fixedDelayString = "${app.draft.flush-interval-ms:1000}")
+    public void flushDrafts() {
+        try {
+            draftAutosaveService.flush();
+        } catch (Exception e) {
+            log.error("Error during scheduled flush of drafts", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.board.LikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountScheduler {
+    
+    private final LikeService likeService;
+    
+    /**
+     * 누적된 게시글/댓글 좋아요 수 반영 (기본 5초 간격)
+     */
+    @Scheduled(fixedDelayString = "${board.like.flush-interval-ms:5000}")
+    public void flushLikeCounts() {
+        try {
+            likeService.flush();
+        } catch (Exception e) {
+            log.error("Error during scheduled flush of like counts", e);
+        }
+    }
+}
\ No newline at end of file
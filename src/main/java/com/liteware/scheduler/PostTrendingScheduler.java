@@ -0,0 +1,40 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.board.PostTrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTrendingScheduler {
+    
+    private final PostTrendingService postTrendingService;
+    
+    /**
+     * 인기 게시글 상위 K개 저장 (기본 5분 간격)
+     */
+    @Scheduled(fixedDelayString = "${board.trending.persist-interval-ms:300000}")
+    public void persistTrending() {
+        try {
+            postTrendingService.persist();
+        } catch (Exception e) {
+            log.error("Error during scheduled persist of trending posts", e);
+        }
+    }
+    
+    /**
+     * 기간이 지난 게시글 정리 및 감쇠 기준 시각 갱신 (기본 매시 정각)
+     */
+    @Scheduled(cron = "${board.trending.compact-cron:0 0 * * * ?}")
+    public void compactTrending() {
+        try {
+            int remaining = postTrendingService.compact();
+            log.debug("Compacted trending posts: {} remaining", remaining);
+        } catch (Exception e) {
+            log.error("Error during scheduled compaction of trending posts", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.liteware.scheduler;
+
+import com.liteware.service.board.PostViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountScheduler {
+    
+    private final PostViewCountService postViewCountService;
+    
+    /**
+     * 누적된 게시글 조회수 반영 (기본 5초 간격)
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        try {
+            postViewCountService.flush();
+        } catch (Exception e) {
+            log.error("Error during scheduled flush of post view counts", e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.entity.approval.ApprovalDelegation;
+import com.liteware.repository.approval.ApprovalDelegationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 결재 위임 규칙의 메모리 색인
+ * 위임자별로 규칙을 시작 시각 순 정렬 맵에 두어(위임자 안에서 기간이 겹치지 않음),
+ * 결재자를 정할 때 floorEntry 한 번(O(log n))으로 지금 유효한 대리 결재자를 찾는다.
+ * 규칙의 시작/만료는 조회 시각으로만 판단하므로 문서를 일괄로 고쳐 쓰지 않는다.
+ * 다른 서버에서 등록/해제한 규칙은 주기적으로 DB를 다시 읽어(refresh) 반영하며,
+ * 다시 읽는 동안 이 서버에서 아직 끝나지 않았거나 막 커밋된 변경은 새로 읽은 색인에 다시 적용한다.
+ * 시작 시 규칙을 읽지 못하면 위임이 모두 무시되므로 애플리케이션 시작을 실패시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalDelegationIndex {
+    
+    private final ApprovalDelegationRepository delegationRepository;
+    
+    private volatile Rules rules = new Rules();
+    
+    // 아래 필드와 rules 교체는 lock으로 보호
+    private final Object lock = new Object();
+    
+    // 트랜잭션이 아직 끝나지 않은 이 서버의 변경 (다시 읽은 DB에는 아직 없다)
+    private final List<Change> openChanges = new ArrayList<>();
+    
+    // 다시 읽는 동안 커밋된 변경 (다시 읽은 결과에 들어 있는지 알 수 없다) - 다시 읽는 중이 아니면 null
+    private List<Change> settledDuringRefresh;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        int loaded = refresh();
+        log.info("Loaded {} approval delegation rules", loaded);
+    }
+    
+    /**
+     * 아직 끝나지 않은 규칙을 DB에서 다시 읽어 색인을 바꾼다
+     * @return 읽은 규칙 수
+     */
+    public synchronized int refresh() {
+        synchronized (lock) {
+            settledDuringRefresh = new ArrayList<>();
+        }
+        try {
+            List<ApprovalDelegation> delegations = delegationRepository.findUnexpired(LocalDateTime.now());
+            Rules loaded = new Rules();
+            delegations.forEach(delegation -> loaded.put(Window.of(delegation)));
+            
+            synchronized (lock) {
+                openChanges.forEach(change -> change.applyTo(loaded));
+                settledDuringRefresh.forEach(change -> change.applyTo(loaded));
+                rules = loaded;
+            }
+            return delegations.size();
+        } finally {
+            synchronized (lock) {
+                settledDuringRefresh = null;
+            }
+        }
+    }
+    
+    /**
+     * 지금 approverId의 결재를 처리할 사용자 (유효한 위임이 없으면 approverId)
+     */
+    public Long resolve(Long approverId, LocalDateTime at) {
+        return rules.resolve(approverId, at);
+    }
+    
+    /**
+     * userId가 지금 대신(또는 직접) 처리하는 결재자 목록 - 본인(위임 중이 아니면)과 본인에게 위임 중인 위임자들
+     */
+    public List<Long> approversHandledBy(Long userId, LocalDateTime at) {
+        Rules current = rules;
+        List<Long> approverIds = new ArrayList<>();
+        if (current.resolve(userId, at).equals(userId)) {
+            approverIds.add(userId);
+        }
+        for (Long delegatorId : current.delegatorsByDelegate.getOrDefault(userId, Set.of())) {
+            if (current.resolve(delegatorId, at).equals(userId)) {
+                approverIds.add(delegatorId);
+            }
+        }
+        return approverIds;
+    }
+    
+    /**
+     * 새로 저장된 규칙을 색인에 반영 (트랜잭션이 롤백되면 되돌린다)
+     */
+    public void register(ApprovalDelegation delegation) {
+        replace(null, delegation);
+    }
+    
+    /**
+     * 기간이 바뀐 규칙을 색인에 반영 (트랜잭션이 롤백되면 이전 기간으로 되돌린다)
+     */
+    void replace(Window previous, ApprovalDelegation delegation) {
+        Change change = new Change(previous, Window.of(delegation));
+        boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+        synchronized (lock) {
+            change.applyTo(rules);
+            if (transactional) {
+                openChanges.add(change);
+            } else {
+                settle(change);
+            }
+        }
+        
+        if (transactional) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (lock) {
+                        openChanges.remove(change);
+                        if (status == STATUS_COMMITTED) {
+                            settle(change);
+                        } else {
+                            change.revert(rules);
+                        }
+                    }
+                }
+            });
+        }
+    }
+    
+    private void settle(Change change) {
+        if (settledDuringRefresh != null) {
+            settledDuringRefresh.add(change);
+        }
+    }
+    
+    // 위임자 ID -> 시작 시각 -> 규칙, 대리 결재자 ID -> 그 사용자에게 위임한 적이 있는 위임자 ID (유효 여부는 조회 시 확인)
+    private static final class Rules {
+        
+        private final Map<Long, NavigableMap<LocalDateTime, Window>> byDelegator = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> delegatorsByDelegate = new ConcurrentHashMap<>();
+        
+        Long resolve(Long approverId, LocalDateTime at) {
+            NavigableMap<LocalDateTime, Window> windows = byDelegator.get(approverId);
+            if (windows == null) {
+                return approverId;
+            }
+            Map.Entry<LocalDateTime, Window> entry = windows.floorEntry(at);
+            return entry != null && entry.getValue().covers(at) ? entry.getValue().delegateId() : approverId;
+        }
+        
+        void put(Window window) {
+            byDelegator.computeIfAbsent(window.delegatorId(), id -> new ConcurrentSkipListMap<>())
+                    .put(window.startAt(), window);
+            delegatorsByDelegate.computeIfAbsent(window.delegateId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(window.delegatorId());
+        }
+        
+        void remove(Window window) {
+            NavigableMap<LocalDateTime, Window> windows = byDelegator.get(window.delegatorId());
+            if (windows != null) {
+                windows.remove(window.startAt(), window);
+            }
+        }
+    }
+    
+    // 규칙 등록(previous 없음) 또는 기간 변경 - 여러 번 적용해도 결과가 같다
+    private record Change(Window previous, Window window) {
+        
+        void applyTo(Rules rules) {
+            if (previous != null) {
+                rules.remove(previous);
+            }
+            rules.put(window);
+        }
+        
+        void revert(Rules rules) {
+            rules.remove(window);
+            if (previous != null) {
+                rules.put(previous);
+            }
+        }
+    }
+    
+    record Window(Long delegationId, Long delegatorId, Long delegateId, LocalDateTime startAt, LocalDateTime endAt) {
+        
+        static Window of(ApprovalDelegation delegation) {
+            return new Window(delegation.getDelegationId(), delegation.getDelegator().getUserId(),
+                    delegation.getDelegate().getUserId(), delegation.getStartAt(), delegation.getEndAt());
+        }
+        
+        boolean covers(LocalDateTime at) {
+            return !at.isBefore(startAt) && at.isBefore(endAt);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.dto.ApprovalEventDto;
+import com.liteware.model.dto.ApprovalReplayState;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.approval.ApprovalEvent;
+import com.liteware.model.entity.approval.ApprovalStatus;
+import com.liteware.model.entity.approval.DocumentStatus;
+import com.liteware.repository.UserRepository;
+import com.liteware.repository.approval.ApprovalEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결재 이력 (approval_events)
+ * 상태 전이를 처리하는 쪽이 이벤트를 모아 한 번에 저장하고(JDBC 배치), 타임라인 조회와 상태 재생은 이 로그만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApprovalEventService {
+    
+    private final ApprovalEventRepository eventRepository;
+    private final UserRepository userRepository;
+    
+    /**
+     * 이벤트 저장 (호출한 쪽 트랜잭션에 참여)
+     */
+    public void record(List<ApprovalEvent> events) {
+        if (!events.isEmpty()) {
+            eventRepository.saveAll(events);
+        }
+    }
+    
+    /**
+     * 문서 처리 이력 - 발생 순, 사용자 이름은 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ApprovalEventDto> getTimeline(Long docId) {
+        List<ApprovalEvent> events = eventRepository.findByDocIdOrderByEventIdAsc(docId);
+        
+        Set<Long> userIds = new HashSet<>();
+        for (ApprovalEvent event : events) {
+            userIds.add(event.getActorId());
+            userIds.add(event.getOnBehalfOfId());
+        }
+        userIds.remove(null);
+        Map<Long, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            names.put(user.getUserId(), user.getName());
+        }
+        
+        List<ApprovalEventDto> timeline = new ArrayList<>(events.size());
+        LocalDateTime previous = null;
+        for (ApprovalEvent event : events) {
+            ApprovalEventDto dto = ApprovalEventDto.from(event);
+            dto.setActorName(names.get(event.getActorId()));
+            dto.setOnBehalfOfName(names.get(event.getOnBehalfOfId()));
+            dto.setElapsedSeconds(previous != null ? Duration.between(previous, event.getOccurredAt()).getSeconds() : 0);
+            previous = event.getOccurredAt();
+            timeline.add(dto);
+        }
+        return timeline;
+    }
+    
+    /**
+     * 이력을 처음부터 재생한 현재 문서 상태
+     */
+    @Transactional(readOnly = true)
+    public ApprovalReplayState replay(Long docId) {
+        return replay(docId, eventRepository.findByDocIdOrderByEventIdAsc(docId));
+    }
+    
+    /**
+     * 지정 시각까지의 이력만 재생한 그 시점의 문서 상태
+     */
+    @Transactional(readOnly = true)
+    public ApprovalReplayState replay(Long docId, LocalDateTime at) {
+        return replay(docId, eventRepository.findByDocIdUpTo(docId, at));
+    }
+    
+    /**
+     * 보존 기간이 지난 월의 이력 정리
+     * @return 삭제된 이벤트 수
+     */
+    public int purgeBefore(YearMonth month) {
+        int deleted = eventRepository.deleteByEventMonthBefore(month.getYear() * 100 + month.getMonthValue());
+        log.info("Purged {} approval events before {}", deleted, month);
+        return deleted;
+    }
+    
+    private ApprovalReplayState replay(Long docId, List<ApprovalEvent> events) {
+        if (events.isEmpty()) {
+            throw new RuntimeException("결재 이력이 없습니다");
+        }
+        
+        ApprovalReplayState state = ApprovalReplayState.builder().docId(docId).build();
+        for (ApprovalEvent event : events) {
+            switch (event.getEventType()) {
+                case DRAFTED -> state.setDraftedAt(event.getOccurredAt());
+                case SUBMITTED -> state.setSubmittedAt(event.getOccurredAt());
+                case APPROVED -> state.getLineStatuses().put(event.getLineId(), ApprovalStatus.APPROVED);
+                case REJECTED -> state.getLineStatuses().put(event.getLineId(), ApprovalStatus.REJECTED);
+                case DELEGATED -> state.getDelegates().put(event.getLineId(), event.getActorId());
+                case SKIPPED -> state.getLineStatuses().put(event.getLineId(), ApprovalStatus.SKIPPED);
+                case CANCELLED -> { }
+            }
+            
+            state.setStatus(event.getDocumentStatus());
+            state.setCurrentApproverId(event.getCurrentApproverId());
+            if (isCompleted(event.getDocumentStatus()) && state.getCompletedAt() == null) {
+                state.setCompletedAt(event.getOccurredAt());
+            }
+            state.setAppliedEvents(state.getAppliedEvents() + 1);
+        }
+        
+        if (state.getSubmittedAt() != null && state.getCompletedAt() != null) {
+            state.setTurnaroundSeconds(Duration.between(state.getSubmittedAt(), state.getCompletedAt()).getSeconds());
+        }
+        return state;
+    }
+    
+    private static boolean isCompleted(DocumentStatus status) {
+        return status == DocumentStatus.APPROVED || status == DocumentStatus.REJECTED
+                || status == DocumentStatus.CANCELLED;
+    }
+}
\ No newline at end of file
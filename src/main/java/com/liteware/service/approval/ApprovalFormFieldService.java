@@ -0,0 +1,241 @@
+package com.liteware.service.approval;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liteware.model.dto.FormFieldCondition;
+import com.liteware.model.dto.FormFieldSearchRequest;
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.model.entity.approval.ApprovalFormField;
+import com.liteware.model.entity.approval.DocumentType;
+import com.liteware.model.entity.approval.FormFieldType;
+import com.liteware.repository.approval.ApprovalDocumentRepository;
+import com.liteware.repository.approval.ApprovalFormFieldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결재 문서 양식 필드 색인
+ * 문서를 저장할 때 formData(JSON)를 양식별 필드 목록에 따라 숫자/문자열/날짜로 읽어 approval_form_fields에 다시 쓰고,
+ * 금액/프로젝트 코드/기간 같은 조건 검색은 이 색인만 읽어 문서 ID를 찾는다.
+ * 값이 없거나 형식이 맞지 않는 필드는 색인하지 않는다 (문서 저장은 막지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApprovalFormFieldService {
+    
+    // 필드 키 -> 값 종류 (같은 키는 어느 양식에서든 같은 종류)
+    static final Map<String, FormFieldType> FIELD_TYPES = Map.ofEntries(
+            Map.entry("projectCode", FormFieldType.STRING),
+            Map.entry("amount", FormFieldType.NUMBER),
+            Map.entry("hours", FormFieldType.NUMBER),
+            Map.entry("category", FormFieldType.STRING),
+            Map.entry("vendor", FormFieldType.STRING),
+            Map.entry("destination", FormFieldType.STRING),
+            Map.entry("startDate", FormFieldType.DATE),
+            Map.entry("endDate", FormFieldType.DATE),
+            Map.entry("workDate", FormFieldType.DATE),
+            Map.entry("expenseDate", FormFieldType.DATE),
+            Map.entry("deliveryDate", FormFieldType.DATE),
+            Map.entry("resignDate", FormFieldType.DATE)
+    );
+    
+    // 양식별 색인 필드 (projectCode는 모든 양식 공통)
+    static final Map<DocumentType, List<String>> FIELDS_BY_TYPE = new EnumMap<>(Map.of(
+            DocumentType.LEAVE_REQUEST, List.of("projectCode", "startDate", "endDate"),
+            DocumentType.OVERTIME_REQUEST, List.of("projectCode", "workDate", "hours"),
+            DocumentType.EXPENSE_REQUEST, List.of("projectCode", "amount", "expenseDate", "category"),
+            DocumentType.PURCHASE_REQUEST, List.of("projectCode", "amount", "vendor", "deliveryDate"),
+            DocumentType.GENERAL_APPROVAL, List.of("projectCode", "amount"),
+            DocumentType.BUSINESS_TRIP, List.of("projectCode", "amount", "destination", "startDate", "endDate"),
+            DocumentType.WORK_FROM_HOME, List.of("projectCode", "startDate", "endDate"),
+            DocumentType.RESIGNATION, List.of("resignDate")
+    ));
+    
+    private final ApprovalFormFieldRepository formFieldRepository;
+    private final ApprovalDocumentRepository documentRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${app.approval.form-field.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+    
+    /**
+     * 문서 한 건의 양식 필드를 다시 색인 (문서 저장과 같은 트랜잭션)
+     */
+    public void index(ApprovalDocument document) {
+        formFieldRepository.deleteByDocIdIn(List.of(document.getDocId()));
+        formFieldRepository.saveAll(extract(document));
+    }
+    
+    /**
+     * 전체 문서 재색인 (색인 도입 전 문서나 양식 필드 목록 변경 후)
+     * @return 색인한 필드 수
+     */
+    public int rebuild() {
+        int indexed = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<ApprovalDocument> documents = documentRepository.findByDocIdGreaterThanOrderByDocIdAsc(
+                    lastId, PageRequest.of(0, rebuildBatchSize));
+            if (documents.isEmpty()) {
+                break;
+            }
+            
+            List<Long> docIds = documents.stream().map(ApprovalDocument::getDocId).toList();
+            List<ApprovalFormField> fields = new ArrayList<>();
+            documents.forEach(document -> fields.addAll(extract(document)));
+            formFieldRepository.deleteByDocIdIn(docIds);
+            formFieldRepository.saveAll(fields);
+            
+            indexed += fields.size();
+            lastId = docIds.get(docIds.size() - 1);
+        }
+        log.info("Rebuilt approval form field index: {} fields", indexed);
+        return indexed;
+    }
+    
+    /**
+     * 조건을 모두 만족하는 문서 ID (문서 테이블은 읽지 않는다)
+     */
+    @Transactional(readOnly = true)
+    public Page<Long> findDocIds(FormFieldSearchRequest request) {
+        List<FormFieldCondition> conditions = request.getConditions();
+        if (conditions == null || conditions.isEmpty()) {
+            throw new IllegalArgumentException("검색 조건을 하나 이상 지정해주세요");
+        }
+        conditions.forEach(this::validate);
+        
+        FormFieldType sortType = null;
+        if (request.getSortKey() != null) {
+            sortType = typeOf(request.getSortKey());
+        }
+        
+        return formFieldRepository.findDocIds(conditions, request.getSortKey(), sortType, request.getDirection(),
+                PageRequest.of(request.getPage(), request.getSize()));
+    }
+    
+    /**
+     * 조건 검색 결과 문서 (목록 표시용으로 찾은 페이지의 문서만 읽는다)
+     */
+    @Transactional(readOnly = true)
+    public Page<ApprovalDocument> searchDocuments(FormFieldSearchRequest request) {
+        Page<Long> docIds = findDocIds(request);
+        
+        Map<Long, Integer> order = new HashMap<>();
+        for (Long docId : docIds.getContent()) {
+            order.put(docId, order.size());
+        }
+        List<ApprovalDocument> documents = docIds.isEmpty() ? List.of()
+                : documentRepository.findSummaryByIdIn(docIds.getContent()).stream()
+                        .sorted(Comparator.comparing(document -> order.get(document.getDocId())))
+                        .toList();
+        return new PageImpl<>(documents, docIds.getPageable(), docIds.getTotalElements());
+    }
+    
+    @Transactional(readOnly = true)
+    public Map<String, Object> getFields(Long docId) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ApprovalFormField field : formFieldRepository.findByDocIdOrderByFieldKey(docId)) {
+            values.put(field.getFieldKey(), field.getNumValue() != null ? field.getNumValue()
+                    : field.getDateValue() != null ? field.getDateValue() : field.getStrValue());
+        }
+        return values;
+    }
+    
+    /**
+     * formData에서 양식별 색인 필드를 타입에 맞게 꺼낸다
+     */
+    List<ApprovalFormField> extract(ApprovalDocument document) {
+        String formData = document.getFormData();
+        List<String> keys = FIELDS_BY_TYPE.getOrDefault(document.getDocType(), List.of());
+        if (formData == null || formData.isBlank() || keys.isEmpty()) {
+            return List.of();
+        }
+        
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(formData);
+        } catch (JsonProcessingException e) {
+            log.debug("Skipping form field index for document {}: formData is not JSON", document.getDocId());
+            return List.of();
+        }
+        if (root == null || !root.isObject()) {
+            return List.of();
+        }
+        
+        List<ApprovalFormField> fields = new ArrayList<>();
+        for (String key : keys) {
+            JsonNode node = root.get(key);
+            if (node == null || node.isNull() || node.asText().isBlank()) {
+                continue;
+            }
+            
+            ApprovalFormField field = ApprovalFormField.builder()
+                    .docId(document.getDocId())
+                    .fieldKey(key)
+                    .build();
+            try {
+                switch (FIELD_TYPES.get(key)) {
+                    case NUMBER -> field.setNumValue((node.isNumber() ? node.decimalValue()
+                            : new BigDecimal(node.asText().replace(",", "").trim())).setScale(2, RoundingMode.HALF_UP));
+                    case DATE -> field.setDateValue(LocalDate.parse(node.asText().trim().substring(0, 10)));
+                    case STRING -> field.setStrValue(truncate(node.asText().trim()));
+                }
+            } catch (NumberFormatException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+                log.debug("Skipping form field {} of document {}: {}", key, document.getDocId(), node.asText());
+                continue;
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+    
+    private void validate(FormFieldCondition condition) {
+        FormFieldType type = typeOf(condition.getFieldKey());
+        boolean number = condition.getMinNumber() != null || condition.getMaxNumber() != null;
+        boolean date = condition.getFromDate() != null || condition.getToDate() != null;
+        boolean string = condition.getEqualTo() != null;
+        
+        boolean matches = switch (type) {
+            case NUMBER -> number && !date && !string;
+            case DATE -> date && !number && !string;
+            case STRING -> string && !number && !date;
+        };
+        if (!matches) {
+            throw new IllegalArgumentException("필드 조건이 값 종류와 맞지 않습니다: " + condition.getFieldKey());
+        }
+    }
+    
+    private FormFieldType typeOf(String fieldKey) {
+        FormFieldType type = FIELD_TYPES.get(fieldKey);
+        if (type == null) {
+            throw new IllegalArgumentException("색인되지 않는 양식 필드입니다: " + fieldKey);
+        }
+        return type;
+    }
+    
+    private static String truncate(String value) {
+        return value.length() > 200 ? value.substring(0, 200) : value;
+    }
+}
\ No newline at end of file
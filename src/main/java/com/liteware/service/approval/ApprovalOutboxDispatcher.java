@@ -0,0 +1,244 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.model.entity.approval.ApprovalOutboxEvent;
+import com.liteware.repository.approval.ApprovalDocumentRepository;
+import com.liteware.repository.approval.ApprovalOutboxEventRepository;
+import com.liteware.service.notification.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결재 아웃박스 이벤트 처리
+ * 결재 트랜잭션이 남긴 이벤트를 배치로 읽어 워커 풀에서 이벤트마다 별도 트랜잭션으로
+ * 양식별 후처리(ApprovalWorkflowService)와 알림 생성을 실행하고, 같은 트랜잭션에서 처리 완료로 표시한다.
+ * 이미 처리된 이벤트는 건너뛰고, 여러 워커/서버가 같은 이벤트를 잡으면 버전 충돌로 한 건만 반영된다.
+ * 실패한 이벤트는 retry-backoff-ms부터 두 배씩 늘린 간격으로 다시 시도하고, max-attempts번 실패하면 FAILED로 남긴다.
+ * 지표: approval.outbox.dispatched/retried/failed (건수), approval.outbox.dispatch (처리 시간),
+ * approval.outbox.pending (대기 건수), approval.outbox.lag (가장 오래 대기 중인 이벤트의 대기 시간, 초)
+ */
+@Slf4j
+@Service
+public class ApprovalOutboxDispatcher {
+    
+    private final ApprovalOutboxEventRepository outboxRepository;
+    private final ApprovalDocumentRepository documentRepository;
+    private final ApprovalWorkflowService workflowService;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    
+    // null이면 호출한 스레드에서 차례로 처리
+    private final ExecutorService executor;
+    
+    private final Counter dispatchedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer dispatchTimer;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    
+    @Value("${app.approval.outbox.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${app.approval.outbox.max-attempts:5}")
+    private int maxAttempts;
+    
+    @Value("${app.approval.outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+    
+    public ApprovalOutboxDispatcher(ApprovalOutboxEventRepository outboxRepository,
+                                    ApprovalDocumentRepository documentRepository,
+                                    ApprovalWorkflowService workflowService,
+                                    NotificationService notificationService,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.approval.outbox.worker-threads:4}") int workerThreads) {
+        this.outboxRepository = outboxRepository;
+        this.documentRepository = documentRepository;
+        this.workflowService = workflowService;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = workerThreads > 0 ? Executors.newFixedThreadPool(workerThreads, workerThreadFactory()) : null;
+        
+        this.dispatchedCounter = meterRegistry.counter("approval.outbox.dispatched");
+        this.retriedCounter = meterRegistry.counter("approval.outbox.retried");
+        this.failedCounter = meterRegistry.counter("approval.outbox.failed");
+        this.dispatchTimer = meterRegistry.timer("approval.outbox.dispatch");
+        Gauge.builder("approval.outbox.pending", pendingCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("approval.outbox.lag", lagSeconds, AtomicLong::get).baseUnit("seconds").register(meterRegistry);
+    }
+    
+    /**
+     * 처리할 차례가 된 이벤트를 한 배치 처리
+     * @return 처리 완료된 이벤트 수
+     */
+    public int dispatch() {
+        List<Long> ids = transactionTemplate.execute(status ->
+                outboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize)));
+        
+        int dispatched = 0;
+        if (executor == null) {
+            for (Long id : ids) {
+                dispatched += process(id) ? 1 : 0;
+            }
+        } else {
+            List<Future<Boolean>> futures = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                futures.add(executor.submit(() -> process(id)));
+            }
+            for (Future<Boolean> future : futures) {
+                dispatched += await(future) ? 1 : 0;
+            }
+        }
+        
+        updateBacklog();
+        if (dispatched > 0) {
+            log.debug("Dispatched {} of {} approval outbox events", dispatched, ids.size());
+        }
+        return dispatched;
+    }
+    
+    /**
+     * 이벤트 한 건 처리 - 후처리, 알림, 완료 표시를 한 트랜잭션으로 묶는다
+     */
+    private boolean process(Long eventId) {
+        Timer.Sample sample = Timer.start();
+        try {
+            Boolean handled = transactionTemplate.execute(status -> {
+                ApprovalOutboxEvent event = outboxRepository.findById(eventId).orElse(null);
+                if (event == null || event.getStatus() != ApprovalOutboxEvent.Status.PENDING) {
+                    return false;
+                }
+                handle(event);
+                event.markDone();
+                return true;
+            });
+            if (Boolean.TRUE.equals(handled)) {
+                dispatchedCounter.increment();
+                return true;
+            }
+            return false;
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("Approval outbox event {} was handled concurrently", eventId);
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch approval outbox event {}: {}", eventId, e.getMessage());
+            recordFailure(eventId, e);
+            return false;
+        } finally {
+            sample.stop(dispatchTimer);
+        }
+    }
+    
+    private void handle(ApprovalOutboxEvent event) {
+        ApprovalDocument document = documentRepository.findById(event.getDocId())
+                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다: " + event.getDocId()));
+        
+        switch (event.getEventType()) {
+            case APPROVAL_REQUESTED -> notificationService.createNotifications(List.of(
+                    NotificationService.approvalRequest(event.getRecipientId(), document.getDocId(), document.getTitle())));
+            case DOCUMENT_APPROVED -> {
+                workflowService.onDocumentApproved(document);
+                notificationService.createNotifications(List.of(NotificationService.approvalCompleted(
+                        document.getDrafter().getUserId(), document.getDocId(), document.getTitle(), true)));
+            }
+            case DOCUMENT_REJECTED -> {
+                workflowService.onDocumentRejected(document, event.getReason());
+                notificationService.createNotifications(List.of(NotificationService.approvalCompleted(
+                        document.getDrafter().getUserId(), document.getDocId(), document.getTitle(), false)));
+            }
+        }
+    }
+    
+    /**
+     * 실패 기록은 처리 트랜잭션이 롤백된 뒤 별도 트랜잭션으로 남긴다
+     */
+    private void recordFailure(Long eventId, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(eventId)
+                    .filter(event -> event.getStatus() == ApprovalOutboxEvent.Status.PENDING)
+                    .ifPresent(event -> {
+                        long backoff = retryBackoffMillis << Math.min(event.getAttempts(), 20);
+                        event.markFailed(cause.getMessage(), maxAttempts,
+                                LocalDateTime.now().plus(Duration.ofMillis(backoff)));
+                        if (event.getStatus() == ApprovalOutboxEvent.Status.FAILED) {
+                            failedCounter.increment();
+                            log.error("Approval outbox event {} failed after {} attempts", eventId, event.getAttempts());
+                        } else {
+                            retriedCounter.increment();
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            // 기록하지 못해도 PENDING으로 남아 다음 주기에 다시 시도된다
+            log.error("Failed to record failure of approval outbox event {}", eventId, e);
+        }
+    }
+    
+    private void updateBacklog() {
+        transactionTemplate.executeWithoutResult(status -> {
+            pendingCount.set(outboxRepository.countByStatus(ApprovalOutboxEvent.Status.PENDING));
+            LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt();
+            lagSeconds.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()) : 0);
+        });
+    }
+    
+    private boolean await(Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.error("Approval outbox worker failed", e.getCause());
+            return false;
+        }
+    }
+    
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "approval-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
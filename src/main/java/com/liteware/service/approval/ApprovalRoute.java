@@ -0,0 +1,178 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.UserStatus;
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.model.entity.approval.ApprovalLine;
+import com.liteware.model.entity.approval.ApprovalStatus;
+import com.liteware.model.entity.approval.ApprovalType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 문서 하나의 결재 순서표
+ * 이미 로딩된 결재선을 순서별 그룹으로 묶어 두고 다음 결재자를 메모리에서 계산한다 (추가 조회 없음).
+ * - 결재/합의 결재선만 차례를 가진다 (참조/통보는 진행에 관여하지 않음)
+ * - 같은 순서의 결재선은 병렬 그룹으로 함께 활성화되고, 그룹의 승인 정족수를 채우면 다음 그룹으로 넘어간다
+ *   (결재선이 모두 건너뛰어진 그룹은 정족수가 0이라 바로 통과)
+ * - 반려는 남은 대기 결재자가 모두 승인해도 그룹의 정족수를 채울 수 없게 될 때 문서를 끝낸다
+ *   (ALL 그룹은 한 명의 반려로, ANY/MAJORITY 그룹은 남은 인원으로 정족수가 불가능해질 때)
+ * - 선택 결재선은 결재자가 결재할 수 없는 상태(비활성/정지)이면 건너뛴다
+ * - 위임된 결재선은 위임받은 사용자가 결재한다 (결재선에 기록된 위임이 없으면 지금 유효한 위임 규칙을 따른다)
+ */
+final class ApprovalRoute {
+    
+    private final List<List<ApprovalLine>> groups;
+    
+    // 결재자 ID -> 지금 그 결재를 처리할 사용자 ID (위임 규칙이 없으면 그대로)
+    private final UnaryOperator<Long> delegation;
+    
+    private ApprovalRoute(List<List<ApprovalLine>> groups, UnaryOperator<Long> delegation) {
+        this.groups = groups;
+        this.delegation = delegation;
+    }
+    
+    static ApprovalRoute of(ApprovalDocument document, UnaryOperator<Long> delegation) {
+        Map<Integer, List<ApprovalLine>> byOrder = new TreeMap<>();
+        for (ApprovalLine line : document.getApprovalLines()) {
+            if (isRouted(line.getApprovalType())) {
+                byOrder.computeIfAbsent(line.getOrderSeq(), order -> new ArrayList<>()).add(line);
+            }
+        }
+        return new ApprovalRoute(List.copyOf(byOrder.values()), delegation);
+    }
+    
+    boolean isEmpty() {
+        return groups.isEmpty();
+    }
+    
+    /**
+     * 현재 차례인 그룹의 대기 결재선 (모두 끝났으면 빈 목록)
+     */
+    List<ApprovalLine> current() {
+        for (List<ApprovalLine> group : groups) {
+            if (!isPassed(group)) {
+                return pendingOf(group);
+            }
+        }
+        return List.of();
+    }
+    
+    /**
+     * 정족수를 채운 그룹의 남은 대기 결재선을 SKIPPED로 닫고,
+     * 다음 차례 그룹을 활성화해 그 대기 결재선을 돌려준다 (모두 끝났으면 빈 목록)
+     * 이번에 SKIPPED로 닫은 결재선은 skipped에 담는다 (이력 기록용)
+     */
+    List<ApprovalLine> advance(LocalDateTime now, List<ApprovalLine> skipped) {
+        for (List<ApprovalLine> group : groups) {
+            for (ApprovalLine line : group) {
+                if (line.getStatus() == ApprovalStatus.PENDING
+                        && Boolean.TRUE.equals(line.getIsOptional()) && !canAct(line)) {
+                    line.setStatus(ApprovalStatus.SKIPPED);
+                    skipped.add(line);
+                }
+            }
+            
+            List<ApprovalLine> pending = pendingOf(group);
+            if (isPassed(group)) {
+                pending.forEach(line -> line.setStatus(ApprovalStatus.SKIPPED));
+                skipped.addAll(pending);
+                continue;
+            }
+            
+            for (ApprovalLine line : pending) {
+                if (line.getActivatedAt() == null) {
+                    line.setActivatedAt(now);
+                }
+            }
+            return pending;
+        }
+        return List.of();
+    }
+    
+    /**
+     * 결재선이 속한 그룹이 아직 정족수를 채울 수 있는지 - 남은 대기 결재선이 모두 승인하면 통과하는 경우
+     */
+    boolean canStillPass(ApprovalLine line) {
+        for (List<ApprovalLine> group : groups) {
+            if (!group.contains(line)) {
+                continue;
+            }
+            int members = 0;
+            int reachable = 0;
+            for (ApprovalLine member : group) {
+                if (member.getStatus() == ApprovalStatus.SKIPPED) {
+                    continue;
+                }
+                members++;
+                if (member.getStatus() == ApprovalStatus.APPROVED || member.getStatus() == ApprovalStatus.PENDING) {
+                    reachable++;
+                }
+            }
+            return reachable >= group.get(0).getQuorumRule().required(members);
+        }
+        return false;
+    }
+    
+    /**
+     * 결재선을 지금 처리할 사용자 ID - 기록된 위임, 유효한 위임 규칙, 결재자 순으로 정한다
+     */
+    Long actorIdOf(ApprovalLine line) {
+        if (line.getDelegatedTo() != null) {
+            return line.getDelegatedTo().getUserId();
+        }
+        return delegation.apply(line.getApprover().getUserId());
+    }
+    
+    boolean isDelegated(ApprovalLine line) {
+        return !actorIdOf(line).equals(line.getApprover().getUserId());
+    }
+    
+    static User actorOf(ApprovalLine line) {
+        return line.getDelegatedTo() != null ? line.getDelegatedTo() : line.getApprover();
+    }
+    
+    static boolean isRouted(ApprovalType approvalType) {
+        return approvalType == ApprovalType.APPROVAL || approvalType == ApprovalType.AGREEMENT;
+    }
+    
+    /**
+     * 그룹 통과 여부 - 건너뛴 결재선을 뺀 참여 인원 기준으로 정족수를 채웠는지
+     */
+    private static boolean isPassed(List<ApprovalLine> group) {
+        int members = 0;
+        int approved = 0;
+        for (ApprovalLine line : group) {
+            if (line.getStatus() == ApprovalStatus.SKIPPED) {
+                continue;
+            }
+            members++;
+            if (line.getStatus() == ApprovalStatus.APPROVED) {
+                approved++;
+            }
+        }
+        return approved >= group.get(0).getQuorumRule().required(members);
+    }
+    
+    private static List<ApprovalLine> pendingOf(List<ApprovalLine> group) {
+        return group.stream()
+                .filter(line -> line.getStatus() == ApprovalStatus.PENDING)
+                .toList();
+    }
+    
+    /**
+     * 결재할 수 있는지 - 위임 규칙으로 대신 처리할 사용자가 있으면 결재자가 부재여도 결재할 수 있다
+     */
+    private boolean canAct(ApprovalLine line) {
+        if (line.getDelegatedTo() == null && isDelegated(line)) {
+            return true;
+        }
+        User actor = actorOf(line);
+        return actor.getStatus() != UserStatus.INACTIVE && actor.getStatus() != UserStatus.SUSPENDED;
+    }
+}
\ No newline at end of file
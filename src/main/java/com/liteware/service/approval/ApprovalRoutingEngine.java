@@ -0,0 +1,362 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.dto.BulkApprovalResult;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.model.entity.approval.ApprovalEvent;
+import com.liteware.model.entity.approval.ApprovalEventType;
+import com.liteware.model.entity.approval.ApprovalLine;
+import com.liteware.model.entity.approval.ApprovalOutboxEvent;
+import com.liteware.model.entity.approval.DocumentStatus;
+import com.liteware.repository.UserRepository;
+import com.liteware.repository.approval.ApprovalDocumentRepository;
+import com.liteware.repository.approval.ApprovalOutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 결재 진행 상태 전이
+ * 문서와 결재선(결재자/위임자 포함)을 한 번에 읽어 ApprovalRoute로 다음 결재자를 계산하고,
+ * 결재선/문서 변경은 엔티티에만 반영해 커밋 시 한 번의 flush로 함께 저장한다 (개별 save/조회 없음).
+ * 상태: DRAFT -상신-> PENDING -마지막 그룹 통과-> APPROVED, PENDING -반려-> REJECTED
+ * 병렬 그룹의 결재자들이 동시에 처리하면 문서/결재선 버전(@Version)이 먼저 커밋한 한 건만 통과시키고,
+ * 나머지는 최신 상태를 다시 읽어 재시도한다 (갱신 유실이나 그룹 중복 진행 없음).
+ * 결재할 사용자는 처리 시점에 위임 규칙 색인(ApprovalDelegationIndex)을 조회해 정한다.
+ * 양식별 후처리와 알림은 직접 실행하지 않고 같은 트랜잭션에 아웃박스 이벤트로 남기며,
+ * ApprovalOutboxDispatcher가 커밋 후 따로 처리한다. 전이마다 결재 이력(ApprovalEvent)도 모아서 한 번에 저장한다.
+ */
+@Slf4j
+@Service
+public class ApprovalRoutingEngine {
+    
+    private final ApprovalDocumentRepository documentRepository;
+    private final ApprovalOutboxEventRepository outboxRepository;
+    private final ApprovalEventService eventService;
+    private final ApprovalDelegationIndex delegationIndex;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${app.approval.max-retries:3}")
+    private int maxRetries;
+    
+    @Value("${app.approval.bulk-max-size:100}")
+    private int bulkMaxSize;
+    
+    public ApprovalRoutingEngine(ApprovalDocumentRepository documentRepository,
+                                 ApprovalOutboxEventRepository outboxRepository,
+                                 ApprovalEventService eventService,
+                                 ApprovalDelegationIndex delegationIndex,
+                                 UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.outboxRepository = outboxRepository;
+        this.eventService = eventService;
+        this.delegationIndex = delegationIndex;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * 상신 - 첫 그룹의 결재자들에게 차례를 넘긴다
+     */
+    public ApprovalDocument submit(Long docId) {
+        return withRetry(docId, () -> {
+            ApprovalDocument document = load(docId);
+            
+            if (document.getStatus() != DocumentStatus.DRAFT) {
+                throw new RuntimeException("임시저장 상태의 문서만 상신할 수 있습니다");
+            }
+            
+            if (document.getApprovalLines().isEmpty()) {
+                throw new RuntimeException("결재선이 설정되지 않았습니다");
+            }
+            
+            LocalDateTime now = LocalDateTime.now();
+            ApprovalRoute route = route(document, now);
+            List<ApprovalLine> skipped = new ArrayList<>();
+            List<ApprovalLine> first = route.advance(now, skipped);
+            if (first.isEmpty()) {
+                throw new RuntimeException("결재할 결재자가 없습니다");
+            }
+            
+            List<ApprovalOutboxEvent> events = new ArrayList<>();
+            List<ApprovalEvent> history = new ArrayList<>();
+            document.setStatus(DocumentStatus.PENDING);
+            document.setLastProcessedAt(now);
+            handOver(document, route, first, events);
+            history.add(ApprovalEvent.of(document, ApprovalEventType.SUBMITTED,
+                    document.getDrafter().getUserId(), null, null));
+            recordSkipped(document, skipped, history);
+            outboxRepository.saveAll(events);
+            eventService.record(history);
+            
+            log.info("Document submitted: {}", document.getDocNumber());
+            return document;
+        });
+    }
+    
+    /**
+     * 승인 - 현재 그룹의 결재자 본인 또는 위임받은 사용자
+     * @param delegatedOnly true면 위임받은 사용자만 처리할 수 있다 (대리 결재)
+     */
+    public ApprovalDocument approve(Long docId, Long actorId, String comment, boolean delegatedOnly) {
+        return withRetry(docId, () -> {
+            ApprovalDocument document = load(docId);
+            ApprovalRoute route = route(document, LocalDateTime.now());
+            ApprovalLine line = approvableLine(document, route, actorId, delegatedOnly);
+            
+            List<ApprovalOutboxEvent> events = new ArrayList<>();
+            List<ApprovalEvent> history = new ArrayList<>();
+            applyApproval(document, route, line, comment, events, history);
+            outboxRepository.saveAll(events);
+            eventService.record(history);
+            return document;
+        });
+    }
+    
+    /**
+     * 반려 - 남은 결재자가 모두 승인해도 그룹의 정족수를 채울 수 없게 되면 문서를 반려로 종료하고,
+     * 아직 채울 수 있으면(ANY/MAJORITY 그룹) 결재선에 반려 의견만 남기고 나머지 결재자를 기다린다
+     */
+    public ApprovalDocument reject(Long docId, Long actorId, String reason) {
+        return withRetry(docId, () -> {
+            ApprovalDocument document = load(docId);
+            ApprovalRoute route = route(document, LocalDateTime.now());
+            ApprovalLine line = rejectableLine(document, route, actorId);
+            
+            List<ApprovalOutboxEvent> events = new ArrayList<>();
+            List<ApprovalEvent> history = new ArrayList<>();
+            applyRejection(document, route, line, reason, events, history);
+            outboxRepository.saveAll(events);
+            eventService.record(history);
+            return document;
+        });
+    }
+    
+    /**
+     * 일괄 승인/반려 - 문서와 결재선을 한 번에 읽어 모두 검증한 뒤 통과한 문서만 한 트랜잭션에서 처리한다
+     * 결재선/문서 UPDATE와 이벤트 INSERT는 커밋 시 JDBC 배치로 묶여 전송된다.
+     * 검증에 실패한 문서는 건너뛰고 사유를 결과에 담으며, 처리 도중 오류가 나면 전체를 되돌린다.
+     * @return 요청한 순서대로의 문서별 결과 (중복 ID는 한 번만 처리)
+     */
+    public List<BulkApprovalResult> processAll(List<Long> docIds, Long actorId, boolean approve, String comment) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(docIds));
+        if (ids.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 문서는 최대 " + bulkMaxSize + "건입니다");
+        }
+        
+        return withRetry(ids, () -> {
+            Map<Long, ApprovalDocument> documents = new HashMap<>();
+            for (ApprovalDocument document : documentRepository.findDetailByIdIn(ids)) {
+                documents.put(document.getDocId(), document);
+            }
+            
+            // 1단계: 변경 없이 전부 검증
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, ApprovalRoute> routes = new HashMap<>();
+            Map<Long, ApprovalLine> lines = new LinkedHashMap<>();
+            List<BulkApprovalResult> results = new ArrayList<>();
+            for (Long docId : ids) {
+                ApprovalDocument document = documents.get(docId);
+                if (document == null) {
+                    results.add(BulkApprovalResult.failed(docId, "문서를 찾을 수 없습니다"));
+                    continue;
+                }
+                try {
+                    ApprovalRoute route = route(document, now);
+                    lines.put(docId, approve
+                            ? approvableLine(document, route, actorId, false)
+                            : rejectableLine(document, route, actorId));
+                    routes.put(docId, route);
+                    results.add(null);
+                } catch (RuntimeException e) {
+                    results.add(BulkApprovalResult.failed(docId, e.getMessage()));
+                }
+            }
+            
+            // 2단계: 통과한 문서에 상태 전이 적용, 후속 처리 이벤트는 모아서 한 번에 저장
+            List<ApprovalOutboxEvent> events = new ArrayList<>();
+            List<ApprovalEvent> history = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                ApprovalLine line = lines.get(ids.get(i));
+                if (line == null) {
+                    continue;
+                }
+                ApprovalDocument document = documents.get(ids.get(i));
+                ApprovalRoute route = routes.get(ids.get(i));
+                if (approve) {
+                    applyApproval(document, route, line, comment, events, history);
+                } else {
+                    applyRejection(document, route, line, comment, events, history);
+                }
+                results.set(i, BulkApprovalResult.processed(document));
+            }
+            outboxRepository.saveAll(events);
+            eventService.record(history);
+            
+            log.info("Bulk {} by user {}: {} of {} documents processed",
+                    approve ? "approval" : "rejection", actorId, lines.size(), ids.size());
+            return results;
+        });
+    }
+    
+    /**
+     * 상태 전이를 자체 트랜잭션으로 실행하고, 동시 처리와 버전이 충돌하면 최신 상태로 다시 실행한다
+     * 이미 트랜잭션 안에서 호출되면 그 트랜잭션에 참여하고 재시도는 호출한 쪽에 맡긴다
+     */
+    private <T> T withRetry(Object target, Supplier<T> transition) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transition.get();
+        }
+        
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> transition.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt > maxRetries) {
+                    throw new RuntimeException("다른 사용자가 동시에 처리 중입니다. 잠시 후 다시 시도해주세요", e);
+                }
+                log.debug("Concurrent approval on document {}, retrying ({}/{})", target, attempt, maxRetries);
+            }
+        }
+    }
+    
+    private ApprovalDocument load(Long docId) {
+        return documentRepository.findDetailById(docId)
+                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다"));
+    }
+    
+    /**
+     * 결재 순서표 - 결재선에 기록된 위임이 없으면 지금 유효한 위임 규칙으로 처리할 사용자를 정한다
+     */
+    private ApprovalRoute route(ApprovalDocument document, LocalDateTime now) {
+        return ApprovalRoute.of(document, approverId -> delegationIndex.resolve(approverId, now));
+    }
+    
+    private ApprovalLine approvableLine(ApprovalDocument document, ApprovalRoute route, Long actorId,
+                                        boolean delegatedOnly) {
+        if (document.getStatus() != DocumentStatus.PENDING) {
+            throw new RuntimeException("진행중인 문서만 결재할 수 있습니다");
+        }
+        return activeLineOf(route, actorId, delegatedOnly);
+    }
+    
+    private ApprovalLine rejectableLine(ApprovalDocument document, ApprovalRoute route, Long actorId) {
+        if (document.getStatus() != DocumentStatus.PENDING) {
+            throw new RuntimeException("진행중인 문서만 반려할 수 있습니다");
+        }
+        return activeLineOf(route, actorId, false);
+    }
+    
+    private void applyApproval(ApprovalDocument document, ApprovalRoute route, ApprovalLine line, String comment,
+                               List<ApprovalOutboxEvent> events, List<ApprovalEvent> history) {
+        recordDelegation(document, route, line, history);
+        User actor = ApprovalRoute.actorOf(line);
+        line.approve(line.getDelegatedTo() != null
+                ? (comment != null ? comment : "") + " (대리결재: " + actor.getName() + ")"
+                : comment);
+        
+        LocalDateTime now = LocalDateTime.now();
+        document.setLastProcessedAt(now);
+        
+        List<ApprovalLine> skipped = new ArrayList<>();
+        List<ApprovalLine> next = route.advance(now, skipped);
+        if (next.isEmpty()) {
+            complete(document, DocumentStatus.APPROVED);
+            events.add(ApprovalOutboxEvent.documentApproved(document.getDocId()));
+        } else if (next.get(0).getOrderSeq().equals(line.getOrderSeq())) {
+            // 같은 그룹의 남은 결재자를 기다린다 (이미 알림을 받은 상태)
+            document.setCurrentApprover(userRepository.getReferenceById(route.actorIdOf(next.get(0))));
+        } else {
+            handOver(document, route, next, events);
+        }
+        history.add(ApprovalEvent.of(document, ApprovalEventType.APPROVED, route.actorIdOf(line), line, comment));
+        recordSkipped(document, skipped, history);
+        
+        log.info("Document approved by {}: {}", actor.getName(), document.getDocNumber());
+    }
+    
+    private void applyRejection(ApprovalDocument document, ApprovalRoute route, ApprovalLine line, String reason,
+                                List<ApprovalOutboxEvent> events, List<ApprovalEvent> history) {
+        recordDelegation(document, route, line, history);
+        line.reject(reason);
+        
+        document.setLastProcessedAt(LocalDateTime.now());
+        if (route.canStillPass(line)) {
+            // ANY/MAJORITY 그룹은 남은 결재자만으로 정족수를 채울 수 있으면 반려 의견만 남기고 기다린다
+            document.setCurrentApprover(userRepository.getReferenceById(route.actorIdOf(route.current().get(0))));
+        } else {
+            complete(document, DocumentStatus.REJECTED);
+            events.add(ApprovalOutboxEvent.documentRejected(document.getDocId(), reason));
+        }
+        history.add(ApprovalEvent.of(document, ApprovalEventType.REJECTED, route.actorIdOf(line), line, reason));
+        
+        log.info("Document rejected by {}: {}", ApprovalRoute.actorOf(line).getName(), document.getDocNumber());
+    }
+    
+    private ApprovalLine activeLineOf(ApprovalRoute route, Long actorId, boolean delegatedOnly) {
+        List<ApprovalLine> active = route.current();
+        if (active.isEmpty()) {
+            throw new RuntimeException("현재 결재 순서가 아닙니다");
+        }
+        
+        for (ApprovalLine line : active) {
+            if (route.actorIdOf(line).equals(actorId) && (!delegatedOnly || route.isDelegated(line))) {
+                return line;
+            }
+        }
+        
+        throw new RuntimeException(delegatedOnly ? "대리 결재 권한이 없습니다" : "현재 결재 순서가 아닙니다");
+    }
+    
+    /**
+     * 위임 규칙에 따라 대신 처리하는 경우 처리한 사용자를 결재선에 남긴다
+     */
+    private void recordDelegation(ApprovalDocument document, ApprovalRoute route, ApprovalLine line,
+                                  List<ApprovalEvent> history) {
+        if (line.getDelegatedTo() == null && route.isDelegated(line)) {
+            line.delegate(userRepository.getReferenceById(route.actorIdOf(line)));
+            history.add(ApprovalEvent.delegated(document, line, route.actorIdOf(line)));
+        }
+    }
+    
+    /**
+     * 정족수 충족이나 선택 결재선 규칙으로 건너뛴 결재선을 한 건씩 남긴다 (재생 시 결재선 상태를 복원하도록)
+     */
+    private void recordSkipped(ApprovalDocument document, List<ApprovalLine> skipped, List<ApprovalEvent> history) {
+        for (ApprovalLine line : skipped) {
+            history.add(ApprovalEvent.of(document, ApprovalEventType.SKIPPED, null, line, null));
+        }
+    }
+    
+    /**
+     * 새로 활성화된 그룹의 결재자(위임 중이면 대리 결재자) 전원에게 결재 요청 이벤트를 남기고, 첫 결재자를 대표 현재 결재자로 둔다
+     */
+    private void handOver(ApprovalDocument document, ApprovalRoute route, List<ApprovalLine> group,
+                          List<ApprovalOutboxEvent> events) {
+        document.setCurrentApprover(userRepository.getReferenceById(route.actorIdOf(group.get(0))));
+        for (ApprovalLine line : group) {
+            events.add(ApprovalOutboxEvent.approvalRequested(document.getDocId(), route.actorIdOf(line)));
+        }
+    }
+    
+    private void complete(ApprovalDocument document, DocumentStatus status) {
+        document.setStatus(status);
+        document.setCurrentApprover(null);
+        document.setCompletedAt(LocalDateTime.now());
+    }
+}
\ No newline at end of file
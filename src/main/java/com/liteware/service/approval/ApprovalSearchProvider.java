@@ -0,0 +1,30 @@
+package com.liteware.service.approval;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 결재 문서 전문 검색 (제목, 본문, 양식 데이터)
+ * DB 종류별로 해당 DB의 전문 검색 색인을 쓰는 구현을 두고, ApprovalSearchService가 현재 데이터소스에 맞는 것을 고른다.
+ */
+public interface ApprovalSearchProvider {
+    
+    /**
+     * 이 구현이 해당 DB(DatabaseMetaData#getDatabaseProductName)를 지원하는지
+     */
+    boolean supports(String databaseProductName);
+    
+    /**
+     * 검색에 필요한 색인 준비 (이미 있으면 그대로 둔다)
+     */
+    void prepare();
+    
+    /**
+     * 관련도 높은 순(같으면 최신 문서 먼저)으로 삭제되지 않은 문서 ID 한 페이지와 전체 건수
+     */
+    Hits search(String keyword, Pageable pageable);
+    
+    record Hits(List<Long> docIds, long total) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.repository.approval.ApprovalDocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결재 문서 검색
+ * 현재 데이터소스의 DB 종류로 전문 검색 구현(MySQL ngram FULLTEXT, PostgreSQL tsvector, 그 외 부분 일치)을 고르고,
+ * 관련도 순으로 받은 문서 ID를 목록용 그래프로 한 번에 읽어 같은 순서의 페이지로 돌려준다.
+ */
+@Slf4j
+@Service
+public class ApprovalSearchService {
+    
+    private final ApprovalDocumentRepository documentRepository;
+    private final LikeApprovalSearchProvider fallbackProvider;
+    private volatile ApprovalSearchProvider provider;
+    
+    public ApprovalSearchService(ApprovalDocumentRepository documentRepository,
+                                 List<ApprovalSearchProvider> providers,
+                                 LikeApprovalSearchProvider fallbackProvider,
+                                 DataSource dataSource) {
+        this.documentRepository = documentRepository;
+        this.fallbackProvider = fallbackProvider;
+        this.provider = select(providers, databaseProductName(dataSource));
+    }
+    
+    /**
+     * 기동 시 검색 색인 준비 - 만들 수 없으면(권한 등) 부분 일치 검색으로 대신한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        try {
+            provider.prepare();
+        } catch (RuntimeException e) {
+            log.error("Failed to prepare approval search index with {}, falling back to {}",
+                    provider.getClass().getSimpleName(), fallbackProvider.getClass().getSimpleName(), e);
+            provider = fallbackProvider;
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public Page<ApprovalDocument> search(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            return Page.empty(pageable);
+        }
+        
+        ApprovalSearchProvider.Hits hits = provider.search(keyword.trim(), pageable);
+        if (hits.docIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+        
+        Map<Long, Integer> rank = new HashMap<>();
+        for (Long docId : hits.docIds()) {
+            rank.put(docId, rank.size());
+        }
+        List<ApprovalDocument> documents = documentRepository.findSummaryByIdIn(hits.docIds()).stream()
+                .sorted(Comparator.comparing(document -> rank.get(document.getDocId())))
+                .toList();
+        return new PageImpl<>(documents, pageable, hits.total());
+    }
+    
+    ApprovalSearchProvider provider() {
+        return provider;
+    }
+    
+    static ApprovalSearchProvider select(List<ApprovalSearchProvider> providers, String databaseProductName) {
+        ApprovalSearchProvider selected = providers.stream()
+                .filter(candidate -> candidate.supports(databaseProductName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("사용할 수 있는 결재 검색 구현이 없습니다"));
+        log.info("Approval search on {} uses {}", databaseProductName, selected.getClass().getSimpleName());
+        return selected;
+    }
+    
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not read database product name, using partial-match approval search", e);
+            return "";
+        }
+    }
+}
\ No newline at end of file
@@ -2,24 +2,26 @@ package com.liteware.service.approval;
 
 import com.liteware.model.dto.ApprovalDocumentDto;
 import com.liteware.model.dto.ApprovalLineDto;
+import com.liteware.model.dto.BulkApprovalResult;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.approval.*;
 import com.liteware.repository.UserRepository;
 import com.liteware.repository.approval.ApprovalAttachmentRepository;
+import com.liteware.repository.approval.ApprovalDelegationRepository;
 import com.liteware.repository.approval.ApprovalDocumentRepository;
 import com.liteware.repository.approval.ApprovalLineRepository;
 import com.liteware.repository.approval.LeaveRequestRepository;
 import com.liteware.service.leave.AnnualLeaveService;
-import com.liteware.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -46,9 +48,14 @@ public class ApprovalService {
     private final ApprovalAttachmentRepository attachmentRepository;
     private final LeaveRequestRepository leaveRequestRepository;
     private final UserRepository userRepository;
-    private final ApprovalWorkflowService workflowService;
     private final AnnualLeaveService annualLeaveService;
-    private final NotificationService notificationService;
+    private final ApprovalRoutingEngine routingEngine;
+    private final ApprovalDelegationRepository delegationRepository;
+    private final ApprovalDelegationIndex delegationIndex;
+    private final DocumentNumberService documentNumberService;
+    private final ApprovalSearchService searchService;
+    private final ApprovalFormFieldService formFieldService;
+    private final ApprovalEventService eventService;
     
     @Value("${file.upload-dir:./uploads}")
     private String uploadPath;
@@ -61,28 +68,36 @@ public class ApprovalService {
         return documentRepository.findAll(pageable);
     }
     
+    @Transactional(readOnly = true)
     public Page<ApprovalDocument> getPendingDocuments(Long approverId, Pageable pageable) {
-        List<ApprovalDocument> pendingDocs = getPendingDocuments(approverId);
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), pendingDocs.size());
-        
-        if (start > pendingDocs.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, pendingDocs.size());
-        }
-        
-        return new PageImpl<>(pendingDocs.subList(start, end), pageable, pendingDocs.size());
+        return documentRepository.findPageByActiveApproverId(approverId, approversHandledBy(approverId),
+                DocumentStatus.PENDING, latestFirst(pageable));
     }
     
+    @Transactional(readOnly = true)
     public Page<ApprovalDocument> getDraftedDocuments(Long drafterId, Pageable pageable) {
-        List<ApprovalDocument> draftedDocs = getDraftedDocuments(drafterId);
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), draftedDocs.size());
-        
-        if (start > draftedDocs.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, draftedDocs.size());
+        return documentRepository.findPageByDrafterId(drafterId, latestFirst(pageable));
+    }
+    
+    @Transactional(readOnly = true)
+    public Page<ApprovalDocument> getReferencedDocuments(Long userId, Pageable pageable) {
+        return documentRepository.findPageByReferenceUserId(userId, latestFirst(pageable));
+    }
+    
+    @Transactional(readOnly = true)
+    public long countDraftedDocuments(Long drafterId) {
+        return documentRepository.countByDrafterId(drafterId);
+    }
+    
+    /**
+     * 정렬 조건이 없으면 최신 문서 순으로 정렬
+     */
+    private Pageable latestFirst(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
         }
-        
-        return new PageImpl<>(draftedDocs.subList(start, end), pageable, draftedDocs.size());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "createdAt"));
     }
     
     public long getApprovedCount(Long userId) {
@@ -98,6 +113,7 @@ public class ApprovalService {
                 .orElseThrow(() -> new RuntimeException("기안자를 찾을 수 없습니다"));
         
         ApprovalDocument document = ApprovalDocument.builder()
+                .docNumber(documentNumberService.next(dto.getDocType()))
                 .docType(dto.getDocType())
                 .title(dto.getTitle())
                 .content(dto.getContent())
@@ -107,7 +123,10 @@ public class ApprovalService {
                 .urgency(dto.getUrgency())
                 .build();
         
-        return documentRepository.save(document);
+        document = documentRepository.save(document);
+        formFieldService.index(document);
+        eventService.record(List.of(ApprovalEvent.of(document, ApprovalEventType.DRAFTED, drafter.getUserId(), null, null)));
+        return document;
     }
     
     @Transactional
@@ -133,6 +152,7 @@ public class ApprovalService {
                     .approver(approver)
                     .approvalType(dto.getApprovalType())
                     .orderSeq(dto.getOrderSeq())
+                    .quorumRule(dto.getQuorumRule() != null ? dto.getQuorumRule() : QuorumRule.ALL)
                     .status(ApprovalStatus.PENDING)
                     .isOptional(dto.getIsOptional() != null ? dto.getIsOptional() : false)
                     .build();
@@ -141,6 +161,16 @@ public class ApprovalService {
             document.addApprovalLine(line);
         }
         
+        // 같은 순서(병렬 그룹)의 결재선은 통과 조건이 같아야 한다
+        boolean mixedQuorum = lines.stream()
+                .collect(Collectors.groupingBy(ApprovalLine::getOrderSeq,
+                        Collectors.mapping(ApprovalLine::getQuorumRule, Collectors.toSet())))
+                .values().stream()
+                .anyMatch(rules -> rules.size() > 1);
+        if (mixedQuorum) {
+            throw new RuntimeException("같은 순서의 결재선은 같은 승인 조건을 가져야 합니다");
+        }
+        
         // 결재선 저장
         List<ApprovalLine> savedLines = approvalLineRepository.saveAll(lines);
         
@@ -152,130 +182,32 @@ public class ApprovalService {
         return savedLines;
     }
     
+    // 상신/승인/반려는 RoutingEngine이 트랜잭션을 직접 열고 버전 충돌 시 재시도한다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ApprovalDocument submitDocument(Long docId) {
-        ApprovalDocument document = documentRepository.findByIdWithApprovalLines(docId)
-                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다"));
-        
-        if (document.getStatus() != DocumentStatus.DRAFT) {
-            throw new RuntimeException("임시저장 상태의 문서만 상신할 수 있습니다");
-        }
-        
-        if (document.getApprovalLines().isEmpty()) {
-            throw new RuntimeException("결재선이 설정되지 않았습니다");
-        }
-        
-        ApprovalLine firstLine = approvalLineRepository.findByDocumentAndOrderSeq(document, 1)
-                .orElseThrow(() -> new RuntimeException("첫 번째 결재자를 찾을 수 없습니다"));
-        
-        document.setStatus(DocumentStatus.PENDING);
-        // draftedAt은 @CreationTimestamp로 자동 설정되므로 제거
-        document.setCurrentApprover(firstLine.getApprover());
-        
-        ApprovalDocument savedDocument = documentRepository.save(document);
-        
-        // 승인자에게 알림 전송
-        notificationService.createApprovalRequestNotification(
-            firstLine.getApprover().getUserId(),
-            savedDocument.getDocId(),
-            savedDocument.getTitle()
-        );
-        
-        log.info("Document submitted: {}", savedDocument.getDocNumber());
-        
-        return savedDocument;
+        return routingEngine.submit(docId);
     }
     
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ApprovalDocument approveDocument(Long docId, Long approverId, String comment) {
-        ApprovalDocument document = documentRepository.findById(docId)
-                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다"));
-        
-        User approver = userRepository.findById(approverId)
-                .orElseThrow(() -> new RuntimeException("결재자를 찾을 수 없습니다"));
-        
-        if (document.getStatus() != DocumentStatus.PENDING) {
-            throw new RuntimeException("진행중인 문서만 결재할 수 있습니다");
-        }
-        
-        if (document.getCurrentApprover() == null || 
-            !document.getCurrentApprover().getUserId().equals(approverId)) {
-            throw new RuntimeException("현재 결재 순서가 아닙니다");
-        }
-        
-        ApprovalLine currentLine = approvalLineRepository.findByDocumentAndApprover(document, approver)
-                .orElseThrow(() -> new RuntimeException("결재선에서 결재자를 찾을 수 없습니다"));
-        
-        currentLine.approve(comment);
-        approvalLineRepository.save(currentLine);
-        
-        Integer nextOrder = currentLine.getOrderSeq() + 1;
-        ApprovalLine nextLine = approvalLineRepository.findByDocumentAndOrderSeq(document, nextOrder)
-                .orElse(null);
-        
-        if (nextLine != null) {
-            document.setCurrentApprover(nextLine.getApprover());
-            // 다음 결재자에게 알림 전송
-            notificationService.createApprovalRequestNotification(
-                nextLine.getApprover().getUserId(),
-                document.getDocId(),
-                document.getTitle()
-            );
-        } else {
-            document.setStatus(DocumentStatus.APPROVED);
-            document.setCurrentApprover(null);
-            document.setCompletedAt(LocalDateTime.now());
-            workflowService.onDocumentApproved(document);
-            // 기안자에게 승인 완료 알림
-            notificationService.createApprovalCompletedNotification(
-                document.getDrafter().getUserId(),
-                document.getDocId(),
-                document.getTitle(),
-                true
-            );
-        }
-        
-        log.info("Document approved by {}: {}", approver.getName(), document.getDocNumber());
-        
-        return documentRepository.save(document);
+        return routingEngine.approve(docId, approverId, comment, false);
     }
     
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ApprovalDocument rejectDocument(Long docId, Long approverId, String reason) {
-        ApprovalDocument document = documentRepository.findById(docId)
-                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다"));
-        
-        User approver = userRepository.findById(approverId)
-                .orElseThrow(() -> new RuntimeException("결재자를 찾을 수 없습니다"));
-        
-        if (document.getStatus() != DocumentStatus.PENDING) {
-            throw new RuntimeException("진행중인 문서만 반려할 수 있습니다");
-        }
-        
-        if (!document.getCurrentApprover().getUserId().equals(approverId)) {
-            throw new RuntimeException("현재 결재 순서가 아닙니다");
+        return routingEngine.reject(docId, approverId, reason);
+    }
+    
+    /**
+     * 일괄 승인/반려 - 문서별 처리 결과를 돌려준다
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<BulkApprovalResult> processDocuments(List<Long> docIds, Long approverId,
+                                                     ApprovalStatus action, String comment) {
+        if (action != ApprovalStatus.APPROVED && action != ApprovalStatus.REJECTED) {
+            throw new IllegalArgumentException("승인 또는 반려만 일괄 처리할 수 있습니다");
         }
-        
-        ApprovalLine currentLine = approvalLineRepository.findByDocumentAndApprover(document, approver)
-                .orElseThrow(() -> new RuntimeException("결재선에서 결재자를 찾을 수 없습니다"));
-        
-        currentLine.reject(reason);
-        approvalLineRepository.save(currentLine);
-        
-        document.setStatus(DocumentStatus.REJECTED);
-        document.setCurrentApprover(null);
-        document.setCompletedAt(LocalDateTime.now());
-        
-        workflowService.onDocumentRejected(document, reason);
-        
-        // 기안자에게 반려 알림
-        notificationService.createApprovalCompletedNotification(
-            document.getDrafter().getUserId(),
-            document.getDocId(),
-            document.getTitle(),
-            false
-        );
-        
-        log.info("Document rejected by {}: {}", approver.getName(), document.getDocNumber());
-        
-        return documentRepository.save(document);
+        return routingEngine.processAll(docIds, approverId, action == ApprovalStatus.APPROVED, comment);
     }
     
     public ApprovalDocument cancelDocument(Long docId, Long userId) {
@@ -296,6 +228,7 @@ public class ApprovalService {
         document.setStatus(DocumentStatus.CANCELLED);
         document.setCurrentApprover(null);
         document.setCompletedAt(LocalDateTime.now());
+        eventService.record(List.of(ApprovalEvent.of(document, ApprovalEventType.CANCELLED, userId, null, null)));
         
         log.info("Document cancelled by drafter: {}", document.getDocNumber());
         
@@ -304,9 +237,12 @@ public class ApprovalService {
     
     @Transactional(readOnly = true)
     public ApprovalDocument getDocument(Long docId) {
-        // EAGER 페칭으로 모든 연관 엔티티가 자동으로 로드됨
-        return documentRepository.findById(docId)
+        // 결재선은 상세 graph로 함께 조회하고, 첨부파일/참조자는 트랜잭션 안에서 한 번씩 초기화
+        ApprovalDocument document = documentRepository.findDetailById(docId)
                 .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다"));
+        Hibernate.initialize(document.getAttachments());
+        Hibernate.initialize(document.getReferences());
+        return document;
     }
     
     public ApprovalDocument updateDocument(ApprovalDocument document) {
@@ -314,7 +250,9 @@ public class ApprovalService {
             throw new RuntimeException("기안 상태의 문서만 수정할 수 있습니다");
         }
         
-        return documentRepository.save(document);
+        document = documentRepository.save(document);
+        formFieldService.index(document);
+        return document;
     }
     
     @Transactional(readOnly = true)
@@ -322,7 +260,8 @@ public class ApprovalService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        return documentRepository.findByCurrentApproverAndStatus(user, DocumentStatus.PENDING);
+        return documentRepository.findByActiveApproverId(user.getUserId(), approversHandledBy(user.getUserId()),
+                DocumentStatus.PENDING);
     }
     
     @Transactional(readOnly = true)
@@ -333,84 +272,90 @@ public class ApprovalService {
         return documentRepository.findByDrafter(user);
     }
     
-    public void delegateApproval(Long fromUserId, Long toUserId, LocalDateTime startDate, LocalDateTime endDate) {
-        User fromUser = userRepository.findById(fromUserId)
+    /**
+     * 결재 위임 등록 - 기간 동안 fromUser에게 오는 결재(이미 차례가 온 문서 포함)를 toUser가 대신 처리한다
+     * 문서를 고쳐 쓰지 않고 위임 규칙만 저장하며, 결재자는 처리/조회 시점에 규칙을 적용해 정한다.
+     * 위임자 행을 잠근 뒤 DB에서 기간 중복을 검사해, 여러 서버에서 동시에 등록해도 기간이 겹치지 않는다.
+     */
+    public ApprovalDelegation delegateApproval(Long fromUserId, Long toUserId, LocalDateTime startDate, LocalDateTime endDate) {
+        User fromUser = userRepository.findByIdForUpdate(fromUserId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         User toUser = userRepository.findById(toUserId)
                 .orElseThrow(() -> new RuntimeException("대리 결재자를 찾을 수 없습니다"));
         
-        List<ApprovalDocument> pendingDocuments = documentRepository
-                .findByCurrentApproverAndStatus(fromUser, DocumentStatus.PENDING);
-        
-        for (ApprovalDocument document : pendingDocuments) {
-            List<ApprovalLine> lines = approvalLineRepository.findByDocument(document);
-            for (ApprovalLine line : lines) {
-                if (line.getApprover().equals(fromUser) && 
-                    line.getStatus() == ApprovalStatus.PENDING) {
-                    line.setDelegatedTo(toUser);
-                    line.setDelegatedAt(LocalDateTime.now());
-                    approvalLineRepository.save(line);
-                    
-                    if (document.getCurrentApprover().equals(fromUser)) {
-                        document.setCurrentApprover(toUser);
-                        documentRepository.save(document);
-                    }
-                }
-            }
+        if (fromUserId.equals(toUserId)) {
+            throw new RuntimeException("본인에게 위임할 수 없습니다");
+        }
+        
+        if (startDate == null || endDate == null || !startDate.isBefore(endDate)) {
+            throw new RuntimeException("위임 종료 일시는 시작 일시 이후여야 합니다");
+        }
+        
+        if (delegationRepository.existsOverlapping(fromUserId, startDate, endDate)) {
+            throw new RuntimeException("기간이 겹치는 위임이 이미 있습니다");
         }
         
-        log.info("Delegated approval from {} to {} for period {} to {}", 
+        ApprovalDelegation delegation = delegationRepository.save(ApprovalDelegation.builder()
+                .delegator(fromUser)
+                .delegate(toUser)
+                .startAt(startDate)
+                .endAt(endDate)
+                .build());
+        delegationIndex.register(delegation);
+        
+        log.info("Approval delegated from {} to {} for period {} to {}",
                 fromUser.getName(), toUser.getName(), startDate, endDate);
+        return delegation;
     }
     
-    public ApprovalDocument approveDelegatedDocument(Long docId, Long delegateUserId, String comment) {
-        ApprovalDocument document = documentRepository.findById(docId)
-                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다"));
-        
-        User delegateUser = userRepository.findById(delegateUserId)
-                .orElseThrow(() -> new RuntimeException("대리 결재자를 찾을 수 없습니다"));
+    /**
+     * 결재 위임 해제 - 지금부터 위임되지 않는다 (시작 전이면 취소)
+     */
+    public void revokeDelegation(Long delegationId, Long userId) {
+        ApprovalDelegation delegation = delegationRepository.findById(delegationId)
+                .orElseThrow(() -> new RuntimeException("위임 정보를 찾을 수 없습니다"));
         
-        if (document.getStatus() != DocumentStatus.PENDING) {
-            throw new RuntimeException("진행중인 문서만 결재할 수 있습니다");
+        if (!delegation.getDelegator().getUserId().equals(userId)) {
+            throw new RuntimeException("위임한 사용자만 해제할 수 있습니다");
         }
         
-        ApprovalLine currentLine = approvalLineRepository
-                .findByDocumentAndDelegatedTo(document, delegateUser)
-                .orElseThrow(() -> new RuntimeException("대리 결재 권한이 없습니다"));
-        
-        currentLine.approve(comment + " (대리결재: " + delegateUser.getName() + ")");
-        approvalLineRepository.save(currentLine);
-        
-        Integer nextOrder = currentLine.getOrderSeq() + 1;
-        ApprovalLine nextLine = approvalLineRepository
-                .findByDocumentAndOrderSeq(document, nextOrder)
-                .orElse(null);
-        
-        if (nextLine != null) {
-            document.setCurrentApprover(nextLine.getApprover());
-        } else {
-            document.setStatus(DocumentStatus.APPROVED);
-            document.setCurrentApprover(null);
-            document.setCompletedAt(LocalDateTime.now());
-            workflowService.onDocumentApproved(document);
+        LocalDateTime now = LocalDateTime.now();
+        if (!delegation.getEndAt().isAfter(now)) {
+            return;
         }
         
-        log.info("Document approved by delegate {}: {}", delegateUser.getName(), document.getDocNumber());
+        ApprovalDelegationIndex.Window before = ApprovalDelegationIndex.Window.of(delegation);
+        delegation.setEndAt(delegation.getStartAt().isAfter(now) ? delegation.getStartAt() : now);
+        delegationIndex.replace(before, delegation);
         
-        return documentRepository.save(document);
+        log.info("Approval delegation {} revoked by user {}", delegationId, userId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ApprovalDelegation> getDelegations(Long userId) {
+        return delegationRepository.findByDelegatorId(userId);
+    }
+    
+    /**
+     * 사용자가 지금 처리하는 결재자 (위임 중이 아니면 본인 + 사용자에게 위임 중인 위임자)
+     */
+    private List<Long> approversHandledBy(Long userId) {
+        return delegationIndex.approversHandledBy(userId, LocalDateTime.now());
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ApprovalDocument approveDelegatedDocument(Long docId, Long delegateUserId, String comment) {
+        return routingEngine.approve(docId, delegateUserId, comment, true);
     }
     
     @Transactional(readOnly = true)
     public Page<ApprovalDocument> searchDocuments(String keyword, Pageable pageable) {
-        return documentRepository.searchDocuments(keyword, pageable);
+        return searchService.search(keyword, pageable);
     }
     
     @Transactional(readOnly = true)
     public Long countPendingDocuments(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        
-        return documentRepository.countPendingDocuments(user);
+        return documentRepository.countPendingByApproverId(userId, approversHandledBy(userId));
     }
     
     @Transactional(readOnly = true)
@@ -444,7 +389,9 @@ public class ApprovalService {
         document.setFormData(dto.getFormData());
         document.setUrgency(dto.getUrgency());
         
-        return documentRepository.save(document);
+        document = documentRepository.save(document);
+        formFieldService.index(document);
+        return document;
     }
     
     /**
@@ -0,0 +1,114 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.entity.approval.DocumentNumberCounter;
+import com.liteware.model.entity.approval.DocumentType;
+import com.liteware.repository.approval.DocumentNumberCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결재 문서번호 발급 (예: LV-20261017-000123 = 유형-일자-일련번호)
+ * 유형/일자별 카운터에서 block-size개씩 번호 구간을 한 번의 UPDATE로 예약해 두고 메모리에서 차례로 발급한다.
+ * - 예약은 별도 트랜잭션이라 문서 저장이 롤백되어도 번호가 되돌아가지 않는다 (빈 번호 허용)
+ * - 서버마다 서로 다른 구간을 예약하므로 여러 서버에서도 번호가 겹치지 않는다
+ * - 문서 저장마다 카운터 행을 잠그지 않는다 (구간을 다 쓸 때만 DB 접근)
+ */
+@Slf4j
+@Service
+public class DocumentNumberService {
+    
+    private static final String DEFAULT_PREFIX = "DOC";
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+    
+    private final DocumentNumberCounterRepository counterRepository;
+    private final TransactionTemplate reserveTransaction;
+    
+    @Value("${app.approval.doc-number-block-size:100}")
+    private long blockSize;
+    
+    // 카운터 키(유형-일자) -> 이 서버가 예약해 둔 구간
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+    
+    public DocumentNumberService(DocumentNumberCounterRepository counterRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 오늘 날짜의 다음 문서번호
+     */
+    public String next(DocumentType docType) {
+        return next(docType, LocalDate.now());
+    }
+    
+    String next(DocumentType docType, LocalDate date) {
+        String counterKey = (docType != null ? docType.getNumberPrefix() : DEFAULT_PREFIX)
+                + "-" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+        
+        Block block = blocks.get(counterKey);
+        if (block == null) {
+            // 날짜가 바뀌면 지난 날짜의 남은 구간은 버린다
+            String day = counterKey.substring(counterKey.indexOf('-'));
+            blocks.keySet().removeIf(key -> !key.endsWith(day));
+            block = blocks.computeIfAbsent(counterKey, key -> new Block());
+        }
+        
+        long value;
+        synchronized (block) {
+            if (block.next >= block.end) {
+                long end = reserve(counterKey);
+                block.next = end - blockSize;
+                block.end = end;
+            }
+            value = block.next++;
+        }
+        return String.format("%s-%06d", counterKey, value);
+    }
+    
+    /**
+     * 번호 구간 예약 - 카운터가 없으면 1번부터 시작하는 카운터를 만든다
+     * @return 예약한 구간의 끝 (미포함)
+     */
+    private long reserve(String counterKey) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long end = reserveTransaction.execute(status -> {
+                    if (counterRepository.reserve(counterKey, blockSize) > 0) {
+                        return counterRepository.findNextValue(counterKey);
+                    }
+                    long first = 1 + blockSize;
+                    // 새 엔티티로 INSERT - 다른 서버가 먼저 만들었으면 기본키 충돌로 실패해 UPDATE로 다시 예약한다
+                    counterRepository.saveAndFlush(DocumentNumberCounter.builder()
+                            .counterKey(counterKey)
+                            .nextValue(first)
+                            .build());
+                    return first;
+                });
+                log.debug("Reserved document numbers {} [{}, {})", counterKey, end - blockSize, end);
+                return end;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 같은 카운터를 먼저 만든 경우 - 다시 UPDATE로 예약
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw new RuntimeException("문서번호를 발급할 수 없습니다: " + counterKey, e);
+                }
+            }
+        }
+    }
+    
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+}
\ No newline at end of file
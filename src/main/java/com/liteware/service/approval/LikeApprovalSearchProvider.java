@@ -0,0 +1,69 @@
+package com.liteware.service.approval;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 전문 검색 색인이 없는 DB(H2 등)용 부분 일치 검색
+ * 색인을 쓰지 못하므로 소규모/개발 환경용이며, 제목 > 본문 > 양식 데이터 순으로 일치한 곳에 점수를 준다.
+ * 다른 구현이 DB를 지원하지 않거나 색인 준비에 실패하면 이 구현을 쓴다.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LikeApprovalSearchProvider implements ApprovalSearchProvider {
+    
+    private static final String SCORE = "(CASE WHEN LOWER(title) LIKE :pattern ESCAPE '\\' THEN 4 ELSE 0 END + " +
+            "CASE WHEN LOWER(content) LIKE :pattern ESCAPE '\\' THEN 2 ELSE 0 END + " +
+            "CASE WHEN LOWER(form_data) LIKE :pattern ESCAPE '\\' THEN 1 ELSE 0 END)";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public boolean supports(String databaseProductName) {
+        return true;
+    }
+    
+    @Override
+    public void prepare() {
+        // 준비할 색인 없음
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Hits search(String keyword, Pageable pageable) {
+        String pattern = containsPattern(keyword);
+        
+        List<Number> ids = entityManager.createNativeQuery(
+                        "SELECT doc_id FROM approval_documents " +
+                        "WHERE is_deleted = false AND " + SCORE + " > 0 " +
+                        "ORDER BY " + SCORE + " DESC, doc_id DESC")
+                .setParameter("pattern", pattern)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        
+        Number total = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM approval_documents WHERE is_deleted = false AND " + SCORE + " > 0")
+                .setParameter("pattern", pattern)
+                .getSingleResult();
+        
+        return new Hits(ids.stream().map(Number::longValue).toList(), total.longValue());
+    }
+    
+    /**
+     * 소문자로 바꾼 키워드를 포함하는지 보는 LIKE 패턴 (와일드카드 문자는 '\'로 이스케이프)
+     */
+    static String containsPattern(String keyword) {
+        return "%" + keyword.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
\ No newline at end of file
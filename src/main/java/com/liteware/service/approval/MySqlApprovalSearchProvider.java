@@ -0,0 +1,71 @@
+package com.liteware.service.approval;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL 전문 검색 - ngram 파서 FULLTEXT 색인과 MATCH ... AGAINST 점수
+ * ngram 파서는 띄어쓰기 없는 한글도 ngram_token_size(기본 2) 단위로 나눠 색인한다.
+ */
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class MySqlApprovalSearchProvider implements ApprovalSearchProvider {
+    
+    private static final String INDEX_NAME = "ft_approval_documents";
+    private static final String MATCH = "MATCH(title, content, form_data) AGAINST (:keyword IN NATURAL LANGUAGE MODE)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "MySQL".equalsIgnoreCase(databaseProductName);
+    }
+    
+    @Override
+    public void prepare() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'approval_documents' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        
+        log.info("Creating full-text index {} on approval_documents", INDEX_NAME);
+        jdbcTemplate.execute("ALTER TABLE approval_documents ADD FULLTEXT INDEX " + INDEX_NAME +
+                " (title, content, form_data) WITH PARSER ngram");
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Hits search(String keyword, Pageable pageable) {
+        List<Number> ids = entityManager.createNativeQuery(
+                        "SELECT doc_id FROM approval_documents " +
+                        "WHERE is_deleted = false AND " + MATCH + " " +
+                        "ORDER BY " + MATCH + " DESC, doc_id DESC")
+                .setParameter("keyword", keyword)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        
+        Number total = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM approval_documents WHERE is_deleted = false AND " + MATCH)
+                .setParameter("keyword", keyword)
+                .getSingleResult();
+        
+        return new Hits(ids.stream().map(Number::longValue).toList(), total.longValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.liteware.service.approval;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostgreSQL 전문 검색 - tsvector 식 GIN 색인과 ts_rank 점수
+ * 한국어 사전이 없으므로 'simple' 설정을 쓰고, 제목(A)을 본문(B)과 양식 데이터(C)보다 높게 가중한다.
+ * 검색 조건의 tsvector 식은 색인 식과 글자까지 같아야 색인을 탄다.
+ * 'simple' 설정은 공백 단위 어절만 토큰으로 만들어 "회의실"로 "회의"를 찾지 못하므로,
+ * 한글이 들어간 검색어는 pg_trgm 트라이그램 GIN 색인을 타는 부분 일치(ILIKE)로 검색하고
+ * 점수는 LikeApprovalSearchProvider와 같이 제목 > 본문 > 양식 데이터 순으로 준다.
+ * (pg_trgm 확장을 만들 권한이 없으면 색인 없이 같은 부분 일치로 검색한다)
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class PostgresApprovalSearchProvider implements ApprovalSearchProvider {
+    
+    private static final String INDEX_NAME = "idx_approval_documents_fts";
+    private static final String DOCUMENT = "(setweight(to_tsvector('simple', coalesce(title, '')), 'A') || " +
+            "setweight(to_tsvector('simple', coalesce(content, '')), 'B') || " +
+            "setweight(to_tsvector('simple', coalesce(form_data, '')), 'C'))";
+    private static final String QUERY = "plainto_tsquery('simple', :keyword)";
+    
+    private static final String TRIGRAM_INDEX_NAME = "idx_approval_documents_trgm";
+    // 부분 일치 검색 대상 - 트라이그램 색인 식과 글자까지 같아야 색인을 탄다
+    private static final String TEXT = "(coalesce(title, '') || ' ' || coalesce(content, '') || ' ' || " +
+            "coalesce(form_data, ''))";
+    private static final String PARTIAL_SCORE = "(CASE WHEN title ILIKE :pattern ESCAPE '\\' THEN 4 ELSE 0 END + " +
+            "CASE WHEN content ILIKE :pattern ESCAPE '\\' THEN 2 ELSE 0 END + " +
+            "CASE WHEN form_data ILIKE :pattern ESCAPE '\\' THEN 1 ELSE 0 END)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "PostgreSQL".equalsIgnoreCase(databaseProductName);
+    }
+    
+    @Override
+    public void prepare() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + INDEX_NAME +
+                " ON approval_documents USING GIN (" + DOCUMENT + ")");
+        
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + TRIGRAM_INDEX_NAME +
+                    " ON approval_documents USING GIN (" + TEXT + " gin_trgm_ops)");
+        } catch (RuntimeException e) {
+            // 한글 검색어만 색인 없이 부분 일치로 검색한다
+            log.warn("Could not create trigram index {}, Korean approval search will scan", TRIGRAM_INDEX_NAME, e);
+        }
+    }
+    
+    @Override
+    public Hits search(String keyword, Pageable pageable) {
+        return containsHangul(keyword) ? searchPartial(keyword, pageable) : searchFullText(keyword, pageable);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Hits searchFullText(String keyword, Pageable pageable) {
+        List<Number> ids = entityManager.createNativeQuery(
+                        "SELECT doc_id FROM approval_documents " +
+                        "WHERE is_deleted = false AND " + DOCUMENT + " @@ " + QUERY + " " +
+                        "ORDER BY ts_rank(" + DOCUMENT + ", " + QUERY + ") DESC, doc_id DESC")
+                .setParameter("keyword", keyword)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        
+        Number total = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM approval_documents " +
+                        "WHERE is_deleted = false AND " + DOCUMENT + " @@ " + QUERY)
+                .setParameter("keyword", keyword)
+                .getSingleResult();
+        
+        return new Hits(ids.stream().map(Number::longValue).toList(), total.longValue());
+    }
+    
+    /**
+     * 한글 검색어 - 어절 일부만 입력해도 찾도록 부분 일치로 검색
+     */
+    @SuppressWarnings("unchecked")
+    private Hits searchPartial(String keyword, Pageable pageable) {
+        String pattern = LikeApprovalSearchProvider.containsPattern(keyword);
+        
+        List<Number> ids = entityManager.createNativeQuery(
+                        "SELECT doc_id FROM approval_documents " +
+                        "WHERE is_deleted = false AND " + TEXT + " ILIKE :pattern ESCAPE '\\' " +
+                        "ORDER BY " + PARTIAL_SCORE + " DESC, doc_id DESC")
+                .setParameter("pattern", pattern)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        
+        Number total = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM approval_documents " +
+                        "WHERE is_deleted = false AND " + TEXT + " ILIKE :pattern ESCAPE '\\'")
+                .setParameter("pattern", pattern)
+                .getSingleResult();
+        
+        return new Hits(ids.stream().map(Number::longValue).toList(), total.longValue());
+    }
+    
+    static boolean containsHangul(String keyword) {
+        return keyword.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL);
+    }
+}
\ No newline at end of file
@@ -1,27 +1,46 @@
 package com.liteware.service.board;
 
+import com.liteware.common.PageCounter;
 import com.liteware.model.dto.BoardDto;
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CountedPage;
+import com.liteware.model.dto.CursorPage;
 import com.liteware.model.dto.PostDto;
 import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.dto.PostSummaryDto;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.board.Board;
+import com.liteware.model.entity.board.LikeTargetType;
 import com.liteware.model.entity.board.Post;
+import com.liteware.model.entity.draft.DraftTargetType;
 import com.liteware.repository.UserRepository;
 import com.liteware.repository.board.BoardRepository;
 import com.liteware.repository.board.PostRepository;
 import com.liteware.repository.board.PostRepositoryCustom;
+import com.liteware.service.draft.DraftAutosaveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,6 +51,16 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostViewCountService postViewCountService;
+    private final LikeService likeService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostTrendingService postTrendingService;
+    private final NoticeCacheService noticeCacheService;
+    private final PageCounter pageCounter;
+    private final DraftAutosaveService draftAutosaveService;
+    
+    @Value("${board.search.max-results:1000}")
+    private int maxRankedResults;
     
     public Board createBoard(BoardDto dto) {
         if (boardRepository.existsByBoardCode(dto.getBoardCode())) {
@@ -66,15 +95,23 @@ public class BoardService {
         Post post = Post.builder()
                 .board(board)
                 .title(dto.getTitle())
-                .content(dto.getContent())
                 .writer(writer)
                 .isNotice(dto.getIsNotice() != null ? dto.getIsNotice() : false)
                 .isSecret(dto.getIsSecret() != null ? dto.getIsSecret() : false)
                 .noticeStartDate(dto.getNoticeStartDate())
                 .noticeEndDate(dto.getNoticeEndDate())
                 .build();
+        applyContent(post, dto.getContent());
+        
+        Post savedPost = postRepository.save(post);
+        postSearchIndexService.reindexAfterCommit(savedPost.getPostId());
+        // 등록된 글의 임시저장본은 더 이상 필요 없음
+        draftAutosaveService.discard(writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId());
+        if (Boolean.TRUE.equals(savedPost.getIsNotice())) {
+            noticeCacheService.invalidate(board.getBoardId());
+        }
         
-        return postRepository.save(post);
+        return savedPost;
     }
     
     public Post updatePost(Long postId, PostDto dto, Long userId) {
@@ -88,8 +125,10 @@ public class BoardService {
             throw new RuntimeException("작성자만 수정할 수 있습니다");
         }
         
+        boolean wasNotice = Boolean.TRUE.equals(post.getIsNotice());
+        
         post.setTitle(dto.getTitle());
-        post.setContent(dto.getContent());
+        applyContent(post, dto.getContent());
         if (dto.getIsNotice() != null) {
             post.setIsNotice(dto.getIsNotice());
         }
@@ -99,7 +138,14 @@ public class BoardService {
         post.setNoticeStartDate(dto.getNoticeStartDate());
         post.setNoticeEndDate(dto.getNoticeEndDate());
         
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        postSearchIndexService.reindexAfterCommit(postId);
+        draftAutosaveService.discard(userId, DraftTargetType.POST, postId);
+        if (wasNotice || Boolean.TRUE.equals(savedPost.getIsNotice())) {
+            noticeCacheService.invalidate(post.getBoard().getBoardId());
+        }
+        
+        return savedPost;
     }
     
     public void deletePost(Long postId, Long userId) {
@@ -114,20 +160,26 @@ public class BoardService {
         }
         
         postRepository.delete(post);
+        postViewCountService.discardAfterCommit(postId);
+        likeService.removeTarget(LikeTargetType.POST, postId);
+        postTrendingService.removeAfterCommit(post.getBoard().getBoardId(), postId);
+        postSearchIndexService.removeAfterCommit(postId);
+        if (Boolean.TRUE.equals(post.getIsNotice())) {
+            noticeCacheService.invalidate(post.getBoard().getBoardId());
+        }
     }
     
-    @Transactional
+    @Transactional(readOnly = true)
     public Post getPost(Long postId) {
         Post post = postRepository.findByIdWithBoardAndWriter(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다"));
         
-        post.incrementViewCount();
-        postRepository.save(post);
+        countView(post);
         
         return post;
     }
     
-    @Transactional
+    @Transactional(readOnly = true)
     public Post getPost(Long postId, Long userId) {
         Post post = postRepository.findByIdWithBoardAndWriter(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다"));
@@ -139,12 +191,30 @@ public class BoardService {
             throw new RuntimeException("비밀글은 작성자만 조회할 수 있습니다");
         }
         
-        post.incrementViewCount();
-        postRepository.save(post);
+        countView(post);
         
         return post;
     }
     
+    /**
+     * 본문과 함께 목록용 미리보기/본문 길이를 작성 시점에 계산해 둔다 (목록은 본문 테이블을 읽지 않음)
+     */
+    private void applyContent(Post post, String content) {
+        post.setContent(content);
+        post.setExcerpt(PostExcerpts.of(content));
+        post.setContentLength(content != null ? content.length() : 0);
+    }
+    
+    /**
+     * 조회수는 메모리에 누적했다가 PostViewCountService가 일괄 반영 (응답에는 아직 반영되지 않은 조회수/좋아요 증감분을 더해 보여준다)
+     */
+    private void countView(Post post) {
+        postViewCountService.increment(post.getPostId());
+        post.applyPendingViewCount(postViewCountService.getPendingCount(post.getPostId()));
+        post.applyPendingLikeCount(likeService.getPendingCount(LikeTargetType.POST, post.getPostId()));
+        postTrendingService.recordView(post);
+    }
+    
     @Transactional(readOnly = true)
     public Page<Post> getPostsByBoard(Long boardId, Pageable pageable) {
         log.info("getPostsByBoard");
@@ -154,11 +224,116 @@ public class BoardService {
         return postRepository.findByBoardAndIsDeletedFalse(board, pageable);
     }
     
+    /**
+     * 게시판별 게시글 목록 (목록용 프로젝션)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> getPostSummariesByBoard(Long boardId, Pageable pageable) {
+        return getPostSummariesByBoard(boardId, pageable, CountMode.EXACT);
+    }
+    
+    /**
+     * 게시판별 게시글 목록 (전체 건수 계산 방식 지정)
+     */
+    @Transactional(readOnly = true)
+    public CountedPage<PostSummaryDto> getPostSummariesByBoard(Long boardId, Pageable pageable, CountMode countMode) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new RuntimeException("게시판을 찾을 수 없습니다");
+        }
+        
+        List<PostSummaryDto> posts = postRepository.findSummaryListByBoardId(boardId, pageable);
+        return pageCounter.toPage(posts, pageable, countMode, List.of("board", boardId), PageCounter.CountQuery.of(
+                () -> postRepository.countActiveByBoardId(boardId),
+                limit -> postRepository.findActiveIdsByBoardId(boardId, PageRequest.of(0, limit)).size()));
+    }
+    
+    /**
+     * 커서 기반 게시글 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param includeTotal false면 COUNT 쿼리를 생략한다
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryDto> getPostsByBoardCursor(Long boardId, String cursor, int size, boolean includeTotal) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new RuntimeException("게시판을 찾을 수 없습니다");
+        }
+        
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostSummaryDto> posts;
+        if (StringUtils.hasText(cursor)) {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = new ArrayList<>(postRepository.findPageByBoardAfter(boardId, position.isNotice(),
+                    position.getCreatedAt(), position.getPostId(), limit));
+            // 공지 구간이 페이지 안에서 끝나면 일반글 구간을 처음부터 이어 읽는다
+            if (position.isNotice() && posts.size() <= size) {
+                posts.addAll(postRepository.findSegmentByBoard(boardId, false,
+                        PageRequest.of(0, size + 1 - posts.size())));
+            }
+        } else {
+            posts = postRepository.findFirstPageByBoard(boardId, limit);
+        }
+        
+        boolean hasNext = posts.size() > size;
+        List<PostSummaryDto> content = hasNext ? posts.subList(0, size) : posts;
+        
+        return CursorPage.<PostSummaryDto>builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? PostCursor.encode(content.get(content.size() - 1)) : null)
+                .size(content.size())
+                .totalElements(includeTotal ? postRepository.countActiveByBoardId(boardId) : null)
+                .build();
+    }
+    
     @Transactional(readOnly = true)
     public Page<Post> searchPosts(String keyword, Pageable pageable) {
         return postRepository.searchPosts(keyword, pageable);
     }
     
+    /**
+     * 검색 방식을 지정한 게시글 검색
+     * RANKED는 검색 색인의 점수순으로 정렬되며, 검색어가 비어 있으면 LIKE 검색으로 처리한다
+     */
+    @Transactional(readOnly = true)
+    public Page<Post> searchPosts(String keyword, PostSearchCriteria.SearchMode searchMode, Pageable pageable) {
+        if (searchMode != PostSearchCriteria.SearchMode.RANKED || !StringUtils.hasText(keyword)) {
+            return searchPosts(keyword, pageable);
+        }
+        
+        return toRankedPage(rankedIds(keyword), pageable,
+                postRepository::findAllWithWriterByPostIdIn, Post::getPostId);
+    }
+    
+    /**
+     * 게시글 검색 (목록용 프로젝션)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> searchPostSummaries(String keyword, PostSearchCriteria.SearchMode searchMode,
+                                                    Pageable pageable) {
+        if (searchMode != PostSearchCriteria.SearchMode.RANKED || !StringUtils.hasText(keyword)) {
+            return postRepository.searchSummaries(keyword, pageable);
+        }
+        
+        return toRankedPage(rankedIds(keyword), pageable,
+                postRepository::findSummariesByPostIdIn, PostSummaryDto::getPostId);
+    }
+    
+    /**
+     * 게시글 검색 (목록용 프로젝션, 전체 건수 계산 방식 지정)
+     * 검색어를 고급 검색 조건(제목+내용)으로 바꿔 같은 경로에서 건수 방식을 적용한다
+     */
+    @Transactional(readOnly = true)
+    public CountedPage<PostSummaryDto> searchPostSummaries(String keyword, PostSearchCriteria.SearchMode searchMode,
+                                                           Pageable pageable, CountMode countMode) {
+        PostSearchCriteria criteria = PostSearchCriteria.builder()
+                .keyword(keyword)
+                .searchField(PostSearchCriteria.SearchField.ALL)
+                .searchMode(searchMode)
+                .build();
+        return advancedSearchSummaries(criteria, pageable, countMode);
+    }
+    
     /**
      * 고급 검색 기능
      * @param criteria 검색 조건
@@ -168,9 +343,111 @@ public class BoardService {
     @Transactional(readOnly = true)
     public Page<Post> advancedSearch(PostSearchCriteria criteria, Pageable pageable) {
         log.info("Advanced search with criteria: {}", criteria);
+        if (isRanked(criteria)) {
+            return toRankedPage(rankedIds(criteria), pageable,
+                    postRepository::findAllWithWriterByPostIdIn, Post::getPostId);
+        }
         return postRepository.searchWithCriteria(criteria, pageable);
     }
     
+    /**
+     * 고급 검색 (목록용 프로젝션)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> advancedSearchSummaries(PostSearchCriteria criteria, Pageable pageable) {
+        log.info("Advanced search with criteria: {}", criteria);
+        if (isRanked(criteria)) {
+            return toRankedPage(rankedIds(criteria), pageable,
+                    postRepository::findSummariesByPostIdIn, PostSummaryDto::getPostId);
+        }
+        return postRepository.searchSummariesWithCriteria(criteria, pageable);
+    }
+    
+    /**
+     * 고급 검색 (목록용 프로젝션, 전체 건수 계산 방식 지정)
+     * 랭킹 모드는 조건을 모두 적용한 결과 ID 목록으로 건수를 이미 알고 있으므로 EXACT이고,
+     * 결과가 최대 결과 수를 넘어 잘렸으면 CAPPED로 표시한다
+     */
+    @Transactional(readOnly = true)
+    public CountedPage<PostSummaryDto> advancedSearchSummaries(PostSearchCriteria criteria, Pageable pageable,
+                                                               CountMode countMode) {
+        if (isRanked(criteria)) {
+            log.info("Advanced search with criteria: {}", criteria);
+            return toRankedPage(rankedIds(criteria), pageable,
+                    postRepository::findSummariesByPostIdIn, PostSummaryDto::getPostId);
+        }
+        
+        log.info("Advanced search with criteria: {} (count mode {})", criteria, countMode);
+        List<PostSummaryDto> posts = postRepository.findSummariesWithCriteria(criteria, pageable);
+        return pageCounter.toPage(posts, pageable, countMode, List.of("post-search", criteria.toString()),
+                PageCounter.CountQuery.of(
+                        () -> postRepository.countWithCriteria(criteria),
+                        limit -> postRepository.countWithCriteriaUpTo(criteria, limit)));
+    }
+    
+    private boolean isRanked(PostSearchCriteria criteria) {
+        return criteria.getSearchMode() == PostSearchCriteria.SearchMode.RANKED
+                && StringUtils.hasText(criteria.getKeyword());
+    }
+    
+    /**
+     * 점수순 ID 목록 - 잘렸는지 알 수 있도록 최대 결과 수보다 한 건 더 가져온다
+     */
+    private List<Long> rankedIds(String keyword) {
+        return postSearchIndexService.search(keyword,
+                PostSearchIndexService.IndexField.of(PostSearchCriteria.SearchField.ALL), null, maxRankedResults + 1);
+    }
+    
+    /**
+     * 색인에서 점수순 후보를 모두 얻어 나머지 조건을 DB에서 걸러낸 뒤 최대 결과 수로 자른다
+     * (먼저 자르면 점수가 낮은 일치 게시글이 조건 검사 전에 빠진다)
+     */
+    private List<Long> rankedIds(PostSearchCriteria criteria) {
+        List<Long> candidateIds = postSearchIndexService.search(criteria.getKeyword(),
+                PostSearchIndexService.IndexField.of(criteria.getSearchField()), criteria.getBoardId(),
+                Integer.MAX_VALUE);
+        
+        Set<Long> matched = new HashSet<>(postRepository.findPostIdsWithCriteria(criteria, candidateIds));
+        return candidateIds.stream()
+                .filter(matched::contains)
+                .limit(maxRankedResults + 1L)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 점수순 ID 목록에서 요청한 페이지만 잘라 한 번에 조회
+     * 목록이 최대 결과 수를 넘으면 상한까지만 페이지로 만들고 전체 건수를 상한값(CAPPED)으로 표시한다
+     */
+    private <T> CountedPage<T> toRankedPage(List<Long> rankedIds, Pageable pageable,
+                                            Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        boolean capped = rankedIds.size() > maxRankedResults;
+        if (capped) {
+            rankedIds = rankedIds.subList(0, maxRankedResults);
+        }
+        CountMode countMode = capped ? CountMode.CAPPED : CountMode.EXACT;
+        
+        if (pageable.isUnpaged()) {
+            pageable = PageRequest.of(0, Math.max(rankedIds.size(), 1));
+        }
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new CountedPage<>(List.of(), pageable, rankedIds.size(), countMode, capped);
+        }
+        
+        Map<Long, T> postsById = loader.apply(pageIds).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        
+        // 색인과 DB 사이에 지워진 게시글은 건너뛴다
+        List<T> posts = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        
+        return new CountedPage<>(posts, pageable, rankedIds.size(), countMode, capped);
+    }
+    
     /**
      * 통계 정보를 포함한 고급 검색
      * @param criteria 검색 조건
@@ -179,8 +456,21 @@ public class BoardService {
      */
     @Transactional(readOnly = true)
     public PostRepositoryCustom.SearchResult advancedSearchWithStats(PostSearchCriteria criteria, Pageable pageable) {
-        log.info("Advanced search with stats for criteria: {}", criteria);
-        return postRepository.searchWithStats(criteria, pageable);
+        return advancedSearchWithStats(criteria, pageable, List.of());
+    }
+    
+    /**
+     * 통계 정보를 포함한 고급 검색 - 게시판별/부서별/일자별 등 GROUP 패싯 포함
+     * @param criteria 검색 조건
+     * @param pageable 페이징 정보
+     * @param groupFacets 함께 집계할 GROUP 패싯 이름
+     * @return 검색 결과 및 통계
+     */
+    @Transactional(readOnly = true)
+    public PostRepositoryCustom.SearchResult advancedSearchWithStats(PostSearchCriteria criteria, Pageable pageable,
+                                                                     Collection<String> groupFacets) {
+        log.info("Advanced search with stats for criteria: {}, facets: {}", criteria, groupFacets);
+        return postRepository.searchWithStats(criteria, pageable, groupFacets);
     }
     
     @Transactional(readOnly = true)
@@ -191,6 +481,14 @@ public class BoardService {
         return postRepository.findByBoardAndIsNoticeOrderByCreatedAtDesc(board, true);
     }
     
+    /**
+     * 게시 중인 공지 목록 (NoticeCacheService 캐시 사용)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<PostSummaryDto> getNoticeSummaries(Long boardId) {
+        return noticeCacheService.getActiveNotices(boardId);
+    }
+    
     @Transactional(readOnly = true)
     public List<Board> getActiveBoards() {
         return boardRepository.findByUseYnOrderBySortOrder(true);
@@ -213,18 +511,40 @@ public class BoardService {
         return postRepository.findByWriter(user, pageable);
     }
     
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> getMyPostSummaries(Long userId, Pageable pageable) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다");
+        }
+        
+        return postRepository.findSummaryByWriterId(userId, pageable);
+    }
+    
     @Transactional(readOnly = true)
     public List<Post> getRecentNotices(int limit) {
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
         return postRepository.findRecentNotices(pageable);
     }
     
+    /**
+     * 전체 게시판의 게시 중인 최근 공지 (NoticeCacheService 캐시 사용)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<PostSummaryDto> getRecentNoticeSummaries(int limit) {
+        return noticeCacheService.getRecentNotices(limit);
+    }
+    
     @Transactional(readOnly = true)
     public List<Post> getRecentPosts(int limit) {
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
         return postRepository.findRecentPosts(pageable);
     }
     
+    @Transactional(readOnly = true)
+    public List<PostSummaryDto> getRecentPostSummaries(int limit) {
+        return postRepository.findRecentSummaries(PageRequest.of(0, limit));
+    }
+    
     @Transactional(readOnly = true)
     public Long countNewPostsToday() {
         LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
@@ -0,0 +1,55 @@
+package com.liteware.service.board;
+
+import com.liteware.repository.board.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * posts.comment_count 보정 작업
+ * 댓글 수는 CommentService가 증분 UPDATE로 유지하지만, 직접 수정한 데이터나 실패한 배치 등으로
+ * 실제 활성 댓글 수와 어긋날 수 있으므로 게시글 ID 구간별로 다시 세어 다른 값만 고친다.
+ */
+@Slf4j
+@Service
+public class CommentCountReconciliationService {
+    
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${board.comment-count.reconcile-batch-size:1000}")
+    private int reconcileBatchSize;
+    
+    public CommentCountReconciliationService(PostRepository postRepository,
+                                             PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * 전체 게시글의 댓글 수 보정 (구간마다 별도 트랜잭션)
+     * @return 보정된 게시글 수
+     */
+    public int reconcile() {
+        Long maxPostId = postRepository.findMaxPostId();
+        if (maxPostId == null) {
+            return 0;
+        }
+        
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxPostId; fromId += reconcileBatchSize) {
+            long toId = fromId + reconcileBatchSize - 1;
+            long from = fromId;
+            Integer updated = transactionTemplate.execute(status ->
+                    postRepository.reconcileCommentCounts(from, toId));
+            repaired += updated != null ? updated : 0;
+        }
+        
+        if (repaired > 0) {
+            log.warn("Repaired comment counts for {} posts", repaired);
+        }
+        return repaired;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.CommentSummaryDto;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 댓글 스레드 커서: 정렬 키 (created_at, comment_id) 중 마지막 댓글의 값
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로만 노출한다
+ */
+@Getter
+public final class CommentCursor {
+    
+    private static final String DELIMITER = "|";
+    
+    private final LocalDateTime createdAt;
+    private final Long commentId;
+    
+    private CommentCursor(LocalDateTime createdAt, Long commentId) {
+        this.createdAt = createdAt;
+        this.commentId = commentId;
+    }
+    
+    public static String encode(CommentSummaryDto comment) {
+        // DB 컬럼 정밀도(마이크로초)에 맞춰야 같은 시각의 댓글이 comment_id로 정확히 이어진다
+        String raw = comment.getCreatedAt().truncatedTo(ChronoUnit.MICROS) + DELIMITER + comment.getCommentId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static CommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("잘못된 커서입니다");
+        }
+    }
+}
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.liteware.service.board;
 
 import com.liteware.model.dto.CommentDto;
+import com.liteware.model.dto.CommentSummaryDto;
+import com.liteware.model.dto.CursorPage;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.board.Comment;
+import com.liteware.model.entity.board.LikeTargetType;
 import com.liteware.model.entity.board.Post;
 import com.liteware.repository.UserRepository;
 import com.liteware.repository.board.CommentRepository;
@@ -10,10 +13,16 @@ import com.liteware.repository.board.PostRepository;
 import com.liteware.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -25,6 +34,9 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostTrendingService postTrendingService;
+    private final LikeService likeService;
     
     public Comment createComment(CommentDto dto) {
         Post post = postRepository.findById(dto.getPostId())
@@ -53,6 +65,9 @@ public class CommentService {
         }
         
         Comment savedComment = commentRepository.save(comment);
+        postRepository.addCommentCount(post.getPostId(), 1);
+        postSearchIndexService.reindexAfterCommit(post.getPostId());
+        postTrendingService.recordComment(post);
         
         // 게시글 작성자에게 댓글 알림 (본인이 작성한 글에 본인이 댓글을 달면 알림하지 않음)
         if (!post.getWriter().getUserId().equals(writer.getUserId())) {
@@ -93,7 +108,10 @@ public class CommentService {
         
         comment.setContent(content);
         
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        postSearchIndexService.reindexAfterCommit(comment.getPost().getPostId());
+        
+        return savedComment;
     }
     
     public void deleteComment(Long commentId, Long userId) {
@@ -107,12 +125,25 @@ public class CommentService {
             throw new RuntimeException("작성자만 삭제할 수 있습니다");
         }
         
+        // 대댓글이 남아 있어 이미 삭제 표시만 된 댓글은 댓글 수에서 빠져 있다
+        boolean wasActive = !Boolean.TRUE.equals(comment.getIsDeleted());
+        
         if (commentRepository.existsByParentComment(comment)) {
             comment.markAsDeleted();
             commentRepository.save(comment);
         } else {
+            // 게시글의 댓글 컬렉션(cascade)이 로딩되어 있으면 flush 시 삭제가 취소되므로 함께 제거
+            if (Hibernate.isInitialized(comment.getPost().getComments())) {
+                comment.getPost().getComments().remove(comment);
+            }
             commentRepository.delete(comment);
+            likeService.removeTarget(LikeTargetType.COMMENT, commentId);
+        }
+        
+        if (wasActive) {
+            postRepository.addCommentCount(comment.getPost().getPostId(), -1);
         }
+        postSearchIndexService.reindexAfterCommit(comment.getPost().getPostId());
     }
     
     @Transactional(readOnly = true)
@@ -129,6 +160,7 @@ public class CommentService {
         
         // 댓글을 맵에 저장
         for (Comment comment : allComments) {
+            comment.applyPendingLikeCount(likeService.getPendingCount(LikeTargetType.COMMENT, comment.getCommentId()));
             commentMap.put(comment.getCommentId(), comment);
             if (comment.getParentComment() == null) {
                 rootComments.add(comment);
@@ -148,6 +180,73 @@ public class CommentService {
         return rootComments;
     }
     
+    /**
+     * 부모 댓글을 커서 단위로 조회 (오래된 순, 답글은 getReplies로 따로 조회)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentSummaryDto> getCommentThread(Long postId, String cursor, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다");
+        }
+        
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentSummaryDto> roots;
+        if (StringUtils.hasText(cursor)) {
+            CommentCursor position = CommentCursor.decode(cursor);
+            roots = commentRepository.findRootPageAfter(postId, position.getCreatedAt(), position.getCommentId(), limit);
+        } else {
+            roots = commentRepository.findFirstRootPage(postId, limit);
+        }
+        
+        CursorPage<CommentSummaryDto> page = toCursorPage(roots, size);
+        fillReplyCounts(postId, page.getContent());
+        return page;
+    }
+    
+    /**
+     * 부모 댓글의 답글을 커서 단위로 조회 (오래된 순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentSummaryDto> getReplies(Long postId, Long parentCommentId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentSummaryDto> replies;
+        if (StringUtils.hasText(cursor)) {
+            CommentCursor position = CommentCursor.decode(cursor);
+            replies = commentRepository.findReplyPageAfter(postId, parentCommentId,
+                    position.getCreatedAt(), position.getCommentId(), limit);
+        } else {
+            replies = commentRepository.findFirstReplyPage(postId, parentCommentId, limit);
+        }
+        return toCursorPage(replies, size);
+    }
+    
+    private CursorPage<CommentSummaryDto> toCursorPage(List<CommentSummaryDto> comments, int size) {
+        boolean hasNext = comments.size() > size;
+        List<CommentSummaryDto> content = hasNext ? comments.subList(0, size) : comments;
+        
+        return CursorPage.<CommentSummaryDto>builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? CommentCursor.encode(content.get(content.size() - 1)) : null)
+                .size(content.size())
+                .build();
+    }
+    
+    private void fillReplyCounts(Long postId, List<CommentSummaryDto> roots) {
+        if (roots.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, Long> replyCounts = new HashMap<>();
+        List<Long> parentIds = roots.stream().map(CommentSummaryDto::getCommentId).toList();
+        for (Object[] row : commentRepository.countRepliesByParentIds(postId, parentIds)) {
+            replyCounts.put((Long) row[0], (Long) row[1]);
+        }
+        roots.forEach(root -> root.setReplyCount(replyCounts.getOrDefault(root.getCommentId(), 0L)));
+    }
+    
     @Transactional(readOnly = true)
     public Long countCommentsByPost(Long postId) {
         Post post = postRepository.findById(postId)
@@ -161,6 +260,9 @@ public class CommentService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        return commentRepository.findByWriterOrderByCreatedAtDesc(user);
+        List<Comment> comments = commentRepository.findByWriterOrderByCreatedAtDesc(user);
+        comments.forEach(comment -> comment.applyPendingLikeCount(
+                likeService.getPendingCount(LikeTargetType.COMMENT, comment.getCommentId())));
+        return comments;
     }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.liteware.service.board;
+
+import com.google.common.collect.Lists;
+import com.liteware.model.entity.board.BoardLike;
+import com.liteware.model.entity.board.Comment;
+import com.liteware.model.entity.board.LikeTargetType;
+import com.liteware.model.entity.board.Post;
+import com.liteware.repository.board.BoardLikeRepository;
+import com.liteware.repository.board.CommentRepository;
+import com.liteware.repository.board.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글/댓글 좋아요
+ * 누가 무엇을 좋아요 했는지는 board_likes에 기록하고(유니크 제약으로 중복 방지),
+ * like_count는 조회수와 같이 대상별 증감분을 PendingCounter에 모았다가 주기적으로 일괄 UPDATE 한다.
+ * 좋아요/취소는 원하는 상태로 맞추는 방식이라 같은 요청을 반복해도 결과가 같다.
+ */
+@Slf4j
+@Service
+public class LikeService {
+    
+    private final BoardLikeRepository boardLikeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostTrendingService postTrendingService;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${board.like.flush-batch-size:500}")
+    private int flushBatchSize;
+    
+    // 대상 -> 아직 반영되지 않은 좋아요 증감분
+    private final PendingCounter<LikeTarget> pendingCounts = new PendingCounter<>();
+    
+    public LikeService(BoardLikeRepository boardLikeRepository,
+                       PostRepository postRepository,
+                       CommentRepository commentRepository,
+                       PostTrendingService postTrendingService,
+                       PlatformTransactionManager transactionManager) {
+        this.boardLikeRepository = boardLikeRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postTrendingService = postTrendingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * 좋아요 (이미 좋아요 한 상태면 변경 없음)
+     * @return 새로 좋아요 했으면 true
+     */
+    public boolean like(LikeTargetType targetType, Long targetId, Long userId) {
+        Boolean created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                Post post = findLikeablePost(targetType, targetId);
+                if (boardLikeRepository.existsByTargetTypeAndTargetIdAndUserId(targetType, targetId, userId)) {
+                    return false;
+                }
+                boardLikeRepository.saveAndFlush(BoardLike.builder()
+                        .targetType(targetType)
+                        .targetId(targetId)
+                        .userId(userId)
+                        .build());
+                if (post != null) {
+                    postTrendingService.recordLike(post);
+                }
+                return true;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 요청이 먼저 기록한 경우
+            log.debug("Duplicate like ignored: {} {} by user {}", targetType, targetId, userId);
+            return false;
+        }
+        
+        if (!Boolean.TRUE.equals(created)) {
+            return false;
+        }
+        
+        pendingCounts.add(new LikeTarget(targetType, targetId), 1);
+        return true;
+    }
+    
+    /**
+     * 좋아요 취소 (좋아요 하지 않은 상태면 변경 없음)
+     * @return 취소되었으면 true
+     */
+    public boolean unlike(LikeTargetType targetType, Long targetId, Long userId) {
+        Integer deleted = transactionTemplate.execute(status ->
+                boardLikeRepository.deleteByTarget(targetType, targetId, userId));
+        if (deleted == null || deleted == 0) {
+            return false;
+        }
+        
+        pendingCounts.add(new LikeTarget(targetType, targetId), -1);
+        return true;
+    }
+    
+    /**
+     * 좋아요 토글
+     * @return 토글 후 좋아요 상태
+     */
+    public boolean toggle(LikeTargetType targetType, Long targetId, Long userId) {
+        if (unlike(targetType, targetId, userId)) {
+            return false;
+        }
+        like(targetType, targetId, userId);
+        return true;
+    }
+    
+    /**
+     * 좋아요 수 (DB 값 + 아직 반영되지 않은 증감분)
+     */
+    public long getLikeCount(LikeTargetType targetType, Long targetId) {
+        Integer stored = transactionTemplate.execute(status -> targetType == LikeTargetType.POST
+                ? postRepository.findLikeCount(targetId)
+                : commentRepository.findLikeCount(targetId));
+        long count = (stored != null ? stored : 0) + getPendingCount(targetType, targetId);
+        return Math.max(count, 0L);
+    }
+    
+    /**
+     * 주어진 대상 중 사용자가 좋아요 한 대상 ID (목록 화면에서 한 번의 쿼리로 조회)
+     */
+    public Set<Long> getLikedTargetIds(LikeTargetType targetType, Long userId, Collection<Long> targetIds) {
+        if (userId == null || targetIds == null || targetIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> liked = transactionTemplate.execute(status ->
+                boardLikeRepository.findLikedTargetIds(targetType, userId, targetIds));
+        return liked != null ? new HashSet<>(liked) : Set.of();
+    }
+    
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 증감분
+     */
+    public long getPendingCount(LikeTargetType targetType, Long targetId) {
+        return pendingCounts.get(new LikeTarget(targetType, targetId));
+    }
+    
+    /**
+     * 삭제된 대상의 좋아요 기록과 누적분 정리 (호출한 쪽 트랜잭션에 참여)
+     * 누적분은 삭제가 커밋된 뒤에 버린다 (롤백되면 그대로 두고 다음 주기에 반영)
+     */
+    public void removeTarget(LikeTargetType targetType, Long targetId) {
+        transactionTemplate.executeWithoutResult(status -> boardLikeRepository.deleteAllByTarget(targetType, targetId));
+        
+        LikeTarget target = new LikeTarget(targetType, targetId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingCounts.discard(target);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingCounts.discard(target);
+            }
+        });
+    }
+    
+    /**
+     * 누적된 좋아요 증감분을 DB에 반영
+     * @return 반영된 대상 수
+     */
+    public int flush() {
+        // 증감분이 같은 대상끼리 대상 유형별 IN 절 UPDATE 한 번으로 처리
+        int flushed = pendingCounts.flush(targetsByDelta ->
+                transactionTemplate.executeWithoutResult(status ->
+                        targetsByDelta.forEach((delta, targets) -> {
+                            Map<LikeTargetType, List<Long>> idsByType = new EnumMap<>(LikeTargetType.class);
+                            targets.forEach(target -> idsByType
+                                    .computeIfAbsent(target.type(), t -> new ArrayList<>()).add(target.id()));
+                            idsByType.forEach((type, ids) -> Lists.partition(ids, flushBatchSize).forEach(chunk -> {
+                                if (type == LikeTargetType.POST) {
+                                    postRepository.addLikeCount(chunk, delta);
+                                } else {
+                                    commentRepository.addLikeCount(chunk, delta);
+                                }
+                            }));
+                        })));
+        if (flushed > 0) {
+            log.debug("Flushed like counts for {} targets", flushed);
+        }
+        return flushed;
+    }
+    
+    @PreDestroy
+    public void drainOnShutdown() {
+        try {
+            int flushed = flush();
+            log.info("Drained pending like counts on shutdown: {} targets", flushed);
+        } catch (Exception e) {
+            log.error("Failed to drain pending like counts on shutdown", e);
+        }
+    }
+    
+    /**
+     * 좋아요 대상 검증 - 게시글이면 인기 게시글 반영을 위해 게시글을, 댓글이면 null을 돌려준다
+     */
+    private Post findLikeablePost(LikeTargetType targetType, Long targetId) {
+        if (targetType == LikeTargetType.POST) {
+            Post post = postRepository.findById(targetId)
+                    .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다"));
+            if (Boolean.TRUE.equals(post.getIsDeleted())) {
+                throw new RuntimeException("삭제된 게시글입니다");
+            }
+            return post;
+        }
+        
+        Comment comment = commentRepository.findById(targetId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다"));
+        if (Boolean.TRUE.equals(comment.getIsDeleted())) {
+            throw new RuntimeException("삭제된 댓글입니다");
+        }
+        return null;
+    }
+    
+    private record LikeTarget(LikeTargetType type, Long id) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.liteware.service.board;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시판 검색용 n-gram 분석기
+ * 형태소 분석 없이도 한글 복합어의 부분 일치가 되도록 토큰을 bigram으로 자른다.
+ * ("주간회의록" -> 주간, 간회, 회의, 의록)
+ * 한 글자 검색어도 찾을 수 있도록 색인에는 글자 단위 unigram도 함께 넣는다.
+ * (검색어는 두 글자 이상이면 bigram만, 한 글자면 그 글자 하나로 찾는다)
+ */
+final class NGramAnalyzer {
+    
+    static final int GRAM_SIZE = 2;
+    
+    private NGramAnalyzer() {
+    }
+    
+    /**
+     * 색인용 분석: term -> 출현 횟수
+     */
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(text)) {
+            for (String gram : grams(token)) {
+                frequencies.merge(gram, 1, Integer::sum);
+            }
+            if (token.length() > 1) {
+                for (int i = 0; i < token.length(); i++) {
+                    frequencies.merge(String.valueOf(token.charAt(i)), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+    
+    /**
+     * 검색어 분석: 중복을 제거한 term 목록
+     */
+    static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokenize(query)) {
+            terms.addAll(grams(token));
+        }
+        return terms;
+    }
+    
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        
+        // 전각/반각 등 표기 차이를 없애고 소문자로 통일
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                current.append(ch);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+    
+    private static List<String> grams(String token) {
+        if (token.length() <= GRAM_SIZE) {
+            return List.of(token);
+        }
+        
+        List<String> grams = new ArrayList<>(token.length() - GRAM_SIZE + 1);
+        for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
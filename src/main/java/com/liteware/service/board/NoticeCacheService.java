@@ -0,0 +1,145 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.PostSummaryDto;
+import com.liteware.repository.board.BoardRepository;
+import com.liteware.repository.board.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시 중인 공지 캐시
+ * 게시판별 공지 목록과 대시보드용 최근 공지를 메모리에 두고, 공지 글이 작성/수정/삭제되면 비운다.
+ * 캐시 항목은 다음 게시 시작일 또는 게시 종료일 다음 날까지만 유효하므로
+ * 공지 기간이 열리고 닫히는 날에만 다시 조회한다.
+ * 다만 항목에는 조회수/댓글 수/좋아요 수가 함께 들어 있고 다른 서버의 무효화는 전달되지 않으므로,
+ * 날짜 경계와 별도로 최대 수명(board.notice-cache.max-ttl-ms)이 지나면 다시 조회한다.
+ * 캐시 적중 시에는 트랜잭션도 열지 않도록 조회 메서드는 트랜잭션 없이 두고, 적재 시 리포지토리 트랜잭션을 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeCacheService {
+    
+    private final PostRepository postRepository;
+    private final BoardRepository boardRepository;
+    
+    // 게시판 ID -> 게시 중인 공지
+    private final Map<Long, CachedNotices> boardNotices = new ConcurrentHashMap<>();
+    
+    // 조회 개수 -> 전체 게시판의 최근 공지
+    private final Map<Integer, CachedNotices> recentNotices = new ConcurrentHashMap<>();
+    
+    // 무효화 세대 - 조회 도중 무효화되면 읽은 결과를 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+    
+    // 날짜 경계가 멀더라도 캐시 항목을 유지하는 최대 시간
+    @Value("${board.notice-cache.max-ttl-ms:60000}")
+    private long maxTtlMillis;
+    
+    /**
+     * 게시판의 게시 중인 공지 (최신순)
+     */
+    public List<PostSummaryDto> getActiveNotices(Long boardId) {
+        return getOrLoad(boardNotices, boardId, today -> {
+            if (!boardRepository.existsById(boardId)) {
+                throw new RuntimeException("게시판을 찾을 수 없습니다");
+            }
+            return cached(postRepository.findActiveNoticeSummaries(boardId, today), nextBoundary(boardId, today));
+        });
+    }
+    
+    /**
+     * 전체 게시판의 게시 중인 최근 공지
+     */
+    public List<PostSummaryDto> getRecentNotices(int limit) {
+        return getOrLoad(recentNotices, limit, today -> cached(
+                postRepository.findRecentActiveNoticeSummaries(today, PageRequest.of(0, limit)),
+                nextBoundary(null, today)));
+    }
+    
+    /**
+     * 게시판 공지와 최근 공지를 비운다 (커밋 이후에 한 번 더 비워 커밋 전 값이 다시 캐시되지 않게 함)
+     */
+    public void invalidate(Long boardId) {
+        evict(boardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(boardId);
+                }
+            });
+        }
+    }
+    
+    private void evict(Long boardId) {
+        generation.incrementAndGet();
+        boardNotices.remove(boardId);
+        recentNotices.clear();
+    }
+    
+    private <K> List<PostSummaryDto> getOrLoad(Map<K, CachedNotices> cache, K key,
+                                               Function<LocalDate, CachedNotices> loader) {
+        LocalDate today = LocalDate.now();
+        CachedNotices cached = cache.get(key);
+        if (cached != null && cached.isValidAt(today, System.currentTimeMillis())) {
+            return cached.notices();
+        }
+        
+        long loadedGeneration = generation.get();
+        CachedNotices loaded = loader.apply(today);
+        if (generation.get() == loadedGeneration) {
+            cache.put(key, loaded);
+        }
+        log.debug("Loaded {} active notices for {} (valid until {})", loaded.notices().size(), key, loaded.validUntil());
+        return loaded.notices();
+    }
+    
+    private CachedNotices cached(List<PostSummaryDto> notices, LocalDate validUntil) {
+        return new CachedNotices(notices, validUntil, System.currentTimeMillis() + maxTtlMillis);
+    }
+    
+    /**
+     * 오늘 이후 공지 목록이 바뀌는 가장 이른 날짜 (게시 시작일 또는 종료일 다음 날)
+     */
+    private LocalDate nextBoundary(Long boardId, LocalDate today) {
+        LocalDate nextStart = postRepository.findNextNoticeStartDate(boardId, today);
+        LocalDate lastEnd = postRepository.findNextNoticeEndDate(boardId, today);
+        
+        LocalDate boundary = LocalDate.MAX;
+        if (nextStart != null) {
+            boundary = nextStart;
+        }
+        if (lastEnd != null && lastEnd.plusDays(1).isBefore(boundary)) {
+            boundary = lastEnd.plusDays(1);
+        }
+        return boundary;
+    }
+    
+    /**
+     * @param validUntil 이 날짜부터는 다시 조회 (당일 제외)
+     * @param expiresAt 이 시각(epoch millis)부터는 날짜와 관계없이 다시 조회
+     */
+    private record CachedNotices(List<PostSummaryDto> notices, LocalDate validUntil, long expiresAt) {
+        
+        CachedNotices {
+            notices = List.copyOf(notices);
+        }
+        
+        boolean isValidAt(LocalDate date, long nowMillis) {
+            return date.isBefore(validUntil) && nowMillis < expiresAt;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.liteware.service.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 쓰기 지연(write-behind) 카운터 - 키별 증감분을 메모리에 모았다가 반영 시점에 한꺼번에 꺼낸다.
+ * 조회수(PostViewCountService)와 좋아요 수(LikeService)가 함께 쓴다.
+ * 키마다 LongAdder를 두어 인기 공지처럼 한 키에 증가가 몰려도 스레드별 셀로 나뉘어 잠금 없이 더해진다.
+ * 반영 시에는 맵에서 키를 떼어 내며 sumThenReset으로 꺼내고(셀 단위로 원자적으로 가져가므로 유실 없음),
+ * 떼어 낸 누산기에 늦게 더한 쪽은 add가 스스로 알아차리고 새 누산기로 옮겨 다음 주기에 반영되게 한다.
+ */
+public class PendingCounter<K> {
+    
+    // 키 -> 아직 반영되지 않은 증감분
+    private final Map<K, LongAdder> counts = new ConcurrentHashMap<>();
+    
+    /**
+     * 증감분 누적 (DB 접근 없음)
+     */
+    public void add(K key, long delta) {
+        LongAdder adder = counts.get(key);
+        if (adder == null) {
+            adder = counts.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.add(delta);
+        
+        // 더하는 사이 반영/폐기로 맵에서 떨어져 나간 누산기라면 남은 몫을 되가져와 다시 쌓는다
+        if (counts.get(key) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned != 0) {
+                add(key, orphaned);
+            }
+        }
+    }
+    
+    /**
+     * 아직 반영되지 않은 증감분
+     */
+    public long get(K key) {
+        LongAdder pending = counts.get(key);
+        return pending != null ? pending.sum() : 0L;
+    }
+    
+    /**
+     * 누적분 폐기 (대상 삭제 시)
+     */
+    public void discard(K key) {
+        counts.remove(key);
+    }
+    
+    /**
+     * 누적분을 꺼내 증감분이 같은 키끼리 묶어 writer에 넘긴다 (IN 절 UPDATE 한 번으로 처리하도록)
+     * writer가 실패하면 꺼낸 만큼 되돌려 다음 주기에 다시 시도한다.
+     * @return 반영된 키 수
+     */
+    public int flush(Consumer<Map<Integer, List<K>>> writer) {
+        Map<Integer, List<K>> keysByDelta = new TreeMap<>();
+        for (K key : counts.keySet()) {
+            long[] delta = new long[1];
+            counts.computeIfPresent(key, (k, adder) -> {
+                delta[0] = adder.sumThenReset();
+                return null;
+            });
+            if (delta[0] == 0) {
+                continue;
+            }
+            keysByDelta.computeIfAbsent(Math.toIntExact(delta[0]), d -> new ArrayList<>()).add(key);
+        }
+        
+        if (keysByDelta.isEmpty()) {
+            return 0;
+        }
+        
+        try {
+            writer.accept(keysByDelta);
+        } catch (RuntimeException e) {
+            keysByDelta.forEach((delta, keys) -> keys.forEach(key -> add(key, delta)));
+            throw e;
+        }
+        
+        return keysByDelta.values().stream().mapToInt(List::size).sum();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.liteware.service.board;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 본문 분리(post_bodies) 이전에 만든 게시글의 본문 이관
+ * 예전 스키마의 posts.content를 post_bodies로 옮기고 body_id/미리보기/본문 길이를 채운 뒤, 다 옮기면 posts.content 컬럼을 지운다.
+ * (ddl-auto: update는 컬럼을 지우지 않아 NOT NULL인 예전 content 컬럼이 남으면 새 게시글 INSERT가 실패한다)
+ * posts.body_id는 이관 전 행이 있어도 스키마 갱신이 실패하지 않도록 NULL을 허용하며,
+ * 상세 조회는 이관이 끝나기 전에도 게시글을 찾을 수 있도록 본문을 outer join으로 읽는다.
+ * 시작 시 검색 색인 재구성 등 다른 시작 작업보다 먼저 실행되고, 예전 content 컬럼이 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Service
+public class PostBodyBackfillService {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${board.body-backfill.batch-size:500}")
+    private int batchSize;
+    
+    public PostBodyBackfillService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("Failed to move legacy post bodies to post_bodies", e);
+        }
+    }
+    
+    /**
+     * 예전 posts.content를 post_bodies로 옮긴다
+     * @return 옮긴 게시글 수
+     */
+    public int backfill() {
+        if (!hasLegacyContentColumn()) {
+            return 0;
+        }
+        
+        int moved = 0;
+        while (true) {
+            List<LegacyBody> batch = jdbcTemplate.query(
+                    "SELECT post_id, content FROM posts WHERE body_id IS NULL ORDER BY post_id LIMIT ?",
+                    (rs, rowNum) -> new LegacyBody(rs.getLong("post_id"), rs.getString("content")),
+                    batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::move));
+            moved += batch.size();
+        }
+        
+        jdbcTemplate.execute("ALTER TABLE posts DROP COLUMN content");
+        log.info("Moved {} legacy post bodies to post_bodies and dropped posts.content", moved);
+        return moved;
+    }
+    
+    private void move(LegacyBody legacy) {
+        String content = legacy.content() != null ? legacy.content() : "";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement statement = con.prepareStatement(
+                    "INSERT INTO post_bodies (content) VALUES (?)", new String[]{"body_id"});
+            statement.setString(1, content);
+            return statement;
+        }, keyHolder);
+        
+        jdbcTemplate.update("UPDATE posts SET body_id = ?, excerpt = ?, content_length = ? WHERE post_id = ?",
+                keyHolder.getKey().longValue(), PostExcerpts.of(content), content.length(), legacy.postId());
+    }
+    
+    private boolean hasLegacyContentColumn() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), metaData -> {
+                boolean upperCase = metaData.storesUpperCaseIdentifiers();
+                String connectionCatalog = metaData.getConnection().getCatalog();
+                String connectionSchema = metaData.getConnection().getSchema();
+                try (ResultSet columns = metaData.getColumns(connectionCatalog, connectionSchema,
+                        upperCase ? "POSTS" : "posts", upperCase ? "CONTENT" : "content")) {
+                    return columns.next();
+                }
+            });
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("posts 테이블 정보를 읽지 못했습니다", e);
+        }
+    }
+    
+    private record LegacyBody(long postId, String content) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.PostSummaryDto;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서: 정렬 키 (is_notice, created_at, post_id) 중 마지막 게시글의 값
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로만 노출한다
+ */
+@Getter
+public final class PostCursor {
+    
+    private static final String DELIMITER = "|";
+    
+    private final boolean notice;
+    private final LocalDateTime createdAt;
+    private final Long postId;
+    
+    private PostCursor(boolean notice, LocalDateTime createdAt, Long postId) {
+        this.notice = notice;
+        this.createdAt = createdAt;
+        this.postId = postId;
+    }
+    
+    public static String encode(PostSummaryDto post) {
+        String raw = (Boolean.TRUE.equals(post.getIsNotice()) ? "1" : "0") + DELIMITER
+                // DB 컬럼 정밀도(마이크로초)에 맞춰야 같은 시각의 게시글이 post_id로 정확히 이어진다
+                + post.getCreatedAt().truncatedTo(ChronoUnit.MICROS) + DELIMITER
+                + post.getPostId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new PostCursor("1".equals(parts[0]), LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("잘못된 커서입니다");
+        }
+    }
+}
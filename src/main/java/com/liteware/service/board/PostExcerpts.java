@@ -0,0 +1,83 @@
+package com.liteware.service.board;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문(HTML) -> 목록용 미리보기 텍스트
+ * 스크립트/스타일 블록과 태그를 제거하고 자주 쓰이는 문자 참조만 풀어 공백을 정리한 뒤 앞부분만 남긴다.
+ * 자르기 전의 본문 텍스트(text)는 검색 색인(PostSearchIndexService)도 함께 쓴다.
+ * 화면에서는 일반 텍스트로 출력(escape)해야 한다.
+ */
+final class PostExcerpts {
+    
+    static final int MAX_LENGTH = 200;
+    
+    private static final String ELLIPSIS = "…";
+    
+    private static final Pattern BLOCKS = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1\\s*>");
+    private static final Pattern BREAKS = Pattern.compile("(?i)<\\s*(br|/p|/div|/li|/h[1-6]|/tr)\\b[^>]*>");
+    private static final Pattern TAGS = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern ENTITIES = Pattern.compile("&(#\\d{1,7}|#[xX][0-9a-fA-F]{1,6}|[a-zA-Z]+);");
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\u00A0]+");
+    
+    private static final Map<String, String> NAMED_ENTITIES = Map.of(
+            "nbsp", " ",
+            "amp", "&",
+            "lt", "<",
+            "gt", ">",
+            "quot", "\"",
+            "apos", "'");
+    
+    private PostExcerpts() {
+    }
+    
+    static String of(String html) {
+        String text = text(html);
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+        // 서로게이트 쌍이 잘리지 않도록 코드포인트 기준으로 자른다
+        return text.substring(0, text.offsetByCodePoints(0, MAX_LENGTH)).trim() + ELLIPSIS;
+    }
+    
+    /**
+     * 태그를 모두 걷어낸 본문 텍스트 (자르지 않음)
+     */
+    static String text(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        
+        String text = BLOCKS.matcher(html).replaceAll(" ");
+        text = BREAKS.matcher(text).replaceAll(" ");
+        text = TAGS.matcher(text).replaceAll("");
+        text = decodeEntities(text);
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+    
+    private static String decodeEntities(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        
+        Matcher matcher = ENTITIES.matcher(text);
+        StringBuilder decoded = new StringBuilder(text.length());
+        while (matcher.find()) {
+            matcher.appendReplacement(decoded, Matcher.quoteReplacement(decodeEntity(matcher.group(1), matcher.group())));
+        }
+        matcher.appendTail(decoded);
+        return decoded.toString();
+    }
+    
+    private static String decodeEntity(String entity, String original) {
+        if (entity.charAt(0) != '#') {
+            return NAMED_ENTITIES.getOrDefault(entity, original);
+        }
+        
+        boolean hex = entity.length() > 1 && (entity.charAt(1) == 'x' || entity.charAt(1) == 'X');
+        int codePoint = Integer.parseInt(entity.substring(hex ? 2 : 1), hex ? 16 : 10);
+        return Character.isValidCodePoint(codePoint) ? new String(Character.toChars(codePoint)) : original;
+    }
+}
\ No newline at end of file
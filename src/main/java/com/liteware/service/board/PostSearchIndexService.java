@@ -0,0 +1,426 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.entity.board.Comment;
+import com.liteware.model.entity.board.Post;
+import com.liteware.repository.board.CommentRepository;
+import com.liteware.repository.board.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 내장 검색 색인 (메모리 역색인)
+ * 제목, 본문, 작성자명, 댓글을 n-gram 단위로 색인하고 BM25 점수로 정렬된 게시글 ID를 돌려준다.
+ * 게시글/댓글 변경은 커밋 이후 해당 게시글만 다시 색인하며, 전체 재색인은 기동 시와 관리자 요청 시 수행한다.
+ */
+@Slf4j
+@Service
+public class PostSearchIndexService {
+    
+    /**
+     * 색인 필드와 가중치
+     */
+    public enum IndexField {
+        TITLE(3.0),
+        WRITER(2.0),
+        CONTENT(1.0),
+        COMMENT(0.5);
+        
+        private final double boost;
+        
+        IndexField(double boost) {
+            this.boost = boost;
+        }
+        
+        public static Set<IndexField> of(PostSearchCriteria.SearchField searchField) {
+            if (searchField == null || searchField == PostSearchCriteria.SearchField.ALL) {
+                return EnumSet.allOf(IndexField.class);
+            }
+            switch (searchField) {
+                case TITLE:
+                    return EnumSet.of(TITLE);
+                case CONTENT:
+                    return EnumSet.of(CONTENT);
+                case WRITER:
+                    return EnumSet.of(WRITER);
+                default:
+                    return EnumSet.allOf(IndexField.class);
+            }
+        }
+    }
+    
+    private static final IndexField[] FIELDS = IndexField.values();
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    @Value("${board.search.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+    
+    @Value("${board.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+    
+    private Index index = new Index();
+    
+    // 전체 재색인 중에 변경된 게시글 (재색인 완료 후 다시 반영)
+    private volatile Set<Long> changedDuringRebuild;
+    
+    public PostSearchIndexService(PostRepository postRepository,
+                                  CommentRepository commentRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to build post search index on startup", e);
+        }
+    }
+    
+    /**
+     * 게시글 하나를 현재 트랜잭션에서 읽은 상태로 색인 (삭제된 게시글은 색인에서 제거)
+     */
+    public void index(Post post) {
+        if (Boolean.TRUE.equals(post.getIsDeleted())) {
+            remove(post.getPostId());
+            return;
+        }
+        
+        List<String> comments = commentRepository.findActiveByPostIds(List.of(post.getPostId())).stream()
+                .map(Comment::getContent)
+                .collect(Collectors.toList());
+        put(toEntry(post, comments));
+    }
+    
+    public void remove(Long postId) {
+        markChanged(postId);
+        lock.writeLock().lock();
+        try {
+            index.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 커밋이 끝난 뒤 게시글을 다시 색인 (롤백된 변경은 색인에 반영되지 않음)
+     */
+    public void reindexAfterCommit(Long postId) {
+        runAfterCommit(() -> reindex(postId));
+    }
+    
+    /**
+     * 커밋이 끝난 뒤 게시글을 색인에서 제거
+     */
+    public void removeAfterCommit(Long postId) {
+        runAfterCommit(() -> remove(postId));
+    }
+    
+    /**
+     * DB의 최신 상태로 게시글 하나를 다시 색인
+     */
+    public void reindex(Long postId) {
+        readTransaction.executeWithoutResult(status -> postRepository.findById(postId)
+                .ifPresentOrElse(this::index, () -> remove(postId)));
+    }
+    
+    /**
+     * 전체 재색인: 새 색인을 만든 뒤 한 번에 교체
+     * @return 색인된 게시글 수
+     */
+    public synchronized int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        Index rebuilt = new Index();
+        
+        try {
+            Long lastPostId = 0L;
+            while (true) {
+                final Long afterId = lastPostId;
+                List<Entry> batch = readTransaction.execute(status -> loadBatch(afterId));
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(rebuilt::put);
+                lastPostId = batch.get(batch.size() - 1).postId;
+            }
+            
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            Set<Long> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            changed.forEach(this::reindexQuietly);
+        }
+        
+        log.info("Rebuilt post search index: {} posts, {} terms in {}ms",
+                rebuilt.size(), rebuilt.termCount(), System.currentTimeMillis() - startedAt);
+        return rebuilt.size();
+    }
+    
+    /**
+     * 랭킹 검색
+     * @param keyword 검색어
+     * @param fields 검색 대상 필드
+     * @param boardId 게시판 ID (null이면 전체)
+     * @param limit 최대 결과 수
+     * @return 점수가 높은 순서의 게시글 ID
+     */
+    public List<Long> search(String keyword, Set<IndexField> fields, Long boardId, int limit) {
+        Set<String> terms = NGramAnalyzer.queryTerms(keyword);
+        if (terms.isEmpty() || fields.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            return index.search(terms, fields, boardId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private List<Entry> loadBatch(Long afterId) {
+        List<Post> posts = postRepository.findIndexBatch(afterId, PageRequest.of(0, rebuildBatchSize));
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, List<String>> commentsByPost = commentRepository.findActiveByPostIds(
+                        posts.stream().map(Post::getPostId).collect(Collectors.toList())).stream()
+                .collect(Collectors.groupingBy(c -> c.getPost().getPostId(),
+                        Collectors.mapping(Comment::getContent, Collectors.toList())));
+        
+        return posts.stream()
+                .map(post -> toEntry(post, commentsByPost.getOrDefault(post.getPostId(), List.of())))
+                .collect(Collectors.toList());
+    }
+    
+    private Entry toEntry(Post post, List<String> comments) {
+        List<Map<String, Integer>> fieldTerms = new ArrayList<>(FIELDS.length);
+        fieldTerms.add(NGramAnalyzer.termFrequencies(post.getTitle()));
+        fieldTerms.add(NGramAnalyzer.termFrequencies(post.getWriter() != null ? post.getWriter().getName() : null));
+        // 에디터가 남긴 태그/속성/인라인 스타일이 term이 되지 않도록 본문 텍스트만 색인
+        fieldTerms.add(NGramAnalyzer.termFrequencies(PostExcerpts.text(post.getContent())));
+        fieldTerms.add(NGramAnalyzer.termFrequencies(String.join("\n", comments)));
+        return new Entry(post.getPostId(), post.getBoard() != null ? post.getBoard().getBoardId() : null, fieldTerms);
+    }
+    
+    private void put(Entry entry) {
+        markChanged(entry.postId);
+        lock.writeLock().lock();
+        try {
+            index.put(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void markChanged(Long postId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(postId);
+        }
+    }
+    
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    // 색인 실패가 요청을 실패시키지 않도록 로그만 남기고, 관리자 재색인으로 복구한다
+                    log.error("Failed to update post search index", e);
+                }
+            }
+        });
+    }
+    
+    private void reindexQuietly(Long postId) {
+        try {
+            reindex(postId);
+        } catch (Exception e) {
+            log.error("Failed to reindex post {}", postId, e);
+        }
+    }
+    
+    /**
+     * 색인 단위: 게시글 하나의 필드별 term 빈도
+     */
+    private static final class Entry {
+        private final Long postId;
+        private final Long boardId;
+        private final List<Map<String, Integer>> fieldTerms;
+        private final int[] fieldLengths = new int[FIELDS.length];
+        
+        private Entry(Long postId, Long boardId, List<Map<String, Integer>> fieldTerms) {
+            this.postId = postId;
+            this.boardId = boardId;
+            this.fieldTerms = fieldTerms;
+            for (int f = 0; f < FIELDS.length; f++) {
+                fieldLengths[f] = fieldTerms.get(f).values().stream().mapToInt(Integer::intValue).sum();
+            }
+        }
+    }
+    
+    /**
+     * term -> (게시글 ID -> 필드별 빈도) 역색인
+     */
+    private static final class Index {
+        private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final long[] totalFieldLengths = new long[FIELDS.length];
+        
+        void put(Entry entry) {
+            remove(entry.postId);
+            entries.put(entry.postId, entry);
+            for (int f = 0; f < FIELDS.length; f++) {
+                totalFieldLengths[f] += entry.fieldLengths[f];
+                for (Map.Entry<String, Integer> term : entry.fieldTerms.get(f).entrySet()) {
+                    postings.computeIfAbsent(term.getKey(), t -> new HashMap<>())
+                            .computeIfAbsent(entry.postId, id -> new int[FIELDS.length])[f] = term.getValue();
+                }
+            }
+        }
+        
+        void remove(Long postId) {
+            Entry entry = entries.remove(postId);
+            if (entry == null) {
+                return;
+            }
+            for (int f = 0; f < FIELDS.length; f++) {
+                totalFieldLengths[f] -= entry.fieldLengths[f];
+                for (String term : entry.fieldTerms.get(f).keySet()) {
+                    Map<Long, int[]> posting = postings.get(term);
+                    if (posting != null) {
+                        posting.remove(postId);
+                        if (posting.isEmpty()) {
+                            postings.remove(term);
+                        }
+                    }
+                }
+            }
+        }
+        
+        List<Long> search(Collection<String> terms, Set<IndexField> fields, Long boardId, int limit) {
+            List<Map<Long, int[]>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, int[]> posting = postings.get(term);
+                if (posting == null) {
+                    // 모든 term이 포함된 게시글만 일치로 본다
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+            
+            int documentCount = entries.size();
+            double[] averageLengths = new double[FIELDS.length];
+            for (int f = 0; f < FIELDS.length; f++) {
+                averageLengths[f] = documentCount > 0 ? Math.max(1.0, (double) totalFieldLengths[f] / documentCount) : 1.0;
+            }
+            
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long postId : termPostings.get(0).keySet()) {
+                Entry entry = entries.get(postId);
+                if (boardId != null && !boardId.equals(entry.boardId)) {
+                    continue;
+                }
+                
+                double score = 0;
+                for (Map<Long, int[]> posting : termPostings) {
+                    int[] frequencies = posting.get(postId);
+                    if (frequencies == null) {
+                        continue candidates;
+                    }
+                    
+                    // BM25F: 필드별로 길이 정규화한 빈도를 가중 합산한 뒤 포화시킨다
+                    double weightedFrequency = 0;
+                    for (IndexField field : fields) {
+                        int f = field.ordinal();
+                        if (frequencies[f] > 0) {
+                            double lengthNorm = 1 - B + B * entry.fieldLengths[f] / averageLengths[f];
+                            weightedFrequency += field.boost * frequencies[f] / lengthNorm;
+                        }
+                    }
+                    if (weightedFrequency == 0) {
+                        continue candidates;
+                    }
+                    
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    score += idf * weightedFrequency * (K1 + 1) / (weightedFrequency + K1);
+                }
+                scores.put(postId, score);
+            }
+            
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        }
+        
+        int size() {
+            return entries.size();
+        }
+        
+        int termCount() {
+            return postings.size();
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.PostSummaryDto;
+import com.liteware.model.dto.TrendingPostDto;
+import com.liteware.model.entity.board.Post;
+import com.liteware.model.entity.board.PostTrendingScore;
+import com.liteware.repository.board.PostRepository;
+import com.liteware.repository.board.PostTrendingScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시판별 인기 게시글 (시간 감쇠 점수)
+ * 조회/좋아요/댓글마다 가중치를 더하되 반감기에 따라 오래된 활동일수록 점수가 줄어든다.
+ * 전방 감쇠(forward decay)로 점수를 기준 시각(landmark) 대비 값으로 저장하므로 점수는 증가만 하고,
+ * 게시판별 상위 K개 스냅샷을 활동마다 O(K)로 갱신해 조회 시 posts 테이블을 읽지 않는다.
+ * 주기적으로 기간(window)이 지난 게시글을 정리하고 상위 K개를 post_trending_scores에 저장한다.
+ */
+@Slf4j
+@Service
+public class PostTrendingService {
+    
+    private final PostRepository postRepository;
+    private final PostTrendingScoreRepository postTrendingScoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${board.trending.top-k:50}")
+    private int topK;
+    
+    @Value("${board.trending.half-life-hours:24}")
+    private double halfLifeHours;
+    
+    @Value("${board.trending.window-days:7}")
+    private int windowDays;
+    
+    @Value("${board.trending.view-weight:1.0}")
+    private double viewWeight;
+    
+    @Value("${board.trending.like-weight:3.0}")
+    private double likeWeight;
+    
+    @Value("${board.trending.comment-weight:5.0}")
+    private double commentWeight;
+    
+    @Value("${board.trending.restore-on-startup:true}")
+    private boolean restoreOnStartup;
+    
+    // 게시판 ID -> 게시판별 점수
+    private final Map<Long, BoardTrend> boards = new ConcurrentHashMap<>();
+    
+    // 활동 기록은 읽기 잠금, 기준 시각 재설정(compact)은 쓰기 잠금
+    private final ReentrantReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private volatile long landmarkMillis = System.currentTimeMillis();
+    
+    public PostTrendingService(PostRepository postRepository,
+                               PostTrendingScoreRepository postTrendingScoreRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.postTrendingScoreRepository = postTrendingScoreRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnStartup() {
+        if (!restoreOnStartup) {
+            return;
+        }
+        try {
+            // 저장된 스냅샷이 없으면 기간 내 게시글로 다시 계산
+            if (restore() == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Failed to restore trending posts on startup", e);
+        }
+    }
+    
+    public void recordView(Post post) {
+        record(post, viewWeight);
+    }
+    
+    public void recordLike(Post post) {
+        record(post, likeWeight);
+    }
+    
+    public void recordComment(Post post) {
+        record(post, commentWeight);
+    }
+    
+    /**
+     * 삭제된 게시글을 순위에서 제거
+     */
+    public void remove(Long boardId, Long postId) {
+        BoardTrend trend = boards.get(boardId);
+        if (trend != null) {
+            trend.remove(postId, topK);
+        }
+    }
+    
+    /**
+     * 삭제가 커밋된 뒤에 순위에서 제거 (삭제가 롤백되면 점수를 그대로 둔다)
+     */
+    public void removeAfterCommit(Long boardId, Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(boardId, postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(boardId, postId);
+            }
+        });
+    }
+    
+    /**
+     * 게시판의 현재 인기 게시글 상위 limit개 (최대 K개, DB 접근 없음)
+     */
+    public List<TrendingPostDto> getTrending(Long boardId, int limit) {
+        BoardTrend trend = boards.get(boardId);
+        if (trend == null) {
+            return List.of();
+        }
+        
+        // 점수 스냅샷과 기준 시각은 compact가 함께 바꾸므로 같은 잠금 안에서 읽는다
+        landmarkLock.readLock().lock();
+        try {
+            List<Ranked> top = trend.top;
+            double decay = 1.0 / growth(System.currentTimeMillis());
+            int size = Math.min(Math.max(limit, 0), top.size());
+            
+            List<TrendingPostDto> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Ranked ranked = top.get(i);
+                result.add(new TrendingPostDto(ranked.postId(), boardId, ranked.title(), ranked.score() * decay));
+            }
+            return result;
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 기간이 지난 게시글을 정리하고 기준 시각을 현재로 옮긴다 (점수가 커지는 것을 막기 위함)
+     * @return 남은 게시글 수
+     */
+    public int compact() {
+        landmarkLock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            double rescale = 1.0 / growth(now);
+            long cutoff = now - TimeUnit.DAYS.toMillis(windowDays);
+            
+            boards.values().forEach(trend -> trend.rescale(rescale, cutoff, topK));
+            boards.values().removeIf(BoardTrend::isEmpty);
+            landmarkMillis = now;
+            
+            return boards.values().stream().mapToInt(BoardTrend::size).sum();
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 기간 내 작성된 게시글의 누적 조회/좋아요/댓글 수로 다시 계산 (작성 시각 기준으로 감쇠)
+     * @return 계산된 게시글 수
+     */
+    public int rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+        List<PostSummaryDto> posts = transactionTemplate.execute(status ->
+                postRepository.findSummariesCreatedSince(since));
+        
+        landmarkLock.writeLock().lock();
+        try {
+            boards.clear();
+            landmarkMillis = System.currentTimeMillis();
+            for (PostSummaryDto post : posts) {
+                double weight = post.getViewCount() * viewWeight
+                        + post.getLikeCount() * likeWeight
+                        + post.getCommentCount() * commentWeight;
+                long createdAt = toMillis(post.getCreatedAt());
+                boardTrend(post.getBoardId()).add(post.getPostId(), post.getTitle(),
+                        weight * growth(createdAt), createdAt, topK);
+            }
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+        
+        log.info("Rebuilt trending posts from {} posts created since {}", posts.size(), since);
+        return posts.size();
+    }
+    
+    /**
+     * 게시판별 상위 K개를 저장 (이전 스냅샷은 교체)
+     * @return 저장된 게시글 수
+     */
+    public int persist() {
+        List<PostTrendingScore> snapshot = new ArrayList<>();
+        landmarkLock.readLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            LocalDateTime scoredAt = LocalDateTime.now();
+            double decay = 1.0 / growth(now);
+            
+            boards.forEach((boardId, trend) -> trend.top.forEach(ranked -> snapshot.add(PostTrendingScore.builder()
+                    .postId(ranked.postId())
+                    .boardId(boardId)
+                    .title(ranked.title())
+                    .score(ranked.score() * decay)
+                    .scoredAt(scoredAt)
+                    .build())));
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+        
+        // 새 객체(isNew)라 행마다 SELECT 없이 INSERT 배치로 저장된다
+        transactionTemplate.executeWithoutResult(status -> {
+            postTrendingScoreRepository.deleteAllInBatch();
+            postTrendingScoreRepository.saveAll(snapshot);
+        });
+        
+        log.debug("Persisted {} trending posts", snapshot.size());
+        return snapshot.size();
+    }
+    
+    /**
+     * 저장된 스냅샷으로 복원
+     * @return 복원된 게시글 수
+     */
+    public int restore() {
+        List<PostTrendingScore> scores = transactionTemplate.execute(status -> postTrendingScoreRepository.findAll());
+        
+        landmarkLock.writeLock().lock();
+        try {
+            boards.clear();
+            landmarkMillis = System.currentTimeMillis();
+            for (PostTrendingScore score : scores) {
+                long scoredAt = toMillis(score.getScoredAt());
+                boardTrend(score.getBoardId()).add(score.getPostId(), score.getTitle(),
+                        score.getScore() * growth(scoredAt), scoredAt, topK);
+            }
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+        return scores.size();
+    }
+    
+    private void record(Post post, double weight) {
+        if (Boolean.TRUE.equals(post.getIsDeleted())) {
+            return;
+        }
+        
+        landmarkLock.readLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            boardTrend(post.getBoard().getBoardId())
+                    .add(post.getPostId(), post.getTitle(), weight * growth(now), now, topK);
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+    
+    private BoardTrend boardTrend(Long boardId) {
+        return boards.computeIfAbsent(boardId, id -> new BoardTrend());
+    }
+    
+    // 기준 시각 대비 감쇠 배율: 2^((t - landmark) / 반감기)
+    private double growth(long epochMillis) {
+        double halfLifeMillis = halfLifeHours * TimeUnit.HOURS.toMillis(1);
+        return Math.pow(2.0, (epochMillis - landmarkMillis) / halfLifeMillis);
+    }
+    
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    private record Ranked(Long postId, String title, double score) {
+    }
+    
+    private static final class Entry {
+        private String title;
+        private double score;
+        private long lastActivityMillis;
+    }
+    
+    /**
+     * 게시판 하나의 점수표와 상위 K개 스냅샷
+     * 전방 감쇠 점수는 증가만 하므로, 점수가 오른 게시글만 스냅샷에 다시 끼워 넣으면 순위가 정확히 유지된다.
+     */
+    private static final class BoardTrend {
+        
+        private final Map<Long, Entry> entries = new HashMap<>();
+        
+        // 읽기 전용 스냅샷 (점수 내림차순)
+        private volatile List<Ranked> top = List.of();
+        
+        synchronized void add(Long postId, String title, double score, long activityMillis, int k) {
+            Entry entry = entries.computeIfAbsent(postId, id -> new Entry());
+            entry.title = title;
+            entry.score += score;
+            entry.lastActivityMillis = Math.max(entry.lastActivityMillis, activityMillis);
+            
+            List<Ranked> current = top;
+            boolean ranked = current.stream().anyMatch(r -> r.postId().equals(postId));
+            if (!ranked && current.size() >= k && entry.score <= current.get(current.size() - 1).score()) {
+                return;
+            }
+            
+            List<Ranked> next = new ArrayList<>(current.size() + 1);
+            Ranked updated = new Ranked(postId, entry.title, entry.score);
+            boolean inserted = false;
+            for (Ranked r : current) {
+                if (r.postId().equals(postId)) {
+                    continue;
+                }
+                if (!inserted && updated.score() > r.score()) {
+                    next.add(updated);
+                    inserted = true;
+                }
+                next.add(r);
+            }
+            if (!inserted) {
+                next.add(updated);
+            }
+            top = List.copyOf(next.size() > k ? next.subList(0, k) : next);
+        }
+        
+        synchronized void remove(Long postId, int k) {
+            if (entries.remove(postId) != null) {
+                top = computeTop(k);
+            }
+        }
+        
+        synchronized void rescale(double factor, long cutoffMillis, int k) {
+            entries.values().removeIf(entry -> entry.lastActivityMillis < cutoffMillis);
+            entries.values().forEach(entry -> entry.score *= factor);
+            top = computeTop(k);
+        }
+        
+        synchronized boolean isEmpty() {
+            return entries.isEmpty();
+        }
+        
+        synchronized int size() {
+            return entries.size();
+        }
+        
+        private List<Ranked> computeTop(int k) {
+            return entries.entrySet().stream()
+                    .map(e -> new Ranked(e.getKey(), e.getValue().title, e.getValue().score))
+                    .sorted(Comparator.comparingDouble(Ranked::score).reversed())
+                    .limit(k)
+                    .toList();
+        }
+    }
+}
\ No newline at end of file
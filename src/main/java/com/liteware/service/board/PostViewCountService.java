@@ -0,0 +1,99 @@
+package com.liteware.service.board;
+
+import com.google.common.collect.Lists;
+import com.liteware.repository.board.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 카운터
+ * 조회 시에는 메모리의 게시글별 누적분(PendingCounter)만 증가시키고,
+ * 주기적으로 같은 증가분끼리 묶어 posts.view_count에 일괄 UPDATE 한다.
+ */
+@Slf4j
+@Service
+public class PostViewCountService {
+    
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${board.view-count.flush-batch-size:500}")
+    private int flushBatchSize;
+    
+    // 게시글 ID -> 아직 반영되지 않은 조회수
+    private final PendingCounter<Long> pendingCounts = new PendingCounter<>();
+    
+    public PostViewCountService(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * 조회수 1 증가 (DB 접근 없음)
+     */
+    public void increment(Long postId) {
+        pendingCounts.add(postId, 1);
+    }
+    
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingCount(Long postId) {
+        return pendingCounts.get(postId);
+    }
+    
+    /**
+     * 삭제된 게시글의 누적분 폐기
+     */
+    public void discard(Long postId) {
+        pendingCounts.discard(postId);
+    }
+    
+    /**
+     * 삭제가 커밋된 뒤에 누적분 폐기 (삭제가 롤백되면 누적분을 그대로 두고 다음 주기에 반영)
+     */
+    public void discardAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            discard(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                discard(postId);
+            }
+        });
+    }
+    
+    /**
+     * 누적된 조회수를 DB에 반영 (증가분이 같은 게시글끼리 묶어 IN 절 UPDATE)
+     * @return 반영된 게시글 수
+     */
+    public int flush() {
+        int flushed = pendingCounts.flush(postIdsByDelta ->
+                transactionTemplate.executeWithoutResult(status ->
+                        postIdsByDelta.forEach((delta, postIds) ->
+                                Lists.partition(postIds, flushBatchSize)
+                                        .forEach(chunk -> postRepository.addViewCount(chunk, delta)))));
+        if (flushed > 0) {
+            log.debug("Flushed view counts for {} posts", flushed);
+        }
+        return flushed;
+    }
+    
+    @PreDestroy
+    public void drainOnShutdown() {
+        try {
+            int flushed = flush();
+            log.info("Drained pending view counts on shutdown: {} posts", flushed);
+        } catch (Exception e) {
+            log.error("Failed to drain pending view counts on shutdown", e);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.liteware.service.draft;
+
+import com.liteware.model.dto.DraftDto;
+import com.liteware.model.dto.DraftSaveResult;
+import com.liteware.model.entity.draft.Draft;
+import com.liteware.model.entity.draft.DraftTargetType;
+import com.liteware.repository.draft.DraftRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 게시글/결재 문서 자동 임시저장
+ * 에디터가 몇 초마다 보내는 저장 요청을 사용자+대상별 최신본 하나로 메모리에 합쳐 두고,
+ * 편집이 멈췄거나(idle-ms 동안 저장 없음) 처음 쌓인 뒤 max-delay-ms가 지난 것만 주기적으로 DB에 반영한다.
+ * 저장마다 version을 1씩 올려 돌려주며, 요청의 baseVersion이 현재 version과 다르면 저장하지 않고 충돌로 알린다.
+ * 버퍼는 max-buffered개로 제한해 넘치면 해당 저장분을 바로 반영하고, 종료 시에는 남은 것을 모두 반영한다.
+ * 삭제(discard)는 커밋 후에 버퍼에서 빼며, 반영 중인 스냅샷이 삭제된 임시저장본을 DB에 되살리지 않도록 삭제 기록과 비교한다.
+ */
+@Slf4j
+@Service
+public class DraftAutosaveService {
+    
+    private final DraftRepository draftRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${app.draft.idle-ms:3000}")
+    private long idleMillis;
+    
+    @Value("${app.draft.max-delay-ms:30000}")
+    private long maxDelayMillis;
+    
+    @Value("${app.draft.max-buffered:10000}")
+    private int maxBuffered;
+    
+    // 사용자+대상 -> 아직 DB에 반영되지 않은 최신 임시저장본
+    private final Map<DraftKey, PendingDraft> buffer = new ConcurrentHashMap<>();
+    
+    // 사용자+대상 -> 삭제 기록 (반영 스냅샷보다 나중에 삭제됐거나 삭제 트랜잭션이 진행 중이면 반영하지 않는다)
+    private final Map<DraftKey, Discard> discards = new ConcurrentHashMap<>();
+    private final AtomicLong discardSequence = new AtomicLong();
+    
+    // 반영이 끝나 버퍼에서 빠질 때마다 증가 - save가 compute 밖에서 읽은 DB version이 그 사이 바뀌었는지 확인한다
+    private final AtomicLong persistEpoch = new AtomicLong();
+    
+    public DraftAutosaveService(DraftRepository draftRepository, PlatformTransactionManager transactionManager) {
+        this.draftRepository = draftRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * 임시저장 (버퍼에만 기록)
+     */
+    public DraftSaveResult save(Long userId, DraftDto dto) {
+        DraftKey key = key(userId, dto.getTargetType(), dto.getTargetId());
+        long now = System.currentTimeMillis();
+        LocalDateTime savedAt = LocalDateTime.now();
+        DraftSaveResult[] result = new DraftSaveResult[1];
+        PendingDraft pending;
+        
+        // 같은 대상의 저장은 compute로 순서대로 처리한다.
+        // 버퍼에 없을 때 쓸 DB version은 맵 잠금을 잡기 전에 읽어 두고, compute 안에서 그 사이 반영된 것이 있으면 다시 읽는다.
+        do {
+            result[0] = null;
+            long epoch = persistEpoch.get();
+            Long stored = buffer.containsKey(key) ? null : storedVersion(key);
+            pending = buffer.compute(key, (k, current) -> {
+                if (current == null && (stored == null || persistEpoch.get() != epoch)) {
+                    return null;
+                }
+                long currentVersion = current != null ? current.version() : stored;
+                if (dto.getBaseVersion() != null && dto.getBaseVersion() != currentVersion) {
+                    result[0] = DraftSaveResult.conflict(currentVersion);
+                    return current;
+                }
+                
+                long version = currentVersion + 1;
+                result[0] = DraftSaveResult.saved(version, savedAt);
+                return new PendingDraft(dto.getTitle(), dto.getContent(), dto.getFormData(), version, savedAt,
+                        current != null ? current.firstBufferedMillis() : now, now);
+            });
+        } while (result[0] == null);
+        
+        if (!result[0].isConflict() && buffer.size() > maxBuffered) {
+            // 버퍼가 가득 차면 이번 저장분은 바로 반영
+            log.debug("Draft buffer is full ({}), persisting {} immediately", buffer.size(), key);
+            PendingDraft saved = pending;
+            persist(() -> buffer.get(key) == saved ? Map.of(key, saved) : Map.of());
+        }
+        return result[0];
+    }
+    
+    /**
+     * 최신 임시저장본 (반영 전이면 버퍼의 값)
+     */
+    public DraftDto getDraft(Long userId, DraftTargetType targetType, Long targetId) {
+        DraftKey key = key(userId, targetType, targetId);
+        PendingDraft pending = buffer.get(key);
+        if (pending != null) {
+            return pending.toDto(key);
+        }
+        
+        Draft draft = transactionTemplate.execute(status -> draftRepository
+                .findByUserIdAndTargetTypeAndTargetId(key.userId(), key.targetType(), key.targetId())
+                .orElse(null));
+        if (draft == null) {
+            throw new RuntimeException("임시저장본이 없습니다");
+        }
+        return DraftDto.from(draft);
+    }
+    
+    /**
+     * 임시저장본 삭제 (글을 등록/상신했거나 사용자가 버린 경우, 호출한 쪽 트랜잭션에 참여)
+     * 버퍼의 저장분은 커밋된 뒤에 빼고, 롤백되면 그대로 둔다.
+     */
+    public void discard(Long userId, DraftTargetType targetType, Long targetId) {
+        DraftKey key = key(userId, targetType, targetId);
+        PendingDraft buffered = buffer.get(key);
+        Discard discard = new Discard(discardSequence.incrementAndGet(), false);
+        discards.put(key, discard);
+        
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    draftRepository.deleteByTarget(key.userId(), key.targetType(), key.targetId()));
+        } catch (RuntimeException e) {
+            discards.remove(key, discard);
+            throw e;
+        }
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeDiscard(key, discard, buffered, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                completeDiscard(key, discard, buffered, status == STATUS_COMMITTED);
+            }
+        });
+    }
+    
+    /**
+     * 편집이 멈췄거나 오래 쌓인 임시저장본을 DB에 반영
+     * @return 반영된 임시저장본 수
+     */
+    public int flush() {
+        long now = System.currentTimeMillis();
+        return flush(pending -> now - pending.lastSavedMillis() >= idleMillis
+                || now - pending.firstBufferedMillis() >= maxDelayMillis);
+    }
+    
+    /**
+     * 버퍼의 임시저장본을 모두 반영
+     */
+    public int flushAll() {
+        return flush(pending -> true);
+    }
+    
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+    
+    @PreDestroy
+    public void drainOnShutdown() {
+        try {
+            int flushed = flushAll();
+            log.info("Drained buffered drafts on shutdown: {} drafts", flushed);
+        } catch (Exception e) {
+            log.error("Failed to drain buffered drafts on shutdown", e);
+        }
+    }
+    
+    private int flush(Predicate<PendingDraft> due) {
+        int flushed = persist(() -> {
+            Map<DraftKey, PendingDraft> snapshot = new HashMap<>();
+            buffer.forEach((key, pending) -> {
+                if (due.test(pending)) {
+                    snapshot.put(key, pending);
+                }
+            });
+            return snapshot;
+        });
+        if (flushed > 0) {
+            log.debug("Flushed {} drafts", flushed);
+        }
+        return flushed;
+    }
+    
+    /**
+     * 스냅샷을 한 트랜잭션에서 반영한 뒤, 그 사이 새로 저장되지 않은 항목만 버퍼에서 뺀다
+     * (실패하면 버퍼에 남겨 다음 주기에 다시 시도)
+     * 반영은 한 번에 하나씩 실행하므로, 이번 스냅샷보다 먼저 커밋된 삭제 기록은 더 이상 필요 없어 정리한다.
+     * @return 반영된 임시저장본 수
+     */
+    private synchronized int persist(Supplier<Map<DraftKey, PendingDraft>> snapshot) {
+        long snapshotSequence = discardSequence.get();
+        discards.values().removeIf(discard -> discard.committed() && discard.sequence() <= snapshotSequence);
+        Map<DraftKey, PendingDraft> entries = snapshot.get();
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        
+        Map<DraftKey, PendingDraft> persisted = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> entries.forEach((key, pending) -> {
+            // 스냅샷 이후에 삭제됐거나 삭제가 아직 커밋되지 않았으면 되살리지 않는다
+            if (isDiscardedAfter(key, snapshotSequence)) {
+                return;
+            }
+            persisted.put(key, pending);
+            Draft draft = draftRepository
+                    .findByUserIdAndTargetTypeAndTargetId(key.userId(), key.targetType(), key.targetId())
+                    .orElseGet(() -> Draft.builder()
+                            .userId(key.userId())
+                            .targetType(key.targetType())
+                            .targetId(key.targetId())
+                            .build());
+            if (draft.getVersion() != null && draft.getVersion() >= pending.version()) {
+                return;
+            }
+            draft.setTitle(pending.title());
+            draft.setContent(pending.content());
+            draft.setFormData(pending.formData());
+            draft.setVersion(pending.version());
+            draft.setSavedAt(pending.savedAt());
+            draftRepository.save(draft);
+        }));
+        
+        // 버퍼에서 빼기 전에 올려야 save가 빠진 항목을 보고 예전 DB version을 쓰는 일이 없다
+        persistEpoch.incrementAndGet();
+        persisted.forEach(buffer::remove);
+        return persisted.size();
+    }
+    
+    private boolean isDiscardedAfter(DraftKey key, long snapshotSequence) {
+        Discard discard = discards.get(key);
+        return discard != null && (!discard.committed() || discard.sequence() > snapshotSequence);
+    }
+    
+    /**
+     * 삭제 트랜잭션 종료 - 커밋되면 삭제 시점의 저장분을 버퍼에서 빼고(그 뒤의 새 저장분은 남긴다), 롤백되면 삭제 기록만 지운다
+     */
+    private void completeDiscard(DraftKey key, Discard discard, PendingDraft buffered, boolean committed) {
+        if (!committed) {
+            discards.remove(key, discard);
+            return;
+        }
+        if (buffered != null) {
+            buffer.remove(key, buffered);
+        }
+        discards.replace(key, discard, new Discard(discard.sequence(), true));
+    }
+    
+    private long storedVersion(DraftKey key) {
+        Long version = transactionTemplate.execute(status ->
+                draftRepository.findVersion(key.userId(), key.targetType(), key.targetId()).orElse(0L));
+        return version != null ? version : 0L;
+    }
+    
+    private DraftKey key(Long userId, DraftTargetType targetType, Long targetId) {
+        if (userId == null || targetType == null) {
+            throw new RuntimeException("임시저장 대상이 올바르지 않습니다");
+        }
+        // 새 결재 문서는 사용자별로 하나만 둔다
+        if (targetType == DraftTargetType.NEW_APPROVAL_DOCUMENT) {
+            return new DraftKey(userId, targetType, 0L);
+        }
+        if (targetId == null) {
+            throw new RuntimeException("임시저장 대상이 올바르지 않습니다");
+        }
+        return new DraftKey(userId, targetType, targetId);
+    }
+    
+    private record DraftKey(Long userId, DraftTargetType targetType, Long targetId) {
+    }
+    
+    /**
+     * @param sequence 삭제 순번 (반영 스냅샷의 순번과 비교)
+     * @param committed 삭제 트랜잭션이 커밋됐는지
+     */
+    private record Discard(long sequence, boolean committed) {
+    }
+    
+    /**
+     * @param firstBufferedMillis 버퍼에 처음 들어온 시각 (max-delay 기준)
+     * @param lastSavedMillis 마지막 저장 시각 (idle 기준)
+     */
+    private record PendingDraft(String title, String content, String formData, long version,
+                                LocalDateTime savedAt, long firstBufferedMillis, long lastSavedMillis) {
+        
+        DraftDto toDto(DraftKey key) {
+            return DraftDto.builder()
+                    .targetType(key.targetType())
+                    .targetId(key.targetId())
+                    .title(title)
+                    .content(content)
+                    .formData(formData)
+                    .version(version)
+                    .savedAt(savedAt)
+                    .build();
+        }
+    }
+}
\ No newline at end of file
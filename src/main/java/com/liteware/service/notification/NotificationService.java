@@ -1,5 +1,8 @@
 package com.liteware.service.notification;
 
+import com.liteware.common.PageCounter;
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CountedPage;
 import com.liteware.model.entity.notification.Notification;
 import com.liteware.model.entity.notification.Notification.NotificationPriority;
 import com.liteware.model.entity.notification.Notification.NotificationType;
@@ -9,6 +12,7 @@ import com.liteware.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +27,7 @@ public class NotificationService {
     
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final PageCounter pageCounter;
     
     /**
      * 알림 생성
@@ -71,6 +76,32 @@ public class NotificationService {
         return saved;
     }
     
+    /**
+     * 여러 알림을 한 번에 저장 (수신자는 조회하지 않고 참조로만 연결, INSERT는 JDBC 배치로 전송)
+     */
+    @Transactional
+    public void createNotifications(List<NotificationDto> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        
+        List<Notification> notifications = dtos.stream()
+                .map(dto -> Notification.builder()
+                        .recipient(userRepository.getReferenceById(dto.getUserId()))
+                        .type(dto.getType())
+                        .title(dto.getTitle())
+                        .message(dto.getMessage())
+                        .relatedEntityType(dto.getRelatedEntityType())
+                        .relatedEntityId(dto.getRelatedEntityId())
+                        .actionUrl(dto.getActionUrl())
+                        .priority(dto.getPriority() != null ? dto.getPriority() : NotificationPriority.NORMAL)
+                        .expiredAt(dto.getExpiredAt())
+                        .build())
+                .toList();
+        
+        notificationRepository.saveAll(notifications).forEach(this::sendRealTimeNotification);
+    }
+    
     /**
      * 사용자의 알림 목록 조회
      */
@@ -81,6 +112,19 @@ public class NotificationService {
         return notificationRepository.findByRecipientUserIdAndIsDeleted(userId, false, pageable);
     }
     
+    /**
+     * 사용자의 알림 목록 조회 (전체 건수 계산 방식 지정)
+     */
+    public CountedPage<Notification> getUserNotifications(Long userId, Boolean isRead, Pageable pageable,
+                                                          CountMode countMode) {
+        List<Notification> notifications = notificationRepository.findActiveByRecipient(userId, isRead, pageable);
+        // isRead가 null일 수 있어 캐시 키에는 문자열로 넣는다
+        List<Object> cacheKey = List.of("notification", userId, String.valueOf(isRead));
+        return pageCounter.toPage(notifications, pageable, countMode, cacheKey, PageCounter.CountQuery.of(
+                () -> notificationRepository.countActiveByRecipient(userId, isRead),
+                limit -> notificationRepository.findActiveIdsByRecipient(userId, isRead, PageRequest.of(0, limit)).size()));
+    }
+    
     /**
      * 읽지 않은 알림 개수 조회
      */
@@ -154,7 +198,22 @@ public class NotificationService {
      */
     @Transactional
     public void createApprovalRequestNotification(Long approverId, Long documentId, String documentTitle) {
-        NotificationDto dto = NotificationDto.builder()
+        createDetailedNotification(approvalRequest(approverId, documentId, documentTitle));
+    }
+    
+    /**
+     * 결재 완료 알림 생성
+     */
+    @Transactional
+    public void createApprovalCompletedNotification(Long drafterId, Long documentId, String documentTitle, boolean isApproved) {
+        createDetailedNotification(approvalCompleted(drafterId, documentId, documentTitle, isApproved));
+    }
+    
+    /**
+     * 결재 요청 알림 내용
+     */
+    public static NotificationDto approvalRequest(Long approverId, Long documentId, String documentTitle) {
+        return NotificationDto.builder()
                 .userId(approverId)
                 .type(NotificationType.APPROVAL_REQUEST)
                 .title("결재 요청")
@@ -164,19 +223,16 @@ public class NotificationService {
                 .actionUrl("/approval/" + documentId)
                 .priority(NotificationPriority.HIGH)
                 .build();
-        
-        createDetailedNotification(dto);
     }
     
     /**
-     * 결재 완료 알림 생성
+     * 결재 완료 알림 내용
      */
-    @Transactional
-    public void createApprovalCompletedNotification(Long drafterId, Long documentId, String documentTitle, boolean isApproved) {
+    public static NotificationDto approvalCompleted(Long drafterId, Long documentId, String documentTitle, boolean isApproved) {
         NotificationType type = isApproved ? NotificationType.APPROVAL_APPROVED : NotificationType.APPROVAL_REJECTED;
         String status = isApproved ? "승인" : "반려";
         
-        NotificationDto dto = NotificationDto.builder()
+        return NotificationDto.builder()
                 .userId(drafterId)
                 .type(type)
                 .title("결재 " + status)
@@ -186,8 +242,6 @@ public class NotificationService {
                 .actionUrl("/approval/" + documentId)
                 .priority(NotificationPriority.NORMAL)
                 .build();
-        
-        createDetailedNotification(dto);
     }
     
     /**
@@ -1,5 +1,8 @@
 package com.liteware.service.user;
 
+import com.liteware.common.PageCounter;
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CountedPage;
 import com.liteware.model.dto.UserDto;
 import com.liteware.model.entity.Department;
 import com.liteware.model.entity.Position;
@@ -9,6 +12,8 @@ import com.liteware.repository.PositionRepository;
 import com.liteware.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +29,7 @@ public class UserService {
     private final DepartmentRepository departmentRepository;
     private final PositionRepository positionRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PageCounter pageCounter;
     
     /**
      * 모든 사용자 조회 (부서, 직급, 권한 정보 포함)
@@ -58,6 +64,17 @@ public class UserService {
                 keyword, keyword, keyword);
     }
     
+    /**
+     * 사용자 검색 (페이지, 전체 건수 계산 방식 지정)
+     */
+    @Transactional(readOnly = true)
+    public CountedPage<User> searchUsers(String keyword, Pageable pageable, CountMode countMode) {
+        List<User> users = userRepository.searchUserList(keyword, pageable);
+        return pageCounter.toPage(users, pageable, countMode, List.of("user-search", keyword), PageCounter.CountQuery.of(
+                () -> userRepository.countSearchUsers(keyword),
+                limit -> userRepository.findSearchUserIds(keyword, PageRequest.of(0, limit)).size()));
+    }
+    
     /**
      * 사용자 정보 수정
      */
@@ -0,0 +1,202 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.dto.ApprovalDocumentDto;
+import com.liteware.model.dto.ApprovalEventDto;
+import com.liteware.model.dto.ApprovalLineDto;
+import com.liteware.model.dto.ApprovalReplayState;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.approval.*;
+import com.liteware.service.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApprovalEventServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private ApprovalService approvalService;
+    
+    @Autowired
+    private ApprovalEventService eventService;
+    
+    private User drafter;
+    private User approver1;
+    private User approver2;
+    
+    @BeforeEach
+    void setUp() {
+        drafter = createUser("event_drafter", "기안자", "event_drafter@example.com", department, position);
+        approver1 = createUser("event_approver1", "결재자1", "event_approver1@example.com", department, position);
+        approver2 = createUser("event_approver2", "결재자2", "event_approver2@example.com", department, position);
+    }
+    
+    @Test
+    @DisplayName("상태 전이마다 이력을 남기고 타임라인으로 조회")
+    void transitions_AreRecordedInTimeline() {
+        // given
+        ApprovalDocument document = submittedDocument();
+        
+        // when
+        approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인");
+        approvalService.rejectDocument(document.getDocId(), approver2.getUserId(), "예산 초과");
+        
+        // then
+        List<ApprovalEventDto> timeline = eventService.getTimeline(document.getDocId());
+        assertThat(timeline).extracting(ApprovalEventDto::getEventType).containsExactly(
+                ApprovalEventType.DRAFTED, ApprovalEventType.SUBMITTED,
+                ApprovalEventType.APPROVED, ApprovalEventType.REJECTED);
+        assertThat(timeline).extracting(ApprovalEventDto::getActorName)
+                .containsExactly("기안자", "기안자", "결재자1", "결재자2");
+        assertThat(timeline).extracting(ApprovalEventDto::getDocumentStatus).containsExactly(
+                DocumentStatus.DRAFT, DocumentStatus.PENDING, DocumentStatus.PENDING, DocumentStatus.REJECTED);
+        assertThat(timeline.get(1).getCurrentApproverId()).isEqualTo(approver1.getUserId());
+        assertThat(timeline.get(2).getCurrentApproverId()).isEqualTo(approver2.getUserId());
+        assertThat(timeline.get(3).getComment()).isEqualTo("예산 초과");
+    }
+    
+    @Test
+    @DisplayName("이력을 재생하면 현재 문서 상태와 같고 지정 시점의 상태도 재구성")
+    void replay_RebuildsDocumentState() throws InterruptedException {
+        // given
+        ApprovalDocument document = submittedDocument();
+        LocalDateTime afterSubmit = LocalDateTime.now();
+        Thread.sleep(5);
+        approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인");
+        approvalService.approveDocument(document.getDocId(), approver2.getUserId(), "최종 승인");
+        
+        // when
+        ApprovalReplayState current = eventService.replay(document.getDocId());
+        ApprovalReplayState atSubmit = eventService.replay(document.getDocId(), afterSubmit);
+        
+        // then
+        ApprovalDocument actual = approvalService.getDocument(document.getDocId());
+        assertThat(current.getStatus()).isEqualTo(actual.getStatus()).isEqualTo(DocumentStatus.APPROVED);
+        assertThat(current.getCurrentApproverId()).isNull();
+        assertThat(current.getLineStatuses()).hasSize(2).containsValues(ApprovalStatus.APPROVED);
+        assertThat(current.getCompletedAt()).isNotNull();
+        assertThat(current.getTurnaroundSeconds()).isNotNull();
+        assertThat(current.getAppliedEvents()).isEqualTo(4);
+        
+        assertThat(atSubmit.getStatus()).isEqualTo(DocumentStatus.PENDING);
+        assertThat(atSubmit.getCurrentApproverId()).isEqualTo(approver1.getUserId());
+        assertThat(atSubmit.getLineStatuses()).isEmpty();
+        assertThat(atSubmit.getCompletedAt()).isNull();
+    }
+    
+    @Test
+    @DisplayName("대리 결재와 회수도 이력에 남음")
+    void delegationAndCancel_AreRecorded() {
+        // given
+        User delegate = createUser("event_delegate", "대리결재자", "event_delegate@example.com", department, position);
+        ApprovalDocument document = submittedDocument();
+        approvalService.delegateApproval(approver1.getUserId(), delegate.getUserId(),
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusDays(1));
+        
+        // when
+        approvalService.approveDelegatedDocument(document.getDocId(), delegate.getUserId(), "대리 승인");
+        approvalService.cancelDocument(document.getDocId(), drafter.getUserId());
+        
+        // then
+        List<ApprovalEventDto> timeline = eventService.getTimeline(document.getDocId());
+        assertThat(timeline).extracting(ApprovalEventDto::getEventType).containsExactly(
+                ApprovalEventType.DRAFTED, ApprovalEventType.SUBMITTED, ApprovalEventType.DELEGATED,
+                ApprovalEventType.APPROVED, ApprovalEventType.CANCELLED);
+        ApprovalEventDto delegated = timeline.get(2);
+        assertThat(delegated.getActorName()).isEqualTo("대리결재자");
+        assertThat(delegated.getOnBehalfOfName()).isEqualTo("결재자1");
+        
+        ApprovalReplayState state = eventService.replay(document.getDocId());
+        assertThat(state.getStatus()).isEqualTo(DocumentStatus.CANCELLED);
+        assertThat(state.getDelegates()).containsEntry(delegated.getLineId(), delegate.getUserId());
+    }
+    
+    @Test
+    @DisplayName("정족수를 채워 건너뛴 결재선도 이력에 남고 재생에 반영")
+    void skippedLines_AreRecordedAndReplayed() {
+        // given - 둘 중 한 명만 승인하면 되는 합의 그룹
+        ApprovalDocumentDto dto = new ApprovalDocumentDto();
+        dto.setDocType(DocumentType.GENERAL_APPROVAL);
+        dto.setTitle("합의 결재");
+        dto.setContent("본문");
+        dto.setDrafterId(drafter.getUserId());
+        ApprovalDocument document = approvalService.draftDocument(dto);
+        ApprovalLineDto first = line(approver1, 1);
+        ApprovalLineDto second = line(approver2, 1);
+        first.setQuorumRule(QuorumRule.ANY);
+        second.setQuorumRule(QuorumRule.ANY);
+        approvalService.setApprovalLine(document.getDocId(), List.of(first, second));
+        approvalService.submitDocument(document.getDocId());
+        
+        // when
+        approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인");
+        
+        // then
+        List<ApprovalEventDto> timeline = eventService.getTimeline(document.getDocId());
+        assertThat(timeline).extracting(ApprovalEventDto::getEventType).containsExactly(
+                ApprovalEventType.DRAFTED, ApprovalEventType.SUBMITTED,
+                ApprovalEventType.APPROVED, ApprovalEventType.SKIPPED);
+        ApprovalEventDto skipped = timeline.get(3);
+        assertThat(skipped.getActorId()).isNull();
+        assertThat(skipped.getDocumentStatus()).isEqualTo(DocumentStatus.APPROVED);
+        
+        ApprovalReplayState state = eventService.replay(document.getDocId());
+        assertThat(state.getStatus()).isEqualTo(DocumentStatus.APPROVED);
+        assertThat(state.getLineStatuses()).containsEntry(timeline.get(2).getLineId(), ApprovalStatus.APPROVED)
+                .containsEntry(skipped.getLineId(), ApprovalStatus.SKIPPED);
+        
+        ApprovalDocument actual = approvalService.getDocument(document.getDocId());
+        for (ApprovalLine line : actual.getApprovalLines()) {
+            assertThat(state.getLineStatuses()).containsEntry(line.getLineId(), line.getStatus());
+        }
+    }
+    
+    @Test
+    @DisplayName("보존 기간이 지난 월의 이력 정리")
+    void purgeBefore_DeletesOlderMonths() {
+        // given
+        ApprovalDocument document = submittedDocument();
+        
+        // when
+        int kept = eventService.purgeBefore(YearMonth.now());
+        int purged = eventService.purgeBefore(YearMonth.now().plusMonths(1));
+        
+        // then
+        assertThat(kept).isZero();
+        assertThat(purged).isGreaterThanOrEqualTo(2);
+        assertThat(eventService.getTimeline(document.getDocId())).isEmpty();
+        assertThatThrownBy(() -> eventService.replay(document.getDocId()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("결재 이력이 없습니다");
+    }
+    
+    private ApprovalDocument submittedDocument() {
+        ApprovalDocumentDto dto = new ApprovalDocumentDto();
+        dto.setDocType(DocumentType.GENERAL_APPROVAL);
+        dto.setTitle("일반 결재");
+        dto.setContent("본문");
+        dto.setDrafterId(drafter.getUserId());
+        ApprovalDocument document = approvalService.draftDocument(dto);
+        
+        approvalService.setApprovalLine(document.getDocId(), List.of(
+                line(approver1, 1),
+                line(approver2, 2)));
+        return approvalService.submitDocument(document.getDocId());
+    }
+    
+    private ApprovalLineDto line(User approver, int orderSeq) {
+        ApprovalLineDto line = new ApprovalLineDto();
+        line.setApproverId(approver.getUserId());
+        line.setApprovalType(ApprovalType.APPROVAL);
+        line.setOrderSeq(orderSeq);
+        line.setIsOptional(false);
+        return line;
+    }
+}
\ No newline at end of file
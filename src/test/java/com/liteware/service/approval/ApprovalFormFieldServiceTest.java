@@ -0,0 +1,156 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.dto.ApprovalDocumentDto;
+import com.liteware.model.dto.FormFieldCondition;
+import com.liteware.model.dto.FormFieldSearchRequest;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.model.entity.approval.DocumentType;
+import com.liteware.service.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApprovalFormFieldServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private ApprovalService approvalService;
+    
+    @Autowired
+    private ApprovalFormFieldService formFieldService;
+    
+    private User drafter;
+    
+    @BeforeEach
+    void setUp() {
+        drafter = createUser("form_drafter", "기안자", "form_drafter@example.com", department, position);
+    }
+    
+    @Test
+    @DisplayName("저장 시 양식별 필드를 타입에 맞게 색인")
+    void draftDocument_IndexesTypedFields() {
+        // when
+        ApprovalDocument document = draft(DocumentType.EXPENSE_REQUEST,
+                "{\"amount\":\"1,250,000\",\"expenseDate\":\"2026-10-01\",\"projectCode\":\"PRJ-7\"," +
+                "\"category\":\"회식\",\"memo\":\"색인 대상 아님\"}");
+        
+        // then
+        assertThat(formFieldService.getFields(document.getDocId()))
+                .containsEntry("amount", new BigDecimal("1250000.00"))
+                .containsEntry("expenseDate", LocalDate.of(2026, 10, 1))
+                .containsEntry("projectCode", "PRJ-7")
+                .containsEntry("category", "회식")
+                .doesNotContainKey("memo");
+    }
+    
+    @Test
+    @DisplayName("수정 시 색인을 다시 쓰고 형식이 맞지 않는 값은 건너뜀")
+    void updateDocument_ReindexesAndSkipsInvalidValues() {
+        // given
+        ApprovalDocument document = draft(DocumentType.EXPENSE_REQUEST, "{\"amount\":1000,\"projectCode\":\"PRJ-1\"}");
+        
+        // when
+        ApprovalDocumentDto dto = new ApprovalDocumentDto();
+        dto.setTitle("경비 청구");
+        dto.setFormData("{\"amount\":\"미정\",\"expenseDate\":\"2026-10-02T10:00\"}");
+        approvalService.updateDocument(document.getDocId(), dto);
+        
+        // then
+        assertThat(formFieldService.getFields(document.getDocId()))
+                .containsOnlyKeys("expenseDate")
+                .containsEntry("expenseDate", LocalDate.of(2026, 10, 2));
+        
+        // JSON이 아니면 색인하지 않는다
+        dto.setFormData("not json");
+        approvalService.updateDocument(document.getDocId(), dto);
+        assertThat(formFieldService.getFields(document.getDocId())).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("여러 필드 조건을 모두 만족하는 문서를 정렬 필드 순으로 조회")
+    void findDocIds_FiltersAndSortsByFields() {
+        // given
+        ApprovalDocument small = draft(DocumentType.EXPENSE_REQUEST, "{\"amount\":50000,\"projectCode\":\"PRJ-1\",\"expenseDate\":\"2026-10-03\"}");
+        ApprovalDocument large = draft(DocumentType.PURCHASE_REQUEST, "{\"amount\":900000,\"projectCode\":\"PRJ-1\"}");
+        ApprovalDocument middle = draft(DocumentType.EXPENSE_REQUEST, "{\"amount\":300000,\"projectCode\":\"PRJ-1\",\"expenseDate\":\"2026-09-15\"}");
+        draft(DocumentType.EXPENSE_REQUEST, "{\"amount\":700000,\"projectCode\":\"PRJ-2\"}");
+        draft(DocumentType.EXPENSE_REQUEST, "{\"amount\":10,\"projectCode\":\"PRJ-1\"}");
+        
+        // when - PRJ-1 이면서 금액 1만원 이상, 금액 큰 순
+        Page<Long> byAmount = formFieldService.findDocIds(FormFieldSearchRequest.builder()
+                .conditions(List.of(
+                        FormFieldCondition.equalTo("projectCode", "PRJ-1"),
+                        FormFieldCondition.numberBetween("amount", new BigDecimal("10000"), null)))
+                .sortKey("amount")
+                .direction(Sort.Direction.DESC)
+                .size(2)
+                .build());
+        
+        // then
+        assertThat(byAmount.getTotalElements()).isEqualTo(3);
+        assertThat(byAmount.getContent()).containsExactly(large.getDocId(), middle.getDocId());
+        
+        // when - 조건에 없는 필드로 정렬하면 값이 없는 문서는 뒤로
+        Page<Long> byDate = formFieldService.findDocIds(FormFieldSearchRequest.builder()
+                .conditions(List.of(FormFieldCondition.numberBetween("amount", new BigDecimal("10000"), new BigDecimal("900000"))))
+                .sortKey("expenseDate")
+                .build());
+        
+        // then
+        assertThat(byDate.getContent()).startsWith(middle.getDocId(), small.getDocId()).hasSize(4);
+        
+        // when - 날짜 범위
+        Page<Long> inOctober = formFieldService.findDocIds(FormFieldSearchRequest.builder()
+                .conditions(List.of(FormFieldCondition.dateBetween("expenseDate",
+                        LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 31))))
+                .build());
+        assertThat(inOctober.getContent()).containsExactly(small.getDocId());
+    }
+    
+    @Test
+    @DisplayName("알 수 없는 필드나 값 종류가 맞지 않는 조건은 거부")
+    void findDocIds_InvalidCondition_ThrowsException() {
+        assertThatThrownBy(() -> formFieldService.findDocIds(FormFieldSearchRequest.builder()
+                .conditions(List.of(FormFieldCondition.equalTo("memo", "x"))).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> formFieldService.findDocIds(FormFieldSearchRequest.builder()
+                .conditions(List.of(FormFieldCondition.equalTo("amount", "100"))).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("전체 재색인")
+    void rebuild_IndexesAllDocuments() {
+        // given
+        ApprovalDocument document = draft(DocumentType.BUSINESS_TRIP,
+                "{\"destination\":\"부산\",\"startDate\":\"2026-11-02\",\"endDate\":\"2026-11-04\"}");
+        
+        // when
+        int indexed = formFieldService.rebuild();
+        
+        // then
+        assertThat(indexed).isGreaterThanOrEqualTo(3);
+        assertThat(formFieldService.getFields(document.getDocId()))
+                .containsOnlyKeys("destination", "endDate", "startDate");
+    }
+    
+    private ApprovalDocument draft(DocumentType docType, String formData) {
+        ApprovalDocumentDto dto = new ApprovalDocumentDto();
+        dto.setDocType(docType);
+        dto.setTitle(docType.getDescription());
+        dto.setContent("본문");
+        dto.setFormData(formData);
+        dto.setDrafterId(drafter.getUserId());
+        return approvalService.draftDocument(dto);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.dto.ApprovalDocumentDto;
+import com.liteware.model.dto.ApprovalLineDto;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.approval.*;
+import com.liteware.model.entity.notification.Notification;
+import com.liteware.model.entity.notification.Notification.NotificationType;
+import com.liteware.repository.NotificationRepository;
+import com.liteware.repository.approval.ApprovalOutboxEventRepository;
+import com.liteware.service.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ApprovalOutboxDispatcherTest extends BaseServiceTest {
+    
+    @Autowired
+    private ApprovalService approvalService;
+    
+    @Autowired
+    private ApprovalOutboxDispatcher outboxDispatcher;
+    
+    @Autowired
+    private ApprovalOutboxEventRepository outboxRepository;
+    
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @MockBean
+    private ApprovalWorkflowService workflowService;
+    
+    private User drafter;
+    private User approver;
+    
+    @BeforeEach
+    void setUp() {
+        drafter = createUser("outbox_drafter", "기안자", "outbox_drafter@example.com", department, position);
+        approver = createUser("outbox_approver", "결재자", "outbox_approver@example.com", department, position);
+    }
+    
+    @Test
+    @DisplayName("결재 트랜잭션은 이벤트만 남기고 후처리와 알림은 발송 시 실행")
+    void approveDocument_WritesEventsAndDispatchRunsSideEffects() {
+        // given
+        ApprovalDocument document = submittedDocument();
+        
+        // when
+        approvalService.approveDocument(document.getDocId(), approver.getUserId(), "승인");
+        
+        // then - 아직 후처리/알림 없음
+        verify(workflowService, never()).onDocumentApproved(any());
+        assertThat(notificationsOf(drafter)).isEmpty();
+        assertThat(outboxRepository.countByStatus(ApprovalOutboxEvent.Status.PENDING)).isEqualTo(2);
+        
+        // when - 발송
+        int dispatched = outboxDispatcher.dispatch();
+        
+        // then
+        assertThat(dispatched).isEqualTo(2);
+        verify(workflowService, times(1)).onDocumentApproved(any(ApprovalDocument.class));
+        assertThat(notificationsOf(approver)).extracting("type").containsExactly(NotificationType.APPROVAL_REQUEST);
+        assertThat(notificationsOf(drafter)).extracting("type").containsExactly(NotificationType.APPROVAL_APPROVED);
+        assertThat(outboxRepository.countByStatus(ApprovalOutboxEvent.Status.PENDING)).isZero();
+        assertThat(outboxRepository.countByStatus(ApprovalOutboxEvent.Status.DONE)).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("처리된 이벤트는 다시 발송해도 중복 실행되지 않음")
+    void dispatch_IsIdempotent() {
+        // given
+        ApprovalDocument document = submittedDocument();
+        approvalService.rejectDocument(document.getDocId(), approver.getUserId(), "반려 사유");
+        outboxDispatcher.dispatch();
+        
+        // when
+        int dispatched = outboxDispatcher.dispatch();
+        
+        // then
+        assertThat(dispatched).isZero();
+        verify(workflowService, times(1)).onDocumentRejected(any(ApprovalDocument.class), eq("반려 사유"));
+        assertThat(notificationsOf(drafter)).extracting("type").containsExactly(NotificationType.APPROVAL_REJECTED);
+    }
+    
+    @Test
+    @DisplayName("후처리 실패 시 지연 후 재시도하고 최대 횟수에 도달하면 FAILED")
+    void dispatch_FailureIsRetriedWithBackoff() {
+        // given
+        ApprovalDocument document = submittedDocument();
+        outboxDispatcher.dispatch();
+        doThrow(new RuntimeException("연차 부족")).when(workflowService).onDocumentApproved(any());
+        approvalService.approveDocument(document.getDocId(), approver.getUserId(), "승인");
+        
+        // when - 첫 실패
+        int dispatched = outboxDispatcher.dispatch();
+        
+        // then - 다음 시도 시각 전에는 다시 잡지 않는다
+        ApprovalOutboxEvent event = approvedEvent();
+        assertThat(dispatched).isZero();
+        assertThat(event.getStatus()).isEqualTo(ApprovalOutboxEvent.Status.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).isEqualTo("연차 부족");
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        verify(workflowService, times(1)).onDocumentApproved(any());
+        
+        // when - 마지막 시도까지 실패
+        event.setAttempts(4);
+        event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxDispatcher.dispatch();
+        
+        // then
+        assertThat(approvedEvent().getStatus()).isEqualTo(ApprovalOutboxEvent.Status.FAILED);
+        assertThat(notificationsOf(drafter)).isEmpty();
+    }
+    
+    private ApprovalOutboxEvent approvedEvent() {
+        return outboxRepository.findAll().stream()
+                .filter(e -> e.getEventType() == ApprovalOutboxEvent.EventType.DOCUMENT_APPROVED)
+                .findFirst()
+                .orElseThrow();
+    }
+    
+    private ApprovalDocument submittedDocument() {
+        ApprovalDocumentDto dto = new ApprovalDocumentDto();
+        dto.setDocType(DocumentType.LEAVE_REQUEST);
+        dto.setTitle("연차 신청");
+        dto.setContent("개인 사유로 연차 신청합니다.");
+        dto.setDrafterId(drafter.getUserId());
+        dto.setUrgency(UrgencyType.NORMAL);
+        ApprovalDocument document = approvalService.draftDocument(dto);
+        
+        ApprovalLineDto line = new ApprovalLineDto();
+        line.setApproverId(approver.getUserId());
+        line.setApprovalType(ApprovalType.APPROVAL);
+        line.setOrderSeq(1);
+        line.setIsOptional(false);
+        approvalService.setApprovalLine(document.getDocId(), List.of(line));
+        
+        return approvalService.submitDocument(document.getDocId());
+    }
+    
+    private List<Notification> notificationsOf(User user) {
+        return notificationRepository.findByRecipientUserIdAndIsReadAndIsDeleted(user.getUserId(), false, false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.dto.ApprovalDocumentDto;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.approval.ApprovalDocument;
+import com.liteware.model.entity.approval.DocumentType;
+import com.liteware.service.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApprovalSearchServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private ApprovalService approvalService;
+    
+    @Autowired
+    private ApprovalSearchService searchService;
+    
+    @Autowired
+    private MySqlApprovalSearchProvider mySqlProvider;
+    
+    @Autowired
+    private PostgresApprovalSearchProvider postgresProvider;
+    
+    @Autowired
+    private LikeApprovalSearchProvider likeProvider;
+    
+    private User drafter;
+    
+    @BeforeEach
+    void setUp() {
+        drafter = createUser("search_drafter", "기안자", "search_drafter@example.com", department, position);
+    }
+    
+    @Test
+    @DisplayName("데이터소스 종류에 맞는 검색 구현 선택")
+    void select_ByDatabaseProduct() {
+        List<ApprovalSearchProvider> providers = List.of(mySqlProvider, postgresProvider, likeProvider);
+        
+        assertThat(ApprovalSearchService.select(providers, "MySQL")).isSameAs(mySqlProvider);
+        assertThat(ApprovalSearchService.select(providers, "PostgreSQL")).isSameAs(postgresProvider);
+        assertThat(ApprovalSearchService.select(providers, "H2")).isSameAs(likeProvider);
+        assertThat(searchService.provider()).isSameAs(likeProvider);
+    }
+    
+    @Test
+    @DisplayName("제목, 본문, 양식 데이터를 검색하고 관련도 순으로 정렬")
+    void search_RanksTitleAboveContentAndFormData() {
+        // given
+        ApprovalDocument formMatch = draft("출장 신청", "일정 첨부", "{\"destination\":\"제주 워크숍\"}");
+        ApprovalDocument contentMatch = draft("경비 청구", "워크숍 다과 비용", null);
+        ApprovalDocument titleMatch = draft("워크숍 장소 대관", "본문", null);
+        draft("연차 신청", "개인 사유", null);
+        
+        // when
+        Page<ApprovalDocument> result = searchService.search("워크숍", PageRequest.of(0, 10));
+        
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(ApprovalDocument::getDocId)
+                .containsExactly(titleMatch.getDocId(), contentMatch.getDocId(), formMatch.getDocId());
+    }
+    
+    @Test
+    @DisplayName("검색 결과 페이징과 삭제 문서 제외")
+    void search_PagesAndSkipsDeleted() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            draft("분기 보고 " + i, "본문", null);
+        }
+        ApprovalDocument deleted = draft("분기 보고 삭제", "본문", null);
+        deleted.setIsDeleted(true);
+        
+        // when
+        Page<ApprovalDocument> first = searchService.search("분기 보고", PageRequest.of(0, 2));
+        Page<ApprovalDocument> last = searchService.search("분기 보고", PageRequest.of(2, 2));
+        
+        // then
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(first.getContent()).noneMatch(doc -> doc.getDocId().equals(deleted.getDocId()));
+    }
+    
+    @Test
+    @DisplayName("검색어의 % 와 _ 는 문자 그대로 일치")
+    void search_EscapesWildcards() {
+        // given
+        draft("할인율 10% 적용", "본문", null);
+        draft("할인율 100 적용", "본문", null);
+        
+        // when
+        Page<ApprovalDocument> result = searchService.search("10%", PageRequest.of(0, 10));
+        
+        // then
+        assertThat(result.getContent()).extracting(ApprovalDocument::getTitle).containsExactly("할인율 10% 적용");
+        assertThat(searchService.search("  ", PageRequest.of(0, 10))).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("PostgreSQL 구현은 한글 검색어를 어절 일부로도 찾도록 부분 일치로 검색")
+    void postgresSearch_KoreanPartialWord() {
+        // given
+        ApprovalDocument titleMatch = draft("회의실 예약 요청", "본문", null);
+        ApprovalDocument contentMatch = draft("장비 구매", "대회의실 프로젝터 교체", null);
+        draft("연차 신청", "개인 사유", null);
+        entityManager.flush();
+        
+        // when - 'simple' tsvector는 "회의실"을 한 토큰으로 색인해 "회의"로는 찾지 못한다
+        ApprovalSearchProvider.Hits hits = postgresProvider.search("회의", PageRequest.of(0, 10));
+        
+        // then
+        assertThat(PostgresApprovalSearchProvider.containsHangul("회의")).isTrue();
+        assertThat(PostgresApprovalSearchProvider.containsHangul("budget 2026")).isFalse();
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.docIds()).containsExactly(titleMatch.getDocId(), contentMatch.getDocId());
+    }
+    
+    private ApprovalDocument draft(String title, String content, String formData) {
+        ApprovalDocumentDto dto = new ApprovalDocumentDto();
+        dto.setDocType(DocumentType.GENERAL_APPROVAL);
+        dto.setTitle(title);
+        dto.setContent(content);
+        dto.setFormData(formData);
+        dto.setDrafterId(drafter.getUserId());
+        return approvalService.draftDocument(dto);
+    }
+}
\ No newline at end of file
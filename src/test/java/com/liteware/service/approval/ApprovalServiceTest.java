@@ -2,9 +2,14 @@ package com.liteware.service.approval;
 
 import com.liteware.model.dto.ApprovalDocumentDto;
 import com.liteware.model.dto.ApprovalLineDto;
+import com.liteware.model.dto.BulkApprovalResult;
 import com.liteware.model.entity.User;
+import com.liteware.model.entity.UserStatus;
 import com.liteware.model.entity.approval.*;
+import com.liteware.repository.approval.ApprovalDelegationRepository;
 import com.liteware.service.BaseServiceTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,10 +18,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.transaction.TestTransaction;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,6 +34,12 @@ class ApprovalServiceTest extends BaseServiceTest {
     @Autowired
     private ApprovalService approvalService;
     
+    @Autowired
+    private ApprovalDelegationIndex delegationIndex;
+    
+    @Autowired
+    private ApprovalDelegationRepository delegationRepository;
+    
     private User drafter;
     private User approver1;
     private User approver2;
@@ -173,8 +187,8 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         // when
         ApprovalDocument approvedDoc = approvalService.approveDocument(
-                document.getDocId(), 
-                approver1.getUserId(), 
+                document.getDocId(),
+                approver1.getUserId(),
                 "승인합니다"
         );
         
@@ -196,8 +210,8 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         // when - 두 번째(최종) 결재자 승인
         ApprovalDocument finalDoc = approvalService.approveDocument(
-                document.getDocId(), 
-                approver2.getUserId(), 
+                document.getDocId(),
+                approver2.getUserId(),
                 "최종 승인"
         );
         
@@ -217,8 +231,8 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         // when & then - approver2가 순서가 아닌데 승인 시도
         assertThatThrownBy(() -> approvalService.approveDocument(
-                document.getDocId(), 
-                approver2.getUserId(), 
+                document.getDocId(),
+                approver2.getUserId(),
                 "승인"
         ))
                 .isInstanceOf(RuntimeException.class)
@@ -235,8 +249,8 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         // when
         ApprovalDocument rejectedDoc = approvalService.rejectDocument(
-                document.getDocId(), 
-                approver1.getUserId(), 
+                document.getDocId(),
+                approver1.getUserId(),
                 "내용이 부족합니다"
         );
         
@@ -256,7 +270,7 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         // when
         ApprovalDocument cancelledDoc = approvalService.cancelDocument(
-                document.getDocId(), 
+                document.getDocId(),
                 drafter.getUserId()
         );
         
@@ -276,7 +290,7 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         // when & then
         assertThatThrownBy(() -> approvalService.cancelDocument(
-                document.getDocId(), 
+                document.getDocId(),
                 approver1.getUserId()
         ))
                 .isInstanceOf(RuntimeException.class)
@@ -314,6 +328,93 @@ class ApprovalServiceTest extends BaseServiceTest {
         assertThat(draftedDocs).allMatch(doc -> doc.getDrafter().getUserId().equals(drafter.getUserId()));
     }
     
+    @Test
+    @DisplayName("기안 문서함 페이지 조회 - DB에서 페이징 및 전체 건수 계산")
+    void getDraftedDocumentsPage_Success() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            createTestDocument();
+        }
+        
+        // when
+        Page<ApprovalDocument> firstPage = approvalService.getDraftedDocuments(drafter.getUserId(), PageRequest.of(0, 2));
+        Page<ApprovalDocument> lastPage = approvalService.getDraftedDocuments(drafter.getUserId(), PageRequest.of(2, 2));
+        
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(5);
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(lastPage.getContent()).hasSize(1);
+        assertThat(approvalService.countDraftedDocuments(drafter.getUserId())).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("결재 대기함 및 참조 문서함 페이지 조회")
+    void getPendingAndReferencedDocumentsPage_Success() {
+        // given
+        document = createTestDocument();
+        setApprovalLines(document);
+        approvalService.setReferences(document.getDocId(), List.of(approver2.getUserId()));
+        approvalService.submitDocument(document.getDocId());
+        
+        // when
+        Page<ApprovalDocument> pending = approvalService.getPendingDocuments(approver1.getUserId(), PageRequest.of(0, 10));
+        Page<ApprovalDocument> referenced = approvalService.getReferencedDocuments(approver2.getUserId(), PageRequest.of(0, 10));
+        
+        // then
+        assertThat(pending.getTotalElements()).isEqualTo(1);
+        assertThat(pending.getContent().get(0).getDocId()).isEqualTo(document.getDocId());
+        assertThat(referenced.getTotalElements()).isEqualTo(1);
+        assertThat(referenced.getContent().get(0).getDocId()).isEqualTo(document.getDocId());
+    }
+    
+    @Test
+    @DisplayName("목록 조회는 문서 수와 무관하게 일정한 쿼리 수로 처리")
+    void getDraftedDocumentsPage_QueryCountDoesNotGrowWithDocuments() {
+        // given
+        createTestDocument();
+        long singleDocumentQueries = countQueries(() -> approvalService
+                .getDraftedDocuments(drafter.getUserId(), PageRequest.of(0, 3))
+                .forEach(this::touchSummary));
+        
+        for (int i = 0; i < 9; i++) {
+            ApprovalDocument doc = createTestDocument();
+            setApprovalLines(doc);
+        }
+        
+        // when
+        long pageQueries = countQueries(() -> approvalService
+                .getDraftedDocuments(drafter.getUserId(), PageRequest.of(0, 5))
+                .forEach(this::touchSummary));
+        
+        // then - 목록 조회 1회 + 카운트 1회
+        assertThat(singleDocumentQueries).isPositive();
+        assertThat(pageQueries).isLessThanOrEqualTo(singleDocumentQueries + 1);
+        assertThat(pageQueries).isLessThanOrEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("상세 조회는 결재선 수와 무관하게 일정한 쿼리 수로 처리")
+    void getDocument_QueryCountDoesNotGrowWithApprovalLines() {
+        // given
+        document = createTestDocument();
+        setApprovalLines(document);
+        approvalService.setReferences(document.getDocId(), List.of(approver1.getUserId(), approver2.getUserId()));
+        
+        // when
+        long detailQueries = countQueries(() -> {
+            ApprovalDocument found = approvalService.getDocument(document.getDocId());
+            touchSummary(found);
+            found.getDrafter().getDepartment().getDeptName();
+            found.getApprovalLines().forEach(line -> line.getApprover().getPosition().getPositionName());
+            found.getReferences().forEach(ref -> ref.getUser().getDepartment().getDeptName());
+            found.getAttachments().size();
+        });
+        
+        // then - 문서+결재선 1회, 첨부파일 1회, 참조자 1회
+        assertThat(detailQueries).isPositive();
+        assertThat(detailQueries).isLessThanOrEqualTo(3);
+    }
+    
     @Test
     @DisplayName("참조자 설정 성공")
     void setReferences_Success() {
@@ -402,15 +503,417 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         // when
         approvalService.delegateApproval(
-                approver1.getUserId(), 
+                approver1.getUserId(),
                 delegate.getUserId(),
                 LocalDateTime.now(),
                 LocalDateTime.now().plusDays(7)
         );
         
+        // then - 이미 차례가 온 문서도 위임 기간 동안 대리 결재자의 결재 대기함으로 옮겨진다
+        assertThat(approvalService.getPendingDocuments(delegate.getUserId()))
+                .extracting(ApprovalDocument::getDocId)
+                .containsExactly(document.getDocId());
+        assertThat(approvalService.countPendingDocuments(approver1.getUserId())).isZero();
+    }
+    
+    @Test
+    @DisplayName("위임 이후 상신된 문서는 대리 결재자에게 바로 배정되고 위임 해제 후에는 원래 결재자가 결재")
+    void delegateApproval_AppliesToLaterDocumentsUntilRevoked() {
+        // given
+        User delegate = createUser("delegate3", "대리결재자", "delegate3@example.com", department, position);
+        userRepository.save(delegate);
+        ApprovalDelegation delegation = approvalService.delegateApproval(approver1.getUserId(), delegate.getUserId(),
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusDays(7));
+        
+        // when
+        document = createTestDocument();
+        setApprovalLines(document);
+        ApprovalDocument submitted = approvalService.submitDocument(document.getDocId());
+        
         // then
-        ApprovalDocument updatedDoc = approvalService.getDocument(document.getDocId());
-        assertThat(updatedDoc.getCurrentApprover().getUserId()).isEqualTo(delegate.getUserId());
+        assertThat(submitted.getCurrentApprover().getUserId()).isEqualTo(delegate.getUserId());
+        
+        approvalService.revokeDelegation(delegation.getDelegationId(), approver1.getUserId());
+        assertThat(approvalService.countPendingDocuments(delegate.getUserId())).isZero();
+        ApprovalDocument approved = approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인");
+        assertThat(approved.getCurrentApprover().getUserId()).isEqualTo(approver2.getUserId());
+        assertThat(approved.getApprovalLines().get(0).getDelegatedTo()).isNull();
+    }
+    
+    @Test
+    @DisplayName("아직 시작하지 않은 위임은 적용되지 않고 기간이 겹치는 위임은 등록할 수 없음")
+    void delegateApproval_FutureWindowAndOverlap() {
+        // given
+        document = createTestDocument();
+        setApprovalLines(document);
+        approvalService.submitDocument(document.getDocId());
+        User delegate = createUser("delegate4", "대리결재자", "delegate4@example.com", department, position);
+        userRepository.save(delegate);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        
+        // when
+        approvalService.delegateApproval(approver1.getUserId(), delegate.getUserId(), start, start.plusDays(3));
+        
+        // then
+        assertThat(approvalService.countPendingDocuments(approver1.getUserId())).isEqualTo(1);
+        assertThat(approvalService.countPendingDocuments(delegate.getUserId())).isZero();
+        assertThatThrownBy(() -> approvalService.delegateApproval(approver1.getUserId(), approver2.getUserId(),
+                start.plusDays(2), start.plusDays(5)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("기간이 겹치는 위임");
+    }
+    
+    @Test
+    @DisplayName("다른 서버에서 저장한 위임 규칙은 색인을 다시 읽으면 적용됨")
+    void delegationIndex_RefreshPicksUpRulesSavedElsewhere() {
+        // given - 이 서버의 색인을 거치지 않고 저장된 규칙
+        document = createTestDocument();
+        setApprovalLines(document);
+        approvalService.submitDocument(document.getDocId());
+        User delegate = createUser("delegate5", "대리결재자", "delegate5@example.com", department, position);
+        userRepository.save(delegate);
+        delegationRepository.save(ApprovalDelegation.builder()
+                .delegator(approver1)
+                .delegate(delegate)
+                .startAt(LocalDateTime.now().minusMinutes(1))
+                .endAt(LocalDateTime.now().plusDays(1))
+                .build());
+        assertThat(approvalService.countPendingDocuments(delegate.getUserId())).isZero();
+        
+        try {
+            // when
+            delegationIndex.refresh();
+            
+            // then
+            assertThat(approvalService.countPendingDocuments(delegate.getUserId())).isEqualTo(1);
+            assertThat(approvalService.countPendingDocuments(approver1.getUserId())).isZero();
+        } finally {
+            // 롤백된 규칙이 다른 테스트의 색인에 남지 않도록 다시 읽는다
+            TestTransaction.end();
+            delegationIndex.refresh();
+        }
+    }
+    
+    @Test
+    @DisplayName("커밋 전 등록한 위임 규칙은 다른 스레드가 색인을 다시 읽어도 유지됨")
+    void delegationIndex_RefreshKeepsUncommittedLocalRules() {
+        // given
+        document = createTestDocument();
+        setApprovalLines(document);
+        approvalService.submitDocument(document.getDocId());
+        User delegate = createUser("delegate6", "대리결재자", "delegate6@example.com", department, position);
+        userRepository.save(delegate);
+        approvalService.delegateApproval(approver1.getUserId(), delegate.getUserId(),
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusDays(1));
+        
+        // when - 스케줄러처럼 다른 트랜잭션에서 다시 읽으면 아직 커밋되지 않은 규칙은 DB 결과에 없다
+        CompletableFuture.runAsync(delegationIndex::refresh).join();
+        
+        // then
+        assertThat(approvalService.countPendingDocuments(delegate.getUserId())).isEqualTo(1);
+        
+        // 롤백하면 색인에서도 빠진다
+        TestTransaction.end();
+        assertThat(delegationIndex.resolve(approver1.getUserId(), LocalDateTime.now())).isEqualTo(approver1.getUserId());
+    }
+    
+    @Test
+    @DisplayName("참조 결재선은 차례를 갖지 않고 결재할 수 없는 선택 결재자는 건너뜀")
+    void approveDocument_SkipsOptionalAndReferenceLines() {
+        // given
+        User absent = createUser("absent", "부재자", "absent@example.com", department, position);
+        absent.setStatus(UserStatus.INACTIVE);
+        userRepository.save(absent);
+        
+        document = createTestDocument();
+        approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(approver1, ApprovalType.APPROVAL, 1, false),
+                line(absent, ApprovalType.AGREEMENT, 2, true),
+                line(drafter, ApprovalType.REFERENCE, 3, false),
+                line(approver2, ApprovalType.APPROVAL, 4, false)));
+        approvalService.submitDocument(document.getDocId());
+        
+        // when
+        ApprovalDocument afterFirst = approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인");
+        
+        // then
+        assertThat(afterFirst.getCurrentApprover().getUserId()).isEqualTo(approver2.getUserId());
+        assertThat(afterFirst.getApprovalLines())
+                .filteredOn(l -> l.getOrderSeq() == 2)
+                .extracting(ApprovalLine::getStatus)
+                .containsExactly(ApprovalStatus.SKIPPED);
+        
+        ApprovalDocument completed = approvalService.approveDocument(document.getDocId(), approver2.getUserId(), "최종 승인");
+        assertThat(completed.getStatus()).isEqualTo(DocumentStatus.APPROVED);
+    }
+    
+    @Test
+    @DisplayName("위임된 결재선은 위임받은 사용자가 결재하고 다음 결재자로 진행")
+    void approveDelegatedDocument_MovesToNextApprover() {
+        // given
+        document = createTestDocument();
+        setApprovalLines(document);
+        approvalService.submitDocument(document.getDocId());
+        User delegate = createUser("delegate2", "대리결재자", "delegate2@example.com", department, position);
+        userRepository.save(delegate);
+        approvalService.delegateApproval(approver1.getUserId(), delegate.getUserId(),
+                LocalDateTime.now(), LocalDateTime.now().plusDays(1));
+        
+        // when & then - 원래 결재자는 더 이상 결재할 수 없다
+        assertThatThrownBy(() -> approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("현재 결재 순서가 아닙니다");
+        
+        ApprovalDocument approved = approvalService.approveDelegatedDocument(
+                document.getDocId(), delegate.getUserId(), "대신 승인");
+        assertThat(approved.getCurrentApprover().getUserId()).isEqualTo(approver2.getUserId());
+        assertThat(approved.getApprovalLines().get(0).getComment()).contains("대리결재");
+    }
+    
+    @Test
+    @DisplayName("승인/반려는 결재선 수와 무관하게 일정한 SQL 문 수로 처리")
+    void approveAndReject_ConstantStatementCount() {
+        // given
+        document = createTestDocument();
+        User approver3 = createUser("approver3", "결재자3", "approver3@example.com", department, position);
+        userRepository.save(approver3);
+        approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(approver1, ApprovalType.APPROVAL, 1, false),
+                line(approver2, ApprovalType.AGREEMENT, 2, false),
+                line(approver3, ApprovalType.APPROVAL, 3, false)));
+        approvalService.submitDocument(document.getDocId());
+        
+        // when
+        long approveStatements = countQueries(() -> {
+            approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인");
+            entityManager.flush();
+        });
+        long rejectStatements = countQueries(() -> {
+            approvalService.rejectDocument(document.getDocId(), approver2.getUserId(), "반려");
+            entityManager.flush();
+        });
+        
+        // then - 문서+결재선 조회 1, 아웃박스/이력 INSERT, 결재선/문서 UPDATE
+        assertThat(approveStatements).isLessThanOrEqualTo(5);
+        assertThat(rejectStatements).isLessThanOrEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("같은 순서의 결재선은 함께 활성화되고 전원 승인해야 다음 순서로 진행")
+    void approveDocument_ParallelGroupWaitsForAllMembers() {
+        // given
+        document = createTestDocument();
+        User approver3 = createUser("approver3", "결재자3", "approver3@example.com", department, position);
+        userRepository.save(approver3);
+        approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(approver1, ApprovalType.AGREEMENT, 1, false, QuorumRule.ALL),
+                line(approver2, ApprovalType.AGREEMENT, 1, false, QuorumRule.ALL),
+                line(approver3, ApprovalType.APPROVAL, 2, false)));
+        approvalService.submitDocument(document.getDocId());
+        
+        assertThat(approvalService.countPendingDocuments(approver1.getUserId())).isEqualTo(1);
+        assertThat(approvalService.countPendingDocuments(approver2.getUserId())).isEqualTo(1);
+        assertThat(approvalService.countPendingDocuments(approver3.getUserId())).isZero();
+        
+        entityManager.flush();
+        long versionBefore = approvalService.getDocument(document.getDocId()).getVersion();
+        
+        // when - 그룹의 두 번째 결재자가 먼저 승인
+        ApprovalDocument afterFirst = approvalService.approveDocument(document.getDocId(), approver2.getUserId(), "합의");
+        entityManager.flush();
+        
+        // then - 그룹이 끝나지 않아도 문서 버전은 올라간다 (동시 처리 직렬화)
+        assertThat(afterFirst.getVersion()).isGreaterThan(versionBefore);
+        assertThat(afterFirst.getCurrentApprover().getUserId()).isEqualTo(approver1.getUserId());
+        assertThat(approvalService.countPendingDocuments(approver2.getUserId())).isZero();
+        assertThat(approvalService.countPendingDocuments(approver3.getUserId())).isZero();
+        
+        ApprovalDocument afterGroup = approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "합의");
+        entityManager.flush();
+        
+        assertThat(afterGroup.getCurrentApprover().getUserId()).isEqualTo(approver3.getUserId());
+        assertThat(approvalService.getPendingDocuments(approver3.getUserId(), PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("1인 승인 그룹은 한 명이 승인하면 나머지를 건너뛰고 다음 순서로 진행")
+    void approveDocument_AnyQuorumSkipsRemainingMembers() {
+        // given
+        document = createTestDocument();
+        User approver3 = createUser("approver3", "결재자3", "approver3@example.com", department, position);
+        userRepository.save(approver3);
+        approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(approver1, ApprovalType.AGREEMENT, 1, false, QuorumRule.ANY),
+                line(approver2, ApprovalType.AGREEMENT, 1, false, QuorumRule.ANY),
+                line(approver3, ApprovalType.APPROVAL, 2, false)));
+        approvalService.submitDocument(document.getDocId());
+        
+        // when
+        ApprovalDocument afterAny = approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "합의");
+        
+        // then
+        assertThat(afterAny.getCurrentApprover().getUserId()).isEqualTo(approver3.getUserId());
+        assertThat(afterAny.getApprovalLines())
+                .filteredOn(l -> l.getApprover().getUserId().equals(approver2.getUserId()))
+                .extracting(ApprovalLine::getStatus)
+                .containsExactly(ApprovalStatus.SKIPPED);
+        assertThatThrownBy(() -> approvalService.approveDocument(document.getDocId(), approver2.getUserId(), "합의"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("현재 결재 순서가 아닙니다");
+    }
+    
+    @Test
+    @DisplayName("결재선이 모두 건너뛰어진 과반 승인 그룹은 통과하고 다음 순서로 진행")
+    void submitDocument_AllSkippedGroupPasses() {
+        // given
+        User absent1 = createUser("absent1", "부재자1", "absent1@example.com", department, position);
+        absent1.setStatus(UserStatus.INACTIVE);
+        userRepository.save(absent1);
+        User absent2 = createUser("absent2", "부재자2", "absent2@example.com", department, position);
+        absent2.setStatus(UserStatus.SUSPENDED);
+        userRepository.save(absent2);
+        
+        document = createTestDocument();
+        approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(absent1, ApprovalType.AGREEMENT, 1, true, QuorumRule.MAJORITY),
+                line(absent2, ApprovalType.AGREEMENT, 1, true, QuorumRule.MAJORITY),
+                line(approver1, ApprovalType.APPROVAL, 2, false)));
+        
+        // when
+        ApprovalDocument submitted = approvalService.submitDocument(document.getDocId());
+        
+        // then
+        assertThat(QuorumRule.MAJORITY.required(0)).isZero();
+        assertThat(submitted.getStatus()).isEqualTo(DocumentStatus.PENDING);
+        assertThat(submitted.getCurrentApprover().getUserId()).isEqualTo(approver1.getUserId());
+        assertThat(submitted.getApprovalLines())
+                .filteredOn(l -> l.getOrderSeq() == 1)
+                .extracting(ApprovalLine::getStatus)
+                .containsOnly(ApprovalStatus.SKIPPED);
+        
+        ApprovalDocument approved = approvalService.approveDocument(document.getDocId(), approver1.getUserId(), "승인");
+        assertThat(approved.getStatus()).isEqualTo(DocumentStatus.APPROVED);
+    }
+    
+    @Test
+    @DisplayName("1인 승인 그룹은 한 명이 반려해도 남은 결재자가 승인할 수 있으면 문서를 끝내지 않음")
+    void rejectDocument_AnyQuorumWaitsWhileQuorumReachable() {
+        // given
+        document = createTestDocument();
+        User approver3 = createUser("approver3", "결재자3", "approver3@example.com", department, position);
+        userRepository.save(approver3);
+        approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(approver1, ApprovalType.AGREEMENT, 1, false, QuorumRule.ANY),
+                line(approver2, ApprovalType.AGREEMENT, 1, false, QuorumRule.ANY),
+                line(approver3, ApprovalType.APPROVAL, 2, false)));
+        approvalService.submitDocument(document.getDocId());
+        
+        // when
+        ApprovalDocument afterReject = approvalService.rejectDocument(document.getDocId(), approver1.getUserId(), "이견");
+        
+        // then - 남은 결재자가 정족수를 채울 수 있으므로 진행 중
+        assertThat(afterReject.getStatus()).isEqualTo(DocumentStatus.PENDING);
+        assertThat(afterReject.getCurrentApprover().getUserId()).isEqualTo(approver2.getUserId());
+        assertThat(afterReject.getApprovalLines())
+                .filteredOn(l -> l.getApprover().getUserId().equals(approver1.getUserId()))
+                .extracting(ApprovalLine::getStatus)
+                .containsExactly(ApprovalStatus.REJECTED);
+        
+        ApprovalDocument afterApprove = approvalService.approveDocument(document.getDocId(), approver2.getUserId(), "합의");
+        assertThat(afterApprove.getCurrentApprover().getUserId()).isEqualTo(approver3.getUserId());
+    }
+    
+    @Test
+    @DisplayName("과반 승인 그룹은 남은 인원으로 과반이 불가능해지면 반려로 종료")
+    void rejectDocument_MajorityQuorumRejectsWhenUnreachable() {
+        // given
+        document = createTestDocument();
+        User approver3 = createUser("approver3", "결재자3", "approver3@example.com", department, position);
+        userRepository.save(approver3);
+        approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(approver1, ApprovalType.AGREEMENT, 1, false, QuorumRule.MAJORITY),
+                line(approver2, ApprovalType.AGREEMENT, 1, false, QuorumRule.MAJORITY),
+                line(approver3, ApprovalType.AGREEMENT, 1, false, QuorumRule.MAJORITY)));
+        approvalService.submitDocument(document.getDocId());
+        
+        // when & then - 1명 반려로는 과반(2)이 아직 가능
+        ApprovalDocument afterFirst = approvalService.rejectDocument(document.getDocId(), approver1.getUserId(), "이견");
+        assertThat(afterFirst.getStatus()).isEqualTo(DocumentStatus.PENDING);
+        
+        // 2명 반려로 과반 불가
+        ApprovalDocument afterSecond = approvalService.rejectDocument(document.getDocId(), approver2.getUserId(), "이견");
+        assertThat(afterSecond.getStatus()).isEqualTo(DocumentStatus.REJECTED);
+        assertThat(afterSecond.getCurrentApprover()).isNull();
+    }
+    
+    @Test
+    @DisplayName("같은 순서의 결재선에 다른 승인 조건을 지정하면 예외 발생")
+    void setApprovalLine_MixedQuorumInGroup_ThrowsException() {
+        // given
+        document = createTestDocument();
+        
+        // when & then
+        assertThatThrownBy(() -> approvalService.setApprovalLine(document.getDocId(), Arrays.asList(
+                line(approver1, ApprovalType.AGREEMENT, 1, false, QuorumRule.ALL),
+                line(approver2, ApprovalType.AGREEMENT, 1, false, QuorumRule.ANY))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("같은 승인 조건");
+    }
+    
+    @Test
+    @DisplayName("일괄 승인 - 검증에 실패한 문서는 건너뛰고 나머지는 처리")
+    void processDocuments_ApprovesValidAndReportsInvalid() {
+        // given
+        ApprovalDocument first = createTestDocument();
+        ApprovalDocument second = createTestDocument();
+        ApprovalDocument notMine = createTestDocument();
+        ApprovalDocument draft = createTestDocument();
+        for (ApprovalDocument doc : List.of(first, second, notMine)) {
+            setApprovalLines(doc);
+        }
+        approvalService.setApprovalLine(notMine.getDocId(), List.of(line(approver2, ApprovalType.APPROVAL, 1, false)));
+        for (ApprovalDocument doc : List.of(first, second, notMine)) {
+            approvalService.submitDocument(doc.getDocId());
+        }
+        
+        // when
+        List<BulkApprovalResult> results = approvalService.processDocuments(
+                List.of(first.getDocId(), notMine.getDocId(), second.getDocId(), draft.getDocId(), -1L),
+                approver1.getUserId(), ApprovalStatus.APPROVED, "일괄 승인");
+        
+        // then - 요청 순서대로 결과를 돌려준다
+        assertThat(results).extracting(BulkApprovalResult::getDocId)
+                .containsExactly(first.getDocId(), notMine.getDocId(), second.getDocId(), draft.getDocId(), -1L);
+        assertThat(results).extracting(BulkApprovalResult::isSuccess)
+                .containsExactly(true, false, true, false, false);
+        assertThat(results.get(1).getMessage()).contains("현재 결재 순서가 아닙니다");
+        assertThat(results.get(3).getMessage()).contains("진행중인 문서만 결재할 수 있습니다");
+        assertThat(approvalService.getDocument(first.getDocId()).getCurrentApprover().getUserId())
+                .isEqualTo(approver2.getUserId());
+        assertThat(approvalService.countPendingDocuments(approver1.getUserId())).isZero();
+    }
+    
+    @Test
+    @DisplayName("일괄 처리는 문서 수와 무관하게 일정한 SQL 문 수로 처리")
+    void processDocuments_ConstantStatementCount() {
+        // given
+        List<Long> few = submittedDocuments(2);
+        List<Long> many = submittedDocuments(10);
+        
+        // when
+        long fewStatements = countQueries(() -> {
+            approvalService.processDocuments(few, approver1.getUserId(), ApprovalStatus.APPROVED, "승인");
+            entityManager.flush();
+        });
+        long manyStatements = countQueries(() -> {
+            approvalService.processDocuments(many, approver1.getUserId(), ApprovalStatus.REJECTED, "반려");
+            entityManager.flush();
+        });
+        
+        // then - 문서+결재선 조회 1, 아웃박스/이력 INSERT 배치, 결재선/문서 UPDATE 배치
+        assertThat(manyStatements).isEqualTo(fewStatements);
+        assertThat(manyStatements).isLessThanOrEqualTo(5);
     }
     
     // Helper methods
@@ -440,4 +943,63 @@ class ApprovalServiceTest extends BaseServiceTest {
         
         approvalService.setApprovalLine(doc.getDocId(), Arrays.asList(line1, line2));
     }
-}
\ No newline at end of file
+    
+    private List<Long> submittedDocuments(int count) {
+        List<Long> docIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ApprovalDocument doc = createTestDocument();
+            setApprovalLines(doc);
+            approvalService.submitDocument(doc.getDocId());
+            docIds.add(doc.getDocId());
+        }
+        return docIds;
+    }
+    
+    private ApprovalLineDto line(User approver, ApprovalType type, int orderSeq, boolean optional) {
+        ApprovalLineDto line = new ApprovalLineDto();
+        line.setApproverId(approver.getUserId());
+        line.setApprovalType(type);
+        line.setOrderSeq(orderSeq);
+        line.setIsOptional(optional);
+        return line;
+    }
+    
+    private ApprovalLineDto line(User approver, ApprovalType type, int orderSeq, boolean optional, QuorumRule quorumRule) {
+        ApprovalLineDto line = line(approver, type, orderSeq, optional);
+        line.setQuorumRule(quorumRule);
+        return line;
+    }
+    
+    private void touchSummary(ApprovalDocument doc) {
+        doc.getDrafter().getName();
+        if (doc.getCurrentApprover() != null) {
+            doc.getCurrentApprover().getName();
+        }
+    }
+    
+    /**
+     * 영속성 컨텍스트를 비운 뒤 실행된 SQL 문 수를 센다
+     */
+    private long countQueries(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        long sequenceBlocksBefore = sequenceBlocks();
+        statistics.clear();
+        action.run();
+        long statements = statistics.getPrepareStatementCount();
+        // 이벤트 ID는 50개 단위로 시퀀스에서 받아 오므로, 앞선 테스트가 쓴 양에 따라 새 블록 조회가 끼어들 수 있어 제외한다
+        return statements - (sequenceBlocks() - sequenceBlocksBefore);
+    }
+    
+    /**
+     * 지금까지 받아 간 이벤트 ID 시퀀스 블록 수 (allocationSize 50 기준)
+     */
+    private long sequenceBlocks() {
+        Number blocks = (Number) entityManager.createNativeQuery(
+                "SELECT SUM(BASE_VALUE / INCREMENT) FROM INFORMATION_SCHEMA.SEQUENCES " +
+                "WHERE SEQUENCE_NAME IN ('APPROVAL_EVENTS_SEQ', 'APPROVAL_OUTBOX_EVENTS_SEQ')").getSingleResult();
+        return blocks != null ? blocks.longValue() : 0L;
+    }
+}
@@ -0,0 +1,126 @@
+package com.liteware.service.approval;
+
+import com.liteware.model.entity.approval.DocumentNumberCounter;
+import com.liteware.model.entity.approval.DocumentType;
+import com.liteware.repository.approval.DocumentNumberCounterRepository;
+import com.liteware.service.BaseServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentNumberServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private DocumentNumberService documentNumberService;
+    
+    @Autowired
+    private DocumentNumberCounterRepository counterRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    @DisplayName("유형-일자-일련번호 형식으로 구간을 넘어가도 연속 발급")
+    void next_SequentialAcrossBlocks() {
+        // given - 테스트 설정의 구간 크기는 3
+        LocalDate date = LocalDate.of(2030, 1, 1);
+        
+        // when
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            numbers.add(documentNumberService.next(DocumentType.LEAVE_REQUEST, date));
+        }
+        
+        // then
+        assertThat(numbers).containsExactly(
+                "LV-20300101-000001", "LV-20300101-000002", "LV-20300101-000003",
+                "LV-20300101-000004", "LV-20300101-000005", "LV-20300101-000006",
+                "LV-20300101-000007");
+        assertThat(documentNumberService.next(DocumentType.EXPENSE_REQUEST, date)).isEqualTo("EX-20300101-000001");
+        assertThat(counterRepository.findNextValue("LV-20300101")).isEqualTo(10L);
+    }
+    
+    @Test
+    @DisplayName("서버마다 다른 구간을 예약해 번호가 겹치지 않음")
+    void next_NoCollisionAcrossNodes() {
+        // given - 같은 카운터 테이블을 쓰는 두 번째 서버
+        DocumentNumberService otherNode = new DocumentNumberService(counterRepository, transactionManager);
+        ReflectionTestUtils.setField(otherNode, "blockSize", 3L);
+        LocalDate date = LocalDate.of(2030, 1, 2);
+        
+        // when
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            numbers.add(documentNumberService.next(DocumentType.GENERAL_APPROVAL, date));
+            numbers.add(otherNode.next(DocumentType.GENERAL_APPROVAL, date));
+        }
+        
+        // then - 각 서버는 예약한 구간 안에서 차례로 발급하고 빈 번호 없이 1~12를 나눠 가진다
+        assertThat(new HashSet<>(numbers)).hasSize(12);
+        assertThat(numbers.subList(0, 2)).containsExactly("GA-20300102-000001", "GA-20300102-000004");
+        assertThat(numbers).allMatch(number -> number.compareTo("GA-20300102-000013") < 0);
+    }
+    
+    @Test
+    @DisplayName("다른 서버가 먼저 만든 카운터는 덮어쓰지 않고 기본키 충돌로 실패")
+    void counterInsert_DoesNotOverwriteExistingCounter() {
+        // given - 구간 두 개를 예약해 next_value가 7
+        LocalDate date = LocalDate.of(2030, 1, 4);
+        for (int i = 0; i < 4; i++) {
+            documentNumberService.next(DocumentType.LEAVE_REQUEST, date);
+        }
+        TransactionTemplate otherNode = new TransactionTemplate(transactionManager);
+        otherNode.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        // when & then - 늦게 도착한 서버의 새 카운터(1번부터 한 구간)는 INSERT로만 시도된다
+        assertThatThrownBy(() -> otherNode.executeWithoutResult(status -> counterRepository.saveAndFlush(
+                DocumentNumberCounter.builder().counterKey("LV-20300104").nextValue(4L).build())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(counterRepository.findNextValue("LV-20300104")).isEqualTo(7L);
+    }
+    
+    @Test
+    @DisplayName("동시 발급에도 번호가 중복되지 않음")
+    void next_UniqueUnderConcurrency() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2030, 1, 3);
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 25; i++) {
+                    numbers.add(documentNumberService.next(DocumentType.OVERTIME_REQUEST, date));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        
+        // then
+        assertThat(numbers).hasSize(100);
+        assertThat(numbers).allMatch(number -> number.matches("OT-20300103-\\d{6}"));
+    }
+}
\ No newline at end of file
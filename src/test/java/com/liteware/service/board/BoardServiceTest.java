@@ -1,13 +1,26 @@
 package com.liteware.service.board;
 
 import com.liteware.model.dto.BoardDto;
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CountedPage;
+import com.liteware.model.dto.CursorPage;
 import com.liteware.model.dto.PostDto;
 import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.dto.PostSummaryDto;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.board.Board;
 import com.liteware.model.entity.board.BoardType;
+import com.liteware.model.entity.board.Comment;
 import com.liteware.model.entity.board.Post;
+import com.liteware.model.entity.board.PostAttachment;
+import com.liteware.model.entity.board.PostBody;
+import com.liteware.repository.board.PostFacetRegistry;
+import com.liteware.repository.board.PostRepository;
+import com.liteware.repository.board.PostRepositoryCustom;
 import com.liteware.service.BaseServiceTest;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,10 +28,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,6 +50,15 @@ class BoardServiceTest extends BaseServiceTest {
     @Autowired
     private BoardService boardService;
     
+    @Autowired
+    private PostViewCountService postViewCountService;
+    
+    @Autowired
+    private NoticeCacheService noticeCacheService;
+    
+    @Autowired
+    private PostRepository postRepository;
+    
     private User writer;
     private User otherUser;
     private Board board;
@@ -235,6 +266,24 @@ class BoardServiceTest extends BaseServiceTest {
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
     }
     
+    @Test
+    @DisplayName("게시글 삭제가 롤백되면 누적된 조회수를 그대로 둔다")
+    void deletePost_RolledBack_KeepsPendingViewCount() {
+        // given
+        Post post = createTestPost();
+        Long postId = post.getPostId();
+        boardService.getPost(postId);
+        
+        // when
+        boardService.deletePost(postId, writer.getUserId());
+        
+        // then - 커밋 전에는 폐기하지 않고, 롤백되면 다음 주기에 반영할 수 있도록 남겨 둔다
+        assertThat(postViewCountService.getPendingCount(postId)).isEqualTo(1);
+        TestTransaction.end();
+        assertThat(postViewCountService.getPendingCount(postId)).isEqualTo(1);
+        postViewCountService.discard(postId);
+    }
+    
     @Test
     @DisplayName("작성자가 아닌 사용자가 게시글 삭제 시 예외 발생")
     void deletePost_NotWriter_ThrowsException() {
@@ -261,6 +310,64 @@ class BoardServiceTest extends BaseServiceTest {
         assertThat(viewedPost.getViewCount()).isEqualTo(initialViewCount + 1);
     }
     
+    @Test
+    @DisplayName("누적된 조회수는 flush 시 일괄 반영")
+    void flushViewCounts_PersistsPendingDelta() {
+        // given
+        Post post = createTestPost();
+        Long postId = post.getPostId();
+        boardService.getPost(postId);
+        boardService.getPost(postId);
+        assertThat(postViewCountService.getPendingCount(postId)).isEqualTo(2);
+        
+        // when
+        int flushed = postViewCountService.flush();
+        entityManager.clear();
+        
+        // then
+        assertThat(flushed).isPositive();
+        assertThat(postViewCountService.getPendingCount(postId)).isZero();
+        assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("flush와 동시에 들어온 조회수도 유실 없이 반영")
+    void flushViewCounts_ConcurrentIncrementsAreNotLost() throws Exception {
+        // given
+        Post post = createTestPost();
+        Long postId = post.getPostId();
+        int threads = 4;
+        int viewsPerThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < viewsPerThread; j++) {
+                    postViewCountService.increment(postId);
+                }
+                return null;
+            }));
+        }
+        
+        // when - 조회가 들어오는 동안 계속 반영
+        start.countDown();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            postViewCountService.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        postViewCountService.flush();
+        entityManager.clear();
+        
+        // then
+        assertThat(postViewCountService.getPendingCount(postId)).isZero();
+        assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo(threads * viewsPerThread);
+    }
+    
     @Test
     @DisplayName("비밀글 조회 - 작성자는 조회 가능")
     void getPost_SecretPost_WriterCanView() {
@@ -510,6 +617,499 @@ class BoardServiceTest extends BaseServiceTest {
     }
     
     // Helper methods
+    @Test
+    @DisplayName("목록 프로젝션은 댓글 수, 첨부 여부, 작성자 정보를 함께 조회")
+    void getPostSummariesByBoard_Success() {
+        // given
+        board = createTestBoard();
+        Post post = createTestPost();
+        createTestPost();
+        entityManager.persist(Comment.builder().post(post).writer(otherUser).content("댓글").build());
+        // 댓글 수는 CommentService가 유지하는 비정규화 컬럼이므로 직접 넣은 댓글만큼 반영
+        postRepository.addCommentCount(post.getPostId(), 1);
+        entityManager.persist(PostAttachment.builder().post(post).fileName("a.txt").filePath("/tmp/a.txt").build());
+        entityManager.flush();
+        entityManager.clear();
+        
+        // when
+        Page<PostSummaryDto> summaries = boardService.getPostSummariesByBoard(board.getBoardId(),
+                PageRequest.of(0, 10, Sort.by("createdAt").descending()));
+        
+        // then
+        assertThat(summaries.getTotalElements()).isEqualTo(2);
+        PostSummaryDto summary = summaries.getContent().stream()
+                .filter(s -> s.getPostId().equals(post.getPostId()))
+                .findFirst().orElseThrow();
+        assertThat(summary.getBoardId()).isEqualTo(board.getBoardId());
+        assertThat(summary.getWriterName()).isEqualTo(writer.getName());
+        assertThat(summary.getDepartmentName()).isEqualTo(department.getDeptName());
+        assertThat(summary.getCommentCount()).isEqualTo(1);
+        assertThat(summary.getHasAttachment()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("고급 검색 댓글 수 정렬은 비정규화된 댓글 수 기준으로 정렬")
+    void advancedSearchSummaries_SortByCommentCount() {
+        // given
+        board = createTestBoard();
+        Post quiet = createTestPost();
+        Post busy = createTestPost();
+        Post moderate = createTestPost();
+        postRepository.addCommentCount(busy.getPostId(), 3);
+        postRepository.addCommentCount(moderate.getPostId(), 1);
+        
+        PostSearchCriteria criteria = PostSearchCriteria.builder()
+                .boardId(board.getBoardId())
+                .sortType(PostSearchCriteria.SortType.COMMENT_COUNT)
+                .build();
+        
+        // when
+        Page<PostSummaryDto> result = boardService.advancedSearchSummaries(criteria, PageRequest.of(0, 10));
+        
+        // then
+        assertThat(result.getContent()).extracting(PostSummaryDto::getPostId)
+                .containsExactly(busy.getPostId(), moderate.getPostId(), quiet.getPostId());
+        assertThat(result.getContent()).extracting(PostSummaryDto::getCommentCount)
+                .containsExactly(3, 1, 0);
+    }
+    
+    @Test
+    @DisplayName("게시판 목록 CACHED 건수는 같은 조건에서 COUNT 없이 재사용")
+    void getPostSummariesByBoard_CachedCount() {
+        // given
+        board = createTestBoard();
+        for (int i = 0; i < 3; i++) {
+            createTestPost();
+        }
+        CountedPage<PostSummaryDto> first = boardService.getPostSummariesByBoard(
+                board.getBoardId(), PageRequest.of(0, 2), CountMode.CACHED);
+        createTestPost();
+        
+        // when
+        CountedPage<?>[] holder = new CountedPage<?>[1];
+        long queries = countQueries(() -> holder[0] = boardService.getPostSummariesByBoard(
+                board.getBoardId(), PageRequest.of(0, 2), CountMode.CACHED));
+        
+        // then - 게시판 확인 1회 + 목록 1회, 건수는 캐시된 값
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getCountMode()).isEqualTo(CountMode.CACHED);
+        assertThat(queries).isEqualTo(2);
+        assertThat(holder[0].getTotalElements()).isEqualTo(3);
+        assertThat(boardService.getPostSummariesByBoard(board.getBoardId(), PageRequest.of(0, 2), CountMode.EXACT)
+                .getTotalElements()).isEqualTo(4);
+    }
+    
+    @Test
+    @DisplayName("고급 검색 CAPPED 건수는 상한까지만 세고 초과 여부를 표시")
+    void advancedSearchSummaries_CappedCount() {
+        // given - 테스트 상한 3건
+        board = createTestBoard();
+        for (int i = 0; i < 5; i++) {
+            createTestPost();
+        }
+        PostSearchCriteria criteria = PostSearchCriteria.builder()
+                .boardId(board.getBoardId())
+                .build();
+        
+        // when
+        CountedPage<PostSummaryDto> capped = boardService.advancedSearchSummaries(
+                criteria, PageRequest.of(0, 2), CountMode.CAPPED);
+        CountedPage<PostSummaryDto> exact = boardService.advancedSearchSummaries(
+                criteria, PageRequest.of(0, 2), CountMode.EXACT);
+        
+        // then
+        assertThat(capped.getContent()).hasSize(2);
+        assertThat(capped.getTotalElements()).isEqualTo(3);
+        assertThat(capped.isTotalCapped()).isTrue();
+        assertThat(exact.getTotalElements()).isEqualTo(5);
+        assertThat(exact.isTotalCapped()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("같은 형태의 고급 검색은 값이 달라도 컴파일된 쿼리 계획을 재사용")
+    void advancedSearchSummaries_ReusesPlanForSameShape() {
+        // given
+        board = createTestBoard();
+        createTestPost();
+        PostSearchCriteria first = PostSearchCriteria.builder()
+                .keyword("테스트")
+                .boardId(board.getBoardId())
+                .minViewCount(0)
+                .sortType(PostSearchCriteria.SortType.VIEW_COUNT)
+                .build();
+        PostSearchCriteria second = PostSearchCriteria.builder()
+                .keyword("다른 검색어")
+                .boardId(board.getBoardId() + 1000)
+                .minViewCount(5)
+                .sortType(PostSearchCriteria.SortType.VIEW_COUNT)
+                .build();
+        boardService.advancedSearchSummaries(first, PageRequest.of(0, 10));
+        
+        // when
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<PostSummaryDto> result = boardService.advancedSearchSummaries(second, PageRequest.of(0, 10));
+        
+        // then - 건수/목록 쿼리 모두 이미 해석된 계획 사용
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(statistics.getQueryPlanCacheMissCount()).isZero();
+        assertThat(statistics.getQueryPlanCacheHitCount()).isGreaterThanOrEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("고급 검색 필터 조합과 Pageable 정렬 적용, 허용되지 않는 정렬 항목은 예외 발생")
+    void advancedSearch_FiltersAndPageableSort() {
+        // given
+        board = createTestBoard();
+        Post beta = createTestPost();
+        beta.setTitle("B 보안 문서");
+        beta.setIsSecret(true);
+        Post alpha = createTestPost();
+        alpha.setTitle("A 보안 문서");
+        alpha.setIsSecret(true);
+        createTestPost();
+        entityManager.flush();
+        
+        PostSearchCriteria criteria = PostSearchCriteria.builder()
+                .boardId(board.getBoardId())
+                .writerName(writer.getName())
+                .departmentId(department.getDeptId())
+                .isSecret(true)
+                .build();
+        
+        // when
+        Page<Post> result = boardService.advancedSearch(criteria, PageRequest.of(0, 10, Sort.by("title")));
+        
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(Post::getPostId)
+                .containsExactly(alpha.getPostId(), beta.getPostId());
+        assertThatThrownBy(() -> boardService.advancedSearch(criteria,
+                PageRequest.of(0, 10, Sort.by("writer.password"))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("지원하지 않는 정렬 항목입니다");
+    }
+    
+    @Test
+    @DisplayName("통계 포함 고급 검색은 패싯을 집계 쿼리 한 번으로 계산")
+    void advancedSearchWithStats_AggregatesFacetsInOneQuery() {
+        // given
+        board = createTestBoard();
+        Post notice = createTestPost();
+        notice.setIsNotice(true);
+        Post secret = createTestPost();
+        secret.setIsSecret(true);
+        Post withFile = createTestPost();
+        entityManager.persist(PostAttachment.builder().post(withFile).fileName("a.txt").filePath("/tmp/a.txt").build());
+        entityManager.persist(PostAttachment.builder().post(withFile).fileName("b.txt").filePath("/tmp/b.txt").build());
+        
+        PostSearchCriteria criteria = PostSearchCriteria.builder()
+                .boardId(board.getBoardId())
+                .build();
+        List<String> groupFacets = List.of(PostFacetRegistry.BOARD, PostFacetRegistry.DEPARTMENT,
+                PostFacetRegistry.CREATED_DATE);
+        PostRepositoryCustom.SearchResult[] holder = new PostRepositoryCustom.SearchResult[1];
+        
+        // when
+        long queries = countQueries(() ->
+                holder[0] = boardService.advancedSearchWithStats(criteria, PageRequest.of(0, 2), groupFacets));
+        
+        // then - 패싯 집계 1회 + 목록 1회
+        assertThat(queries).isEqualTo(2);
+        PostRepositoryCustom.SearchResult result = holder[0];
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getPosts().getTotalElements()).isEqualTo(3);
+        assertThat(result.getPosts().getContent()).hasSize(2);
+        assertThat(result.getNoticeCount()).isEqualTo(1);
+        assertThat(result.getSecretCount()).isEqualTo(1);
+        assertThat(result.getAttachmentCount()).isEqualTo(1);
+        assertThat(result.getFacets().getGroups().get(PostFacetRegistry.BOARD))
+                .containsExactly(Map.entry(board.getBoardId(), 3L));
+        assertThat(result.getFacets().getGroups().get(PostFacetRegistry.DEPARTMENT))
+                .containsExactly(Map.entry(department.getDeptId(), 3L));
+        assertThat(result.getFacets().getGroups().get(PostFacetRegistry.CREATED_DATE))
+                .containsExactly(Map.entry(LocalDate.now(), 3L));
+    }
+    
+    @Test
+    @DisplayName("등록되지 않은 통계 항목 요청 시 예외 발생")
+    void advancedSearchWithStats_UnknownFacet_ThrowsException() {
+        PostSearchCriteria criteria = PostSearchCriteria.builder().build();
+        
+        assertThatThrownBy(() -> boardService.advancedSearchWithStats(criteria, PageRequest.of(0, 10),
+                List.of(PostFacetRegistry.NOTICE)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("지원하지 않는 통계 항목입니다");
+    }
+    
+    @Test
+    @DisplayName("공지 목록은 게시 기간 안의 공지만 보여주고 캐시 적중 시 쿼리를 실행하지 않는다")
+    void getNoticeSummaries_ActiveWindowAndCached() {
+        // given
+        board = createTestBoard();
+        Post active = createNotice("진행 중 공지", LocalDate.now().minusDays(1), LocalDate.now().plusDays(1));
+        Post unlimited = createNotice("상시 공지", null, null);
+        createNotice("예정 공지", LocalDate.now().plusDays(3), null);
+        createNotice("지난 공지", LocalDate.now().minusDays(5), LocalDate.now().minusDays(1));
+        
+        // when
+        List<PostSummaryDto> notices = boardService.getNoticeSummaries(board.getBoardId());
+        long cachedQueries = countQueries(() -> boardService.getNoticeSummaries(board.getBoardId()));
+        
+        // then
+        assertThat(notices).extracting(PostSummaryDto::getPostId)
+                .containsExactlyInAnyOrder(active.getPostId(), unlimited.getPostId());
+        assertThat(cachedQueries).isZero();
+    }
+    
+    @Test
+    @DisplayName("공지 캐시는 날짜 경계가 없어도 최대 수명이 지나면 다시 조회한다")
+    void getNoticeSummaries_ExpiresAfterMaxTtl() {
+        // given - 상시 공지만 있어 날짜 경계가 없다
+        board = createTestBoard();
+        createNotice("상시 공지", null, null);
+        long maxTtlMillis = (long) ReflectionTestUtils.getField(noticeCacheService, "maxTtlMillis");
+        ReflectionTestUtils.setField(noticeCacheService, "maxTtlMillis", 0L);
+        
+        try {
+            // when
+            boardService.getNoticeSummaries(board.getBoardId());
+            long reloadQueries = countQueries(() -> boardService.getNoticeSummaries(board.getBoardId()));
+            
+            // then
+            assertThat(reloadQueries).isPositive();
+        } finally {
+            ReflectionTestUtils.setField(noticeCacheService, "maxTtlMillis", maxTtlMillis);
+            noticeCacheService.invalidate(board.getBoardId());
+        }
+    }
+    
+    @Test
+    @DisplayName("공지 작성/수정/삭제 시 공지 캐시가 비워진다")
+    void getNoticeSummaries_InvalidatedOnChange() {
+        // given
+        board = createTestBoard();
+        Post first = createNotice("첫 공지", null, null);
+        assertThat(boardService.getNoticeSummaries(board.getBoardId())).hasSize(1);
+        
+        // when & then - 작성
+        Post second = createNotice("두 번째 공지", null, null);
+        assertThat(boardService.getNoticeSummaries(board.getBoardId())).hasSize(2);
+        
+        // 수정 (공지 해제)
+        PostDto update = new PostDto();
+        update.setTitle("일반 글로 변경");
+        update.setContent("내용");
+        update.setIsNotice(false);
+        boardService.updatePost(first.getPostId(), update, writer.getUserId());
+        assertThat(boardService.getNoticeSummaries(board.getBoardId()))
+                .extracting(PostSummaryDto::getPostId)
+                .containsExactly(second.getPostId());
+        
+        // 삭제
+        boardService.deletePost(second.getPostId(), writer.getUserId());
+        assertThat(boardService.getNoticeSummaries(board.getBoardId())).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("검색/고급 검색/내 게시글 목록 프로젝션 조회")
+    void searchPostSummaries_Success() {
+        // given
+        board = createTestBoard();
+        PostDto dto = new PostDto();
+        dto.setBoardId(board.getBoardId());
+        dto.setTitle("프로젝션 검색 게시글");
+        dto.setContent("목록 전용 조회");
+        dto.setWriterId(writer.getUserId());
+        Post post = boardService.createPost(dto);
+        
+        PostSearchCriteria criteria = PostSearchCriteria.builder()
+                .keyword("프로젝션")
+                .boardId(board.getBoardId())
+                .build();
+        
+        // when
+        Page<PostSummaryDto> searched = boardService.searchPostSummaries("프로젝션", null, PageRequest.of(0, 10));
+        Page<PostSummaryDto> advanced = boardService.advancedSearchSummaries(criteria, PageRequest.of(0, 10));
+        Page<PostSummaryDto> mine = boardService.getMyPostSummaries(writer.getUserId(), PageRequest.of(0, 10));
+        
+        // then
+        assertThat(searched.getContent()).extracting(PostSummaryDto::getPostId).contains(post.getPostId());
+        assertThat(advanced.getContent()).extracting(PostSummaryDto::getPostId).containsExactly(post.getPostId());
+        assertThat(advanced.getContent().get(0).getHasAttachment()).isFalse();
+        assertThat(mine.getContent()).extracting(PostSummaryDto::getPostId).containsExactly(post.getPostId());
+    }
+    
+    @Test
+    @DisplayName("검색어 목록에도 전체 건수 계산 방식이 적용된다")
+    void searchPostSummaries_AppliesCountMode() {
+        // given
+        board = createTestBoard();
+        for (int i = 0; i < 3; i++) {
+            PostDto dto = new PostDto();
+            dto.setBoardId(board.getBoardId());
+            dto.setTitle("건수방식 검색 " + i);
+            dto.setContent("내용");
+            dto.setWriterId(writer.getUserId());
+            boardService.createPost(dto);
+        }
+        
+        // when
+        CountedPage<PostSummaryDto> capped = boardService.searchPostSummaries("건수방식", null,
+                PageRequest.of(0, 2), CountMode.CAPPED);
+        CountedPage<PostSummaryDto> cached = boardService.searchPostSummaries("건수방식", null,
+                PageRequest.of(0, 2), CountMode.CACHED);
+        
+        // then
+        assertThat(capped.getContent()).hasSize(2);
+        assertThat(capped.getTotalElements()).isEqualTo(3);
+        assertThat(capped.getCountMode()).isEqualTo(CountMode.CAPPED);
+        assertThat(cached.getTotalElements()).isEqualTo(3);
+        assertThat(cached.getCountMode()).isEqualTo(CountMode.CACHED);
+    }
+    
+    @Test
+    @DisplayName("커서 기반 목록은 공지 우선 최신순으로 중복 없이 이어진다")
+    void getPostsByBoardCursor_PagesThroughAllPosts() {
+        // given
+        board = createTestBoard();
+        Post notice = createTestPost();
+        notice.setIsNotice(true);
+        for (int i = 0; i < 4; i++) {
+            createTestPost();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        // when
+        CursorPage<PostSummaryDto> first = boardService.getPostsByBoardCursor(board.getBoardId(), null, 2, true);
+        CursorPage<PostSummaryDto> second = boardService.getPostsByBoardCursor(board.getBoardId(), first.getNextCursor(), 2, false);
+        CursorPage<PostSummaryDto> last = boardService.getPostsByBoardCursor(board.getBoardId(), second.getNextCursor(), 2, false);
+        
+        // then
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getContent().get(0).getPostId()).isEqualTo(notice.getPostId());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getTotalElements()).isNull();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        
+        List<Long> ids = new java.util.ArrayList<>();
+        first.getContent().forEach(p -> ids.add(p.getPostId()));
+        second.getContent().forEach(p -> ids.add(p.getPostId()));
+        last.getContent().forEach(p -> ids.add(p.getPostId()));
+        assertThat(ids).doesNotHaveDuplicates().hasSize(5);
+        assertThat(ids.subList(1, 5)).isSortedAccordingTo(java.util.Comparator.reverseOrder());
+    }
+    
+    @Test
+    @DisplayName("커서가 공지에 있으면 다음 페이지는 남은 공지와 일반글로 이어진다")
+    void getPostsByBoardCursor_ContinuesFromNoticeToNormalPosts() {
+        // given
+        board = createTestBoard();
+        Post olderNotice = createTestPost();
+        olderNotice.setIsNotice(true);
+        Post newerNotice = createTestPost();
+        newerNotice.setIsNotice(true);
+        Post normal = createTestPost();
+        entityManager.flush();
+        entityManager.clear();
+        
+        // when
+        CursorPage<PostSummaryDto> first = boardService.getPostsByBoardCursor(board.getBoardId(), null, 1, false);
+        CursorPage<PostSummaryDto> rest = boardService.getPostsByBoardCursor(board.getBoardId(), first.getNextCursor(), 10, false);
+        
+        // then
+        assertThat(first.getContent()).extracting(PostSummaryDto::getPostId).containsExactly(newerNotice.getPostId());
+        assertThat(rest.getContent()).extracting(PostSummaryDto::getPostId)
+                .containsExactly(olderNotice.getPostId(), normal.getPostId());
+        assertThat(rest.isHasNext()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 예외 발생")
+    void getPostsByBoardCursor_InvalidCursor_ThrowsException() {
+        // given
+        board = createTestBoard();
+        
+        // when & then
+        assertThatThrownBy(() -> boardService.getPostsByBoardCursor(board.getBoardId(), "not-a-cursor", 10, false))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("잘못된 커서입니다");
+    }
+    
+    @Test
+    @DisplayName("작성/수정 시 본문 미리보기와 길이를 계산하고 목록은 본문을 읽지 않음")
+    void createPost_StoresExcerptAndLazyBody() {
+        // given
+        board = createTestBoard();
+        String html = "<p>첫 줄&nbsp;&amp; <b>굵게</b></p><script>alert(1)</script><p>둘째&#32;줄</p>";
+        PostDto dto = new PostDto();
+        dto.setBoardId(board.getBoardId());
+        dto.setTitle("미리보기 게시글");
+        dto.setContent(html);
+        dto.setWriterId(writer.getUserId());
+        
+        // when
+        Post post = boardService.createPost(dto);
+        
+        // then
+        assertThat(post.getExcerpt()).isEqualTo("첫 줄 & 굵게 둘째 줄");
+        assertThat(post.getContentLength()).isEqualTo(html.length());
+        
+        // 긴 본문은 앞부분만 남긴다
+        dto.setContent("<p>" + "가".repeat(300) + "</p>");
+        boardService.updatePost(post.getPostId(), dto, writer.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+        
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<PostSummaryDto> summaries = boardService.getPostSummariesByBoard(board.getBoardId(), PageRequest.of(0, 10));
+        Post searched = boardService.advancedSearch(PostSearchCriteria.builder()
+                .boardId(board.getBoardId()).build(), PageRequest.of(0, 10)).getContent().get(0);
+        
+        assertThat(summaries.getContent().get(0).getExcerpt()).hasSize(201).endsWith("…");
+        assertThat(Hibernate.isInitialized(searched.getBody())).isFalse();
+        assertThat(statistics.getEntityStatistics(PostBody.class.getName()).getLoadCount()).isZero();
+        
+        // 상세 조회는 본문을 함께 읽는다
+        Post detail = boardService.getPost(post.getPostId());
+        assertThat(Hibernate.isInitialized(detail.getBody())).isTrue();
+        assertThat(detail.getContent()).isEqualTo("<p>" + "가".repeat(300) + "</p>");
+        assertThat(detail.getContentLength()).isEqualTo(307);
+    }
+    
+    @Test
+    @DisplayName("비밀글은 목록 미리보기를 내려주지 않고 본문 검색은 본문 테이블을 조회")
+    void postSummaries_SecretExcerptHiddenAndContentSearch() {
+        // given
+        board = createTestBoard();
+        PostDto dto = new PostDto();
+        dto.setBoardId(board.getBoardId());
+        dto.setTitle("비밀 게시글");
+        dto.setContent("<p>본문에만 있는 단어 코끼리</p>");
+        dto.setWriterId(writer.getUserId());
+        dto.setIsSecret(true);
+        Post post = boardService.createPost(dto);
+        entityManager.flush();
+        entityManager.clear();
+        
+        // when
+        Page<PostSummaryDto> summaries = boardService.getPostSummariesByBoard(board.getBoardId(), PageRequest.of(0, 10));
+        Page<Post> found = boardService.advancedSearch(PostSearchCriteria.builder()
+                .keyword("코끼리")
+                .searchField(PostSearchCriteria.SearchField.CONTENT)
+                .build(), PageRequest.of(0, 10));
+        
+        // then
+        assertThat(summaries.getContent().get(0).getExcerpt()).isNull();
+        assertThat(found.getContent()).extracting(Post::getPostId).containsExactly(post.getPostId());
+    }
+    
     private Board createTestBoard() {
         BoardDto dto = new BoardDto();
         dto.setBoardCode("TEST_" + System.currentTimeMillis());
@@ -535,4 +1135,26 @@ class BoardServiceTest extends BaseServiceTest {
         
         return boardService.createPost(dto);
     }
+    
+    private Post createNotice(String title, LocalDate startDate, LocalDate endDate) {
+        PostDto dto = new PostDto();
+        dto.setBoardId(board.getBoardId());
+        dto.setTitle(title);
+        dto.setContent("공지 내용");
+        dto.setWriterId(writer.getUserId());
+        dto.setIsNotice(true);
+        dto.setNoticeStartDate(startDate);
+        dto.setNoticeEndDate(endDate);
+        return boardService.createPost(dto);
+    }
+    
+    private long countQueries(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
 }
\ No newline at end of file
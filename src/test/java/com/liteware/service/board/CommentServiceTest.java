@@ -2,12 +2,15 @@ package com.liteware.service.board;
 
 import com.liteware.model.dto.BoardDto;
 import com.liteware.model.dto.CommentDto;
+import com.liteware.model.dto.CommentSummaryDto;
+import com.liteware.model.dto.CursorPage;
 import com.liteware.model.dto.PostDto;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.board.Board;
 import com.liteware.model.entity.board.BoardType;
 import com.liteware.model.entity.board.Comment;
 import com.liteware.model.entity.board.Post;
+import com.liteware.repository.board.PostRepository;
 import com.liteware.service.BaseServiceTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +30,12 @@ class CommentServiceTest extends BaseServiceTest {
     @Autowired
     private BoardService boardService;
     
+    @Autowired
+    private CommentCountReconciliationService commentCountReconciliationService;
+    
+    @Autowired
+    private PostRepository postRepository;
+    
     private User writer;
     private User commenter;
     private User otherUser;
@@ -313,6 +322,142 @@ class CommentServiceTest extends BaseServiceTest {
     }
     
     // Helper methods
+    @Test
+    @DisplayName("댓글 스레드는 부모 댓글을 커서로 나눠 조회하고 답글 수를 함께 알려준다")
+    void getCommentThread_PagesRootsWithReplyCounts() {
+        // given
+        Comment first = createTestComment();
+        Comment second = createTestComment();
+        Comment third = createTestComment();
+        createReply(first, "답글1");
+        createReply(first, "답글2");
+        createReply(third, "답글3");
+        
+        // when
+        CursorPage<CommentSummaryDto> page1 = commentService.getCommentThread(post.getPostId(), null, 2);
+        CursorPage<CommentSummaryDto> page2 = commentService.getCommentThread(post.getPostId(), page1.getNextCursor(), 2);
+        
+        // then
+        assertThat(page1.getContent()).extracting(CommentSummaryDto::getCommentId)
+                .containsExactly(first.getCommentId(), second.getCommentId());
+        assertThat(page1.getContent()).extracting(CommentSummaryDto::getReplyCount)
+                .containsExactly(2L, 0L);
+        assertThat(page1.isHasNext()).isTrue();
+        assertThat(page2.getContent()).extracting(CommentSummaryDto::getCommentId)
+                .containsExactly(third.getCommentId());
+        assertThat(page2.getContent().get(0).getReplyCount()).isEqualTo(1L);
+        assertThat(page2.isHasNext()).isFalse();
+        assertThat(page2.getNextCursor()).isNull();
+    }
+    
+    @Test
+    @DisplayName("답글은 부모 댓글별로 커서 단위 조회된다")
+    void getReplies_PagesByParent() {
+        // given
+        Comment parent = createTestComment();
+        Comment otherParent = createTestComment();
+        Comment reply1 = createReply(parent, "답글1");
+        Comment reply2 = createReply(parent, "답글2");
+        createReply(otherParent, "다른 답글");
+        
+        // when
+        CursorPage<CommentSummaryDto> page1 = commentService.getReplies(post.getPostId(), parent.getCommentId(), null, 1);
+        CursorPage<CommentSummaryDto> page2 = commentService.getReplies(post.getPostId(), parent.getCommentId(),
+                page1.getNextCursor(), 1);
+        
+        // then
+        assertThat(page1.getContent()).extracting(CommentSummaryDto::getCommentId)
+                .containsExactly(reply1.getCommentId());
+        assertThat(page1.getContent().get(0).getParentCommentId()).isEqualTo(parent.getCommentId());
+        assertThat(page1.getContent().get(0).getWriterName()).isEqualTo(otherUser.getName());
+        assertThat(page2.getContent()).extracting(CommentSummaryDto::getCommentId)
+                .containsExactly(reply2.getCommentId());
+        assertThat(page2.isHasNext()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("삭제 표시된 부모 댓글은 남은 답글이 있을 때만 스레드에 보인다")
+    void getCommentThread_HidesDeletedRootWithoutReplies() {
+        // given
+        Comment withReply = createTestComment();
+        createReply(withReply, "남은 답글");
+        Comment orphaned = createTestComment();
+        Comment removedReply = createReply(orphaned, "지울 답글");
+        
+        commentService.deleteComment(withReply.getCommentId(), commenter.getUserId());
+        commentService.deleteComment(orphaned.getCommentId(), commenter.getUserId());
+        commentService.deleteComment(removedReply.getCommentId(), otherUser.getUserId());
+        entityManager.flush();
+        
+        // when
+        CursorPage<CommentSummaryDto> thread = commentService.getCommentThread(post.getPostId(), null, 10);
+        
+        // then
+        assertThat(thread.getContent()).extracting(CommentSummaryDto::getCommentId)
+                .containsExactly(withReply.getCommentId());
+        assertThat(thread.getContent().get(0).getIsDeleted()).isTrue();
+        assertThat(thread.getContent().get(0).getReplyCount()).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("댓글 작성/삭제 시 게시글의 댓글 수가 증감된다")
+    void commentCount_FollowsCreateAndDelete() {
+        // given
+        Comment parent = createTestComment();
+        Comment removable = createTestComment();
+        
+        CommentDto replyDto = new CommentDto();
+        replyDto.setPostId(post.getPostId());
+        replyDto.setContent("대댓글");
+        replyDto.setWriterId(otherUser.getUserId());
+        replyDto.setParentCommentId(parent.getCommentId());
+        commentService.createComment(replyDto);
+        assertThat(reloadCommentCount()).isEqualTo(3);
+        
+        // when - 대댓글이 있는 댓글은 삭제 표시만, 없는 댓글은 실제 삭제
+        commentService.deleteComment(parent.getCommentId(), commenter.getUserId());
+        commentService.deleteComment(removable.getCommentId(), commenter.getUserId());
+        // 이미 삭제 표시된 댓글을 다시 삭제해도 두 번 빠지지 않는다
+        commentService.deleteComment(parent.getCommentId(), commenter.getUserId());
+        
+        // then
+        assertThat(reloadCommentCount()).isEqualTo(1);
+        assertThat(commentService.countCommentsByPost(post.getPostId())).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("보정 작업은 실제 활성 댓글 수와 어긋난 게시글만 고친다")
+    void reconcile_RepairsDrift() {
+        // given
+        createTestComment();
+        createTestComment();
+        Post untouched = createTestPost();
+        postRepository.addCommentCount(post.getPostId(), 5);
+        
+        // when
+        int repaired = commentCountReconciliationService.reconcile();
+        
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(reloadCommentCount()).isEqualTo(2);
+        assertThat(postRepository.findById(untouched.getPostId()).orElseThrow().getCommentCount()).isZero();
+    }
+    
+    private Comment createReply(Comment parent, String content) {
+        CommentDto dto = new CommentDto();
+        dto.setPostId(post.getPostId());
+        dto.setContent(content);
+        dto.setWriterId(otherUser.getUserId());
+        dto.setParentCommentId(parent.getCommentId());
+        return commentService.createComment(dto);
+    }
+    
+    private Integer reloadCommentCount() {
+        entityManager.flush();
+        entityManager.clear();
+        return postRepository.findById(post.getPostId()).orElseThrow().getCommentCount();
+    }
+    
     private Board createTestBoard() {
         BoardDto dto = new BoardDto();
         dto.setBoardCode("TEST_" + System.currentTimeMillis());
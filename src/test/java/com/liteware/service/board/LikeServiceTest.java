@@ -0,0 +1,237 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.BoardDto;
+import com.liteware.model.dto.CommentDto;
+import com.liteware.model.dto.PostDto;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.board.Board;
+import com.liteware.model.entity.board.BoardType;
+import com.liteware.model.entity.board.Comment;
+import com.liteware.model.entity.board.LikeTargetType;
+import com.liteware.model.entity.board.Post;
+import com.liteware.repository.board.BoardLikeRepository;
+import com.liteware.repository.board.CommentRepository;
+import com.liteware.repository.board.PostRepository;
+import com.liteware.service.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LikeServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private LikeService likeService;
+    
+    @Autowired
+    private BoardService boardService;
+    
+    @Autowired
+    private CommentService commentService;
+    
+    @Autowired
+    private PostRepository postRepository;
+    
+    @Autowired
+    private CommentRepository commentRepository;
+    
+    @Autowired
+    private BoardLikeRepository boardLikeRepository;
+    
+    private User writer;
+    private User reader;
+    private Board board;
+    
+    @BeforeEach
+    void setUp() {
+        writer = createUser("likewriter", "좋아요작성자", "likewriter@example.com", department, position);
+        writer.addRole(userRole);
+        userRepository.save(writer);
+        
+        reader = createUser("likereader", "좋아요독자", "likereader@example.com", department, position);
+        reader.addRole(userRole);
+        userRepository.save(reader);
+        
+        BoardDto dto = new BoardDto();
+        dto.setBoardCode("LIKE_" + System.nanoTime());
+        dto.setBoardName("좋아요 게시판");
+        dto.setBoardType(BoardType.GENERAL);
+        dto.setUseYn(true);
+        board = boardService.createBoard(dto);
+    }
+    
+    @Test
+    @DisplayName("같은 사용자가 여러 번 좋아요 해도 한 번만 기록된다")
+    void like_IsIdempotent() {
+        // given
+        Post post = createPost("좋아요 대상");
+        
+        // when
+        boolean first = likeService.like(LikeTargetType.POST, post.getPostId(), reader.getUserId());
+        boolean second = likeService.like(LikeTargetType.POST, post.getPostId(), reader.getUserId());
+        
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(boardLikeRepository.existsByTargetTypeAndTargetIdAndUserId(
+                LikeTargetType.POST, post.getPostId(), reader.getUserId())).isTrue();
+        assertThat(likeService.getPendingCount(LikeTargetType.POST, post.getPostId())).isEqualTo(1L);
+        assertThat(likeService.getLikeCount(LikeTargetType.POST, post.getPostId())).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("토글하면 좋아요와 취소가 번갈아 적용되고, 좋아요 하지 않은 대상의 취소는 무시된다")
+    void toggle_AlternatesAndUnlikeIsIdempotent() {
+        // given
+        Post post = createPost("토글 대상");
+        
+        // when & then
+        assertThat(likeService.toggle(LikeTargetType.POST, post.getPostId(), reader.getUserId())).isTrue();
+        assertThat(likeService.toggle(LikeTargetType.POST, post.getPostId(), reader.getUserId())).isFalse();
+        assertThat(likeService.unlike(LikeTargetType.POST, post.getPostId(), reader.getUserId())).isFalse();
+        assertThat(likeService.getPendingCount(LikeTargetType.POST, post.getPostId())).isZero();
+        assertThat(likeService.getLikeCount(LikeTargetType.POST, post.getPostId())).isZero();
+    }
+    
+    @Test
+    @DisplayName("누적된 좋아요 수는 flush 시 게시글과 댓글의 like_count에 반영된다")
+    void flush_AppliesPendingCounts() {
+        // given
+        Post post = createPost("반영 대상");
+        Comment comment = createComment(post);
+        likeService.like(LikeTargetType.POST, post.getPostId(), reader.getUserId());
+        likeService.like(LikeTargetType.POST, post.getPostId(), writer.getUserId());
+        likeService.like(LikeTargetType.COMMENT, comment.getCommentId(), reader.getUserId());
+        
+        // when
+        likeService.flush();
+        entityManager.clear();
+        
+        // then
+        assertThat(postRepository.findLikeCount(post.getPostId())).isEqualTo(2);
+        assertThat(commentRepository.findLikeCount(comment.getCommentId())).isEqualTo(1);
+        assertThat(likeService.getPendingCount(LikeTargetType.POST, post.getPostId())).isZero();
+        assertThat(likeService.getLikeCount(LikeTargetType.POST, post.getPostId())).isEqualTo(2L);
+        
+        // 취소분도 다음 flush에 반영
+        likeService.unlike(LikeTargetType.POST, post.getPostId(), writer.getUserId());
+        likeService.flush();
+        entityManager.clear();
+        assertThat(postRepository.findLikeCount(post.getPostId())).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("좋아요 반영 전에 읽은 게시글/댓글을 저장해도 반영된 like_count를 덮어쓰지 않는다")
+    void flush_IsNotOverwrittenByStaleEntitySave() {
+        // given
+        Post post = createPost("덮어쓰기 대상");
+        Comment comment = createComment(post);
+        entityManager.flush();
+        entityManager.clear();
+        Post stalePost = postRepository.findById(post.getPostId()).orElseThrow();
+        Comment staleComment = commentRepository.findById(comment.getCommentId()).orElseThrow();
+        likeService.like(LikeTargetType.POST, post.getPostId(), reader.getUserId());
+        likeService.like(LikeTargetType.COMMENT, comment.getCommentId(), reader.getUserId());
+        likeService.flush();
+        
+        // when
+        stalePost.setTitle("수정된 제목");
+        staleComment.setContent("수정된 댓글");
+        entityManager.flush();
+        entityManager.clear();
+        
+        // then
+        assertThat(postRepository.findLikeCount(post.getPostId())).isEqualTo(1);
+        assertThat(commentRepository.findLikeCount(comment.getCommentId())).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("게시글 상세의 좋아요 수에는 아직 반영되지 않은 증감분이 포함된다")
+    void getPost_IncludesPendingLikeCount() {
+        // given
+        Post post = createPost("상세 조회 대상");
+        likeService.like(LikeTargetType.POST, post.getPostId(), reader.getUserId());
+        likeService.like(LikeTargetType.POST, post.getPostId(), writer.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+        
+        // when
+        Post loaded = boardService.getPost(post.getPostId());
+        
+        // then
+        assertThat(postRepository.findLikeCount(post.getPostId())).isZero();
+        assertThat(loaded.getLikeCount()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("목록의 게시글 중 사용자가 좋아요 한 게시글을 한 번에 조회한다")
+    void getLikedTargetIds_ReturnsOnlyLikedPosts() {
+        // given
+        Post liked1 = createPost("좋아요 1");
+        Post notLiked = createPost("좋아요 안 함");
+        Post liked2 = createPost("좋아요 2");
+        likeService.like(LikeTargetType.POST, liked1.getPostId(), reader.getUserId());
+        likeService.like(LikeTargetType.POST, liked2.getPostId(), reader.getUserId());
+        likeService.like(LikeTargetType.POST, notLiked.getPostId(), writer.getUserId());
+        
+        // when
+        var result = likeService.getLikedTargetIds(LikeTargetType.POST, reader.getUserId(),
+                List.of(liked1.getPostId(), notLiked.getPostId(), liked2.getPostId()));
+        
+        // then
+        assertThat(result).containsExactlyInAnyOrder(liked1.getPostId(), liked2.getPostId());
+        assertThat(likeService.getLikedTargetIds(LikeTargetType.POST, reader.getUserId(), List.of())).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("삭제된 댓글에는 좋아요 할 수 없고, 게시글을 삭제하면 좋아요 기록도 지워진다")
+    void like_RejectsDeletedTargetsAndCleansUp() {
+        // given
+        Post post = createPost("삭제 대상");
+        Comment parent = createComment(post);
+        CommentDto replyDto = new CommentDto();
+        replyDto.setPostId(post.getPostId());
+        replyDto.setParentCommentId(parent.getCommentId());
+        replyDto.setWriterId(reader.getUserId());
+        replyDto.setContent("답글");
+        commentService.createComment(replyDto);
+        commentService.deleteComment(parent.getCommentId(), writer.getUserId());
+        likeService.like(LikeTargetType.POST, post.getPostId(), reader.getUserId());
+        
+        // when & then
+        assertThatThrownBy(() -> likeService.like(LikeTargetType.COMMENT, parent.getCommentId(), reader.getUserId()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("삭제된 댓글입니다");
+        
+        boardService.deletePost(post.getPostId(), writer.getUserId());
+        assertThat(boardLikeRepository.existsByTargetTypeAndTargetIdAndUserId(
+                LikeTargetType.POST, post.getPostId(), reader.getUserId())).isFalse();
+        // 누적분은 삭제가 커밋된 뒤에 버린다
+        assertThat(likeService.getPendingCount(LikeTargetType.POST, post.getPostId())).isEqualTo(1L);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(likeService.getPendingCount(LikeTargetType.POST, post.getPostId())).isZero();
+    }
+    
+    private Post createPost(String title) {
+        PostDto dto = new PostDto();
+        dto.setBoardId(board.getBoardId());
+        dto.setTitle(title);
+        dto.setContent("내용");
+        dto.setWriterId(writer.getUserId());
+        return boardService.createPost(dto);
+    }
+    
+    private Comment createComment(Post post) {
+        CommentDto dto = new CommentDto();
+        dto.setPostId(post.getPostId());
+        dto.setWriterId(writer.getUserId());
+        dto.setContent("댓글");
+        return commentService.createComment(dto);
+    }
+}
\ No newline at end of file
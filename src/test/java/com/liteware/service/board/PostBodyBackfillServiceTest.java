@@ -0,0 +1,70 @@
+package com.liteware.service.board;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 이관 - 공유 테스트 DB의 스키마를 바꾸지 않도록 별도 인메모리 DB에 예전 posts 구조를 만들어 검증
+ */
+class PostBodyBackfillServiceTest {
+    
+    private JdbcTemplate jdbcTemplate;
+    private PostBodyBackfillService backfillService;
+    
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:backfill_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE post_bodies (body_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "content VARCHAR(4000) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE posts (post_id BIGINT PRIMARY KEY, content VARCHAR(4000) NOT NULL, " +
+                "body_id BIGINT UNIQUE REFERENCES post_bodies (body_id), excerpt VARCHAR(300), content_length INT)");
+        
+        backfillService = new PostBodyBackfillService(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(backfillService, "batchSize", 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+    
+    @Test
+    @DisplayName("예전 posts.content를 post_bodies로 옮기고 미리보기를 채운 뒤 content 컬럼을 지운다")
+    void backfill_MovesLegacyContent() {
+        // given - 배치 크기보다 많은 예전 게시글
+        for (long postId = 1; postId <= 3; postId++) {
+            jdbcTemplate.update("INSERT INTO posts (post_id, content) VALUES (?, ?)",
+                    postId, "<p>예전 본문 " + postId + "</p>");
+        }
+        
+        // when
+        int moved = backfillService.backfill();
+        int again = backfillService.backfill();
+        
+        // then
+        assertThat(moved).isEqualTo(3);
+        assertThat(again).isZero();
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT b.content, p.excerpt, p.content_length FROM posts p JOIN post_bodies b ON b.body_id = p.body_id " +
+                "WHERE p.post_id = 2");
+        assertThat(row.get("CONTENT")).isEqualTo("<p>예전 본문 2</p>");
+        assertThat(row.get("EXCERPT")).isEqualTo("예전 본문 2");
+        assertThat(row.get("CONTENT_LENGTH")).isEqualTo("<p>예전 본문 2</p>".length());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE body_id IS NULL", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'POSTS' AND COLUMN_NAME = 'CONTENT'",
+                Long.class)).isZero();
+    }
+}
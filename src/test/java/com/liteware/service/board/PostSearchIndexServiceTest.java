@@ -0,0 +1,232 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.BoardDto;
+import com.liteware.model.dto.CommentDto;
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CountedPage;
+import com.liteware.model.dto.PostDto;
+import com.liteware.model.dto.PostSearchCriteria;
+import com.liteware.model.dto.PostSummaryDto;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.board.Board;
+import com.liteware.model.entity.board.BoardType;
+import com.liteware.model.entity.board.Post;
+import com.liteware.service.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private PostSearchIndexService postSearchIndexService;
+    
+    @Autowired
+    private BoardService boardService;
+    
+    @Autowired
+    private CommentService commentService;
+    
+    private User writer;
+    private Board board;
+    
+    @BeforeEach
+    void setUp() {
+        writer = createUser("indexwriter", "색인작성자", "indexwriter@example.com", department, position);
+        writer.addRole(userRole);
+        userRepository.save(writer);
+        
+        board = createBoard("SEARCH_" + System.nanoTime());
+    }
+    
+    @Test
+    @DisplayName("부분 단어 검색 시 제목 일치가 본문 일치보다 먼저 나온다")
+    void search_TitleMatchRanksFirst() {
+        // given
+        Post contentMatch = createIndexedPost(board, "일반 공지", "이번 주 분기결산보고 일정 안내입니다");
+        Post titleMatch = createIndexedPost(board, "분기결산보고 자료", "첨부 파일 확인 바랍니다");
+        createIndexedPost(board, "점심 메뉴", "오늘은 비빔밥");
+        
+        // when
+        List<Long> result = postSearchIndexService.search("결산보고",
+                EnumSet.allOf(PostSearchIndexService.IndexField.class), board.getBoardId(), 10);
+        
+        // then
+        assertThat(result).containsExactly(titleMatch.getPostId(), contentMatch.getPostId());
+    }
+    
+    @Test
+    @DisplayName("한 글자 검색어도 단어 안의 글자와 일치한다")
+    void search_SingleCharacterQuery() {
+        // given
+        Post match = createIndexedPost(board, "회의룸 예약 안내", "3층");
+        createIndexedPost(board, "점심 메뉴", "오늘은 비빔밥");
+        
+        // when
+        List<Long> result = postSearchIndexService.search("룸",
+                PostSearchIndexService.IndexField.of(PostSearchCriteria.SearchField.TITLE), board.getBoardId(), 10);
+        
+        // then
+        assertThat(result).containsExactly(match.getPostId());
+    }
+    
+    @Test
+    @DisplayName("본문의 HTML 태그와 속성은 색인하지 않는다")
+    void search_IgnoresHtmlMarkup() {
+        // given
+        Post post = createIndexedPost(board, "주간 보고",
+                "<p><span style=\"font-family: Arial; color: red\">신규 채용 계획</span></p>");
+        
+        // when & then
+        assertThat(postSearchIndexService.search("채용",
+                EnumSet.allOf(PostSearchIndexService.IndexField.class), board.getBoardId(), 10))
+                .containsExactly(post.getPostId());
+        assertThat(postSearchIndexService.search("span",
+                EnumSet.allOf(PostSearchIndexService.IndexField.class), board.getBoardId(), 10)).isEmpty();
+        assertThat(postSearchIndexService.search("style",
+                EnumSet.allOf(PostSearchIndexService.IndexField.class), board.getBoardId(), 10)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("댓글과 작성자명도 검색되고 검색 필드를 제한할 수 있다")
+    void search_CommentsAndWriterName() {
+        // given
+        Post post = createIndexedPost(board, "워크숍 장소", "후보지를 정리했습니다");
+        CommentDto commentDto = new CommentDto();
+        commentDto.setPostId(post.getPostId());
+        commentDto.setWriterId(writer.getUserId());
+        commentDto.setContent("양평 연수원 추천합니다");
+        commentService.createComment(commentDto);
+        postSearchIndexService.index(post);
+        
+        // when & then
+        assertThat(postSearchIndexService.search("연수원",
+                EnumSet.allOf(PostSearchIndexService.IndexField.class), board.getBoardId(), 10))
+                .containsExactly(post.getPostId());
+        assertThat(postSearchIndexService.search("연수원",
+                PostSearchIndexService.IndexField.of(PostSearchCriteria.SearchField.TITLE), board.getBoardId(), 10))
+                .isEmpty();
+        assertThat(postSearchIndexService.search("색인작성",
+                PostSearchIndexService.IndexField.of(PostSearchCriteria.SearchField.WRITER), board.getBoardId(), 10))
+                .containsExactly(post.getPostId());
+    }
+    
+    @Test
+    @DisplayName("삭제된 게시글은 색인에서 제거된다")
+    void remove_DropsPostFromIndex() {
+        // given
+        Post post = createIndexedPost(board, "폐기 예정 문서", "보존기한 경과");
+        
+        // when
+        postSearchIndexService.remove(post.getPostId());
+        
+        // then
+        assertThat(postSearchIndexService.search("보존기한",
+                EnumSet.allOf(PostSearchIndexService.IndexField.class), board.getBoardId(), 10)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("랭킹 모드 고급 검색은 나머지 조건을 적용하고 점수순으로 게시글을 돌려준다")
+    void advancedSearch_RankedMode() {
+        // given
+        Post notice = createIndexedPost(board, "보안점검 일정", "보안점검 보안점검 전 부서 대상", true);
+        Post normal = createIndexedPost(board, "보안점검 결과", "특이사항 없음", false);
+        Board otherBoard = createBoard("SEARCH_OTHER_" + System.nanoTime());
+        createIndexedPost(otherBoard, "보안점검 결과 공유", "다른 게시판", false);
+        
+        PostSearchCriteria criteria = PostSearchCriteria.builder()
+                .keyword("보안점검")
+                .boardId(board.getBoardId())
+                .searchMode(PostSearchCriteria.SearchMode.RANKED)
+                .build();
+        
+        // when
+        Page<Post> all = boardService.advancedSearch(criteria, PageRequest.of(0, 10));
+        criteria.setIsNotice(false);
+        Page<Post> normalOnly = boardService.advancedSearch(criteria, PageRequest.of(0, 10));
+        
+        // then
+        assertThat(all.getTotalElements()).isEqualTo(2);
+        assertThat(all.getContent()).extracting(Post::getPostId)
+                .containsExactly(notice.getPostId(), normal.getPostId());
+        assertThat(normalOnly.getContent()).extracting(Post::getPostId)
+                .containsExactly(normal.getPostId());
+    }
+    
+    @Test
+    @DisplayName("랭킹 모드는 최대 결과 수로 자르기 전에 조건을 적용하고, 잘린 결과는 CAPPED로 표시한다")
+    void advancedSearch_RankedMode_FiltersBeforeCap() {
+        // given - 점수가 높은 공지 3건과 점수가 가장 낮은 일반글 1건
+        for (int i = 0; i < 3; i++) {
+            createIndexedPost(board, "재고실사 안내 " + i, "재고실사 재고실사 재고실사", true);
+        }
+        Post normal = createIndexedPost(board, "창고 정리", "다음 주 재고실사 예정", false);
+        int maxRankedResults = (int) ReflectionTestUtils.getField(boardService, "maxRankedResults");
+        ReflectionTestUtils.setField(boardService, "maxRankedResults", 2);
+        
+        try {
+            PostSearchCriteria criteria = PostSearchCriteria.builder()
+                    .keyword("재고실사")
+                    .boardId(board.getBoardId())
+                    .searchMode(PostSearchCriteria.SearchMode.RANKED)
+                    .build();
+            
+            // when
+            CountedPage<PostSummaryDto> all = boardService.advancedSearchSummaries(
+                    criteria, PageRequest.of(0, 10), CountMode.EXACT);
+            criteria.setIsNotice(false);
+            CountedPage<PostSummaryDto> normalOnly = boardService.advancedSearchSummaries(
+                    criteria, PageRequest.of(0, 10), CountMode.EXACT);
+            
+            // then
+            assertThat(all.getContent()).hasSize(2);
+            assertThat(all.getTotalElements()).isEqualTo(2);
+            assertThat(all.getCountMode()).isEqualTo(CountMode.CAPPED);
+            assertThat(all.isTotalCapped()).isTrue();
+            
+            assertThat(normalOnly.getContent()).extracting(PostSummaryDto::getPostId)
+                    .containsExactly(normal.getPostId());
+            assertThat(normalOnly.getTotalElements()).isEqualTo(1);
+            assertThat(normalOnly.getCountMode()).isEqualTo(CountMode.EXACT);
+            assertThat(normalOnly.isTotalCapped()).isFalse();
+        } finally {
+            ReflectionTestUtils.setField(boardService, "maxRankedResults", maxRankedResults);
+        }
+    }
+    
+    private Board createBoard(String code) {
+        BoardDto dto = new BoardDto();
+        dto.setBoardCode(code);
+        dto.setBoardName("검색 게시판");
+        dto.setBoardType(BoardType.GENERAL);
+        dto.setUseYn(true);
+        return boardService.createBoard(dto);
+    }
+    
+    private Post createIndexedPost(Board targetBoard, String title, String content) {
+        return createIndexedPost(targetBoard, title, content, false);
+    }
+    
+    private Post createIndexedPost(Board targetBoard, String title, String content, boolean notice) {
+        PostDto dto = new PostDto();
+        dto.setBoardId(targetBoard.getBoardId());
+        dto.setTitle(title);
+        dto.setContent(content);
+        dto.setWriterId(writer.getUserId());
+        dto.setIsNotice(notice);
+        
+        Post post = boardService.createPost(dto);
+        // 테스트 트랜잭션은 커밋되지 않으므로 색인을 직접 반영
+        postSearchIndexService.index(post);
+        return post;
+    }
+}
@@ -0,0 +1,194 @@
+package com.liteware.service.board;
+
+import com.liteware.model.dto.BoardDto;
+import com.liteware.model.dto.CommentDto;
+import com.liteware.model.dto.PostDto;
+import com.liteware.model.dto.TrendingPostDto;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.board.Board;
+import com.liteware.model.entity.board.BoardType;
+import com.liteware.model.entity.board.Post;
+import com.liteware.service.BaseServiceTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostTrendingServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private PostTrendingService postTrendingService;
+    
+    @Autowired
+    private BoardService boardService;
+    
+    @Autowired
+    private CommentService commentService;
+    
+    private User writer;
+    private Board board;
+    
+    @BeforeEach
+    void setUp() {
+        writer = createUser("trendwriter", "인기작성자", "trendwriter@example.com", department, position);
+        writer.addRole(userRole);
+        userRepository.save(writer);
+        
+        board = createBoard("TREND_" + System.nanoTime());
+    }
+    
+    @Test
+    @DisplayName("조회와 댓글 가중치에 따라 인기 게시글 순위가 정해진다")
+    void getTrending_RanksByWeightedActivity() {
+        // given
+        Post viewed = createPost("조회가 많은 글");
+        Post commented = createPost("댓글이 달린 글");
+        createPost("아무도 안 본 글");
+        
+        for (int i = 0; i < 3; i++) {
+            boardService.getPost(viewed.getPostId());
+        }
+        createComment(commented);
+        
+        // when
+        List<TrendingPostDto> trending = postTrendingService.getTrending(board.getBoardId(), 10);
+        
+        // then - 댓글 1건(5) > 조회 3건(3)
+        assertThat(trending).extracting(TrendingPostDto::getPostId)
+                .containsExactly(commented.getPostId(), viewed.getPostId());
+        assertThat(trending.get(0).getTitle()).isEqualTo("댓글이 달린 글");
+        assertThat(trending.get(0).getScore()).isGreaterThan(trending.get(1).getScore());
+        assertThat(postTrendingService.getTrending(board.getBoardId(), 1)).hasSize(1);
+    }
+    
+    @Test
+    @DisplayName("삭제된 게시글은 삭제가 커밋된 뒤 인기 게시글에서 빠진다")
+    void remove_DropsDeletedPostAfterCommit() {
+        // given
+        Post post = createPost("곧 삭제될 글");
+        boardService.getPost(post.getPostId());
+        
+        // when
+        boardService.deletePost(post.getPostId(), writer.getUserId());
+        
+        // then - 커밋 전에는 남아 있다가 커밋 후 제거
+        assertThat(postTrendingService.getTrending(board.getBoardId(), 10)).hasSize(1);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(postTrendingService.getTrending(board.getBoardId(), 10)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("게시글 삭제가 롤백되면 인기 게시글 점수를 그대로 둔다")
+    void remove_RolledBackDeleteKeepsScore() {
+        // given
+        Post post = createPost("삭제가 취소될 글");
+        boardService.getPost(post.getPostId());
+        
+        // when
+        boardService.deletePost(post.getPostId(), writer.getUserId());
+        TestTransaction.end();
+        
+        // then
+        assertThat(postTrendingService.getTrending(board.getBoardId(), 10))
+                .extracting(TrendingPostDto::getPostId)
+                .containsExactly(post.getPostId());
+        postTrendingService.remove(board.getBoardId(), post.getPostId());
+    }
+    
+    @Test
+    @DisplayName("저장한 상위 K개 스냅샷으로 복원하면 순위가 유지된다")
+    void persistAndRestore_KeepsRanking() {
+        // given
+        Post first = createPost("첫 번째");
+        Post second = createPost("두 번째");
+        createComment(first);
+        boardService.getPost(second.getPostId());
+        
+        // when
+        postTrendingService.persist();
+        postTrendingService.restore();
+        
+        // then
+        assertThat(postTrendingService.getTrending(board.getBoardId(), 10))
+                .extracting(TrendingPostDto::getPostId)
+                .containsExactly(first.getPostId(), second.getPostId());
+    }
+    
+    @Test
+    @DisplayName("스냅샷 저장은 게시글 수와 무관하게 행별 조회 없이 INSERT 배치로 처리")
+    void persist_InsertsWithoutPerRowSelect() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            boardService.getPost(createPost("인기 글 " + i).getPostId());
+        }
+        postTrendingService.persist();
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // when - 이전 스냅샷이 있는 상태에서 다시 저장
+        int persisted = postTrendingService.persist();
+        entityManager.flush();
+        
+        // then - DELETE 1, INSERT 배치
+        assertThat(persisted).isGreaterThanOrEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("기간 내 게시글의 누적 수치로 다시 계산할 수 있다")
+    void rebuild_FromRecentPosts() {
+        // given
+        Post quiet = createPost("조용한 글");
+        Post busy = createPost("댓글 많은 글");
+        createComment(busy);
+        createComment(busy);
+        entityManager.flush();
+        entityManager.clear();
+        
+        // when
+        postTrendingService.rebuild();
+        
+        // then
+        assertThat(postTrendingService.getTrending(board.getBoardId(), 10))
+                .extracting(TrendingPostDto::getPostId)
+                .containsExactly(busy.getPostId(), quiet.getPostId());
+    }
+    
+    private Board createBoard(String code) {
+        BoardDto dto = new BoardDto();
+        dto.setBoardCode(code);
+        dto.setBoardName("인기 게시판");
+        dto.setBoardType(BoardType.GENERAL);
+        dto.setUseYn(true);
+        return boardService.createBoard(dto);
+    }
+    
+    private Post createPost(String title) {
+        PostDto dto = new PostDto();
+        dto.setBoardId(board.getBoardId());
+        dto.setTitle(title);
+        dto.setContent("내용");
+        dto.setWriterId(writer.getUserId());
+        return boardService.createPost(dto);
+    }
+    
+    private void createComment(Post post) {
+        CommentDto dto = new CommentDto();
+        dto.setPostId(post.getPostId());
+        dto.setWriterId(writer.getUserId());
+        dto.setContent("댓글");
+        commentService.createComment(dto);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.liteware.service.draft;
+
+import com.liteware.model.dto.BoardDto;
+import com.liteware.model.dto.DraftDto;
+import com.liteware.model.dto.DraftSaveResult;
+import com.liteware.model.dto.PostDto;
+import com.liteware.model.entity.User;
+import com.liteware.model.entity.board.Board;
+import com.liteware.model.entity.board.BoardType;
+import com.liteware.model.entity.draft.Draft;
+import com.liteware.model.entity.draft.DraftTargetType;
+import com.liteware.repository.draft.DraftRepository;
+import com.liteware.service.BaseServiceTest;
+import com.liteware.service.board.BoardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DraftAutosaveServiceTest extends BaseServiceTest {
+    
+    @Autowired
+    private DraftAutosaveService draftAutosaveService;
+    
+    @Autowired
+    private DraftRepository draftRepository;
+    
+    @Autowired
+    private BoardService boardService;
+    
+    private User writer;
+    private Board board;
+    
+    @BeforeEach
+    void setUp() {
+        writer = createUser("draftwriter", "임시저장작성자", "draftwriter@example.com", department, position);
+        writer.addRole(userRole);
+        userRepository.save(writer);
+        
+        BoardDto dto = new BoardDto();
+        dto.setBoardCode("DRAFT_" + System.currentTimeMillis());
+        dto.setBoardName("임시저장 게시판");
+        dto.setBoardType(BoardType.GENERAL);
+        board = boardService.createBoard(dto);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        // 버퍼는 빈 사이에서 공유되므로 테스트 트랜잭션 안에서 비워 둔다
+        draftAutosaveService.flushAll();
+    }
+    
+    @Test
+    @DisplayName("연속 저장은 최신본 하나로 합쳐지고 반영 전에도 최신본을 조회")
+    void save_CoalescesRapidSaves() {
+        // when
+        DraftSaveResult result = null;
+        for (int i = 1; i <= 5; i++) {
+            result = draftAutosaveService.save(writer.getUserId(), newPostDraft("내용 " + i, null));
+        }
+        
+        // then
+        assertThat(result.isConflict()).isFalse();
+        assertThat(result.getVersion()).isEqualTo(5);
+        assertThat(draftRepository.findByUserIdAndTargetTypeAndTargetId(
+                writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId())).isEmpty();
+        assertThat(draftAutosaveService.getDraft(writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId())
+                .getContent()).isEqualTo("내용 5");
+        
+        // 한 번의 반영으로 최신본만 저장
+        assertThat(draftAutosaveService.flushAll()).isGreaterThanOrEqualTo(1);
+        Draft stored = draftRepository.findByUserIdAndTargetTypeAndTargetId(
+                writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId()).orElseThrow();
+        assertThat(stored.getVersion()).isEqualTo(5);
+        assertThat(stored.getContent()).isEqualTo("내용 5");
+    }
+    
+    @Test
+    @DisplayName("편집이 멈춘 임시저장본만 주기 반영 대상")
+    void flush_OnlyIdleDrafts() {
+        // given
+        draftAutosaveService.flushAll();
+        draftAutosaveService.save(writer.getUserId(), newPostDraft("작성 중", null));
+        
+        // when & then - 방금 저장한 것은 아직 편집 중
+        assertThat(draftAutosaveService.flush()).isZero();
+        
+        long idleMillis = (long) ReflectionTestUtils.getField(draftAutosaveService, "idleMillis");
+        ReflectionTestUtils.setField(draftAutosaveService, "idleMillis", 0L);
+        try {
+            assertThat(draftAutosaveService.flush()).isEqualTo(1);
+        } finally {
+            ReflectionTestUtils.setField(draftAutosaveService, "idleMillis", idleMillis);
+        }
+        assertThat(draftAutosaveService.getBufferedCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("다른 곳에서 먼저 저장되었으면 충돌로 알리고 저장하지 않음")
+    void save_StaleBaseVersion_ReturnsConflict() {
+        // given
+        DraftSaveResult first = draftAutosaveService.save(writer.getUserId(), newPostDraft("첫 저장", null));
+        draftAutosaveService.save(writer.getUserId(), newPostDraft("다른 창 저장", first.getVersion()));
+        
+        // when
+        DraftSaveResult stale = draftAutosaveService.save(writer.getUserId(), newPostDraft("덮어쓰기", first.getVersion()));
+        
+        // then
+        assertThat(stale.isConflict()).isTrue();
+        assertThat(stale.getVersion()).isEqualTo(2);
+        assertThat(draftAutosaveService.getDraft(writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId())
+                .getContent()).isEqualTo("다른 창 저장");
+        
+        // 반영 후에는 DB의 version을 이어서 사용
+        draftAutosaveService.flushAll();
+        DraftSaveResult next = draftAutosaveService.save(writer.getUserId(), newPostDraft("이어서", 2L));
+        assertThat(next.isConflict()).isFalse();
+        assertThat(next.getVersion()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("게시글을 등록하면 새 글 임시저장본 삭제")
+    void createPost_DiscardsDraft() {
+        // given
+        draftAutosaveService.save(writer.getUserId(), newPostDraft("등록 전", null));
+        draftAutosaveService.flushAll();
+        
+        PostDto dto = new PostDto();
+        dto.setBoardId(board.getBoardId());
+        dto.setTitle("등록");
+        dto.setContent("등록 전");
+        dto.setWriterId(writer.getUserId());
+        
+        // when
+        boardService.createPost(dto);
+        
+        // then
+        assertThatThrownBy(() -> draftAutosaveService.getDraft(
+                writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("임시저장본이 없습니다");
+    }
+    
+    @Test
+    @DisplayName("삭제 트랜잭션이 끝나기 전에는 반영하지 않고, 롤백되면 버퍼의 저장분을 그대로 둔다")
+    void discard_KeepsBufferUntilCommitAndIsNotPersisted() {
+        // given
+        draftAutosaveService.flushAll();
+        draftAutosaveService.save(writer.getUserId(), newPostDraft("버릴 글", null));
+        
+        // when - 삭제 트랜잭션이 아직 진행 중
+        draftAutosaveService.discard(writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId());
+        
+        // then - 반영 대상에서 빠져 DB에 되살아나지 않고, 버퍼에서는 커밋 후에 빠진다
+        assertThat(draftAutosaveService.flushAll()).isZero();
+        assertThat(draftRepository.findByUserIdAndTargetTypeAndTargetId(
+                writer.getUserId(), DraftTargetType.NEW_POST, board.getBoardId())).isEmpty();
+        assertThat(draftAutosaveService.getBufferedCount()).isEqualTo(1);
+        
+        // 롤백되면 저장분이 남아 다음 반영 대상이 된다
+        TestTransaction.end();
+        TestTransaction.start();
+        assertThat(draftAutosaveService.getBufferedCount()).isEqualTo(1);
+        assertThat(draftAutosaveService.flushAll()).isEqualTo(1);
+    }
+    
+    private DraftDto newPostDraft(String content, Long baseVersion) {
+        return DraftDto.builder()
+                .targetType(DraftTargetType.NEW_POST)
+                .targetId(board.getBoardId())
+                .title("임시저장 제목")
+                .content(content)
+                .baseVersion(baseVersion)
+                .build();
+    }
+}
\ No newline at end of file
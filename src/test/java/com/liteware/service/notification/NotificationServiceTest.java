@@ -1,5 +1,7 @@
 package com.liteware.service.notification;
 
+import com.liteware.model.dto.CountMode;
+import com.liteware.model.dto.CountedPage;
 import com.liteware.model.entity.User;
 import com.liteware.model.entity.notification.Notification;
 import com.liteware.model.entity.notification.Notification.NotificationPriority;
@@ -134,6 +136,34 @@ class NotificationServiceTest extends BaseServiceTest {
         assertThat(readNotifications.getTotalElements()).isEqualTo(1);
     }
     
+    @Test
+    @DisplayName("알림 목록 건수 방식 - 상한 초과 시 상한값과 함께 표시하고, 마지막 페이지는 COUNT 없이 정확한 건수")
+    void getUserNotifications_CountModes() {
+        // given - 테스트 상한 3건
+        for (int i = 0; i < 5; i++) {
+            createTestNotification(recipient, NotificationType.SYSTEM_NOTICE, "알림" + i, false);
+        }
+        createTestNotification(recipient, NotificationType.BOARD_COMMENT, "읽은 알림", true);
+        
+        // when
+        CountedPage<Notification> capped = notificationService.getUserNotifications(
+                recipient.getUserId(), false, PageRequest.of(0, 2), CountMode.CAPPED);
+        CountedPage<Notification> exact = notificationService.getUserNotifications(
+                recipient.getUserId(), null, PageRequest.of(0, 2), CountMode.EXACT);
+        CountedPage<Notification> lastPage = notificationService.getUserNotifications(
+                recipient.getUserId(), true, PageRequest.of(0, 2), CountMode.CAPPED);
+        
+        // then
+        assertThat(capped.getContent()).hasSize(2);
+        assertThat(capped.getTotalElements()).isEqualTo(3);
+        assertThat(capped.isTotalCapped()).isTrue();
+        assertThat(capped.getCountMode()).isEqualTo(CountMode.CAPPED);
+        assertThat(exact.getTotalElements()).isEqualTo(6);
+        assertThat(exact.isTotalCapped()).isFalse();
+        assertThat(lastPage.getTotalElements()).isEqualTo(1);
+        assertThat(lastPage.getCountMode()).isEqualTo(CountMode.EXACT);
+    }
+    
     @Test
     @DisplayName("읽지 않은 알림 개수 조회")
     void getUnreadCount_Success() {